@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/*
+ * Creates brotli and gzip compressed variants of the static files of the console. The variants are used by the
+ * standalone console (see org.jboss.hal.standalone.AssetHandler).
+ * Usage: node src/build/precompress.js <target-dir> <source-dir>...
+ */
+const fs = require("fs");
+const path = require("path");
+const zlib = require("zlib");
+
+const EXTENSIONS = [".css", ".eot", ".html", ".js", ".json", ".map", ".svg", ".ttf", ".txt", ".woff", ".xml"];
+const MIN_SIZE = 1024;
+const MIN_RATIO = 0.9;
+
+const [target, ...sources] = process.argv.slice(2);
+if (!target || sources.length === 0) {
+    console.error("Usage: node precompress.js <target-dir> <source-dir>...");
+    process.exit(1);
+}
+
+const compressors = {
+    ".br": data => zlib.brotliCompressSync(data, {
+        params: {
+            [zlib.constants.BROTLI_PARAM_QUALITY]: zlib.constants.BROTLI_MAX_QUALITY,
+            [zlib.constants.BROTLI_PARAM_SIZE_HINT]: data.length
+        }
+    }),
+    ".gz": data => zlib.gzipSync(data, {level: zlib.constants.Z_BEST_COMPRESSION})
+};
+
+function* files(dir) {
+    for (const entry of fs.readdirSync(dir, {withFileTypes: true})) {
+        const file = path.join(dir, entry.name);
+        if (entry.isDirectory()) {
+            yield* files(file);
+        } else if (entry.isFile()) {
+            yield file;
+        }
+    }
+}
+
+let original = 0;
+const compressed = {".br": 0, ".gz": 0};
+for (const source of sources.filter(dir => fs.existsSync(dir))) {
+    for (const file of files(source)) {
+        if (!EXTENSIONS.includes(path.extname(file))) {
+            continue;
+        }
+        const data = fs.readFileSync(file);
+        if (data.length < MIN_SIZE) {
+            continue;
+        }
+        original += data.length;
+        for (const [suffix, compress] of Object.entries(compressors)) {
+            const variant = compress(data);
+            // variants which don't save enough aren't worth the extra lookup
+            if (variant.length <= data.length * MIN_RATIO) {
+                const destination = path.join(target, path.relative(source, file) + suffix);
+                fs.mkdirSync(path.dirname(destination), {recursive: true});
+                fs.writeFileSync(destination, variant);
+                compressed[suffix] += variant.length;
+            } else {
+                compressed[suffix] += data.length;
+            }
+        }
+    }
+}
+const kb = bytes => Math.round(bytes / 1024) + " KB";
+console.log(`Precompressed ${kb(original)}: brotli ${kb(compressed[".br"])}, gzip ${kb(compressed[".gz"])}`);
@@ -150,6 +150,8 @@ import org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesPre
 import org.jboss.hal.client.runtime.configurationchanges.ConfigurationChangesView;
 import org.jboss.hal.client.runtime.group.Mbui_ServerGroupView;
 import org.jboss.hal.client.runtime.group.ServerGroupPresenter;
+import org.jboss.hal.client.runtime.group.ServerGroupStatisticsPresenter;
+import org.jboss.hal.client.runtime.group.ServerGroupStatisticsView;
 import org.jboss.hal.client.runtime.host.HostPresenter;
 import org.jboss.hal.client.runtime.host.Mbui_HostView;
 import org.jboss.hal.client.runtime.managementoperations.ManagementOperationsPresenter;
@@ -657,6 +659,11 @@ public class ConsoleModule extends AbstractPresenterModule {
                 Mbui_ServerGroupView.class,
                 ServerGroupPresenter.MyProxy.class);
 
+        bindPresenter(ServerGroupStatisticsPresenter.class,
+                ServerGroupStatisticsPresenter.MyView.class,
+                ServerGroupStatisticsView.class,
+                ServerGroupStatisticsPresenter.MyProxy.class);
+
         bindPresenter(ServerGroupDeploymentPresenter.class,
                 ServerGroupDeploymentPresenter.MyView.class,
                 ServerGroupDeploymentView.class,
@@ -22,7 +22,6 @@ import org.jboss.hal.client.bootstrap.tasks.BootstrapTasks;
 import org.jboss.hal.client.bootstrap.tasks.InitializationTasks;
 import org.jboss.hal.client.bootstrap.tasks.InitializedTask;
 import org.jboss.hal.core.ExceptionHandler;
-import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.js.Browser;
 import org.slf4j.Logger;
@@ -70,7 +69,7 @@ public class HalBootstrapper implements Bootstrapper {
 
         endpointManager.select(() -> {
             LoadingPanel.get().on();
-            Flow.sequential(new FlowContext(), bootstrapTasks.tasks())
+            bootstrapTasks.run(new FlowContext())
                     .then(context -> {
                         logger.info("Bootstrap finished");
                         LoadingPanel.get().off();
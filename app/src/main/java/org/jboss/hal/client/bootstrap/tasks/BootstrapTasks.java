@@ -15,21 +15,29 @@
  */
 package org.jboss.hal.client.bootstrap.tasks;
 
+import java.util.ArrayList;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 
 import javax.inject.Inject;
 
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Task;
 
+import elemental2.promise.Promise;
+
 import static java.util.Arrays.asList;
 
-/** Simple wrapper around an ordered array of bootstrap tasks. */
+/**
+ * The bootstrap tasks modelled as a dependency graph. A task is started as soon as all of its dependencies have finished, so
+ * independent tasks run concurrently. If one task fails, the bootstrap fails.
+ */
 public class BootstrapTasks {
 
-    private final List<Task<FlowContext>> tasks;
+    private final List<Node> nodes;
 
-    // Don't change the order unless you know what you're doing!
+    // Don't change the dependencies unless you know what you're doing!
     @Inject
     public BootstrapTasks(ReadEnvironment readEnvironment,
             ReadAuthentication readAuthentication,
@@ -37,20 +45,56 @@ public class BootstrapTasks {
             FindDomainController findDomainController,
             RegisterStaticCapabilities registerStaticCapabilities,
             LoadSettings loadSettings,
+            LoadMetadataSnapshot loadMetadataSnapshot,
             SetTitle setTitle,
             StartAnalytics startAnalytics) {
-        this.tasks = asList(
-                readEnvironment,
-                readAuthentication,
-                readHostNames,
-                findDomainController,
-                registerStaticCapabilities,
-                loadSettings,
-                setTitle,
-                startAnalytics);
+        this.nodes = new ArrayList<>();
+
+        // nodes must be added after their dependencies
+        add(readEnvironment);
+        add(readAuthentication, readEnvironment);
+        add(readHostNames, readEnvironment);
+        add(findDomainController, readHostNames);
+        add(registerStaticCapabilities, readEnvironment);
+        // the run-as role loaded by LoadSettings must not be used by any task which talks to the server
+        add(loadSettings, readAuthentication, findDomainController, registerStaticCapabilities);
+        // the snapshot depends on the management model version and the locale
+        add(loadMetadataSnapshot, loadSettings);
+        add(setTitle, loadSettings);
+        add(startAnalytics, loadSettings);
+    }
+
+    @SafeVarargs
+    private final void add(Task<FlowContext> task, Task<FlowContext>... dependencies) {
+        nodes.add(new Node(task, asList(dependencies)));
     }
 
-    public List<Task<FlowContext>> tasks() {
-        return tasks;
+    @SuppressWarnings("unchecked")
+    public Promise<FlowContext> run(FlowContext context) {
+        Map<Task<FlowContext>, Promise<FlowContext>> promises = new HashMap<>();
+        for (Node node : nodes) {
+            Promise<FlowContext> ready;
+            if (node.dependencies.isEmpty()) {
+                ready = Promise.resolve(context);
+            } else {
+                Promise<FlowContext>[] dependencies = node.dependencies.stream()
+                        .map(promises::get)
+                        .toArray(Promise[]::new);
+                ready = Promise.all(dependencies).then(__ -> Promise.resolve(context));
+            }
+            promises.put(node.task, ready.then(node.task::apply));
+        }
+        return Promise.all(promises.values().toArray(new Promise[0])).then(__ -> Promise.resolve(context));
+    }
+
+    private static class Node {
+
+        final Task<FlowContext> task;
+        final List<Task<FlowContext>> dependencies;
+
+        Node(Task<FlowContext> task, List<Task<FlowContext>> dependencies) {
+            this.task = task;
+            this.dependencies = dependencies;
+        }
     }
 }
@@ -0,0 +1,65 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.bootstrap.tasks;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Endpoints;
+import org.jboss.hal.resources.Ids;
+
+import elemental2.webstorage.Storage;
+import elemental2.webstorage.WebStorageWindow;
+
+import static elemental2.dom.DomGlobal.window;
+
+/**
+ * Remembers the name of the domain controller per management endpoint. Used by {@link FindDomainController} to validate the
+ * last known domain controller with a single operation instead of reading all hosts.
+ */
+class DomainControllerStorage {
+
+    private final Endpoints endpoints;
+    private final Storage storage;
+
+    @Inject
+    DomainControllerStorage(Endpoints endpoints) {
+        this.endpoints = endpoints;
+        this.storage = WebStorageWindow.of(window).localStorage;
+    }
+
+    String load() {
+        if (storage != null) {
+            return storage.getItem(id());
+        }
+        return null;
+    }
+
+    void save(String domainController) {
+        if (storage != null) {
+            storage.setItem(id(), domainController);
+        }
+    }
+
+    void remove() {
+        if (storage != null) {
+            storage.removeItem(id());
+        }
+    }
+
+    private String id() {
+        return Ids.build(Ids.DOMAIN_CONTROLLER_STORAGE, endpoints.dmr());
+    }
+}
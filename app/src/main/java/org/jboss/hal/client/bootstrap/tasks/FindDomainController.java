@@ -41,17 +41,25 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.PRIMARY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 
+/**
+ * Finds the domain controller. Only executed in domain mode. Depends on {@link ReadHostNames}.
+ * <p>
+ * The last known domain controller is remembered per management endpoint. If it's still part of the domain, it's validated
+ * using a single operation. Otherwise, all hosts are read in parallel.
+ */
 public final class FindDomainController implements Task<FlowContext> {
 
     private static final Logger logger = LoggerFactory.getLogger(FindDomainController.class);
 
     private final Dispatcher dispatcher;
     private final Environment environment;
+    private final DomainControllerStorage storage;
 
     @Inject
-    public FindDomainController(Dispatcher dispatcher, Environment environment) {
+    public FindDomainController(Dispatcher dispatcher, Environment environment, DomainControllerStorage storage) {
         this.dispatcher = dispatcher;
         this.environment = environment;
+        this.storage = storage;
     }
 
     @Override
@@ -59,34 +67,25 @@ public final class FindDomainController implements Task<FlowContext> {
         if (!environment.isStandalone()) {
             List<String> hosts = context.get(HOST_NAMES);
             if (hosts != null) {
-                List<Task<FlowContext>> hostTasks = hosts.stream()
-                        .map(host -> {
-                            ResourceAddress address = new ResourceAddress().add(HOST, host);
-                            Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
-                                    .param(ATTRIBUTES_ONLY, true)
-                                    .param(INCLUDE_RUNTIME, true)
-                                    .build();
-                            return (Task<FlowContext>) c -> dispatcher.execute(operation).then(result -> {
-                                boolean primary = false;
-                                boolean primarySecondary = true;
-                                if (result.hasDefined(PRIMARY)) {
-                                    primary = result.get(PRIMARY).asBoolean();
-                                    primarySecondary = true;
-                                } else if (result.hasDefined(MASTER)) {
-                                    primary = result.get(MASTER).asBoolean();
-                                    primarySecondary = false;
-                                }
+                String lastKnown = storage.load();
+                if (lastKnown != null && hosts.contains(lastKnown)) {
+                    return readHost(lastKnown)
+                            .then(primary -> {
                                 if (primary) {
-                                    String name = result.get(NAME).asString();
-                                    environment.setDomainController(name);
-                                    environment.setPrimarySecondary(primarySecondary);
-                                    logger.info("Found domain controller: {}", name);
+                                    return Promise.resolve(context);
+                                } else {
+                                    logger.debug("{} is no longer the domain controller", lastKnown);
+                                    storage.remove();
+                                    return readHosts(context, hosts);
                                 }
-                                return Promise.resolve(c);
+                            })
+                            .catch_(error -> {
+                                storage.remove();
+                                return readHosts(context, hosts);
                             });
-                        })
-                        .collect(toList());
-                return Flow.sequential(context, hostTasks).promise();
+                } else {
+                    return readHosts(context, hosts);
+                }
             } else {
                 return Promise.resolve(context);
             }
@@ -94,4 +93,39 @@ public final class FindDomainController implements Task<FlowContext> {
             return Promise.resolve(context);
         }
     }
+
+    private Promise<FlowContext> readHosts(FlowContext context, List<String> hosts) {
+        List<Task<FlowContext>> hostTasks = hosts.stream()
+                .map(host -> (Task<FlowContext>) c -> readHost(host).then(__ -> Promise.resolve(c)))
+                .collect(toList());
+        return Flow.parallel(context, hostTasks).promise();
+    }
+
+    /** Reads the host and updates the environment if the host is the domain controller. */
+    private Promise<Boolean> readHost(String host) {
+        ResourceAddress address = new ResourceAddress().add(HOST, host);
+        Operation operation = new Operation.Builder(address, READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+        return dispatcher.execute(operation).then(result -> {
+            boolean primary = false;
+            boolean primarySecondary = true;
+            if (result.hasDefined(PRIMARY)) {
+                primary = result.get(PRIMARY).asBoolean();
+                primarySecondary = true;
+            } else if (result.hasDefined(MASTER)) {
+                primary = result.get(MASTER).asBoolean();
+                primarySecondary = false;
+            }
+            if (primary) {
+                String name = result.get(NAME).asString();
+                environment.setDomainController(name);
+                environment.setPrimarySecondary(primarySecondary);
+                storage.save(name);
+                logger.info("Found domain controller: {}", name);
+            }
+            return Promise.resolve(primary);
+        });
+    }
 }
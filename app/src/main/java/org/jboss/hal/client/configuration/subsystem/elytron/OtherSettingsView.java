@@ -19,6 +19,7 @@ import java.util.Collections;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.function.Supplier;
 
 import javax.inject.Inject;
 
@@ -39,8 +40,11 @@ import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
 
+import elemental2.dom.HTMLElement;
+
 import static java.util.Arrays.asList;
 import static java.util.stream.Collectors.toList;
+import static org.jboss.elemento.Elements.section;
 import static org.jboss.hal.ballroom.LayoutBuilder.column;
 import static org.jboss.hal.ballroom.LayoutBuilder.row;
 import static org.jboss.hal.client.configuration.subsystem.elytron.ElytronResource.AGGREGATE_PROVIDERS;
@@ -106,34 +110,38 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
 
         // ===== store
 
-        ResourceElement credentialStoreElement = CREDENTIAL_STORE.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(CREDENTIAL_STORE.resource,
-                        nodes -> updateResourceElement(CREDENTIAL_STORE.resource, nodes)))
-                .onAdd(() -> presenter.addCredentialStore())
-                .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE, createCrForm(cr, mbuiContext, CREDENTIAL_STORE))
-                .build();
-        credentialStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
-        addResourceElement(CREDENTIAL_STORE, credentialStoreElement, Ids.ELYTRON_STORE_ITEM,
+        addResourceElement(CREDENTIAL_STORE, () -> {
+            ResourceElement credentialStoreElement = CREDENTIAL_STORE.resourceElementBuilder(mbuiContext,
+                    () -> presenter.reload(CREDENTIAL_STORE.resource,
+                            nodes -> updateResourceElement(CREDENTIAL_STORE.resource, nodes)))
+                    .onAdd(() -> presenter.addCredentialStore())
+                    .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE,
+                            createCrForm(cr, mbuiContext, CREDENTIAL_STORE))
+                    .build();
+            credentialStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
+            return credentialStoreElement;
+        }, Ids.ELYTRON_STORE_ITEM,
                 Ids.build(CREDENTIAL_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(CREDENTIAL_STORE.resource));
 
         addResourceElement(FILTERING_KEY_STORE,
-                FILTERING_KEY_STORE.resourceElement(mbuiContext,
+                () -> FILTERING_KEY_STORE.resourceElement(mbuiContext,
                         () -> presenter.reload(FILTERING_KEY_STORE.resource,
                                 nodes -> updateResourceElement(FILTERING_KEY_STORE.resource, nodes))),
                 Ids.ELYTRON_STORE_ITEM,
                 Ids.build(FILTERING_KEY_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(FILTERING_KEY_STORE.resource));
 
-        ResourceElement keyStoreElement = KEY_STORE.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(KEY_STORE.resource,
-                        nodes -> updateResourceElement(KEY_STORE.resource, nodes)))
-                .onAdd(() -> presenter.addKeyStore())
-                .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE, createCrForm(cr, mbuiContext, KEY_STORE))
-                .build();
-        keyStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
-        addResourceElement(KEY_STORE,
-                keyStoreElement,
+        addResourceElement(KEY_STORE, () -> {
+            ResourceElement keyStoreElement = KEY_STORE.resourceElementBuilder(mbuiContext,
+                    () -> presenter.reload(KEY_STORE.resource,
+                            nodes -> updateResourceElement(KEY_STORE.resource, nodes)))
+                    .onAdd(() -> presenter.addKeyStore())
+                    .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE, createCrForm(cr, mbuiContext, KEY_STORE))
+                    .build();
+            keyStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
+            return keyStoreElement;
+        },
                 Ids.ELYTRON_STORE_ITEM,
                 Ids.build(KEY_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(KEY_STORE.resource));
@@ -145,20 +153,24 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         navigation.addSecondary(Ids.ELYTRON_STORE_ITEM, Ids.ELYTRON_LDAP_KEY_STORE, Names.LDAP_KEY_STORE,
                 ldapKeyStoreElement.element());
 
-        ResourceElement secretKeyCredentialStoreElement = SECRET_KEY_CREDENTIAL_STORE.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(SECRET_KEY_CREDENTIAL_STORE.resource,
-                        nodes -> updateResourceElement(SECRET_KEY_CREDENTIAL_STORE.resource, nodes)))
-                .onAdd(() -> presenter.addSecretKeyCredentialStore())
-                .build();
-        secretKeyCredentialStoreElement.getForm().getFormItem(RELATIVE_TO).registerSuggestHandler(new PathsAutoComplete());
-        addResourceElement(SECRET_KEY_CREDENTIAL_STORE, secretKeyCredentialStoreElement, Ids.ELYTRON_STORE_ITEM,
+        addResourceElement(SECRET_KEY_CREDENTIAL_STORE, () -> {
+            ResourceElement secretKeyCredentialStoreElement = SECRET_KEY_CREDENTIAL_STORE.resourceElementBuilder(
+                    mbuiContext,
+                    () -> presenter.reload(SECRET_KEY_CREDENTIAL_STORE.resource,
+                            nodes -> updateResourceElement(SECRET_KEY_CREDENTIAL_STORE.resource, nodes)))
+                    .onAdd(() -> presenter.addSecretKeyCredentialStore())
+                    .build();
+            secretKeyCredentialStoreElement.getForm().getFormItem(RELATIVE_TO)
+                    .registerSuggestHandler(new PathsAutoComplete());
+            return secretKeyCredentialStoreElement;
+        }, Ids.ELYTRON_STORE_ITEM,
                 Ids.build(SECRET_KEY_CREDENTIAL_STORE.baseId, Ids.ITEM),
                 labelBuilder.label(SECRET_KEY_CREDENTIAL_STORE.resource));
 
         // ==== SSL elements
 
         addResourceElement(AGGREGATE_PROVIDERS,
-                AGGREGATE_PROVIDERS.resourceElement(mbuiContext,
+                () -> AGGREGATE_PROVIDERS.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_PROVIDERS.resource,
                                 nodes -> updateResourceElement(AGGREGATE_PROVIDERS.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
@@ -166,7 +178,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(AGGREGATE_PROVIDERS.resource));
 
         addResourceElement(CLIENT_SSL_CONTEXT,
-                CLIENT_SSL_CONTEXT.resourceElement(mbuiContext,
+                () -> CLIENT_SSL_CONTEXT.resourceElement(mbuiContext,
                         () -> presenter.reload(CLIENT_SSL_CONTEXT.resource,
                                 nodes -> updateResourceElement(CLIENT_SSL_CONTEXT.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
@@ -174,7 +186,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CLIENT_SSL_CONTEXT.resource));
 
         addResourceElement(KEY_MANAGER,
-                KEY_MANAGER.resourceElementBuilder(mbuiContext,
+                () -> KEY_MANAGER.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(KEY_MANAGER.resource,
                                 nodes -> updateResourceElement(KEY_MANAGER.resource, nodes)))
                         .onAdd(() -> presenter.addKeyManager())
@@ -185,30 +197,33 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(KEY_MANAGER.resource));
 
         addResourceElement(PROVIDER_LOADER,
-                PROVIDER_LOADER.resourceElement(mbuiContext,
+                () -> PROVIDER_LOADER.resourceElement(mbuiContext,
                         () -> presenter.reload(PROVIDER_LOADER.resource,
                                 nodes -> updateResourceElement(PROVIDER_LOADER.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
                 Ids.build(PROVIDER_LOADER.baseId, Ids.ITEM),
                 labelBuilder.label(PROVIDER_LOADER.resource));
 
-        securityDomainElement = SECURITY_DOMAIN.resourceElementBuilder(mbuiContext,
-                () -> presenter.reload(SECURITY_DOMAIN.resource,
-                        nodes -> updateResourceElement(SECURITY_DOMAIN.resource, nodes)))
-                .customFormItem(DEFAULT_REALM,
-                        ad -> new SingleSelectBoxItem(DEFAULT_REALM, labelBuilder.label(DEFAULT_REALM),
-                                Collections.emptyList(), false))
-                .onAdd(() -> presenter.addSecurityDomain())
-                .setComplexListAttribute(REALMS, REALM)
-                .build();
-        // user cannot modify realm name of the inner complext object list if it is referenced in default-realm attribute
-        securityDomainElement.getFormComplexList().getFormItem(REALM).setEnabled(false);
-        securityDomainElement.getFormComplexList().getFormItem(REALM).registerSuggestHandler(null);
-        addResourceElement(SECURITY_DOMAIN, securityDomainElement, Ids.ELYTRON_SSL_ITEM,
+        addResourceElement(SECURITY_DOMAIN, () -> {
+            securityDomainElement = SECURITY_DOMAIN.resourceElementBuilder(mbuiContext,
+                    () -> presenter.reload(SECURITY_DOMAIN.resource,
+                            nodes -> updateResourceElement(SECURITY_DOMAIN.resource, nodes)))
+                    .customFormItem(DEFAULT_REALM,
+                            ad -> new SingleSelectBoxItem(DEFAULT_REALM, labelBuilder.label(DEFAULT_REALM),
+                                    Collections.emptyList(), false))
+                    .onAdd(() -> presenter.addSecurityDomain())
+                    .setComplexListAttribute(REALMS, REALM)
+                    .build();
+            // user cannot modify realm name of the inner complext object list if it is referenced in default-realm
+            // attribute
+            securityDomainElement.getFormComplexList().getFormItem(REALM).setEnabled(false);
+            securityDomainElement.getFormComplexList().getFormItem(REALM).registerSuggestHandler(null);
+            return securityDomainElement;
+        }, Ids.ELYTRON_SSL_ITEM,
                 Ids.build(SECURITY_DOMAIN.baseId, Ids.ITEM), labelBuilder.label(SECURITY_DOMAIN.resource));
 
         addResourceElement(SERVER_SSL_CONTEXT,
-                SERVER_SSL_CONTEXT.resourceElement(mbuiContext,
+                () -> SERVER_SSL_CONTEXT.resourceElement(mbuiContext,
                         () -> presenter.reload(SERVER_SSL_CONTEXT.resource,
                                 nodes -> updateResourceElement(SERVER_SSL_CONTEXT.resource, nodes))),
                 Ids.ELYTRON_SSL_ITEM,
@@ -216,7 +231,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(SERVER_SSL_CONTEXT.resource));
 
         addResourceElement(SERVER_SSL_SNI_CONTEXT,
-                SERVER_SSL_SNI_CONTEXT.resourceElementBuilder(mbuiContext,
+                () -> SERVER_SSL_SNI_CONTEXT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(SERVER_SSL_SNI_CONTEXT.resource,
                                 nodes -> updateResourceElement(SERVER_SSL_SNI_CONTEXT.resource, nodes)))
                         .onAdd(() -> presenter.addServerSslSniContext())
@@ -226,7 +241,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(SERVER_SSL_SNI_CONTEXT.resource));
 
         addResourceElement(TRUST_MANAGER,
-                TRUST_MANAGER.resourceElementBuilder(mbuiContext,
+                () -> TRUST_MANAGER.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(TRUST_MANAGER.resource,
                                 nodes -> updateResourceElement(TRUST_MANAGER.resource, nodes)))
                         .addComplexObjectAttribute("certificate-revocation-list")
@@ -239,7 +254,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ===== Authentication
 
         addResourceElement(AUTHENTICATION_CONFIGURATION,
-                AUTHENTICATION_CONFIGURATION.resourceElementBuilder(mbuiContext,
+                () -> AUTHENTICATION_CONFIGURATION.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(AUTHENTICATION_CONFIGURATION.resource,
                                 nodes -> updateResourceElement(AUTHENTICATION_CONFIGURATION.resource, nodes)))
                         .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE,
@@ -250,7 +265,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(AUTHENTICATION_CONFIGURATION.resource));
 
         addResourceElement(AUTHENTICATION_CONTEXT,
-                AUTHENTICATION_CONTEXT.resourceElementBuilder(mbuiContext,
+                () -> AUTHENTICATION_CONTEXT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(AUTHENTICATION_CONTEXT.resource,
                                 nodes -> updateResourceElement(AUTHENTICATION_CONTEXT.resource, nodes)))
                         // display all attributes as none of them are required=true
@@ -275,7 +290,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ======= Logs
 
         addResourceElement(AGGREGATE_SECURITY_EVENT_LISTENER,
-                AGGREGATE_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
+                () -> AGGREGATE_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
                         () -> presenter.reload(AGGREGATE_SECURITY_EVENT_LISTENER.resource,
                                 nodes -> updateResourceElement(AGGREGATE_SECURITY_EVENT_LISTENER.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -283,7 +298,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(AGGREGATE_SECURITY_EVENT_LISTENER.resource));
 
         addResourceElement(CUSTOM_SECURITY_EVENT_LISTENER,
-                CUSTOM_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
+                () -> CUSTOM_SECURITY_EVENT_LISTENER.resourceElement(mbuiContext,
                         () -> presenter.reload(CUSTOM_SECURITY_EVENT_LISTENER.resource,
                                 nodes -> updateResourceElement(CUSTOM_SECURITY_EVENT_LISTENER.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -291,7 +306,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CUSTOM_SECURITY_EVENT_LISTENER.resource));
 
         addResourceElement(FILE_AUDIT_LOG,
-                FILE_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> FILE_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(FILE_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(FILE_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -299,7 +314,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(FILE_AUDIT_LOG.resource));
 
         addResourceElement(PERIODIC_ROTATING_FILE_AUDIT_LOG,
-                PERIODIC_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> PERIODIC_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(PERIODIC_ROTATING_FILE_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(PERIODIC_ROTATING_FILE_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -307,7 +322,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(PERIODIC_ROTATING_FILE_AUDIT_LOG.resource));
 
         addResourceElement(SIZE_ROTATING_FILE_AUDIT_LOG,
-                SIZE_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
+                () -> SIZE_ROTATING_FILE_AUDIT_LOG.resourceElement(mbuiContext,
                         () -> presenter.reload(SIZE_ROTATING_FILE_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(SIZE_ROTATING_FILE_AUDIT_LOG.resource, nodes))),
                 Ids.ELYTRON_LOGS_ITEM,
@@ -315,7 +330,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(SIZE_ROTATING_FILE_AUDIT_LOG.resource));
 
         addResourceElement(SYSLOG_AUDIT_LOG,
-                SYSLOG_AUDIT_LOG.resourceElementBuilder(mbuiContext,
+                () -> SYSLOG_AUDIT_LOG.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(SYSLOG_AUDIT_LOG.resource,
                                 nodes -> updateResourceElement(SYSLOG_AUDIT_LOG.resource, nodes)))
                         .onAdd(() -> presenter.addSyslogAuditLog())
@@ -327,7 +342,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
         // ====== Other settings
 
         addResourceElement(CERTIFICATE_AUTHORITY,
-                CERTIFICATE_AUTHORITY.resourceElementBuilder(mbuiContext,
+                () -> CERTIFICATE_AUTHORITY.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(CERTIFICATE_AUTHORITY.resource,
                                 nodes -> updateResourceElement(CERTIFICATE_AUTHORITY.resource, nodes)))
                         .build(),
@@ -336,7 +351,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CERTIFICATE_AUTHORITY.resource));
 
         addResourceElement(CERTIFICATE_AUTHORITY_ACCOUNT,
-                CERTIFICATE_AUTHORITY_ACCOUNT.resourceElementBuilder(mbuiContext,
+                () -> CERTIFICATE_AUTHORITY_ACCOUNT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(CERTIFICATE_AUTHORITY_ACCOUNT.resource,
                                 nodes -> updateResourceElement(CERTIFICATE_AUTHORITY_ACCOUNT.resource, nodes)))
                         .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE,
@@ -347,7 +362,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(CERTIFICATE_AUTHORITY_ACCOUNT.resource));
 
         addResourceElement(DIR_CONTEXT,
-                DIR_CONTEXT.resourceElementBuilder(mbuiContext,
+                () -> DIR_CONTEXT.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(DIR_CONTEXT.resource,
                                 nodes -> updateResourceElement(DIR_CONTEXT.resource, nodes)))
                         .addComplexObjectAttributeForm(CREDENTIAL_REFERENCE, createCrForm(cr, mbuiContext, DIR_CONTEXT))
@@ -363,7 +378,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 expressionEncryptionElement.element());
 
         addResourceElement(ElytronResource.JASPI_CONFIGURATION,
-                ElytronResource.JASPI_CONFIGURATION.resourceElementBuilder(mbuiContext,
+                () -> ElytronResource.JASPI_CONFIGURATION.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(ElytronResource.JASPI_CONFIGURATION.resource,
                                 nodes -> updateResourceElement(ElytronResource.JASPI_CONFIGURATION.resource, nodes)))
                         .setComplexListAttribute(SERVER_AUTH_MODULES, asList(
@@ -378,7 +393,7 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 labelBuilder.label(ElytronResource.JASPI_CONFIGURATION.resource));
 
         addResourceElement(ElytronResource.PERMISSION_SET,
-                ElytronResource.PERMISSION_SET.resourceElementBuilder(mbuiContext,
+                () -> ElytronResource.PERMISSION_SET.resourceElementBuilder(mbuiContext,
                         () -> presenter.reload(ElytronResource.PERMISSION_SET.resource,
                                 nodes -> updateResourceElement(ElytronResource.PERMISSION_SET.resource, nodes)))
                         .setComplexListAttribute(PERMISSIONS, asList(
@@ -402,11 +417,24 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
 
     }
 
-    private void addResourceElement(ElytronResource resource, ResourceElement element,
+    /** Adds a page for the resource element, which is built the first time the page is shown. */
+    private void addResourceElement(ElytronResource resource, Supplier<ResourceElement> element,
             String primaryId, String secondaryId, String text) {
-        elements.put(resource.resource, element);
-        registerAttachable(element);
-        navigation.addSecondary(primaryId, secondaryId, text, element.element());
+        HTMLElement container = section().element();
+        navigation.addSecondary(primaryId, secondaryId, text, container);
+        navigation.onFirstShow(secondaryId, () -> {
+            ResourceElement resourceElement = element.get();
+            elements.put(resource.resource, resourceElement);
+            container.appendChild(resourceElement.element());
+            registerLazyAttachable(resourceElement);
+            if (isAttached()) {
+                // the presenter has already read the data of the pages built so far
+                if (resourceElement == securityDomainElement) {
+                    updateDefaultRealms();
+                }
+                presenter.reload(resource.resource, nodes -> updateResourceElement(resource.resource, nodes));
+            }
+        });
     }
 
     private Form<ModelNode> createCrForm(CredentialReference cr, MbuiContext mbuiContext, ElytronResource er) {
@@ -430,6 +458,16 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
     public void attach() {
         super.attach();
 
+        // the security domain element is null until its page has been shown
+        if (securityDomainElement != null) {
+            updateDefaultRealms();
+        }
+        ldapKeyStoreElement.attach();
+        expressionEncryptionElement.attach();
+        policyElement.attach();
+    }
+
+    private void updateDefaultRealms() {
         securityDomainElement.getTable().onSelectionChange(table -> {
             // update the list of realms for default-realm attribute
             if (table.hasSelection()) {
@@ -441,10 +479,6 @@ public class OtherSettingsView extends HalViewImpl implements OtherSettingsPrese
                 singleSelectBoxItem.updateAllowedValues(realmList);
             }
         });
-
-        ldapKeyStoreElement.attach();
-        expressionEncryptionElement.attach();
-        policyElement.attach();
     }
 
     @Override
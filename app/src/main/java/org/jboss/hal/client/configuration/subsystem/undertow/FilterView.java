@@ -16,12 +16,12 @@
 package org.jboss.hal.client.configuration.subsystem.undertow;
 
 import java.util.Arrays;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
-import javax.annotation.PostConstruct;
-
 import org.jboss.hal.ballroom.VerticalNavigation;
 import org.jboss.hal.ballroom.autocomplete.StaticAutoComplete;
 import org.jboss.hal.ballroom.form.Form;
@@ -42,8 +42,6 @@ import org.jboss.hal.spi.MbuiView;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.client.configuration.subsystem.undertow.AddressTemplates.HOST_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
-import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
-import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
 
 @MbuiView
 @SuppressWarnings({ "DuplicateStringLiteralInspection", "HardCodedStringLiteral", "unused", "WeakerAccess" })
@@ -72,41 +70,61 @@ public abstract class FilterView extends MbuiViewImpl<FilterPresenter>
     @MbuiElement("undertow-rewrite-table") Table<NamedNode> rewriteTable;
     @MbuiElement("undertow-rewrite-form") Form<NamedNode> rewriteForm;
 
+    // item id -> page, the pages are built the first time they're shown
+    private final Map<String, LazyPage> pages;
+    private ModelNode modelNode;
+
     FilterView(final MbuiContext mbuiContext) {
         super(mbuiContext);
+        pages = new LinkedHashMap<>();
+        pages.put("undertow-custom-filter-item",
+                new LazyPage("custom-filter", () -> customFilterTable, () -> customFilterForm));
+        pages.put("undertow-error-page-item",
+                new LazyPage("error-page", () -> errorPageTable, () -> errorPageForm));
+        pages.put("undertow-expression-filter-item",
+                new LazyPage("expression-filter", () -> expressionFilterTable, () -> expressionFilterForm));
+        pages.put("undertow-gzip-item",
+                new LazyPage("gzip", () -> gzipTable, () -> gzipForm));
+        pages.put("undertow-mod-cluster-item",
+                new LazyPage("mod-cluster", () -> modClusterTable, () -> modClusterForm));
+        pages.put("undertow-request-limit-item",
+                new LazyPage("request-limit", () -> requestLimitTable, () -> requestLimitForm));
+        pages.put("undertow-response-header-item",
+                new LazyPage("response-header", () -> responseHeaderTable, () -> responseHeaderForm));
+        pages.put("undertow-rewrite-item",
+                new LazyPage("rewrite", () -> rewriteTable, () -> rewriteForm));
     }
 
-    @PostConstruct
-    void init() {
-        List<String> responseHeader = Arrays.stream(ResponseHeader.values())
-                .map(ResponseHeader::header)
-                .collect(toList());
-        responseHeaderForm.getFormItem(HEADER_NAME).registerSuggestHandler(new StaticAutoComplete(responseHeader));
-        clearHostFields();
+    @Override
+    public void attach() {
+        super.attach();
+        // pages shown while attaching
+        pages.values().forEach(this::initialize);
     }
 
-    private void clearHostFields() {
-        customFilterForm.getFormItem(HOSTS).setEnabled(false);
-        errorPageForm.getFormItem(HOSTS).setEnabled(false);
-        expressionFilterForm.getFormItem(HOSTS).setEnabled(false);
-        gzipForm.getFormItem(HOSTS).setEnabled(false);
-        modClusterForm.getFormItem(HOSTS).setEnabled(false);
-        requestLimitForm.getFormItem(HOSTS).setEnabled(false);
-        responseHeaderForm.getFormItem(HOSTS).setEnabled(false);
-        rewriteForm.getFormItem(HOSTS).setEnabled(false);
+    @Override
+    protected void onPageBuilt(final String id) {
+        LazyPage page = pages.get(id);
+        if (page != null) {
+            initialize(page);
+            page.update(modelNode);
+        }
     }
 
-    @Override
-    public void attach() {
-        super.attach();
-        customFilterTable.onSelectionChange(t -> updateHostRefs(t, customFilterForm));
-        errorPageTable.onSelectionChange(t -> updateHostRefs(t, errorPageForm));
-        expressionFilterTable.onSelectionChange(t -> updateHostRefs(t, expressionFilterForm));
-        gzipTable.onSelectionChange(t -> updateHostRefs(t, gzipForm));
-        modClusterTable.onSelectionChange(t -> updateHostRefs(t, modClusterForm));
-        requestLimitTable.onSelectionChange(t -> updateHostRefs(t, requestLimitForm));
-        responseHeaderTable.onSelectionChange(t -> updateHostRefs(t, responseHeaderForm));
-        rewriteTable.onSelectionChange(t -> updateHostRefs(t, rewriteForm));
+    private void initialize(final LazyPage page) {
+        if (page.initialize()) {
+            page.form().getFormItem(HOSTS).setEnabled(false);
+            page.table().onSelectionChange(t -> updateHostRefs(t, page.form()));
+            if ("response-header".equals(page.resource)) {
+                List<String> responseHeader = Arrays.stream(ResponseHeader.values())
+                        .map(ResponseHeader::header)
+                        .collect(toList());
+                StaticAutoComplete autoComplete = new StaticAutoComplete(responseHeader);
+                page.form().getFormItem(HEADER_NAME).registerSuggestHandler(autoComplete);
+                // the form has already been attached
+                autoComplete.attach();
+            }
+        }
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -155,23 +173,8 @@ public abstract class FilterView extends MbuiViewImpl<FilterPresenter>
 
     @Override
     public void update(final ModelNode modelNode) {
-        clearHostFields();
-
-        customFilterForm.clear();
-        customFilterTable.update(asNamedNodes(failSafePropertyList(modelNode, "custom-filter")));
-        errorPageForm.clear();
-        errorPageTable.update(asNamedNodes(failSafePropertyList(modelNode, "error-page")));
-        expressionFilterForm.clear();
-        expressionFilterTable.update(asNamedNodes(failSafePropertyList(modelNode, "expression-filter")));
-        gzipTable.update(asNamedNodes(failSafePropertyList(modelNode, "gzip")));
-        modClusterForm.clear();
-        modClusterTable.update(asNamedNodes(failSafePropertyList(modelNode, "mod-cluster")));
-        requestLimitForm.clear();
-        requestLimitTable.update(asNamedNodes(failSafePropertyList(modelNode, "request-limit")));
-        responseHeaderForm.clear();
-        responseHeaderTable.update(asNamedNodes(failSafePropertyList(modelNode, "response-header")));
-        rewriteForm.clear();
-        rewriteTable.update(asNamedNodes(failSafePropertyList(modelNode, "rewrite")));
+        this.modelNode = modelNode;
+        pages.values().forEach(page -> page.update(modelNode));
     }
 
     void noop() {
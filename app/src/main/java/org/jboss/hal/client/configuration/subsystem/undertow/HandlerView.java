@@ -15,10 +15,10 @@
  */
 package org.jboss.hal.client.configuration.subsystem.undertow;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
 import java.util.stream.Collectors;
 
-import javax.annotation.PostConstruct;
-
 import org.jboss.hal.ballroom.VerticalNavigation;
 import org.jboss.hal.ballroom.form.Form;
 import org.jboss.hal.ballroom.form.FormItem;
@@ -34,8 +34,6 @@ import org.jboss.hal.spi.MbuiView;
 
 import static org.jboss.hal.client.configuration.subsystem.undertow.AddressTemplates.HOST_TEMPLATE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
-import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
-import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
 
 @MbuiView
 @SuppressWarnings({ "DuplicateStringLiteralInspection", "HardCodedStringLiteral", "unused", "WeakerAccess" })
@@ -52,25 +50,40 @@ public abstract class HandlerView extends MbuiViewImpl<HandlerPresenter>
     @MbuiElement("undertow-reverse-proxy-table") Table<NamedNode> reverseProxyTable;
     @MbuiElement("undertow-reverse-proxy-form") Form<NamedNode> reverseProxyForm;
 
+    // item id -> page, the pages are built the first time they're shown
+    private final Map<String, LazyPage> pages;
+    private ModelNode modelNode;
+
     HandlerView(final MbuiContext mbuiContext) {
         super(mbuiContext);
+        pages = new LinkedHashMap<>();
+        pages.put("undertow-file-handler-item",
+                new LazyPage("file", () -> fileHandlerTable, () -> fileHandlerForm));
+        pages.put("undertow-reverse-proxy-item",
+                new LazyPage("reverse-proxy", () -> reverseProxyTable, () -> reverseProxyForm));
     }
 
-    @PostConstruct
-    void init() {
-        clearHostFields();
+    @Override
+    public void attach() {
+        super.attach();
+        // pages shown while attaching
+        pages.values().forEach(this::initialize);
     }
 
-    private void clearHostFields() {
-        fileHandlerForm.getFormItem(HOSTS).setEnabled(false);
-        reverseProxyForm.getFormItem(HOSTS).setEnabled(false);
+    @Override
+    protected void onPageBuilt(final String id) {
+        LazyPage page = pages.get(id);
+        if (page != null) {
+            initialize(page);
+            page.update(modelNode);
+        }
     }
 
-    @Override
-    public void attach() {
-        super.attach();
-        fileHandlerTable.onSelectionChange(t -> updateHostRefs(t, fileHandlerForm));
-        reverseProxyTable.onSelectionChange(t -> updateHostRefs(t, reverseProxyForm));
+    private void initialize(final LazyPage page) {
+        if (page.initialize()) {
+            page.form().getFormItem(HOSTS).setEnabled(false);
+            page.table().onSelectionChange(t -> updateHostRefs(t, page.form()));
+        }
     }
 
     @SuppressWarnings("ConstantConditions")
@@ -106,11 +119,7 @@ public abstract class HandlerView extends MbuiViewImpl<HandlerPresenter>
 
     @Override
     public void update(final ModelNode modelNode) {
-        clearHostFields();
-
-        fileHandlerForm.clear();
-        fileHandlerTable.update(asNamedNodes(failSafePropertyList(modelNode, "file")));
-        reverseProxyForm.clear();
-        reverseProxyTable.update(asNamedNodes(failSafePropertyList(modelNode, "reverse-proxy")));
+        this.modelNode = modelNode;
+        pages.values().forEach(page -> page.update(modelNode));
     }
 }
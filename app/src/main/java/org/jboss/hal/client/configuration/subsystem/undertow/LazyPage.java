@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.configuration.subsystem.undertow;
+
+import java.util.function.Supplier;
+
+import org.jboss.hal.ballroom.form.Form;
+import org.jboss.hal.ballroom.table.Table;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.NamedNode;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOSTS;
+import static org.jboss.hal.dmr.ModelNodeHelper.asNamedNodes;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafePropertyList;
+
+/**
+ * Table and form of a lazily built page in the filter and handler views. The table and form are {@code null} until the
+ * page has been shown for the first time.
+ */
+class LazyPage {
+
+    final String resource;
+    private final Supplier<Table<NamedNode>> table;
+    private final Supplier<Form<NamedNode>> form;
+    private boolean initialized;
+
+    LazyPage(String resource, Supplier<Table<NamedNode>> table, Supplier<Form<NamedNode>> form) {
+        this.resource = resource;
+        this.table = table;
+        this.form = form;
+        this.initialized = false;
+    }
+
+    Table<NamedNode> table() {
+        return table.get();
+    }
+
+    Form<NamedNode> form() {
+        return form.get();
+    }
+
+    /** @return true if the page has been built, but not yet initialized */
+    boolean initialize() {
+        if (!initialized && table() != null) {
+            initialized = true;
+            return true;
+        }
+        return false;
+    }
+
+    /** Shows the resources of this page. Does nothing if the page has not been built yet or there's no model. */
+    void update(ModelNode modelNode) {
+        if (table() != null && modelNode != null) {
+            form().getFormItem(HOSTS).setEnabled(false);
+            form().clear();
+            table().update(asNamedNodes(failSafePropertyList(modelNode, resource)));
+        }
+    }
+}
@@ -18,6 +18,7 @@ package org.jboss.hal.client.deployment;
 import java.util.ArrayList;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
@@ -36,6 +37,7 @@ import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ContentHasher;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
@@ -56,7 +58,6 @@ import elemental2.promise.Promise;
 import static java.util.function.Function.identity;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.Collectors.toMap;
-import static java.util.stream.Collectors.toSet;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADDRESS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
@@ -64,10 +65,10 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ENABLED;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FULL_REPLACE_DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_RUNTIME;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_RESOURCES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE_DEPTH;
@@ -80,6 +81,7 @@ import static org.jboss.hal.flow.Flow.sequential;
 class DeploymentTasks {
 
     static final String SERVER_GROUP_DEPLOYMENTS = "deploymentFunctions.serverGroupDeployments";
+    static final String CONTENT_HASHES = "deploymentFunctions.contentHashes";
     private static final String UPLOAD_STATISTICS = "deploymentsFunctions.uploadStatistics";
     private static final Logger logger = LoggerFactory.getLogger(DeploymentTasks.class);
 
@@ -361,7 +363,8 @@ class DeploymentTasks {
 
     /**
      * Checks whether a deployment with the given name exists and pushes {@code 200} to the context stack if it exists,
-     * {@code 404} otherwise.
+     * {@code 404} otherwise. Stores the hashes of the managed and archived content as hex strings under the key
+     * {@link DeploymentTasks#CONTENT_HASHES} in the context.
      */
     static final class CheckDeployment implements Task<FlowContext> {
 
@@ -375,12 +378,25 @@ class DeploymentTasks {
 
         @Override
         public Promise<FlowContext> apply(final FlowContext context) {
-            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+            Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_RESOURCES_OPERATION)
                     .param(CHILD_TYPE, DEPLOYMENT)
                     .build();
             return dispatcher.execute(operation)
                     .then(result -> {
-                        Set<String> names = result.asList().stream().map(ModelNode::asString).collect(toSet());
+                        Set<String> names = new HashSet<>();
+                        Set<String> hashes = new HashSet<>();
+                        for (Property property : result.asPropertyList()) {
+                            names.add(property.getName());
+                            Content content = new Content(property.getValue());
+                            if (content.isManaged() && !content.isExploded() && content.hasDefined(CONTENT)) {
+                                // for compatibility reasons "content" is a list but there is only one element in it
+                                List<ModelNode> contentItems = content.get(CONTENT).asList();
+                                if (!contentItems.isEmpty() && contentItems.get(0).hasDefined(HASH)) {
+                                    hashes.add(ContentHasher.toHex(contentItems.get(0).get(HASH).asBytes()));
+                                }
+                            }
+                        }
+                        context.set(CONTENT_HASHES, hashes);
                         if (names.contains(name)) {
                             return context.resolve(200);
                         } else {
@@ -394,6 +410,12 @@ class DeploymentTasks {
      * Creates a new deployment or replaces an existing deployment. The function looks for a status code in the context. If no
      * status context or {@code 404} is found, a new deployment is created, if {@code 200} is found the deployment is replaced.
      * <p>
+     * If the context contains the hashes of the existing content under the key {@link DeploymentTasks#CONTENT_HASHES}, the
+     * file is hashed first. If the content repository already contains the same content, the deployment references the
+     * existing content and the file is not uploaded at all. Big files are uploaded to the content repository in a separate
+     * step which is retried if it fails. If it finally fails, uploading the same file again resumes the upload (see
+     * {@link org.jboss.hal.dmr.dispatch.ResumableUpload}).
+     * <p>
      * The function puts an {@link UploadStatistics} under the key {@link DeploymentTasks#UPLOAD_STATISTICS} into the context.
      */
     static final class UploadOrReplace implements Task<FlowContext> {
@@ -441,7 +463,10 @@ class DeploymentTasks {
             Operation operation = builder.build();
             operation.get(CONTENT).add().get(INPUT_STREAM_INDEX).set(0); // NON-NLS
 
-            return dispatcher.upload(file, operation)
+            Set<String> contentHashes = context.get(CONTENT_HASHES, Collections.emptySet());
+            return dispatcher.resumableUpload(file)
+                    .existingContent(contentHashes)
+                    .upload(operation)
                     .then(result -> {
                         UploadStatistics statistics = context.get(UPLOAD_STATISTICS);
                         if (statistics == null) {
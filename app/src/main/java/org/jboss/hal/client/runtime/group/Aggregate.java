@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.group;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Aggregates the values of one attribute across the servers of a server group. Besides sum, minimum, maximum, mean and
+ * percentiles, the aggregate identifies outliers: Servers whose value lies outside the Tukey fences, i.e. more than 1.5
+ * times the interquartile range below the first or above the third quartile.
+ */
+class Aggregate {
+
+    /** The minimum number of values required to detect outliers. */
+    static final int MIN_OUTLIER_SAMPLES = 3;
+
+    private static final double FENCE = 1.5;
+
+    private final String[] servers;
+    private final double[] values;
+    private final double[] sorted;
+    private final double sum;
+
+    private Aggregate(List<String> servers, double[] values) {
+        this.servers = servers.toArray(new String[0]);
+        this.values = values;
+        this.sorted = Arrays.copyOf(values, values.length);
+        Arrays.sort(this.sorted);
+        double sum = 0;
+        for (double value : values) {
+            sum += value;
+        }
+        this.sum = sum;
+    }
+
+    int count() {
+        return values.length;
+    }
+
+    double sum() {
+        return sum;
+    }
+
+    double min() {
+        return sorted.length == 0 ? 0 : sorted[0];
+    }
+
+    double max() {
+        return sorted.length == 0 ? 0 : sorted[sorted.length - 1];
+    }
+
+    double mean() {
+        return values.length == 0 ? 0 : sum / values.length;
+    }
+
+    /**
+     * Returns the percentile using linear interpolation between the closest ranks.
+     *
+     * @param p the percentile between 0 and 100
+     */
+    double percentile(double p) {
+        if (sorted.length == 0) {
+            return 0;
+        }
+        double rank = Math.max(0, Math.min(100, p)) / 100 * (sorted.length - 1);
+        int lower = (int) Math.floor(rank);
+        int upper = (int) Math.ceil(rank);
+        return sorted[lower] + (rank - lower) * (sorted[upper] - sorted[lower]);
+    }
+
+    /** @return the servers whose values are outliers in the order they were added */
+    List<String> outliers() {
+        List<String> outliers = new ArrayList<>();
+        if (values.length >= MIN_OUTLIER_SAMPLES) {
+            double q1 = percentile(25);
+            double q3 = percentile(75);
+            double iqr = q3 - q1;
+            double lower = q1 - FENCE * iqr;
+            double upper = q3 + FENCE * iqr;
+            for (int i = 0; i < values.length; i++) {
+                if (values[i] < lower || values[i] > upper) {
+                    outliers.add(servers[i]);
+                }
+            }
+        }
+        return outliers;
+    }
+
+    static class Builder {
+
+        private final List<String> servers;
+        private double[] values;
+
+        Builder() {
+            this.servers = new ArrayList<>();
+            this.values = new double[8];
+        }
+
+        Builder add(String server, double value) {
+            if (servers.size() == values.length) {
+                values = Arrays.copyOf(values, values.length * 2);
+            }
+            values[servers.size()] = value;
+            servers.add(server);
+            return this;
+        }
+
+        Aggregate build() {
+            return new Aggregate(servers, Arrays.copyOf(values, servers.size()));
+        }
+    }
+}
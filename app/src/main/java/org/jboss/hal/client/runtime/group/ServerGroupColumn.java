@@ -149,6 +149,13 @@ public class ServerGroupColumn extends FinderColumn<ServerGroup>
                         .with(SERVER_GROUP, item.getName()).build();
                 List<ItemAction<ServerGroup>> actions = new ArrayList<>();
                 actions.add(itemActionFactory.viewAndMonitor(Ids.serverGroup(item.getName()), placeRequest));
+                if (item.hasServers(Server::isStarted)) {
+                    PlaceRequest statisticsRequest = new PlaceRequest.Builder()
+                            .nameToken(NameTokens.SERVER_GROUP_STATISTICS)
+                            .with(SERVER_GROUP, item.getName())
+                            .build();
+                    actions.add(itemActionFactory.placeRequest(resources.constants().statistics(), statisticsRequest));
+                }
 
                 // Order is: reload, restart, suspend, resume, stop, start, remove, copy
                 if (item.hasServers(Server::isStarted)) {
@@ -0,0 +1,198 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.group;
+
+import java.util.EnumMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.TreeMap;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.core.finder.Finder;
+import org.jboss.hal.core.finder.FinderPath;
+import org.jboss.hal.core.finder.FinderPathFactory;
+import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
+import org.jboss.hal.core.mvp.HalView;
+import org.jboss.hal.core.polling.PollingScheduler;
+import org.jboss.hal.core.polling.Subscription;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.token.NameTokens;
+import org.jboss.hal.spi.Requires;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import com.google.web.bindery.event.shared.EventBus;
+import com.gwtplatform.mvp.client.annotations.NameToken;
+import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
+import com.gwtplatform.mvp.client.proxy.ProxyPlace;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.resources.UIConstants.POLLING_INTERVAL;
+
+/**
+ * Aggregates the runtime statistics of all servers of the selected server group. Each {@link StatisticsFamily} is read using
+ * one wildcard operation across all hosts and servers. Together with the server membership, all families are read using one
+ * composite operation, which is executed when the view is revealed and then polled by the {@link PollingScheduler}.
+ */
+public class ServerGroupStatisticsPresenter
+        extends ApplicationFinderPresenter<ServerGroupStatisticsPresenter.MyView, ServerGroupStatisticsPresenter.MyProxy> {
+
+    static final String SERVER_CONFIG_ADDRESS = "/host=*/server-config=*";
+    private static final AddressTemplate SERVER_CONFIG_TEMPLATE = AddressTemplate.of(SERVER_CONFIG_ADDRESS);
+    private static final Logger logger = LoggerFactory.getLogger(ServerGroupStatisticsPresenter.class);
+
+    private final FinderPathFactory finderPathFactory;
+    private final StatementContext statementContext;
+    private final PollingScheduler pollingScheduler;
+    private Composite composite;
+    private Subscription subscription;
+
+    @Inject
+    public ServerGroupStatisticsPresenter(EventBus eventBus,
+            MyView view,
+            MyProxy proxy,
+            Finder finder,
+            FinderPathFactory finderPathFactory,
+            StatementContext statementContext,
+            PollingScheduler pollingScheduler) {
+        super(eventBus, view, proxy, finder);
+        this.finderPathFactory = finderPathFactory;
+        this.statementContext = statementContext;
+        this.pollingScheduler = pollingScheduler;
+    }
+
+    @Override
+    protected void onHide() {
+        super.onHide();
+        cancel();
+        composite = null;
+    }
+
+    @Override
+    public FinderPath finderPath() {
+        return finderPathFactory.runtimeServerGroupPath();
+    }
+
+    @Override
+    protected void reload() {
+        Composite composite = new Composite();
+        composite.add(new Operation.Builder(SERVER_CONFIG_TEMPLATE.resolve(statementContext), READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .param(INCLUDE_RUNTIME, true)
+                .build());
+        for (StatisticsFamily family : StatisticsFamily.values()) {
+            composite.add(family.operation(statementContext));
+        }
+        this.composite = composite;
+        getView().clear(statementContext.selectedServerGroup());
+        cancel();
+        subscription = pollingScheduler.subscribeNow(() -> composite, POLLING_INTERVAL,
+                result -> update(composite, new CompositeResult(result)), this::failed);
+    }
+
+    private void cancel() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+        }
+    }
+
+    private void update(Composite current, CompositeResult result) {
+        if (current != composite) {
+            return; // outdated
+        }
+        Set<String> servers = members(result.step(0).get(RESULT));
+        Map<StatisticsFamily, Map<String, Map<String, Aggregate>>> statistics = new EnumMap<>(StatisticsFamily.class);
+        StatisticsFamily[] families = StatisticsFamily.values();
+        for (int i = 0; i < families.length; i++) {
+            statistics.put(families[i], aggregate(families[i], servers, result.step(i + 1).get(RESULT)));
+        }
+        getView().update(servers.size(), statistics);
+    }
+
+    private void failed(String error) {
+        logger.error("Unable to read statistics of server group {}: {}", statementContext.selectedServerGroup(), error);
+    }
+
+    private Set<String> members(ModelNode serverConfigs) {
+        Set<String> servers = new HashSet<>();
+        String serverGroup = statementContext.selectedServerGroup();
+        for (ModelNode entry : serverConfigs.asList()) {
+            ModelNode serverConfig = entry.get(RESULT);
+            if (serverGroup.equals(serverConfig.get(GROUP).asString())) {
+                servers.add(server(entry.get(ADDRESS)));
+            }
+        }
+        return servers;
+    }
+
+    private Map<String, Map<String, Aggregate>> aggregate(StatisticsFamily family, Set<String> servers,
+            ModelNode entries) {
+        Map<String, Map<String, Aggregate.Builder>> samples = new TreeMap<>();
+        if (entries.isDefined()) {
+            for (ModelNode entry : entries.asList()) {
+                if (SUCCESS.equals(entry.get(OUTCOME).asString())) {
+                    String server = server(entry.get(ADDRESS));
+                    if (servers.contains(server)) {
+                        family.collect(server, entry.get(ADDRESS), entry.get(RESULT), samples);
+                    }
+                }
+            }
+        }
+        Map<String, Map<String, Aggregate>> aggregates = new LinkedHashMap<>();
+        samples.forEach((resource, builders) -> {
+            Map<String, Aggregate> attributes = new LinkedHashMap<>();
+            for (String attribute : family.attributes) {
+                Aggregate.Builder builder = builders.get(attribute);
+                if (builder != null) {
+                    attributes.put(attribute, builder.build());
+                }
+            }
+            aggregates.put(resource, attributes);
+        });
+        return aggregates;
+    }
+
+    /** @return the host and server name of the address as {@code <host>/<server>} */
+    private String server(ModelNode address) {
+        List<Property> segments = address.asPropertyList();
+        return segments.get(0).getValue().asString() + "/" + segments.get(1).getValue().asString();
+    }
+
+    // @formatter:off
+    @ProxyCodeSplit
+    @NameToken(NameTokens.SERVER_GROUP_STATISTICS)
+    @Requires(value = SERVER_CONFIG_ADDRESS, recursive = false)
+    public interface MyProxy extends ProxyPlace<ServerGroupStatisticsPresenter> {
+    }
+
+    public interface MyView extends HalView {
+        void clear(String serverGroup);
+
+        void update(int servers, Map<StatisticsFamily, Map<String, Map<String, Aggregate>>> statistics);
+    }
+    // @formatter:on
+}
@@ -0,0 +1,193 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.group;
+
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.jboss.elemento.Elements;
+import org.jboss.hal.core.mvp.HalViewImpl;
+import org.jboss.hal.resources.CSS;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Names;
+import org.jboss.hal.resources.Resources;
+
+import com.google.gwt.i18n.client.NumberFormat;
+
+import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLTableCellElement;
+import elemental2.dom.HTMLTableRowElement;
+import elemental2.dom.HTMLTableSectionElement;
+
+import static java.util.stream.Collectors.joining;
+import static org.jboss.elemento.Elements.h;
+import static org.jboss.elemento.Elements.p;
+import static org.jboss.elemento.Elements.section;
+import static org.jboss.elemento.Elements.table;
+import static org.jboss.elemento.Elements.tbody;
+import static org.jboss.elemento.Elements.td;
+import static org.jboss.elemento.Elements.th;
+import static org.jboss.elemento.Elements.thead;
+import static org.jboss.elemento.Elements.tr;
+import static org.jboss.hal.ballroom.LayoutBuilder.column;
+import static org.jboss.hal.ballroom.LayoutBuilder.row;
+import static org.jboss.hal.resources.CSS.*;
+
+/**
+ * Shows one table per {@link StatisticsFamily}. Rows are keyed by resource and attribute and updated in place, so that
+ * refreshing the statistics doesn't rebuild the tables. Rows with outliers are highlighted.
+ */
+public class ServerGroupStatisticsView extends HalViewImpl implements ServerGroupStatisticsPresenter.MyView {
+
+    private static final NumberFormat NUMBER_FORMAT = NumberFormat.getFormat("#,##0.##");
+    private static final int COUNT = 2;
+    private static final int SUM = 3;
+    private static final int MIN = 4;
+    private static final int MAX = 5;
+    private static final int MEAN = 6;
+    private static final int P50 = 7;
+    private static final int P90 = 8;
+    private static final int P99 = 9;
+    private static final int OUTLIERS = 10;
+
+    private final HTMLElement lead;
+    private String serverGroup;
+    private final Map<StatisticsFamily, HTMLElement> empty;
+    private final Map<StatisticsFamily, HTMLElement> tables;
+    private final Map<StatisticsFamily, HTMLTableSectionElement> bodies;
+    private final Map<StatisticsFamily, Map<String, HTMLTableRowElement>> rows;
+
+    @Inject
+    @SuppressWarnings("HardCodedStringLiteral")
+    public ServerGroupStatisticsView(Resources resources) {
+        this.empty = new EnumMap<>(StatisticsFamily.class);
+        this.tables = new EnumMap<>(StatisticsFamily.class);
+        this.bodies = new EnumMap<>(StatisticsFamily.class);
+        this.rows = new EnumMap<>(StatisticsFamily.class);
+
+        HTMLElement section = section()
+                .add(h(1).textContent(resources.constants().statistics()))
+                .add(lead = p().css(CSS.lead).element())
+                .element();
+        for (StatisticsFamily family : StatisticsFamily.values()) {
+            HTMLTableSectionElement body = tbody().element();
+            HTMLElement tableElement = table().css(table, tableBordered, tableStriped)
+                    .id(Ids.build(Ids.SERVER_GROUP_STATISTICS, family.name().toLowerCase()))
+                    .add(thead().add(tr()
+                            .add(th().textContent(Names.RESOURCE))
+                            .add(th().textContent(resources.constants().attribute()))
+                            .add(th().textContent(resources.constants().count()))
+                            .add(th().textContent(resources.constants().sum()))
+                            .add(th().textContent(resources.constants().minimum()))
+                            .add(th().textContent(resources.constants().maximum()))
+                            .add(th().textContent(resources.constants().average()))
+                            .add(th().textContent("P50"))
+                            .add(th().textContent("P90"))
+                            .add(th().textContent("P99"))
+                            .add(th().textContent(resources.constants().outliers()))))
+                    .add(body)
+                    .element();
+            HTMLElement noItems = p().textContent(resources.constants().noItems()).element();
+            section.appendChild(h(2).textContent(family.title).element());
+            section.appendChild(noItems);
+            section.appendChild(tableElement);
+            empty.put(family, noItems);
+            tables.put(family, tableElement);
+            bodies.put(family, body);
+            rows.put(family, new HashMap<>());
+        }
+        initElement(row()
+                .add(column()
+                        .addAll(section)));
+    }
+
+    @Override
+    public void clear(String serverGroup) {
+        this.serverGroup = serverGroup;
+        lead.textContent = Names.SERVER_GROUP + " " + serverGroup;
+        for (StatisticsFamily family : StatisticsFamily.values()) {
+            Elements.removeChildrenFrom(bodies.get(family));
+            rows.get(family).clear();
+            Elements.setVisible(empty.get(family), true);
+            Elements.setVisible(tables.get(family), false);
+        }
+    }
+
+    @Override
+    public void update(int servers, Map<StatisticsFamily, Map<String, Map<String, Aggregate>>> statistics) {
+        lead.textContent = Names.SERVER_GROUP + " " + serverGroup + ", " + servers + " " + Names.SERVERS;
+        statistics.forEach((family, resources) -> {
+            Map<String, HTMLTableRowElement> familyRows = rows.get(family);
+            Set<String> keys = new HashSet<>();
+            resources.forEach((resource, attributes) -> attributes.forEach((attribute, aggregate) -> {
+                String key = resource + "#" + attribute;
+                keys.add(key);
+                HTMLTableRowElement row = familyRows.computeIfAbsent(key, k -> {
+                    HTMLTableRowElement newRow = newRow(resource, attribute);
+                    bodies.get(family).appendChild(newRow);
+                    return newRow;
+                });
+                updateRow(row, aggregate);
+            }));
+            for (Iterator<Map.Entry<String, HTMLTableRowElement>> iterator = familyRows.entrySet().iterator(); iterator
+                    .hasNext();) {
+                Map.Entry<String, HTMLTableRowElement> entry = iterator.next();
+                if (!keys.contains(entry.getKey())) {
+                    Elements.failSafeRemoveFromParent(entry.getValue());
+                    iterator.remove();
+                }
+            }
+            Elements.setVisible(empty.get(family), familyRows.isEmpty());
+            Elements.setVisible(tables.get(family), !familyRows.isEmpty());
+        });
+    }
+
+    private HTMLTableRowElement newRow(String resource, String attribute) {
+        HTMLTableRowElement row = tr().element();
+        row.appendChild(td().textContent(resource).element());
+        row.appendChild(td().textContent(attribute).element());
+        for (int i = COUNT; i < OUTLIERS; i++) {
+            row.appendChild(td().css(textRight).element());
+        }
+        row.appendChild(td().element());
+        return row;
+    }
+
+    private void updateRow(HTMLTableRowElement row, Aggregate aggregate) {
+        List<String> outliers = aggregate.outliers();
+        cell(row, COUNT).textContent = String.valueOf(aggregate.count());
+        cell(row, SUM).textContent = NUMBER_FORMAT.format(aggregate.sum());
+        cell(row, MIN).textContent = NUMBER_FORMAT.format(aggregate.min());
+        cell(row, MAX).textContent = NUMBER_FORMAT.format(aggregate.max());
+        cell(row, MEAN).textContent = NUMBER_FORMAT.format(aggregate.mean());
+        cell(row, P50).textContent = NUMBER_FORMAT.format(aggregate.percentile(50));
+        cell(row, P90).textContent = NUMBER_FORMAT.format(aggregate.percentile(90));
+        cell(row, P99).textContent = NUMBER_FORMAT.format(aggregate.percentile(99));
+        cell(row, OUTLIERS).textContent = outliers.stream().collect(joining(", "));
+        row.classList.toggle(warning, !outliers.isEmpty());
+    }
+
+    private HTMLTableCellElement cell(HTMLTableRowElement row, int index) {
+        return (HTMLTableCellElement) row.cells.item(index);
+    }
+}
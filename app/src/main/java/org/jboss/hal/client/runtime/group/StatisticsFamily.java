@@ -0,0 +1,140 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.group;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.resources.Names;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * A family of runtime statistics which is read across all hosts and servers using one wildcard operation. Each family
+ * knows how to turn the result of the wildcard operation into samples per resource and attribute.
+ */
+@SuppressWarnings("HardCodedStringLiteral")
+enum StatisticsFamily {
+
+    DATASOURCES(Names.DATASOURCES, "subsystem=datasources/data-source=*/statistics=pool", emptyList(),
+            asList("ActiveCount", "AvailableCount", "InUseCount", "MaxUsedCount", "WaitCount", "TimedOut",
+                    "AverageBlockingTime")),
+
+    EJB(Names.EJB3, "deployment=*/subsystem=ejb3",
+            asList("stateless-session-bean", "stateful-session-bean", "singleton-bean", "message-driven-bean"),
+            asList("invocations", "execution-time", "wait-time", "peak-concurrent-invocations")),
+
+    JPA(Names.JPA, "deployment=*/subsystem=jpa/hibernate-persistence-unit=*", emptyList(),
+            asList("session-open-count", "completed-transaction-count", "query-execution-count",
+                    "query-execution-max-time", "second-level-cache-hit-count", "second-level-cache-miss-count")),
+
+    UNDERTOW(Names.UNDERTOW, "subsystem=undertow/server=*", asList(HTTP_LISTENER, HTTPS_LISTENER, AJP_LISTENER),
+            asList("request-count", "error-count", "processing-time", "max-processing-time", "bytes-sent",
+                    "bytes-received"));
+
+    static final String ALL_SERVERS = "/host=*/server=*";
+
+    final String title;
+    final AddressTemplate template;
+    final List<String> childTypes;
+    final List<String> attributes;
+    private final List<Integer> wildcards;
+
+    StatisticsFamily(String title, String address, List<String> childTypes, List<String> attributes) {
+        this.title = title;
+        this.template = AddressTemplate.of(ALL_SERVERS + "/" + address);
+        this.childTypes = childTypes;
+        this.attributes = attributes;
+        this.wildcards = new ArrayList<>();
+        String[] segments = address.split("/");
+        for (int i = 0; i < segments.length; i++) {
+            if (segments[i].endsWith("=*")) {
+                wildcards.add(i + 2); // + host and server
+            }
+        }
+    }
+
+    /**
+     * The wildcard operation which reads this family. If the statistics are located in child resources, the children are
+     * read using {@code recursive-depth=1}.
+     */
+    Operation operation(StatementContext statementContext) {
+        Operation.Builder builder = new Operation.Builder(template.resolve(statementContext), READ_RESOURCE_OPERATION)
+                .param(INCLUDE_RUNTIME, true);
+        if (!childTypes.isEmpty()) {
+            builder.param(RECURSIVE_DEPTH, 1);
+        }
+        return builder.build();
+    }
+
+    /**
+     * Adds the attribute values of one entry of the wildcard result to the samples.
+     *
+     * @param server  the server the entry belongs to
+     * @param address the address of the entry
+     * @param result  the result of the entry
+     * @param samples the samples mapped by resource name and attribute
+     */
+    void collect(String server, ModelNode address, ModelNode result,
+            Map<String, Map<String, Aggregate.Builder>> samples) {
+        String resource = resourceName(address);
+        if (childTypes.isEmpty()) {
+            collectAttributes(server, resource, result, samples);
+        } else {
+            for (String childType : childTypes) {
+                if (result.hasDefined(childType)) {
+                    for (Property child : result.get(childType).asPropertyList()) {
+                        collectAttributes(server, resource + "/" + child.getName(), child.getValue(), samples);
+                    }
+                }
+            }
+        }
+    }
+
+    private void collectAttributes(String server, String resource, ModelNode node,
+            Map<String, Map<String, Aggregate.Builder>> samples) {
+        Map<String, Aggregate.Builder> builders = samples.computeIfAbsent(resource, r -> new TreeMap<>());
+        for (String attribute : attributes) {
+            if (node.hasDefined(attribute)) {
+                builders.computeIfAbsent(attribute, a -> new Aggregate.Builder())
+                        .add(server, node.get(attribute).asDouble(0));
+            }
+        }
+    }
+
+    private String resourceName(ModelNode address) {
+        List<Property> segments = address.asPropertyList();
+        StringBuilder builder = new StringBuilder();
+        for (int index : wildcards) {
+            if (index < segments.size()) {
+                if (builder.length() != 0) {
+                    builder.append("/");
+                }
+                builder.append(segments.get(index).getValue().asString());
+            }
+        }
+        return builder.toString();
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.server;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Consumer;
+
+import org.jboss.hal.ballroom.chart.RingBuffer;
+import org.jboss.hal.core.polling.PollingScheduler;
+import org.jboss.hal.core.polling.Subscription;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_HOST;
+import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_SERVER;
+
+/**
+ * Samples the platform MBeans of the selected server at a fixed rate and stores the values in {@link RingBuffer}s of fixed
+ * size. The samples are read by a subscription of the {@link PollingScheduler} using one composite operation, which skips
+ * ticks while the previous read is still running and pauses as long as the document is hidden.
+ * <p>
+ * Garbage collection is stored as the time and number of collections since the previous tick summed over all collectors.
+ * Buffer pools are stored as the memory used by all pools.
+ */
+class PlatformMBeanSampler {
+
+    static final String HEAP_USED = "heap-used";
+    static final String NON_HEAP_USED = "non-heap-used";
+    static final String THREADS = "thread-count";
+    static final String DAEMON_THREADS = "daemon-thread-count";
+    static final String LOADED_CLASSES = "loaded-class-count";
+    static final String SYSTEM_LOAD = "system-load-average";
+    static final String GC_TIME = "collection-time";
+    static final String GC_COUNT = "collection-count";
+    static final String BUFFER_POOLS = "memory-used";
+
+    /** Number of samples kept for each metric. */
+    static final int DEFAULT_CAPACITY = 60;
+
+    /** Sampling interval in milliseconds. */
+    static final double DEFAULT_INTERVAL = 2_000;
+
+    private static final double MB = 1024 * 1024;
+    private static final Logger logger = LoggerFactory.getLogger(PlatformMBeanSampler.class);
+
+    private final PollingScheduler pollingScheduler;
+    private final StatementContext statementContext;
+    private final Map<String, RingBuffer> series;
+    private Consumer<Map<String, RingBuffer>> callback;
+    private double interval;
+    private Composite composite;
+    private Subscription subscription;
+    private long lastGcTime;
+    private long lastGcCount;
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    PlatformMBeanSampler(PollingScheduler pollingScheduler, StatementContext statementContext, int capacity) {
+        this.pollingScheduler = pollingScheduler;
+        this.statementContext = statementContext;
+        this.series = new LinkedHashMap<>();
+        for (String id : new String[] { HEAP_USED, NON_HEAP_USED, THREADS, DAEMON_THREADS, LOADED_CLASSES, SYSTEM_LOAD,
+                GC_TIME, GC_COUNT, BUFFER_POOLS }) {
+            series.put(id, new RingBuffer(capacity));
+        }
+        this.interval = DEFAULT_INTERVAL;
+        this.lastGcTime = -1;
+        this.lastGcCount = -1;
+    }
+
+    /** Sets the sampling interval in milliseconds. Takes effect immediately if the sampler is running. */
+    void interval(double interval) {
+        this.interval = interval;
+        if (subscription != null) {
+            subscription.cancel();
+            subscribe();
+        }
+    }
+
+    double interval() {
+        return interval;
+    }
+
+    /** Starts sampling. The callback is called after each successful tick. */
+    void start(Consumer<Map<String, RingBuffer>> callback) {
+        if (subscription == null) {
+            this.callback = callback;
+            this.composite = composite();
+            subscribe();
+        }
+    }
+
+    void stop() {
+        if (subscription != null) {
+            subscription.cancel();
+            subscription = null;
+            series.values().forEach(RingBuffer::clear);
+            lastGcTime = -1;
+            lastGcCount = -1;
+            composite = null;
+            callback = null;
+        }
+    }
+
+    Map<String, RingBuffer> series() {
+        return series;
+    }
+
+    private void subscribe() {
+        subscription = pollingScheduler.subscribe(() -> composite, interval,
+                result -> sample(new CompositeResult(result)),
+                error -> logger.error("Unable to sample platform MBeans: {}", error));
+    }
+
+    // ------------------------------------------------------ sampling
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    private Composite composite() {
+        AddressTemplate mbean = AddressTemplate.of(SELECTED_HOST, SELECTED_SERVER, "core-service=platform-mbean");
+        return new Composite(
+                readResource(mbean.append("type=memory")),
+                readResource(mbean.append("type=threading")),
+                readResource(mbean.append("type=class-loading")),
+                readResource(mbean.append("type=operating-system")),
+                readChildren(mbean.append("type=garbage-collector")),
+                readChildren(mbean.append("type=buffer-pool")));
+    }
+
+    private Operation readResource(AddressTemplate template) {
+        return new Operation.Builder(template.resolve(statementContext), READ_RESOURCE_OPERATION)
+                .param(ATTRIBUTES_ONLY, true)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+    }
+
+    private Operation readChildren(AddressTemplate template) {
+        return new Operation.Builder(template.resolve(statementContext), READ_CHILDREN_RESOURCES_OPERATION)
+                .param(CHILD_TYPE, NAME)
+                .param(INCLUDE_RUNTIME, true)
+                .build();
+    }
+
+    @SuppressWarnings("HardCodedStringLiteral")
+    private void sample(CompositeResult result) {
+        ModelNode memory = result.step(0).get(RESULT);
+        add(HEAP_USED, memory.get("heap-memory-usage").get("used").asLong() / MB);
+        add(NON_HEAP_USED, memory.get("non-heap-memory-usage").get("used").asLong() / MB);
+
+        ModelNode threading = result.step(1).get(RESULT);
+        add(THREADS, threading.get(THREADS).asLong());
+        add(DAEMON_THREADS, threading.get(DAEMON_THREADS).asLong());
+
+        add(LOADED_CLASSES, result.step(2).get(RESULT).get(LOADED_CLASSES).asLong());
+        add(SYSTEM_LOAD, result.step(3).get(RESULT).get(SYSTEM_LOAD).asDouble(0));
+
+        long gcTime = 0;
+        long gcCount = 0;
+        for (Property property : result.step(4).get(RESULT).asPropertyList()) {
+            gcTime += property.getValue().get(GC_TIME).asLong(0);
+            gcCount += property.getValue().get(GC_COUNT).asLong(0);
+        }
+        add(GC_TIME, lastGcTime == -1 ? 0 : Math.max(0, gcTime - lastGcTime));
+        add(GC_COUNT, lastGcCount == -1 ? 0 : Math.max(0, gcCount - lastGcCount));
+        lastGcTime = gcTime;
+        lastGcCount = gcCount;
+
+        long bufferPools = 0;
+        for (Property property : result.step(5).get(RESULT).asPropertyList()) {
+            bufferPools += property.getValue().get(BUFFER_POOLS).asLong(0);
+        }
+        add(BUFFER_POOLS, bufferPools / MB);
+
+        if (callback != null) {
+            callback.accept(series);
+        }
+    }
+
+    private void add(String id, double value) {
+        series.get(id).add(value);
+    }
+}
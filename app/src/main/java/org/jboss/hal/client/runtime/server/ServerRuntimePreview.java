@@ -15,9 +15,13 @@
  */
 package org.jboss.hal.client.runtime.server;
 
+import org.jboss.elemento.EventType;
 import org.jboss.hal.ballroom.Format;
+import org.jboss.hal.ballroom.PatternFly;
+import org.jboss.hal.ballroom.chart.Sparkline;
 import org.jboss.hal.ballroom.chart.Utilization;
 import org.jboss.hal.core.finder.PreviewContent;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.core.subsystem.SubsystemMetadata;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
@@ -31,18 +35,37 @@ import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
 
 import elemental2.dom.HTMLElement;
+import elemental2.dom.HTMLSelectElement;
 
 import static org.jboss.elemento.Elements.br;
+import static org.jboss.elemento.Elements.div;
 import static org.jboss.elemento.Elements.h;
+import static org.jboss.elemento.Elements.label;
+import static org.jboss.elemento.Elements.option;
 import static org.jboss.elemento.Elements.p;
+import static org.jboss.elemento.Elements.select;
 import static org.jboss.elemento.Elements.span;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.BUFFER_POOLS;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.DAEMON_THREADS;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.GC_COUNT;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.GC_TIME;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.HEAP_USED;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.LOADED_CLASSES;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.NON_HEAP_USED;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.SYSTEM_LOAD;
+import static org.jboss.hal.client.runtime.server.PlatformMBeanSampler.THREADS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_HOST;
 import static org.jboss.hal.meta.StatementContext.Expression.SELECTED_SERVER;
+import static org.jboss.hal.resources.CSS.formControl;
+import static org.jboss.hal.resources.CSS.headerForm;
 import static org.jboss.hal.resources.CSS.lead;
 
 public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
 
+    private static final int SPARKLINE_HEIGHT = 60;
+    private static final int[] SAMPLING_INTERVALS = { 1, 2, 5, 10 }; // seconds
+
     private final Dispatcher dispatcher;
     private final StatementContext statementContext;
     private final Resources resources;
@@ -58,8 +81,15 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
     private final Utilization committedHeap;
     private final Utilization committedNonHeap;
     private final Utilization threads;
+    private final PlatformMBeanSampler sampler;
+    private final Sparkline memoryTrend;
+    private final Sparkline threadsTrend;
+    private final Sparkline gcTrend;
+    private final Sparkline classesTrend;
+    private final Sparkline loadTrend;
 
-    public ServerRuntimePreview(Dispatcher dispatcher, StatementContext statementContext, Resources resources) {
+    public ServerRuntimePreview(Dispatcher dispatcher, PollingScheduler pollingScheduler,
+            StatementContext statementContext, Resources resources) {
         super(resources.constants().status());
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
@@ -76,6 +106,47 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
         this.threads = new Utilization("Daemon", Names.THREADS, false, false); // NON-NLS
         this.threads.element().id = Ids.SERVER_RUNTIME_STATUS_THREADS;
 
+        this.sampler = new PlatformMBeanSampler(pollingScheduler, statementContext, PlatformMBeanSampler.DEFAULT_CAPACITY);
+        this.memoryTrend = new Sparkline.Builder()
+                .add(HEAP_USED, Names.HEAP + " (" + Names.MB + ")", PatternFly.colors.blue)
+                .add(NON_HEAP_USED, Names.NON_HEAP + " (" + Names.MB + ")", PatternFly.colors.green)
+                .add(BUFFER_POOLS, Names.BUFFER_POOLS + " (" + Names.MB + ")", PatternFly.colors.orange)
+                .height(SPARKLINE_HEIGHT)
+                .build();
+        this.threadsTrend = new Sparkline.Builder()
+                .add(THREADS, Names.THREADS, PatternFly.colors.blue)
+                .add(DAEMON_THREADS, Names.DAEMON_THREADS, PatternFly.colors.green)
+                .height(SPARKLINE_HEIGHT)
+                .build();
+        this.gcTrend = new Sparkline.Builder()
+                .add(GC_TIME, resources.constants().milliseconds(), PatternFly.colors.orange)
+                .add(GC_COUNT, resources.constants().count(), PatternFly.colors.blue)
+                .height(SPARKLINE_HEIGHT)
+                .build();
+        this.classesTrend = new Sparkline.Builder()
+                .add(LOADED_CLASSES, Names.CLASSES, PatternFly.colors.blue)
+                .height(SPARKLINE_HEIGHT)
+                .build();
+        this.loadTrend = new Sparkline.Builder()
+                .add(SYSTEM_LOAD, Names.SYSTEM_LOAD, PatternFly.colors.blue)
+                .height(SPARKLINE_HEIGHT)
+                .build();
+        registerAttachable(memoryTrend, threadsTrend, gcTrend, classesTrend, loadTrend);
+
+        HTMLSelectElement samplingInterval = select().css(formControl)
+                .id(Ids.SERVER_RUNTIME_STATUS_SAMPLING_INTERVAL)
+                .on(EventType.change, event -> sampler.interval(
+                        Integer.parseInt(((HTMLSelectElement) event.currentTarget).value) * 1_000))
+                .element();
+        for (int seconds : SAMPLING_INTERVALS) {
+            samplingInterval.appendChild(option()
+                    .apply(o -> {
+                        o.value = String.valueOf(seconds);
+                        o.text = seconds + " " + resources.constants().seconds();
+                        o.selected = seconds * 1_000 == sampler.interval();
+                    }).element());
+        }
+
         getHeaderContainer().appendChild(refreshLink(() -> update(null)));
         previewBuilder()
                 .add(p().css(lead)
@@ -94,7 +165,39 @@ public class ServerRuntimePreview extends PreviewContent<SubsystemMetadata> {
                 .add(usedNonHeap)
                 .add(committedNonHeap)
                 .add(h(2).textContent(Names.THREADS))
-                .add(threads);
+                .add(threads)
+                .add(threadsTrend)
+                .add(div().css(headerForm)
+                        .add(label()
+                                .apply(l -> l.htmlFor = Ids.SERVER_RUNTIME_STATUS_SAMPLING_INTERVAL)
+                                .textContent(resources.constants().samplingInterval()))
+                        .add(samplingInterval))
+                .add(h(2).textContent(Names.MEMORY))
+                .add(memoryTrend)
+                .add(h(2).textContent(Names.GARBAGE_COLLECTION))
+                .add(gcTrend)
+                .add(h(2).textContent(Names.CLASSES))
+                .add(classesTrend)
+                .add(h(2).textContent(Names.SYSTEM_LOAD))
+                .add(loadTrend);
+    }
+
+    @Override
+    public void attach() {
+        super.attach();
+        sampler.start(series -> {
+            memoryTrend.update(series);
+            threadsTrend.update(series);
+            gcTrend.update(series);
+            classesTrend.update(series);
+            loadTrend.update(series);
+        });
+    }
+
+    @Override
+    public void detach() {
+        sampler.stop();
+        super.detach();
     }
 
     @Override
@@ -39,6 +39,8 @@ import org.jboss.hal.core.finder.ItemDisplay;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.form.ModelNodeForm;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.polling.PollingScheduler;
+import org.jboss.hal.core.polling.Subscription;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
@@ -61,8 +63,6 @@ import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 import elemental2.dom.HTMLElement;
 import elemental2.promise.Promise;
 
-import static elemental2.dom.DomGlobal.clearInterval;
-import static elemental2.dom.DomGlobal.setInterval;
 import static java.util.Arrays.asList;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_ADDRESS;
 import static org.jboss.hal.client.runtime.subsystem.batch.AddressTemplates.BATCH_DEPLOYMENT_TEMPLATE;
@@ -92,7 +92,8 @@ public class JobColumn extends FinderColumn<JobNode> {
     private final Dispatcher dispatcher;
     private final MetadataRegistry metadataRegistry;
     private final Resources resources;
-    private final Map<String, Double> intervalHandles;
+    private final PollingScheduler pollingScheduler;
+    private final Map<String, Subscription> subscriptions;
 
     @Inject
     public JobColumn(Finder finder,
@@ -104,7 +105,8 @@ public class JobColumn extends FinderColumn<JobNode> {
             EventBus eventBus,
             Dispatcher dispatcher,
             MetadataRegistry metadataRegistry,
-            Resources resources) {
+            Resources resources,
+            PollingScheduler pollingScheduler) {
 
         super(new Builder<JobNode>(finder, Ids.JOB, Names.JOB)
                 .columnAction(columnActionFactory.refresh(Ids.JOB_REFRESH))
@@ -117,16 +119,17 @@ public class JobColumn extends FinderColumn<JobNode> {
         this.dispatcher = dispatcher;
         this.metadataRegistry = metadataRegistry;
         this.resources = resources;
-        this.intervalHandles = new HashMap<>();
+        this.pollingScheduler = pollingScheduler;
+        this.subscriptions = new HashMap<>();
 
         setItemsProvider(context -> deploymentResources.readChildren(BATCH_JBERET, JOB, JobNode::new).then(jobs -> {
             // turn progress animation on/off
-            clearIntervals();
+            cancelSubscriptions();
             for (JobNode job : jobs) {
                 String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
                 if (job.getRunningExecutions() > 0) {
                     ItemMonitor.startProgress(jobId);
-                    intervalHandles.put(jobId, setInterval(o -> pollJob(job), POLLING_INTERVAL));
+                    subscriptions.put(jobId, pollJob(job));
                 } else {
                     ItemMonitor.stopProgress(jobId);
                 }
@@ -210,22 +213,22 @@ public class JobColumn extends FinderColumn<JobNode> {
         setPreviewCallback(itm -> new JobPreview(this, itm, finderPathFactory, places, resources));
     }
 
-    private void pollJob(JobNode job) {
+    private Subscription pollJob(JobNode job) {
         Operation operation = new Operation.Builder(job.getAddress(), READ_ATTRIBUTE_OPERATION)
                 .param(NAME, RUNNING_EXECUTIONS)
                 .build();
         String jobId = Ids.job(job.getDeployment(), job.getSubdeployment(), job.getName());
-        dispatcher.execute(operation,
+        return pollingScheduler.subscribe(() -> operation, POLLING_INTERVAL,
                 result -> {
                     if (result.asInt() == 0) {
                         ItemMonitor.stopProgress(jobId);
-                        if (intervalHandles.containsKey(jobId)) {
-                            double handle = intervalHandles.remove(jobId);
-                            clearInterval(handle);
+                        Subscription subscription = subscriptions.remove(jobId);
+                        if (subscription != null) {
+                            subscription.cancel();
                         }
                         JobColumn.this.refresh(RESTORE_SELECTION);
                     }
-                }, (o, failure) -> ItemMonitor.stopProgress(jobId));
+                }, failure -> ItemMonitor.stopProgress(jobId));
     }
 
     private void startJob(JobNode job) {
@@ -282,13 +285,13 @@ public class JobColumn extends FinderColumn<JobNode> {
     @Override
     public void detach() {
         super.detach();
-        clearIntervals();
+        cancelSubscriptions();
     }
 
-    private void clearIntervals() {
-        for (Double handle : intervalHandles.values()) {
-            clearInterval(handle);
+    private void cancelSubscriptions() {
+        for (Subscription subscription : subscriptions.values()) {
+            subscription.cancel();
         }
-        intervalHandles.clear();
+        subscriptions.clear();
     }
 }
@@ -25,6 +25,8 @@ import org.jboss.hal.core.finder.FinderPathFactory;
 import org.jboss.hal.core.mvp.ApplicationFinderPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.core.polling.PollingScheduler;
+import org.jboss.hal.core.polling.Subscription;
 import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.ModelNode;
@@ -45,9 +47,7 @@ import com.gwtplatform.mvp.client.annotations.ProxyCodeSplit;
 import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
-import static elemental2.dom.DomGlobal.clearInterval;
 import static elemental2.dom.DomGlobal.clearTimeout;
-import static elemental2.dom.DomGlobal.setInterval;
 import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.stream.Collectors.joining;
 import static org.jboss.hal.client.runtime.subsystem.logging.AddressTemplates.LOG_FILE_ADDRESS;
@@ -75,7 +75,8 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     private String logFileName;
     private String loggingProfile;
     private LogFile logFile;
-    private double intervalHandle;
+    private final PollingScheduler pollingScheduler;
+    private Subscription tail;
 
     @Inject
     public LogFilePresenter(EventBus eventBus,
@@ -85,17 +86,19 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
             FinderPathFactory finderPathFactory,
             Dispatcher dispatcher,
             StatementContext statementContext,
+            PollingScheduler pollingScheduler,
             Resources resources) {
         super(eventBus, view, myProxy, finder);
         this.finderPathFactory = finderPathFactory;
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
+        this.pollingScheduler = pollingScheduler;
         this.resources = resources;
 
         this.logFileName = null;
         this.loggingProfile = null;
         this.logFile = null;
-        this.intervalHandle = -1;
+        this.tail = null;
     }
 
     @Override
@@ -162,28 +165,13 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
 
     void reloadFile() {
         if (logFile != null) {
-            int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
             double handle = setTimeout((o) -> getView().loading(), UIConstants.MEDIUM_TIMEOUT);
-            ResourceAddress address;
-            if (loggingProfile == null) {
-                address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
-            } else {
-                address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
-            }
-            // noinspection HardCodedStringLiteral
-            Operation operation = new Operation.Builder(address, READ_LOG_FILE)
-                    .param(LINES, linesToRead)
-                    .param(TAIL, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
+            dispatcher.execute(readLogFile(), result -> {
                 clearTimeout(handle);
-                List<ModelNode> linesRead = result.asList();
-                String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
-                getView().refresh(linesRead.size(), content);
+                refresh(result);
             }, (op, failure) -> {
                 clearTimeout(handle);
-                MessageEvent.fire(getEventBus(),
-                        Message.error(resources.messages().logFileError(logFileName), failure));
+                logFileError(failure);
             });
         } else {
             MessageEvent.fire(getEventBus(), Message.error(resources.messages().noLogFile()));
@@ -194,11 +182,14 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
         if (logFile != null) {
             if (on) {
                 if (!inTailMode()) {
-                    intervalHandle = setInterval((o) -> reloadFile(), REFRESH_INTERVAL);
+                    tail = pollingScheduler.subscribe(this::readLogFile, REFRESH_INTERVAL, this::refresh,
+                            this::logFileError);
                 }
             } else {
-                clearInterval(intervalHandle);
-                intervalHandle = -1;
+                if (tail != null) {
+                    tail.cancel();
+                    tail = null;
+                }
                 reloadFile();
             }
         } else {
@@ -207,7 +198,32 @@ public class LogFilePresenter extends ApplicationFinderPresenter<LogFilePresente
     }
 
     private boolean inTailMode() {
-        return intervalHandle != -1;
+        return tail != null;
+    }
+
+    private Operation readLogFile() {
+        int linesToRead = inTailMode() ? getView().visibleLines() : LogFiles.LINES;
+        ResourceAddress address;
+        if (loggingProfile == null) {
+            address = LOG_FILE_TEMPLATE.resolve(statementContext, logFileName);
+        } else {
+            address = PROFILE_LOG_FILE_TEMPLATE.resolve(statementContext, loggingProfile, logFileName);
+        }
+        // noinspection HardCodedStringLiteral
+        return new Operation.Builder(address, READ_LOG_FILE)
+                .param(LINES, linesToRead)
+                .param(TAIL, true)
+                .build();
+    }
+
+    private void refresh(ModelNode result) {
+        List<ModelNode> linesRead = result.asList();
+        String content = linesRead.stream().map(ModelNode::asString).collect(joining("\n"));
+        getView().refresh(linesRead.size(), content);
+    }
+
+    private void logFileError(String failure) {
+        MessageEvent.fire(getEventBus(), Message.error(resources.messages().logFileError(logFileName), failure));
     }
 
     // @formatter:off
@@ -16,6 +16,7 @@
 package org.jboss.hal.client.skeleton;
 
 import javax.inject.Inject;
+import javax.inject.Provider;
 
 import org.jboss.elemento.IsElement;
 import org.jboss.hal.ballroom.PatternFly;
@@ -37,8 +38,12 @@ import org.jboss.hal.dmr.macro.MacroOperationEvent;
 import org.jboss.hal.dmr.macro.MacroOperationEvent.MacroOperationHandler;
 import org.jboss.hal.dmr.macro.Macros;
 import org.jboss.hal.dmr.macro.Recording;
+import org.jboss.hal.flow.Progress;
+import org.jboss.hal.meta.description.MetadataSnapshot;
+import org.jboss.hal.meta.processing.MetadataProcessor;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Resources;
+import org.jboss.hal.spi.Footer;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
 
@@ -47,7 +52,16 @@ import com.gwtplatform.mvp.client.PresenterWidget;
 import com.gwtplatform.mvp.client.proxy.PlaceManager;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
+import elemental2.dom.Blob;
+import elemental2.dom.Blob.ConstructorBlobPartsArrayUnionType;
+import elemental2.dom.BlobPropertyBag;
+import elemental2.dom.Event;
+import elemental2.dom.HTMLAnchorElement;
 import elemental2.dom.HTMLElement;
+import elemental2.dom.URL;
+import elemental2.promise.Promise;
+
+import static org.jboss.elemento.Elements.a;
 
 public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         implements IsElement, MacroOperationHandler, MacroFinishedHandler, VersionUpdateHandler {
@@ -57,6 +71,9 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
     private final Settings settings;
     private final Macros macros;
     private final ExpressionResolver expressionResolver;
+    private final MetadataProcessor metadataProcessor;
+    private final MetadataSnapshot metadataSnapshot;
+    private final Provider<Progress> progress;
     private final Resources resources;
     private final AboutDialog aboutDialog;
     private boolean recording;
@@ -71,6 +88,9 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
             Settings settings,
             Macros macros,
             ExpressionResolver expressionResolver,
+            MetadataProcessor metadataProcessor,
+            MetadataSnapshot metadataSnapshot,
+            @Footer Provider<Progress> progress,
             Resources resources) {
         super(eventBus, view);
         this.environment = environment;
@@ -78,6 +98,9 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         this.settings = settings;
         this.macros = macros;
         this.expressionResolver = expressionResolver;
+        this.metadataProcessor = metadataProcessor;
+        this.metadataSnapshot = metadataSnapshot;
+        this.progress = progress;
         this.resources = resources;
         this.aboutDialog = new AboutDialog(environment, endpoints, resources);
     }
@@ -139,6 +162,32 @@ public class FooterPresenter extends PresenterWidget<FooterPresenter.MyView>
         }
     }
 
+    void onMetadataSnapshot() {
+        String filename = metadataSnapshot.fileName();
+        metadataProcessor.processAll(progress.get())
+                .then(metadataSnapshot::create)
+                .then(json -> {
+                    BlobPropertyBag options = BlobPropertyBag.create();
+                    options.setType("application/json");
+                    Blob blob = new Blob(new ConstructorBlobPartsArrayUnionType[] {
+                            ConstructorBlobPartsArrayUnionType.of(json) }, options);
+                    String url = URL.createObjectURL(blob);
+                    HTMLAnchorElement anchor = a().element();
+                    anchor.href = url;
+                    anchor.download = filename;
+                    anchor.dispatchEvent(new Event("click"));
+                    URL.revokeObjectURL(url);
+                    MessageEvent.fire(getEventBus(),
+                            Message.success(resources.messages().metadataSnapshotCreated(filename)));
+                    return Promise.resolve(json);
+                })
+                .catch_(error -> {
+                    MessageEvent.fire(getEventBus(), Message.error(resources.messages().metadataError(),
+                            String.valueOf(error)));
+                    return null;
+                });
+    }
+
     @Override
     public void onMacroOperation(MacroOperationEvent event) {
         getView().steps(event.getMacro().getOperations().size());
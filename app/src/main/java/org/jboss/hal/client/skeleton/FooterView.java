@@ -71,6 +71,7 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         HTMLElement showVersion;
         HTMLElement modelBrowser;
         HTMLElement expressionResolver;
+        HTMLElement metadataSnapshot;
         HTMLElement settings;
         HTMLElement root = footer().css(footer)
                 .add(nav().css(navbar, navbarFooter, navbarFixedBottom)
@@ -119,6 +120,11 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
                                                 .add(li()
                                                         .add(macroEditor = a().css(clickable)
                                                                 .textContent(resources.constants().macroEditor())
+                                                                .element()))
+                                                .add(li()
+                                                        .add(metadataSnapshot = a().css(clickable)
+                                                                .textContent(resources.constants()
+                                                                        .exportMetadataSnapshot())
                                                                 .element()))))
                                 .add(li()
                                         .add(settings = a().css(tool, clickable)
@@ -137,6 +143,7 @@ public class FooterView extends HalViewImpl implements FooterPresenter.MyView {
         bind(expressionResolver, click, event -> presenter.onExpressionResolver());
         bind(macroRecorder, click, event -> presenter.onMacroRecording());
         bind(macroEditor, click, event -> presenter.onMacroEditor());
+        bind(metadataSnapshot, click, event -> presenter.onMetadataSnapshot());
         bind(settings, click, event -> presenter.onSettings());
     }
 
@@ -15,21 +15,30 @@
  */
 package org.jboss.hal.client.tools;
 
+import java.util.ArrayList;
 import java.util.List;
 
 import javax.inject.Inject;
 import javax.inject.Provider;
 
 import org.jboss.hal.ballroom.HasTitle;
+import org.jboss.hal.client.tools.MacroOperationTask.StepFailure;
 import org.jboss.hal.core.mvp.ApplicationPresenter;
 import org.jboss.hal.core.mvp.HalView;
 import org.jboss.hal.core.mvp.HasPresenter;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.dmr.macro.Macro;
 import org.jboss.hal.dmr.macro.Macros;
+import org.jboss.hal.dmr.macro.PlaybackOptions;
 import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.flow.Task;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
 import org.jboss.hal.meta.token.NameTokens;
 import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
@@ -45,7 +54,6 @@ import com.gwtplatform.mvp.client.proxy.ProxyPlace;
 import com.gwtplatform.mvp.shared.proxy.PlaceRequest;
 
 import static elemental2.dom.DomGlobal.alert;
-import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.flow.Flow.sequential;
 
 public class MacroEditorPresenter
@@ -55,6 +63,7 @@ public class MacroEditorPresenter
     public static final String MACRO_PARAM = "macro";
 
     private final Dispatcher dispatcher;
+    private final ResourceDescriptionRegistry descriptionRegistry;
     private final Macros macros;
     private final Provider<Progress> progress;
     private final Resources resources;
@@ -62,9 +71,11 @@ public class MacroEditorPresenter
 
     @Inject
     public MacroEditorPresenter(EventBus eventBus, MyView view, MyProxy proxy, Dispatcher dispatcher,
-            Macros macros, @Footer Provider<Progress> progress, Resources resources) {
+            ResourceDescriptionRegistry descriptionRegistry, Macros macros, @Footer Provider<Progress> progress,
+            Resources resources) {
         super(eventBus, view, proxy);
         this.dispatcher = dispatcher;
+        this.descriptionRegistry = descriptionRegistry;
         this.macros = macros;
         this.progress = progress;
         this.resources = resources;
@@ -111,8 +122,25 @@ public class MacroEditorPresenter
     }
 
     void play(Macro macro) {
-        List<Task<FlowContext>> tasks = macro.getOperations().stream()
-                .map(operation -> new MacroOperationTask(dispatcher, operation)).collect(toList());
+        new PlaybackOptionsDialog(macro, resources, options -> {
+            if (options.dryRun()) {
+                dryRun(macro);
+            } else {
+                play(macro, options);
+            }
+        }).show();
+    }
+
+    private void play(Macro macro, PlaybackOptions options) {
+        List<Operation> operations = macro.getOperations();
+        List<List<Operation>> batches = MacroPlayback.batches(operations, options.batchSize());
+        List<Task<FlowContext>> tasks = new ArrayList<>();
+        int offset = 0;
+        for (List<Operation> batch : batches) {
+            tasks.add(new MacroOperationTask(dispatcher, batch, offset));
+            offset += batch.size();
+        }
+
         getView().disableMacro(macro);
         sequential(new FlowContext(progress.get()), tasks)
                 .then(__ -> {
@@ -123,12 +151,72 @@ public class MacroEditorPresenter
                 })
                 .catch_(error -> {
                     getView().enableMacro(macro);
+                    String details;
+                    if (error instanceof StepFailure) {
+                        StepFailure failure = (StepFailure) error;
+                        if (failure.isAttributed()) {
+                            details = resources.messages().macroStepFailed(failure.step, operations.size(),
+                                    failure.operation.asCli(), failure.failure);
+                        } else {
+                            details = resources.messages().macroBatchFailed(failure.applied + 1,
+                                    failure.applied + failure.batch, operations.size(), failure.failure);
+                        }
+                        if (failure.applied > 0) {
+                            details += "\n" + resources.messages().macroStepsApplied(failure.applied);
+                        }
+                    } else {
+                        details = String.valueOf(error);
+                    }
                     MessageEvent.fire(getEventBus(), Message.error(resources.messages().macroPlaybackError(),
-                            String.valueOf(error)));
+                            details));
                     return null;
                 });
     }
 
+    /** Validates the operations of the macro against the cached resource descriptions without executing them. */
+    private void dryRun(Macro macro) {
+        List<String> problems = new ArrayList<>();
+        List<Operation> operations = macro.getOperations();
+        for (int i = 0; i < operations.size(); i++) {
+            Operation operation = operations.get(i);
+            String step = resources.messages().macroStep(i + 1, operation.asCli());
+            ResourceDescription description = lookup(operation.getAddress());
+            if (description == null) {
+                problems.add(step + ": " + resources.messages().macroNoMetadata());
+                continue;
+            }
+            Property operationDescription = description.findOperation(operation.getName());
+            if (operationDescription == null) {
+                problems.add(step + ": " + resources.messages().macroUnknownOperation(operation.getName()));
+                continue;
+            }
+            for (String parameter : MacroPlayback.unknownParameters(operation, operationDescription.getValue())) {
+                problems.add(step + ": " + resources.messages().macroUnknownParameter(parameter));
+            }
+            for (String parameter : MacroPlayback.missingParameters(operation, operationDescription.getValue())) {
+                problems.add(step + ": " + resources.messages().macroMissingParameter(parameter));
+            }
+        }
+
+        if (problems.isEmpty()) {
+            MessageEvent.fire(getEventBus(),
+                    Message.success(resources.messages().macroDryRunSuccessful(operations.size())));
+        } else {
+            MessageEvent.fire(getEventBus(), Message.warning(resources.messages().macroDryRunProblems(problems.size()),
+                    String.join("\n", problems)));
+        }
+    }
+
+    private ResourceDescription lookup(ResourceAddress address) {
+        for (ResourceAddress lookupAddress : MacroPlayback.lookupAddresses(address)) {
+            AddressTemplate template = AddressTemplate.of(lookupAddress);
+            if (descriptionRegistry.contains(template)) {
+                return descriptionRegistry.lookup(template);
+            }
+        }
+        return null;
+    }
+
     void rename(Macro macro) {
         alert(Names.NYI);
     }
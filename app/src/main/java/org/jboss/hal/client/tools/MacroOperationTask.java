@@ -15,6 +15,9 @@
  */
 package org.jboss.hal.client.tools;
 
+import java.util.List;
+
+import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.FlowContext;
@@ -22,18 +25,73 @@ import org.jboss.hal.flow.Task;
 
 import elemental2.promise.Promise;
 
+/**
+ * Executes a batch of macro operations. A single operation is executed as is, more operations are executed as one
+ * composite operation. If the batch fails, the task rejects with a {@link StepFailure} pointing to the failed operation
+ * or - if the failed operation is not known (e.g. because of a network error) - to the batch.
+ */
 final class MacroOperationTask implements Task<FlowContext> {
 
     private final Dispatcher dispatcher;
-    private final Operation operation;
+    private final List<Operation> operations;
+    private final int offset;
 
-    MacroOperationTask(Dispatcher dispatcher, Operation operation) {
+    /**
+     * @param operations the operations of this batch
+     * @param offset     the number of operations executed by previous batches
+     */
+    MacroOperationTask(Dispatcher dispatcher, List<Operation> operations, int offset) {
         this.dispatcher = dispatcher;
-        this.operation = operation;
+        this.operations = operations;
+        this.offset = offset;
     }
 
     @Override
     public Promise<FlowContext> apply(final FlowContext context) {
-        return dispatcher.execute(operation).then(__ -> Promise.resolve(context));
+        Promise<?> promise = operations.size() == 1
+                ? dispatcher.execute(operations.get(0))
+                : dispatcher.execute(new Composite(operations));
+        return promise
+                .then(__ -> Promise.resolve(context))
+                .catch_(error -> {
+                    String failure = String.valueOf(error);
+                    int step = operations.size() == 1 ? 1 : MacroPlayback.failedStep(failure);
+                    if (step < 1 || step > operations.size()) {
+                        return context.reject(new StepFailure(-1, offset, operations.size(), null, failure));
+                    }
+                    return context.reject(new StepFailure(offset + step, offset, operations.size(),
+                            operations.get(step - 1), failure));
+                });
+    }
+
+    /** Describes the failed operation or - if the failed operation is unknown - the failed batch of a macro playback. */
+    static final class StepFailure {
+
+        /** The one-based number of the failed operation or -1 if the failed operation is unknown */
+        final int step;
+        /** The number of operations which have been executed successfully and which were not rolled back */
+        final int applied;
+        /** The number of operations of the failed batch */
+        final int batch;
+        /** The failed operation or {@code null} if the failed operation is unknown */
+        final Operation operation;
+        final String failure;
+
+        StepFailure(int step, int applied, int batch, Operation operation, String failure) {
+            this.step = step;
+            this.applied = applied;
+            this.batch = batch;
+            this.operation = operation;
+            this.failure = failure;
+        }
+
+        boolean isAttributed() {
+            return operation != null;
+        }
+
+        @Override
+        public String toString() {
+            return failure;
+        }
     }
 }
@@ -0,0 +1,123 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NILLABLE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUEST_PROPERTIES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
+
+/** Static helper methods used to play back and validate the operations of a macro. */
+final class MacroPlayback {
+
+    static final String WILDCARD = "*";
+    private static final String STEP = "step-";
+
+    /**
+     * Splits the operations into batches of the given size. Each batch is executed as one composite operation. A batch
+     * size less than one puts all operations into one batch.
+     */
+    static List<List<Operation>> batches(List<Operation> operations, int size) {
+        List<List<Operation>> batches = new ArrayList<>();
+        int batchSize = size < 1 ? Math.max(1, operations.size()) : size;
+        for (int i = 0; i < operations.size(); i += batchSize) {
+            batches.add(new ArrayList<>(operations.subList(i, Math.min(i + batchSize, operations.size()))));
+        }
+        return batches;
+    }
+
+    /**
+     * Returns the one-based number of the first failed step in the failure description of a composite operation or -1 if
+     * the failure description doesn't mention a step.
+     */
+    static int failedStep(String failure) {
+        if (failure != null) {
+            int index = failure.indexOf(STEP);
+            if (index != -1) {
+                int start = index + STEP.length();
+                int end = start;
+                while (end < failure.length() && Character.isDigit(failure.charAt(end))) {
+                    end++;
+                }
+                if (end > start) {
+                    return Integer.parseInt(failure.substring(start, end));
+                }
+            }
+        }
+        return -1;
+    }
+
+    /**
+     * Returns the addresses used to look up a cached resource description for the given address: The address itself
+     * followed by addresses where the values are successively replaced by wildcards starting with the last segment.
+     */
+    static List<ResourceAddress> lookupAddresses(ResourceAddress address) {
+        List<ResourceAddress> addresses = new ArrayList<>();
+        addresses.add(address);
+        List<Property> segments = address.asPropertyList();
+        for (int wildcards = 1; wildcards <= segments.size(); wildcards++) {
+            ResourceAddress wildcardAddress = new ResourceAddress();
+            for (int i = 0; i < segments.size(); i++) {
+                Property segment = segments.get(i);
+                wildcardAddress.add(segment.getName(),
+                        i < segments.size() - wildcards ? segment.getValue().asString() : WILDCARD);
+            }
+            addresses.add(wildcardAddress);
+        }
+        return addresses;
+    }
+
+    /** Returns the parameters of the operation which are not part of the operation description. */
+    static List<String> unknownParameters(Operation operation, ModelNode operationDescription) {
+        List<String> unknown = new ArrayList<>();
+        if (operation.getParameter().isDefined()) {
+            for (String name : operation.getParameter().keys()) {
+                if (!operationDescription.hasDefined(REQUEST_PROPERTIES)
+                        || !operationDescription.get(REQUEST_PROPERTIES).hasDefined(name)) {
+                    unknown.add(name);
+                }
+            }
+        }
+        return unknown;
+    }
+
+    /** Returns the required parameters of the operation description which are missing in the operation. */
+    static List<String> missingParameters(Operation operation, ModelNode operationDescription) {
+        List<String> missing = new ArrayList<>();
+        if (operationDescription.hasDefined(REQUEST_PROPERTIES)) {
+            for (Property property : operationDescription.get(REQUEST_PROPERTIES).asPropertyList()) {
+                ModelNode description = property.getValue();
+                boolean required = description.hasDefined(REQUIRED)
+                        ? description.get(REQUIRED).asBoolean()
+                        : description.hasDefined(NILLABLE) && !description.get(NILLABLE).asBoolean();
+                if (required && !operation.getParameter().hasDefined(property.getName())) {
+                    missing.add(property.getName());
+                }
+            }
+        }
+        return missing;
+    }
+
+    private MacroPlayback() {
+    }
+}
@@ -0,0 +1,64 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import org.jboss.hal.ballroom.dialog.Dialog;
+import org.jboss.hal.ballroom.form.Form;
+import org.jboss.hal.core.mbui.form.ModelNodeForm;
+import org.jboss.hal.dmr.macro.Macro;
+import org.jboss.hal.dmr.macro.PlaybackOptions;
+import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.resources.Ids;
+import org.jboss.hal.resources.Resources;
+
+import static org.jboss.hal.dmr.macro.MacroOptions.RESOURCES;
+import static org.jboss.hal.dmr.macro.PlaybackOptions.BATCH_SIZE;
+import static org.jboss.hal.dmr.macro.PlaybackOptions.DRY_RUN;
+import static org.jboss.hal.dmr.macro.PlaybackOptions.MODE;
+
+/** Dialog to choose how to play back a macro. */
+class PlaybackOptionsDialog {
+
+    private final Dialog dialog;
+    private final Form<PlaybackOptions> form;
+
+    PlaybackOptionsDialog(Macro macro, Resources resources, PlaybackOptionsCallback callback) {
+        Metadata metadata = Metadata.staticDescription(RESOURCES.macroPlayback());
+
+        form = new ModelNodeForm.Builder<PlaybackOptions>(Ids.MACRO_PLAYBACK_OPTIONS, metadata)
+                .include(MODE, BATCH_SIZE, DRY_RUN)
+                .unsorted()
+                .onSave((form, changedValues) -> callback.onOptions(form.getModel()))
+                .build();
+
+        dialog = new Dialog.Builder(resources.messages().playMacro(macro.getName()))
+                .add(form.element())
+                .primary(resources.constants().play(), form::save)
+                .cancel()
+                .build();
+        dialog.registerAttachable(form);
+    }
+
+    void show() {
+        dialog.show();
+        form.edit(new PlaybackOptions());
+    }
+
+    interface PlaybackOptionsCallback {
+
+        void onOptions(PlaybackOptions options);
+    }
+}
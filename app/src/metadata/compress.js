@@ -0,0 +1,36 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/*
+ * Compresses the metadata snapshots in this folder and copies them to the "metadata" folder of the console. Writes the
+ * names of the packaged snapshots to "metadata/snapshots.js", so that the console only fetches snapshots which exist.
+ * Usage: node src/metadata/compress.js <dist-dir>
+ */
+const fs = require("fs");
+const path = require("path");
+const zlib = require("zlib");
+
+const source = __dirname;
+const target = path.join(process.argv[2] || "target/bundle", "metadata");
+
+const snapshots = fs.readdirSync(source).filter(file => file.endsWith(".json"));
+fs.mkdirSync(target, {recursive: true});
+for (const snapshot of snapshots) {
+    const json = fs.readFileSync(path.join(source, snapshot));
+    fs.writeFileSync(path.join(target, snapshot + ".gz"), zlib.gzipSync(json, {level: zlib.constants.Z_BEST_COMPRESSION}));
+    console.log(`Compressed metadata snapshot ${snapshot}`);
+}
+// read by org.jboss.hal.meta.description.MetadataSnapshot
+fs.writeFileSync(path.join(target, "snapshots.js"), `window.metadataSnapshots = ${JSON.stringify(snapshots)};\n`);
@@ -0,0 +1,102 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.runtime.group;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class AggregateTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void empty() {
+        Aggregate aggregate = new Aggregate.Builder().build();
+        assertEquals(0, aggregate.count());
+        assertEquals(0, aggregate.sum(), DELTA);
+        assertEquals(0, aggregate.min(), DELTA);
+        assertEquals(0, aggregate.max(), DELTA);
+        assertEquals(0, aggregate.mean(), DELTA);
+        assertEquals(0, aggregate.percentile(50), DELTA);
+        assertEquals(emptyList(), aggregate.outliers());
+    }
+
+    @Test
+    public void basics() {
+        Aggregate aggregate = new Aggregate.Builder()
+                .add("a", 4)
+                .add("b", 1)
+                .add("c", 3)
+                .add("d", 2)
+                .build();
+        assertEquals(4, aggregate.count());
+        assertEquals(10, aggregate.sum(), DELTA);
+        assertEquals(1, aggregate.min(), DELTA);
+        assertEquals(4, aggregate.max(), DELTA);
+        assertEquals(2.5, aggregate.mean(), DELTA);
+    }
+
+    @Test
+    public void percentiles() {
+        Aggregate.Builder builder = new Aggregate.Builder();
+        for (int i = 1; i <= 11; i++) {
+            builder.add("server-" + i, i * 10);
+        }
+        Aggregate aggregate = builder.build();
+        assertEquals(10, aggregate.percentile(0), DELTA);
+        assertEquals(60, aggregate.percentile(50), DELTA);
+        assertEquals(101, aggregate.percentile(91), DELTA);
+        assertEquals(110, aggregate.percentile(100), DELTA);
+        assertEquals(110, aggregate.percentile(120), DELTA);
+    }
+
+    @Test
+    public void outliers() {
+        Aggregate aggregate = new Aggregate.Builder()
+                .add("a", 10)
+                .add("b", 11)
+                .add("c", 9)
+                .add("d", 10)
+                .add("e", 50)
+                .add("f", 10)
+                .add("g", -30)
+                .build();
+        assertEquals(asList("e", "g"), aggregate.outliers());
+    }
+
+    @Test
+    public void singleDeviation() {
+        Aggregate.Builder builder = new Aggregate.Builder();
+        for (int i = 0; i < 29; i++) {
+            builder.add("server-" + i, 0);
+        }
+        builder.add("exhausted", 5);
+        assertEquals(asList("exhausted"), builder.build().outliers());
+    }
+
+    @Test
+    public void tooFewSamples() {
+        Aggregate aggregate = new Aggregate.Builder()
+                .add("a", 1)
+                .add("b", 100)
+                .build();
+        assertEquals(emptyList(), aggregate.outliers());
+    }
+}
@@ -0,0 +1,119 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.client.tools;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class MacroPlaybackTest {
+
+    @Test
+    public void batches() {
+        List<List<Operation>> batches = MacroPlayback.batches(operations(5), 2);
+        assertEquals(3, batches.size());
+        assertEquals(2, batches.get(0).size());
+        assertEquals(2, batches.get(1).size());
+        assertEquals(1, batches.get(2).size());
+        assertEquals("op-4", batches.get(2).get(0).getName());
+    }
+
+    @Test
+    public void singleBatch() {
+        assertEquals(1, MacroPlayback.batches(operations(5), 0).size());
+        assertEquals(5, MacroPlayback.batches(operations(5), 0).get(0).size());
+        assertEquals(1, MacroPlayback.batches(operations(5), 10).size());
+    }
+
+    @Test
+    public void oneByOne() {
+        assertEquals(5, MacroPlayback.batches(operations(5), 1).size());
+        assertEquals(emptyList(), MacroPlayback.batches(operations(0), 3));
+    }
+
+    @Test
+    public void failedStep() {
+        assertEquals(2, MacroPlayback.failedStep(
+                "{\"WFLYCTL0062: Composite operation failed and was rolled back. Steps that failed:\" => "
+                        + "{\"Operation step-2\" => \"WFLYCTL0212: Duplicate resource\"}}"));
+        assertEquals(12, MacroPlayback.failedStep("Operation step-12 failed"));
+        assertEquals(-1, MacroPlayback.failedStep("WFLYCTL0212: Duplicate resource"));
+        assertEquals(-1, MacroPlayback.failedStep("step-"));
+        assertEquals(-1, MacroPlayback.failedStep(null));
+    }
+
+    @Test
+    public void lookupAddresses() {
+        List<ResourceAddress> addresses = MacroPlayback.lookupAddresses(
+                ResourceAddress.from("subsystem=datasources/data-source=foo"));
+        assertEquals(3, addresses.size());
+        assertEquals(ResourceAddress.from("subsystem=datasources/data-source=foo"), addresses.get(0));
+        assertEquals(ResourceAddress.from("subsystem=datasources/data-source=*"), addresses.get(1));
+        assertEquals(ResourceAddress.from("subsystem=*/data-source=*"), addresses.get(2));
+
+        assertEquals(singletonList(ResourceAddress.root()), MacroPlayback.lookupAddresses(ResourceAddress.root()));
+    }
+
+    @Test
+    public void parameters() {
+        ModelNode description = new ModelNode();
+        description.get("request-properties").get("jndi-name").get("type").set(ModelType.STRING);
+        description.get("request-properties").get("jndi-name").get("required").set(true);
+        description.get("request-properties").get("driver-name").get("type").set(ModelType.STRING);
+        description.get("request-properties").get("driver-name").get("nillable").set(false);
+        description.get("request-properties").get("enabled").get("type").set(ModelType.BOOLEAN);
+        description.get("request-properties").get("enabled").get("required").set(false);
+
+        Operation operation = new Operation.Builder(ResourceAddress.from("subsystem=datasources/data-source=foo"),
+                "add")
+                .param("jndi-name", "java:/foo")
+                .param("connection-url", "jdbc:h2:mem:test")
+                .build();
+
+        assertEquals(singletonList("connection-url"), MacroPlayback.unknownParameters(operation, description));
+        assertEquals(singletonList("driver-name"), MacroPlayback.missingParameters(operation, description));
+    }
+
+    @Test
+    public void noParameters() {
+        Operation operation = new Operation.Builder(ResourceAddress.root(), "reload").build();
+        assertEquals(emptyList(), MacroPlayback.unknownParameters(operation, new ModelNode()));
+        assertEquals(emptyList(), MacroPlayback.missingParameters(operation, new ModelNode()));
+
+        Operation withParameters = new Operation.Builder(ResourceAddress.root(), "reload")
+                .param("admin-only", true)
+                .build();
+        assertEquals(singletonList("admin-only"), MacroPlayback.unknownParameters(withParameters, new ModelNode()));
+    }
+
+    private List<Operation> operations(int count) {
+        List<Operation> operations = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            operations.add(new Operation.Builder(ResourceAddress.root(), "op-" + i).build());
+        }
+        return operations;
+    }
+}
@@ -34,4 +34,10 @@ public class NavigationTest extends MbuiViewProcessorTest {
         Compilation compilation = compile("NestedView");
         assertSourceEquals(compilation, "Mbui_NestedView");
     }
+
+    @Test
+    public void lazy() {
+        Compilation compilation = compile("LazyView");
+        assertSourceEquals(compilation, "Mbui_LazyView");
+    }
 }
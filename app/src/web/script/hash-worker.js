@@ -0,0 +1,282 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+
+// Computes the SHA-1 hash of a file slice by slice, so that the file is never loaded into memory as a whole. Reads the
+// entries of zip archives, so that large archives can be uploaded entry by entry.
+// Used by org.jboss.hal.dmr.dispatch.ContentHasher
+
+self.addEventListener("message", function (e) {
+    let request = e.data;
+    let result;
+    if (request.type === "entries") {
+        result = entries(request.file).then(function (entries) {
+            return {id: request.id, entries: entries};
+        });
+    } else if (request.type === "extract") {
+        result = extract(request.file, request.entries).then(function (blobs) {
+            return {id: request.id, blobs: blobs};
+        });
+    } else {
+        result = sha1(request.file, request.sliceSize).then(function (hash) {
+            return {id: request.id, hash: hash};
+        });
+    }
+    result
+        .then(function (response) {
+            self.postMessage(response);
+        })
+        .catch(function (error) {
+            self.postMessage({id: request.id, error: "Unable to process " + request.file.name + ": " + error});
+        });
+}, false);
+
+self.sha1 = function (file, sliceSize) {
+    let digest = new Sha1();
+    let offset = 0;
+    let next = function () {
+        if (offset >= file.size) {
+            return Promise.resolve(digest.hex());
+        }
+        let end = Math.min(offset + sliceSize, file.size);
+        return file.slice(offset, end).arrayBuffer().then(function (buffer) {
+            digest.update(new Uint8Array(buffer));
+            offset = end;
+            return next();
+        });
+    };
+    return next();
+};
+
+// ------------------------------------------------------ zip entries
+
+const EOCD_SIGNATURE = 0x06054b50;
+const CENTRAL_SIGNATURE = 0x02014b50;
+const LOCAL_SIGNATURE = 0x04034b50;
+const STORED = 0;
+const DEFLATED = 8;
+
+// Reads the central directory of a zip archive. Returns the file entries (no directories) with their name, their
+// uncompressed size and the information needed to extract them.
+function entries(file) {
+    if (typeof DecompressionStream === "undefined") {
+        return Promise.reject("DecompressionStream not supported");
+    }
+    let tail = Math.min(file.size, 22 + 0xffff);
+    return file.slice(file.size - tail).arrayBuffer().then(function (buffer) {
+        let view = new DataView(buffer);
+        let eocd = -1;
+        for (let i = buffer.byteLength - 22; i >= 0; i--) {
+            if (view.getUint32(i, true) === EOCD_SIGNATURE) {
+                eocd = i;
+                break;
+            }
+        }
+        if (eocd === -1) {
+            throw "not a zip archive";
+        }
+        let count = view.getUint16(eocd + 10, true);
+        let size = view.getUint32(eocd + 12, true);
+        let offset = view.getUint32(eocd + 16, true);
+        if (count === 0xffff || size === 0xffffffff || offset === 0xffffffff) {
+            throw "zip64 archives are not supported";
+        }
+        return file.slice(offset, offset + size).arrayBuffer().then(function (directory) {
+            return centralDirectory(new DataView(directory), count);
+        });
+    });
+}
+
+function centralDirectory(view, count) {
+    let decoder = new TextDecoder();
+    let result = [];
+    let position = 0;
+    for (let i = 0; i < count; i++) {
+        if (view.getUint32(position, true) !== CENTRAL_SIGNATURE) {
+            throw "corrupt central directory";
+        }
+        let flags = view.getUint16(position + 8, true);
+        let method = view.getUint16(position + 10, true);
+        let nameLength = view.getUint16(position + 28, true);
+        let extraLength = view.getUint16(position + 30, true);
+        let commentLength = view.getUint16(position + 32, true);
+        let name = decoder.decode(new Uint8Array(view.buffer, position + 46, nameLength));
+        if ((flags & 1) !== 0) {
+            throw "encrypted entries are not supported";
+        }
+        if (method !== STORED && method !== DEFLATED) {
+            throw "unsupported compression method " + method + " for " + name;
+        }
+        if (!name.endsWith("/")) {
+            result.push({
+                name: name,
+                method: method,
+                crc: view.getUint32(position + 16, true),
+                compressedSize: view.getUint32(position + 20, true),
+                size: view.getUint32(position + 24, true),
+                offset: view.getUint32(position + 42, true)
+            });
+        }
+        position += 46 + nameLength + extraLength + commentLength;
+    }
+    return result;
+}
+
+// Extracts the entries and verifies their CRC-32 checksums. Returns one blob per entry.
+function extract(file, entries) {
+    let blobs = [];
+    let next = function (index) {
+        if (index >= entries.length) {
+            return Promise.resolve(blobs);
+        }
+        return extractEntry(file, entries[index]).then(function (blob) {
+            blobs.push(blob);
+            return next(index + 1);
+        });
+    };
+    return next(0);
+}
+
+function extractEntry(file, entry) {
+    return file.slice(entry.offset, entry.offset + 30).arrayBuffer().then(function (buffer) {
+        let view = new DataView(buffer);
+        if (view.getUint32(0, true) !== LOCAL_SIGNATURE) {
+            throw "corrupt local header for " + entry.name;
+        }
+        let start = entry.offset + 30 + view.getUint16(26, true) + view.getUint16(28, true);
+        let data = file.slice(start, start + entry.compressedSize);
+        let blob = entry.method === STORED
+                ? Promise.resolve(data)
+                : new Response(data.stream().pipeThrough(new DecompressionStream("deflate-raw"))).blob();
+        return blob.then(function (uncompressed) {
+            return uncompressed.arrayBuffer().then(function (bytes) {
+                if (bytes.byteLength !== entry.size || crc32(new Uint8Array(bytes)) !== entry.crc) {
+                    throw "checksum mismatch for " + entry.name;
+                }
+                return uncompressed;
+            });
+        });
+    });
+}
+
+let crcTable = null;
+
+function crc32(bytes) {
+    if (crcTable === null) {
+        crcTable = new Uint32Array(256);
+        for (let n = 0; n < 256; n++) {
+            let c = n;
+            for (let k = 0; k < 8; k++) {
+                c = (c & 1) ? (0xEDB88320 ^ (c >>> 1)) : (c >>> 1);
+            }
+            crcTable[n] = c;
+        }
+    }
+    let crc = 0xffffffff;
+    for (let i = 0; i < bytes.length; i++) {
+        crc = crcTable[(crc ^ bytes[i]) & 0xff] ^ (crc >>> 8);
+    }
+    return (crc ^ 0xffffffff) >>> 0;
+}
+
+// ------------------------------------------------------ incremental SHA-1 (FIPS 180-4)
+
+function Sha1() {
+    this.h = new Int32Array([0x67452301, 0xEFCDAB89, 0x98BADCFE, 0x10325476, 0xC3D2E1F0]);
+    this.w = new Int32Array(80);
+    this.block = new Uint8Array(64);
+    this.blockLength = 0;
+    this.length = 0;
+}
+
+Sha1.prototype.update = function (bytes) {
+    let i = 0;
+    this.length += bytes.length;
+    if (this.blockLength > 0) {
+        i = Math.min(64 - this.blockLength, bytes.length);
+        this.block.set(bytes.subarray(0, i), this.blockLength);
+        this.blockLength += i;
+        if (this.blockLength === 64) {
+            this.compress(this.block, 0);
+            this.blockLength = 0;
+        }
+    }
+    for (; i + 64 <= bytes.length; i += 64) {
+        this.compress(bytes, i);
+    }
+    if (i < bytes.length) {
+        this.block.set(bytes.subarray(i), 0);
+        this.blockLength = bytes.length - i;
+    }
+};
+
+Sha1.prototype.compress = function (bytes, offset) {
+    let w = this.w;
+    let h = this.h;
+    for (let t = 0; t < 16; t++) {
+        let j = offset + t * 4;
+        w[t] = (bytes[j] << 24) | (bytes[j + 1] << 16) | (bytes[j + 2] << 8) | bytes[j + 3];
+    }
+    for (let t = 16; t < 80; t++) {
+        let x = w[t - 3] ^ w[t - 8] ^ w[t - 14] ^ w[t - 16];
+        w[t] = (x << 1) | (x >>> 31);
+    }
+    let a = h[0], b = h[1], c = h[2], d = h[3], e = h[4];
+    for (let t = 0; t < 80; t++) {
+        let f, k;
+        if (t < 20) {
+            f = (b & c) | (~b & d);
+            k = 0x5A827999;
+        } else if (t < 40) {
+            f = b ^ c ^ d;
+            k = 0x6ED9EBA1;
+        } else if (t < 60) {
+            f = (b & c) | (b & d) | (c & d);
+            k = 0x8F1BBCDC;
+        } else {
+            f = b ^ c ^ d;
+            k = 0xCA62C1D6;
+        }
+        let temp = (((a << 5) | (a >>> 27)) + f + e + k + w[t]) | 0;
+        e = d;
+        d = c;
+        c = (b << 30) | (b >>> 2);
+        b = a;
+        a = temp;
+    }
+    h[0] += a;
+    h[1] += b;
+    h[2] += c;
+    h[3] += d;
+    h[4] += e;
+};
+
+Sha1.prototype.hex = function () {
+    // the length in bits might exceed 32 bit for large files
+    let high = Math.floor(this.length / 0x20000000);
+    let low = (this.length * 8) >>> 0;
+    let padding = new Uint8Array(this.blockLength < 56 ? 64 - this.blockLength : 128 - this.blockLength);
+    padding[0] = 0x80;
+    let view = new DataView(padding.buffer);
+    view.setUint32(padding.length - 8, high);
+    view.setUint32(padding.length - 4, low);
+    this.update(padding);
+
+    let hex = "";
+    for (let i = 0; i < 5; i++) {
+        hex += (this.h[i] >>> 0).toString(16).padStart(8, "0");
+    }
+    return hex;
+};
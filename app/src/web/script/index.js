@@ -72,3 +72,26 @@ window.ClipboardJS = require("clipboard");
 
 // TODO Web worker
 window.metadataChannel = new Worker(new URL("./worker.js", import.meta.url), {type: "module"});
+window.hashWorker = new Worker(new URL("./hash-worker.js", import.meta.url), {type: "module"});
+// started on demand by org.jboss.hal.meta.search.MetadataSearch
+window.createSearchWorker = () => new Worker(new URL("./search-worker.js", import.meta.url), {type: "module"});
+
+// Metadata snapshots (see org.jboss.hal.meta.description.MetadataSnapshot)
+window.loadMetadataSnapshot = url => fetch(url)
+    .then(response => response.ok ? response.arrayBuffer() : null)
+    .then(buffer => {
+        if (buffer === null) {
+            return null;
+        }
+        const bytes = new Uint8Array(buffer);
+        if (bytes.length > 1 && bytes[0] === 0x1f && bytes[1] === 0x8b) {
+            // not decompressed by the server
+            if (typeof DecompressionStream === "undefined") {
+                return null;
+            }
+            const stream = new Blob([buffer]).stream().pipeThrough(new DecompressionStream("gzip"));
+            return new Response(stream).json();
+        }
+        return JSON.parse(new TextDecoder().decode(bytes));
+    })
+    .catch(() => null);
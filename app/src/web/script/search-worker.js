@@ -0,0 +1,230 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+self.importScripts("pouchdb.min.js");
+
+// Full-text search over the management model metadata. Builds an inverted index from the entries posted by
+// org.jboss.hal.meta.search.MetadataSearch and persists the entries in a PouchDB database. The index is rebuilt from
+// this database when the worker is started.
+
+const NAME_WEIGHT = 3;
+const DESCRIPTION_WEIGHT = 1;
+const EXACT_NAME_BOOST = 2;
+const PREFIX_FACTOR = 0.5;
+const STOP_WORDS = new Set(["a", "an", "and", "are", "as", "be", "by", "for", "if", "in", "is", "it", "of", "on", "or",
+    "the", "this", "to", "will", "with"]);
+
+let current = null; // {name, db, index, ready}
+
+self.addEventListener("message", function (e) {
+    let message = e.data;
+    openStore(message.database).ready
+        .then(function (store) {
+            if (message.type === "index") {
+                if (!store.index.has(message.address)) {
+                    store.index.put(message.address, message.entries);
+                    persist(store.db, message.address, message.entries);
+                }
+            } else if (message.type === "search") {
+                self.postMessage({id: message.id, results: store.index.search(message.query, message.limit)});
+            }
+        })
+        .catch(function (reason) {
+            if (message.type === "search") {
+                self.postMessage({id: message.id, error: "Unable to search " + message.query + ": " + reason});
+            } else {
+                error("Unable to index " + message.address + ": " + reason);
+            }
+        });
+}, false);
+
+self.openStore = function (name) {
+    if (current === null || current.name !== name) {
+        let db = new PouchDB(name);
+        let index = new Index();
+        current = {
+            name: name,
+            ready: db.allDocs({include_docs: true}).then(function (response) {
+                response.rows.forEach(function (row) {
+                    index.put(row.doc._id, row.doc.entries);
+                });
+                info("Loaded search index " + name + " with " + response.rows.length + " resource descriptions");
+                return {db: db, index: index};
+            })
+        };
+    }
+    return current;
+};
+
+self.persist = function (db, address, entries) {
+    // entries are never updated: a changed management model results in a new database
+    db.put({_id: address, entries: entries})
+        .catch(function (reason) {
+            if (reason.status !== 409) {
+                error("Unable to put " + address + ": " + reason);
+            }
+        });
+};
+
+self.tokenize = function (text) {
+    if (!text) {
+        return [];
+    }
+    return text.toLowerCase().split(/[^a-z0-9]+/).filter(function (token) {
+        return token.length > 0 && !STOP_WORDS.has(token);
+    });
+};
+
+// ------------------------------------------------------ inverted index
+
+function Index() {
+    this.entries = new Map(); // entry id -> {entry, terms}
+    this.addresses = new Map(); // address -> [entry id]
+    this.postings = new Map(); // term -> Map(entry id -> weight)
+    this.terms = null; // sorted terms for prefix lookups, rebuilt lazily
+    this.counter = 0;
+}
+
+Index.prototype.has = function (address) {
+    return this.addresses.has(address);
+};
+
+Index.prototype.put = function (address, entries) {
+    let ids = [];
+    for (let entry of entries) {
+        let id = ++this.counter;
+        let weights = new Map();
+        let name = entry.name.toLowerCase();
+        weights.set(name, NAME_WEIGHT);
+        for (let token of tokenize(entry.name)) {
+            weights.set(token, (weights.get(token) || 0) + NAME_WEIGHT);
+        }
+        for (let token of tokenize(entry.description)) {
+            weights.set(token, (weights.get(token) || 0) + DESCRIPTION_WEIGHT);
+        }
+        for (let [term, weight] of weights) {
+            let posting = this.postings.get(term);
+            if (posting === undefined) {
+                posting = new Map();
+                this.postings.set(term, posting);
+                this.terms = null;
+            }
+            posting.set(id, weight);
+        }
+        this.entries.set(id, {entry: entry, name: name});
+        ids.push(id);
+    }
+    this.addresses.set(address, ids);
+};
+
+Index.prototype.search = function (query, limit) {
+    let queryTerms = tokenize(query);
+    if (queryTerms.length === 0) {
+        return [];
+    }
+    let scores = null;
+    for (let i = 0; i < queryTerms.length; i++) {
+        // only the last term is matched as prefix: it's likely the one which is still typed
+        let termScores = this.score(queryTerms[i], i === queryTerms.length - 1);
+        if (scores === null) {
+            scores = termScores;
+        } else {
+            // all terms have to match
+            let intersection = new Map();
+            for (let [id, score] of scores) {
+                if (termScores.has(id)) {
+                    intersection.set(id, score + termScores.get(id));
+                }
+            }
+            scores = intersection;
+        }
+        if (scores.size === 0) {
+            return [];
+        }
+    }
+
+    let normalized = query.trim().toLowerCase();
+    let results = [];
+    for (let [id, score] of scores) {
+        let indexed = this.entries.get(id);
+        results.push({entry: indexed.entry, score: indexed.name === normalized ? score * EXACT_NAME_BOOST : score});
+    }
+    results.sort(function (r1, r2) {
+        return r2.score - r1.score || r1.entry.name.localeCompare(r2.entry.name);
+    });
+    return results.slice(0, limit).map(function (result) {
+        return result.entry;
+    });
+};
+
+// Returns a map of entry id -> score for all entries matching the term.
+Index.prototype.score = function (term, prefix) {
+    let scores = new Map();
+    let matches = prefix ? this.prefixed(term) : (this.postings.has(term) ? [term] : []);
+    for (let match of matches) {
+        let posting = this.postings.get(match);
+        let idf = Math.log(1 + this.entries.size / posting.size);
+        let factor = match === term ? 1 : PREFIX_FACTOR * term.length / match.length;
+        for (let [id, weight] of posting) {
+            let score = weight * idf * factor;
+            if (score > (scores.get(id) || 0)) {
+                scores.set(id, score);
+            }
+        }
+    }
+    return scores;
+};
+
+// Returns all terms starting with the given prefix using a binary search over the sorted terms.
+Index.prototype.prefixed = function (prefix) {
+    if (this.terms === null) {
+        this.terms = Array.from(this.postings.keys()).sort();
+    }
+    let low = 0;
+    let high = this.terms.length;
+    while (low < high) {
+        let middle = (low + high) >>> 1;
+        if (this.terms[middle] < prefix) {
+            low = middle + 1;
+        } else {
+            high = middle;
+        }
+    }
+    let matches = [];
+    for (let i = low; i < this.terms.length && this.terms[i].startsWith(prefix); i++) {
+        matches.push(this.terms[i]);
+    }
+    return matches;
+};
+
+// ------------------------------------------------------ logging
+
+self.info = function (message) {
+    // use the same log format as HAL
+    console.info(timestamp() + " INFO  search-worker.js                         " + message);
+};
+
+self.error = function (message) {
+    // use the same log format as HAL
+    console.error(timestamp() + " ERROR search-worker.js                         " + message);
+};
+
+self.timestamp = function () {
+    let d = new Date();
+    return d.getHours().toString().padStart(2, "0") + ":" +
+        d.getMinutes().toString().padStart(2, "0") + ":" +
+        d.getSeconds().toString().padStart(2, "0") + "." +
+        d.getMilliseconds().toString().padStart(3, "0");
+};
@@ -120,11 +120,13 @@ public class VerticalNavigation implements Attachable {
     private LinkedHashMap<String, Item> items;
     private LinkedHashMap<String, Pane> panes;
     private Map<String, Callback> callbacks;
+    private Map<String, Callback> firstShowCallbacks;
 
     public VerticalNavigation() {
         this.items = new LinkedHashMap<>();
         this.panes = new LinkedHashMap<>();
         this.callbacks = new HashMap<>();
+        this.firstShowCallbacks = new HashMap<>();
     }
 
     @Override
@@ -434,6 +436,10 @@ public class VerticalNavigation implements Attachable {
                 }
             }
             show.element().dispatchEvent(new Event("click"));
+            Callback firstShow = firstShowCallbacks.remove(id);
+            if (firstShow != null) {
+                firstShow.execute();
+            }
             if (callbacks.containsKey(id)) {
                 callbacks.get(id).execute();
             }
@@ -475,6 +481,14 @@ public class VerticalNavigation implements Attachable {
         callbacks.put(id, callback);
     }
 
+    /**
+     * Registers a callback which is executed only the first time the specified item is shown, before any callback
+     * registered with {@link #onShow(String, Callback)}. Use this method to build the content of a pane lazily.
+     */
+    public void onFirstShow(String id, Callback callback) {
+        firstShowCallbacks.put(id, callback);
+    }
+
     public void updateBadge(String id, int count) {
         Item item = items.get(id);
         if (item != null) {
@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.ballroom.form.SuggestHandler;
+
+import static com.google.common.base.Strings.isNullOrEmpty;
+
+/**
+ * Index over the names of auto complete candidates. Queries return the candidates whose name contains the query in the
+ * order the candidates were added. Queries of three or more characters are answered using a trigram index: Only the
+ * candidates which contain the rarest trigram of the query are verified. Shorter queries scan all candidates.
+ */
+class CandidateIndex {
+
+    private static final int GRAM = 3;
+
+    private final List<ReadChildrenResult> candidates;
+    private final String[] names;
+    private final boolean ignoreCase;
+    private final Map<String, List<Integer>> trigrams;
+
+    CandidateIndex(List<ReadChildrenResult> candidates, boolean ignoreCase) {
+        this.candidates = candidates;
+        this.ignoreCase = ignoreCase;
+        this.names = new String[candidates.size()];
+        this.trigrams = new HashMap<>();
+        for (int i = 0; i < candidates.size(); i++) {
+            names[i] = normalize(candidates.get(i).name);
+            for (int j = 0; j + GRAM <= names[i].length(); j++) {
+                List<Integer> postings = trigrams.computeIfAbsent(names[i].substring(j, j + GRAM),
+                        k -> new ArrayList<>());
+                // a name can contain the same trigram several times
+                if (postings.isEmpty() || postings.get(postings.size() - 1) != i) {
+                    postings.add(i);
+                }
+            }
+        }
+    }
+
+    List<ReadChildrenResult> filter(String query) {
+        if (isNullOrEmpty(query)) {
+            return Collections.emptyList();
+        }
+        if (SuggestHandler.SHOW_ALL_VALUE.equals(query)) {
+            return candidates;
+        }
+
+        String normalized = normalize(query);
+        List<ReadChildrenResult> result = new ArrayList<>();
+        if (normalized.length() < GRAM) {
+            for (int i = 0; i < names.length; i++) {
+                if (names[i].contains(normalized)) {
+                    result.add(candidates.get(i));
+                }
+            }
+        } else {
+            List<Integer> rarest = null;
+            for (int j = 0; j + GRAM <= normalized.length(); j++) {
+                List<Integer> postings = trigrams.get(normalized.substring(j, j + GRAM));
+                if (postings == null) {
+                    return Collections.emptyList();
+                }
+                if (rarest == null || postings.size() < rarest.size()) {
+                    rarest = postings;
+                }
+            }
+            for (int i : rarest) {
+                if (names[i].contains(normalized)) {
+                    result.add(candidates.get(i));
+                }
+            }
+        }
+        return result;
+    }
+
+    int size() {
+        return candidates.size();
+    }
+
+    private String normalize(String value) {
+        return ignoreCase ? value.toLowerCase() : value;
+    }
+}
@@ -18,7 +18,6 @@ package org.jboss.hal.ballroom.autocomplete;
 import java.util.List;
 
 import org.jboss.hal.dmr.Composite;
-import org.jboss.hal.dmr.CompositeResult;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
@@ -30,9 +29,12 @@ import org.jboss.hal.meta.StatementContext;
 import com.google.common.base.Splitter;
 import com.google.common.collect.Iterables;
 
+import elemental2.promise.Promise;
+
 import static java.util.Collections.singleton;
 import static java.util.stream.Collectors.toList;
 import static java.util.stream.StreamSupport.stream;
+import static org.jboss.hal.ballroom.form.SuggestHandler.SHOW_ALL_VALUE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES_ONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_ALIASES;
@@ -56,8 +58,9 @@ public class ReadChildrenAutoComplete extends AutoComplete {
             Iterable<AddressTemplate> templates) {
         verifyTemplates(templates);
 
-        ResultProcessor resultProcessor;
+        ReadChildrenProcessor resultProcessor;
         ItemRenderer<JsonObject> itemRenderer;
+        boolean ignoreCase;
         int numberOfTemplates = Iterables.size(templates);
 
         if (numberOfTemplates == 1) {
@@ -66,39 +69,47 @@ public class ReadChildrenAutoComplete extends AutoComplete {
             if (wildcards == 0 || (wildcards == 1 && "*".equals(template.lastValue()))) {
                 resultProcessor = new NamesResultProcessor();
                 itemRenderer = new StringRenderer<>(result -> result.get(NAME).asString());
+                ignoreCase = false;
 
             } else {
                 resultProcessor = new SingleReadChildrenProcessor();
                 itemRenderer = new ReadChildrenRenderer();
+                ignoreCase = true;
             }
 
         } else {
             resultProcessor = new CompositeReadChildrenProcessor();
             itemRenderer = new ReadChildrenRenderer();
+            ignoreCase = true;
         }
 
+        // The candidates are read once and cached. Each query is then answered by the local index.
+        ReadChildrenCache cache = ReadChildrenCache.instance(dispatcher);
         Options options = new OptionsBuilder<JsonObject>((query, response) -> {
-            List<Operation> operations = stream(templates.spliterator(), false)
+            List<ResourceAddress> addresses = stream(templates.spliterator(), false)
                     .map(template -> template.resolve(statementContext))
-                    .map(address -> operation(address, numberOfTemplates))
                     .collect(toList());
-            if (operations.size() == 1) {
-                dispatcher.execute(operations.get(0),
-                        result -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
-                            logger.error(ERROR_MESSAGE, templates, error);
-                            response.response(new JsonObject[0]);
-
-                        });
-            } else {
-                dispatcher.execute(new Composite(operations),
-                        (CompositeResult result) -> response.response(resultProcessor.process(query, result)),
-                        (operation, error) -> {
-                            logger.error(ERROR_MESSAGE, templates, error);
-                            response.response(new JsonObject[0]);
-
-                        });
-            }
+            cache.candidates(addresses, () -> {
+                List<Operation> operations = addresses.stream()
+                        .map(address -> operation(address, numberOfTemplates))
+                        .collect(toList());
+                if (operations.size() == 1) {
+                    return dispatcher.execute(operations.get(0))
+                            .then(result -> Promise.resolve(new CandidateIndex(
+                                    resultProcessor.processToModel(SHOW_ALL_VALUE, result), ignoreCase)));
+                } else {
+                    return dispatcher.execute(new Composite(operations))
+                            .then(result -> Promise.resolve(new CandidateIndex(
+                                    resultProcessor.processToModel(SHOW_ALL_VALUE, result), ignoreCase)));
+                }
+            }).then(index -> {
+                response.response(resultProcessor.asJson(index.filter(query)));
+                return null;
+            }).catch_(error -> {
+                logger.error(ERROR_MESSAGE, templates, error);
+                response.response(new JsonObject[0]);
+                return null;
+            });
         }).renderItem(itemRenderer).build();
         init(options);
     }
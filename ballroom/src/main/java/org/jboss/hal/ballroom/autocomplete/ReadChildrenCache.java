@@ -0,0 +1,164 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+
+import elemental2.promise.Promise;
+
+/**
+ * Candidate cache shared by all {@link ReadChildrenAutoComplete} instances. The candidates are cached per list of resolved
+ * addresses:
+ * <ul>
+ * <li>Fresh entries are returned as is.</li>
+ * <li>Entries older than {@value #TTL} ms are returned as well, but refreshed in the background (stale-while-revalidate).</li>
+ * <li>Entries are removed if an operation which is not read-only is executed on a matching address (write-invalidation).</li>
+ * <li>Concurrent requests for the same entry share one request.</li>
+ * </ul>
+ */
+class ReadChildrenCache {
+
+    /** Time in milliseconds after which an entry is refreshed. */
+    static final long TTL = 30_000;
+
+    /** Maximum number of entries. The least recently used entry is removed first. */
+    static final int MAX_ENTRIES = 100;
+
+    private static ReadChildrenCache instance;
+
+    static ReadChildrenCache instance(Dispatcher dispatcher) {
+        if (instance == null) {
+            instance = new ReadChildrenCache();
+        }
+        if (instance.dispatcher != dispatcher) {
+            instance.dispatcher = dispatcher;
+            dispatcher.addWriteListener(instance::invalidate);
+        }
+        return instance;
+    }
+
+    private final Map<String, Entry> entries;
+    private Dispatcher dispatcher;
+
+    private ReadChildrenCache() {
+        entries = new LinkedHashMap<String, Entry>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+    }
+
+    /**
+     * Returns the cached candidates or fetches them if there's no entry.
+     *
+     * @param addresses the resolved addresses used to read the candidates
+     * @param fetch     reads the candidates
+     */
+    Promise<CandidateIndex> candidates(List<ResourceAddress> addresses, Supplier<Promise<CandidateIndex>> fetch) {
+        String key = addresses.toString();
+        Entry entry = entries.get(key);
+        if (entry != null && entry.index != null) {
+            if (System.currentTimeMillis() - entry.timestamp > TTL) {
+                refresh(key, entry, fetch).catch_(error -> null); // keep the stale entry
+            }
+            return Promise.resolve(entry.index);
+        }
+        if (entry == null) {
+            entry = new Entry(addresses);
+            entries.put(key, entry);
+        }
+        return refresh(key, entry, fetch);
+    }
+
+    private Promise<CandidateIndex> refresh(String key, Entry entry, Supplier<Promise<CandidateIndex>> fetch) {
+        if (entry.pending == null) {
+            entry.pending = fetch.get()
+                    .then(index -> {
+                        entry.index = index;
+                        entry.timestamp = System.currentTimeMillis();
+                        entry.pending = null;
+                        return Promise.resolve(index);
+                    })
+                    .catch_(error -> {
+                        entry.pending = null;
+                        if (entry.index == null && entries.get(key) == entry) {
+                            entries.remove(key);
+                        }
+                        return Promise.reject(error);
+                    });
+        }
+        return entry.pending;
+    }
+
+    void invalidate(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                invalidate(step);
+            }
+        } else {
+            ResourceAddress changed = operation.getAddress();
+            entries.values().removeIf(entry -> entry.addresses.stream().anyMatch(address -> affects(changed, address)));
+        }
+    }
+
+    /**
+     * @return {@code true} if the changed address matches the address or one of its ancestors. Wildcards and the value of the
+     *         last segment match any value, since the candidates are all children of that type.
+     */
+    static boolean affects(ResourceAddress changed, ResourceAddress address) {
+        List<Property> changedSegments = changed.isDefined() ? changed.asPropertyList() : Collections.<Property> emptyList();
+        List<Property> segments = address.isDefined() ? address.asPropertyList() : Collections.<Property> emptyList();
+        if (changedSegments.size() > segments.size()) {
+            return false;
+        }
+        for (int i = 0; i < changedSegments.size(); i++) {
+            Property changedSegment = changedSegments.get(i);
+            Property segment = segments.get(i);
+            if (!changedSegment.getName().equals(segment.getName())) {
+                return false;
+            }
+            String value = segment.getValue().asString();
+            boolean last = i == segments.size() - 1;
+            if (!last && !"*".equals(value) && !value.equals(changedSegment.getValue().asString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static class Entry {
+
+        final List<ResourceAddress> addresses;
+        CandidateIndex index;
+        long timestamp;
+        Promise<CandidateIndex> pending;
+
+        Entry(List<ResourceAddress> addresses) {
+            this.addresses = addresses;
+        }
+    }
+}
@@ -38,4 +38,7 @@ class Charts {
 
     @JsMethod(name = "getDefaultGroupedBarConfig")
     native Options defaultGroupedBarOptions();
+
+    @JsMethod(name = "getDefaultSparklineConfig")
+    native Options defaultSparklineOptions();
 }
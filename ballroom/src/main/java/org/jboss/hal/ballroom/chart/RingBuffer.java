@@ -0,0 +1,92 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+/**
+ * Fixed-size buffer of primitive values used to store time series for charts. Once the buffer is full, adding a value
+ * overwrites the oldest value. The buffer never allocates memory after construction.
+ */
+public class RingBuffer {
+
+    private final double[] values;
+    private int start;
+    private int size;
+
+    public RingBuffer(int capacity) {
+        if (capacity < 1) {
+            throw new IllegalArgumentException("Capacity must be greater than zero");
+        }
+        this.values = new double[capacity];
+        this.start = 0;
+        this.size = 0;
+    }
+
+    public void add(double value) {
+        if (size < values.length) {
+            values[(start + size) % values.length] = value;
+            size++;
+        } else {
+            values[start] = value;
+            start = (start + 1) % values.length;
+        }
+    }
+
+    /** @return the value at the specified index where {@code 0} is the oldest and {@code size() - 1} the latest value */
+    public double get(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + size);
+        }
+        return values[(start + index) % values.length];
+    }
+
+    /** @return the latest value or {@code 0} if the buffer is empty */
+    public double last() {
+        return size == 0 ? 0 : get(size - 1);
+    }
+
+    public double min() {
+        double min = size == 0 ? 0 : Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            min = Math.min(min, values[i]);
+        }
+        return min;
+    }
+
+    public double max() {
+        double max = size == 0 ? 0 : -Double.MAX_VALUE;
+        for (int i = 0; i < size; i++) {
+            max = Math.max(max, values[i]);
+        }
+        return max;
+    }
+
+    public void clear() {
+        start = 0;
+        size = 0;
+    }
+
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    public int size() {
+        return size;
+    }
+
+    public int capacity() {
+        return values.length;
+    }
+}
@@ -0,0 +1,141 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.elemento.IsElement;
+import org.jboss.hal.ballroom.Attachable;
+import org.jboss.hal.js.JsHelper;
+
+import elemental2.core.JsArray;
+import elemental2.dom.HTMLElement;
+import jsinterop.base.JsPropertyMap;
+
+import static org.jboss.elemento.Elements.div;
+import static org.jboss.hal.resources.UIConstants.HASH;
+
+/**
+ * Sparkline to show the trend of one or more time series stored in {@link RingBuffer}s. The columns passed to the chart API
+ * are allocated once and reused for each update.
+ *
+ * @see <a href=
+ *      "https://www.patternfly.org/pattern-library/data-visualization/sparkline/">https://www.patternfly.org/pattern-library/data-visualization/sparkline/</a>
+ */
+public class Sparkline implements IsElement<HTMLElement>, Attachable {
+
+    private final HTMLElement root;
+    private final Options options;
+    private final Map<String, JsArray<Object>> columns;
+    private final JsArray<JsArray<Object>> data;
+    private Api api;
+
+    private Sparkline(Builder builder) {
+        root = div().id().element();
+        columns = new LinkedHashMap<>();
+        data = new JsArray<>();
+        for (String id : builder.names.keySet()) {
+            JsArray<Object> column = new JsArray<>();
+            column.push(id);
+            columns.put(id, column);
+            data.push(column);
+        }
+
+        options = Charts.get().defaultSparklineOptions();
+        options.bindto = HASH + root.id;
+        options.data = new Options.Data();
+        options.data.colors = JsHelper.asJsMap(builder.colors);
+        options.data.columns = new JsArray<>();
+        options.data.names = JsHelper.asJsMap(builder.names);
+        options.data.type = "area";
+        if (builder.height != -1) {
+            options.size = new Options.Size();
+            options.size.height = builder.height;
+        }
+    }
+
+    @Override
+    public void attach() {
+        if (api == null) {
+            api = C3.generate(options);
+        }
+    }
+
+    @Override
+    public void detach() {
+        if (api != null) {
+            api.destroy();
+            api = null;
+        }
+    }
+
+    @Override
+    public HTMLElement element() {
+        return root;
+    }
+
+    /**
+     * Updates the chart with the values of the specified buffers. The keys must match the IDs used in
+     * {@link Builder#add(String, String, String)}. Unknown keys are ignored. Does nothing if the chart is not attached.
+     */
+    public void update(Map<String, RingBuffer> series) {
+        if (api != null) {
+            for (Map.Entry<String, RingBuffer> entry : series.entrySet()) {
+                JsArray<Object> column = columns.get(entry.getKey());
+                if (column != null) {
+                    RingBuffer buffer = entry.getValue();
+                    column.length = 1;
+                    for (int i = 0; i < buffer.size(); i++) {
+                        column.push(buffer.get(i));
+                    }
+                }
+            }
+            JsPropertyMap<Object> dataMap = JsPropertyMap.of();
+            dataMap.set("columns", data); // NON-NLS
+            api.load(dataMap);
+        }
+    }
+
+    public static class Builder {
+
+        private final Map<String, String> colors;
+        private final Map<String, String> names;
+        private int height;
+
+        public Builder() {
+            this.colors = new HashMap<>();
+            this.names = new LinkedHashMap<>();
+            this.height = -1;
+        }
+
+        public Builder add(String id, String text, String color) {
+            colors.put(id, color);
+            names.put(id, text);
+            return this;
+        }
+
+        public Builder height(int height) {
+            this.height = height;
+            return this;
+        }
+
+        public Sparkline build() {
+            return new Sparkline(this);
+        }
+    }
+}
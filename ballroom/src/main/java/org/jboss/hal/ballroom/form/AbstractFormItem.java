@@ -423,6 +423,15 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
         return expressionValue;
     }
 
+    @Override
+    public void showResolvedValue(String resolvedValue) {
+        if (resolvedValue != null && isExpressionValue()) {
+            apply(RESOLVED, resolvedValue);
+        } else {
+            unapply(RESOLVED);
+        }
+    }
+
     /**
      * Sets the form item's expression value, applies the {@link Decoration#EXPRESSION} decoration and shows the expression
      * value in the appearances. Sets the value to {@code null}. Does not touch the {@code modified} and {@code undefined}
@@ -463,6 +472,7 @@ public abstract class AbstractFormItem<T> implements FormItem<T> {
     }
 
     void toggleExpressionSupport(String expressionValue) {
+        unapply(RESOLVED); // resolved values belong to the previous expression
         // TODO Find a way how to use the expression resolver in modals
         if (!isModal()) {
             if (supportsExpressions() && hasExpressionScheme(expressionValue)) {
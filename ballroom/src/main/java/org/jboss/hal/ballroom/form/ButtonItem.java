@@ -158,6 +158,7 @@ public class ButtonItem extends AbstractFormItem<Void> {
                 case HINT:
                 case INVALID:
                 case REQUIRED:
+                case RESOLVED:
                 case SUGGESTIONS:
                     break;
 
@@ -184,6 +185,7 @@ public class ButtonItem extends AbstractFormItem<Void> {
                 case HINT:
                 case INVALID:
                 case REQUIRED:
+                case RESOLVED:
                 case RESTRICTED:
                 case SUGGESTIONS:
                     break;
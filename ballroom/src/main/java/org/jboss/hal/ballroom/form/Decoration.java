@@ -28,6 +28,7 @@ public enum Decoration {
     HINT, // String hint
     INVALID, // String errorMessage
     REQUIRED, // null
+    RESOLVED, // String resolvedValue
     RESTRICTED, // null
     SENSITIVE, // null
     SUGGESTIONS, // SuggestHandler
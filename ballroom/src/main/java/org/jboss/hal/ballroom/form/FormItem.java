@@ -62,6 +62,12 @@ public interface FormItem<T> extends Attachable, HasEnabled, Focusable, HasName,
 
     String getExpressionValue();
 
+    /**
+     * Shows the resolved value next to the expression value in the read-only appearance. Pass {@code null} to remove
+     * the resolved value.
+     */
+    void showResolvedValue(String resolvedValue);
+
     boolean supportsExpressions();
 
     void addResolveExpressionHandler(ResolveExpressionHandler handler);
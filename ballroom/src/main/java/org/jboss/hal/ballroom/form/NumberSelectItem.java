@@ -184,6 +184,7 @@ public class NumberSelectItem extends AbstractFormItem<Long> {
                 case DEFAULT:
                 case EXPRESSION:
                 case HINT:
+                case RESOLVED:
                 case SENSITIVE:
                 case SUGGESTIONS:
                     break;
@@ -217,6 +218,7 @@ public class NumberSelectItem extends AbstractFormItem<Long> {
                 case DEFAULT:
                 case EXPRESSION:
                 case HINT:
+                case RESOLVED:
                 case SENSITIVE:
                 case SUGGESTIONS:
                     break;
@@ -130,6 +130,7 @@ class RadioEditingAppearance extends AbstractAppearance<String> {
             // not supported
             case EXPRESSION:
             case HINT:
+            case RESOLVED:
             case RESTRICTED:
             case SENSITIVE:
             case SUGGESTIONS:
@@ -174,6 +175,7 @@ class RadioEditingAppearance extends AbstractAppearance<String> {
             // not supported
             case EXPRESSION:
             case HINT:
+            case RESOLVED:
             case RESTRICTED:
             case SENSITIVE:
             case SUGGESTIONS:
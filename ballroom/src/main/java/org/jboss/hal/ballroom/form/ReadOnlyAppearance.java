@@ -81,6 +81,7 @@ public abstract class ReadOnlyAppearance<T> extends AbstractAppearance<T> {
     private final HTMLElement hintElement;
     private final HTMLElement defaultValue;
     private final HTMLElement expressionLink;
+    private final HTMLElement resolvedValue;
     private final HTMLElement restrictedMarker;
     private HTMLElement peekLink;
     private boolean masked;
@@ -105,6 +106,9 @@ public abstract class ReadOnlyAppearance<T> extends AbstractAppearance<T> {
         expressionLink = span()
                 .css(fontAwesome("link"), clickable)
                 .title(CONSTANTS.resolveExpression()).element();
+        resolvedValue = span()
+                .css(hint)
+                .title(CONSTANTS.resolvedValue()).element();
         restrictedMarker = span()
                 .add(span().css(fontAwesome("lock"), marginRight5).aria(HIDDEN, TRUE))
                 .add(span().textContent(CONSTANTS.restricted())).element();
@@ -237,6 +241,15 @@ public abstract class ReadOnlyAppearance<T> extends AbstractAppearance<T> {
                 valueContainer.appendChild(hintElement);
                 break;
 
+            case RESOLVED:
+                resolvedValue.textContent = String.valueOf(context);
+                if (isApplied(HINT)) {
+                    valueContainer.insertBefore(resolvedValue, hintElement);
+                } else {
+                    valueContainer.appendChild(resolvedValue);
+                }
+                break;
+
             case RESTRICTED:
                 valueElement.textContent = "";
                 Elements.removeChildrenFrom(valueContainer);
@@ -287,6 +300,10 @@ public abstract class ReadOnlyAppearance<T> extends AbstractAppearance<T> {
                 Elements.failSafeRemove(valueContainer, hintElement);
                 break;
 
+            case RESOLVED:
+                Elements.failSafeRemove(valueContainer, resolvedValue);
+                break;
+
             case RESTRICTED:
                 Elements.failSafeRemove(valueContainer, restrictedMarker);
                 break;
@@ -167,6 +167,7 @@ abstract class SelectBoxEditingAppearance<T> extends AbstractAppearance<T> {
             // not supported
             case EXPRESSION:
             case HINT:
+            case RESOLVED:
             case SENSITIVE:
             case SUGGESTIONS:
                 break;
@@ -219,6 +220,7 @@ abstract class SelectBoxEditingAppearance<T> extends AbstractAppearance<T> {
             // not supported
             case EXPRESSION:
             case HINT:
+            case RESOLVED:
             case SENSITIVE:
             case SUGGESTIONS:
                 break;
@@ -74,7 +74,7 @@ public class SwitchItem extends AbstractFormItem<Boolean> {
     private static class SwitchReadOnlyAppearance extends ReadOnlyAppearance<Boolean> {
 
         SwitchReadOnlyAppearance() {
-            super(EnumSet.of(DEFAULT, DEPRECATED, EXPRESSION, RESTRICTED));
+            super(EnumSet.of(DEFAULT, DEPRECATED, EXPRESSION, RESOLVED, RESTRICTED));
         }
 
         @Override
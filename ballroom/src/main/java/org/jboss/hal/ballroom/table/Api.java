@@ -20,6 +20,7 @@ import java.util.List;
 
 import org.jboss.hal.ballroom.JQuery;
 
+import elemental2.core.Function;
 import elemental2.dom.HTMLElement;
 import jsinterop.annotations.JsFunction;
 import jsinterop.annotations.JsMethod;
@@ -66,6 +67,11 @@ class Api<T> {
 
     native Api<T> data();
 
+    /**
+     * Sets the data of the row selected with {@link #rowAt(int)} and invalidates the row.
+     */
+    native Api<T> data(T data);
+
     native Api<T> draw(String paging);
 
     /**
@@ -73,6 +79,11 @@ class Api<T> {
      */
     native Api<T> enable(boolean enable);
 
+    /**
+     * Returns the internal indexes of the rows selected with one of the {@code rows()} selector methods.
+     */
+    native Api<Double> indexes();
+
     /**
      * Returns the jQuery object for the button selected with {@link #button(int)}
      */
@@ -102,6 +113,17 @@ class Api<T> {
      */
     native Api<T> rows(RowSelection<T> selection);
 
+    /**
+     * Select rows by their internal indexes.
+     */
+    native Api<T> rows(double[] indexes);
+
+    /**
+     * Removes the row(s) selected with one of the {@code rows()} selector methods. Call {@link #draw(String)} to update the
+     * table.
+     */
+    native Api<T> remove();
+
     /**
      * Selects the row(s) that have been found by the {@link #rows(RowSelection)}, {@link #rows(HTMLElement)} or
      * {@link #rows(SelectorModifier)} selector methods.
@@ -122,6 +144,15 @@ class Api<T> {
         return this;
     }
 
+    /**
+     * Select a row by its internal index. Chain the {@link #data(Object)} to set the data of the row.
+     */
+    @JsOverlay
+    final Api<T> rowAt(int index) {
+        // the API defines 'row' as property *and* function
+        return Js.uncheckedCast(Js.<Function>uncheckedCast(row).call(this, (double) index));
+    }
+
     @JsOverlay
     final T selectedRow() {
         List<T> rows = selectedRows();
@@ -36,6 +36,7 @@ import elemental2.dom.Element;
 import elemental2.dom.HTMLElement;
 import elemental2.dom.HTMLTableElement;
 import elemental2.dom.NodeList;
+import jsinterop.base.Js;
 
 import static elemental2.dom.DomGlobal.document;
 import static java.util.Arrays.asList;
@@ -44,6 +45,7 @@ import static org.jboss.elemento.Elements.htmlElements;
 import static org.jboss.elemento.Elements.table;
 import static org.jboss.elemento.EventType.bind;
 import static org.jboss.elemento.EventType.click;
+import static org.jboss.hal.ballroom.table.RefreshMode.HOLD;
 import static org.jboss.hal.ballroom.table.RefreshMode.RESET;
 import static org.jboss.hal.resources.CSS.columnAction;
 import static org.jboss.hal.resources.CSS.dataTable;
@@ -327,21 +329,34 @@ public class DataTable<T> implements Table<T> {
         update(data, mode, null);
     }
 
+    /**
+     * Updates the table with the new data and keeps the current page. Rows are matched using the identifier: Only new,
+     * removed and changed rows are touched and the selection of unchanged rows is kept. The selection change handlers
+     * are called again for a kept selection.
+     *
+     * @param data the new data
+     * @param identifier a function which must return an unique identifier for a given row.
+     */
     @Override
     public void update(Iterable<T> data, Function<T, String> identifier) {
-        update(data, RESET, identifier);
+        update(data, HOLD, identifier);
     }
 
     /**
-     * Replaces the existing data with the new one. If necessary, restores the current selection based on the specified
-     * function.
+     * Updates the table with the new data. If an identifier is specified, rows are matched using the identifier: Only
+     * new, removed and changed rows are touched and the selection of unchanged rows is kept. The selection change
+     * handlers are called again for a kept selection. If the identifier is not unique or if new rows are not at the end
+     * of the data, the existing data is replaced with the new one and the selection is restored afterwards.
      *
      * @param data the new data
-     * @param identifier a function which must return an unique identifier for a given row. Used to restore the selection after
-     *        replacing the data.
+     * @param identifier a function which must return an unique identifier for a given row. Used to match the rows and to
+     *        restore the selection.
      */
     @Override
     public void update(Iterable<T> data, RefreshMode mode, Function<T, String> identifier) {
+        if (identifier != null && keyedUpdate(data, mode, identifier)) {
+            return;
+        }
         List<T> selection = api().selectedRows();
         api().clear().add(data).draw(mode.mode());
         if (identifier != null) {
@@ -364,6 +379,38 @@ public class DataTable<T> implements Table<T> {
         }
     }
 
+    /** @return {@code false} if the rows cannot be matched using the identifier */
+    private boolean keyedUpdate(Iterable<T> data, RefreshMode mode, Function<T, String> identifier) {
+        SelectorModifier selectorModifier = new SelectorModifierBuilder().page(SelectorModifier.Page.all).build();
+        Api<T> rows = api().rows(selectorModifier);
+        double[] indexes = Js.uncheckedCast(rows.indexes().toArray());
+        int[] rowIndexes = new int[indexes.length];
+        for (int i = 0; i < indexes.length; i++) {
+            rowIndexes[i] = (int) indexes[i];
+        }
+        RowDiff<T> diff = RowDiff.diff(rowIndexes, rows.data().toArray(), data, identifier);
+        if (diff == null) {
+            return false;
+        }
+        if (!diff.isEmpty()) {
+            // change the data first: removing rows changes the indexes
+            diff.changed.forEach((index, d) -> api().rowAt(index).data(d));
+            if (!diff.removed.isEmpty()) {
+                double[] removed = new double[diff.removed.size()];
+                for (int i = 0; i < removed.length; i++) {
+                    removed[i] = diff.removed.get(i);
+                }
+                api().rows(removed).remove();
+            }
+            api().add(diff.added).draw(mode.mode());
+        }
+        // the selection is kept, but views bound to the selection (e.g. forms) might have been cleared in the meantime
+        if (!api().selectedRows().isEmpty()) {
+            api().rows(new SelectorModifierBuilder().selected().build()).select();
+        }
+        return true;
+    }
+
     public void applySecurity(Map<Integer, String> buttonConstraints, AuthorisationDecision authorisationDecision) {
         buttonConstraints.forEach((index, constraint) -> {
             buttonElement(index).attr(data(UIConstants.CONSTRAINT), constraint);
@@ -0,0 +1,97 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.table;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.Set;
+import java.util.function.Function;
+
+/**
+ * The differences between the rows of a data table and new data, matched by a unique identifier. Rows with the same
+ * identifier and equal data are left untouched. Rows which are passed again as the same instance are treated as
+ * changed, since the instance might have been modified in place.
+ *
+ * @param <T> the row type
+ */
+final class RowDiff<T> {
+
+    /**
+     * Computes the differences between the current and the new rows.
+     *
+     * @param indexes the internal row indexes of the current rows
+     * @param rows the current rows in the same order as the indexes
+     * @param data the new data
+     * @param identifier returns the unique identifier of a row
+     *
+     * @return the differences or {@code null} if an identifier is {@code null} or not unique or if new rows are not at
+     *         the end of the data: Rows can only be appended, so the rows have to be replaced to keep the data order.
+     */
+    static <T> RowDiff<T> diff(int[] indexes, T[] rows, Iterable<T> data, Function<T, String> identifier) {
+        String[] ids = new String[rows.length];
+        Map<String, Integer> current = new HashMap<>();
+        for (int i = 0; i < rows.length; i++) {
+            ids[i] = rows[i] != null ? identifier.apply(rows[i]) : null;
+            if (ids[i] == null || current.put(ids[i], i) != null) {
+                return null;
+            }
+        }
+
+        RowDiff<T> diff = new RowDiff<>();
+        Set<String> keys = new HashSet<>();
+        if (data != null) {
+            for (T d : data) {
+                String id = d != null ? identifier.apply(d) : null;
+                if (id == null || !keys.add(id)) {
+                    return null;
+                }
+                Integer position = current.get(id);
+                if (position == null) {
+                    diff.added.add(d);
+                } else if (!diff.added.isEmpty()) {
+                    return null; // an existing row follows a new row
+                } else if (rows[position] == d || !Objects.equals(rows[position], d)) {
+                    diff.changed.put(indexes[position], d);
+                }
+            }
+        }
+        for (int i = 0; i < ids.length; i++) {
+            if (!keys.contains(ids[i])) {
+                diff.removed.add(indexes[i]);
+            }
+        }
+        return diff;
+    }
+
+    final List<T> added;
+    final Map<Integer, T> changed;
+    final List<Integer> removed;
+
+    private RowDiff() {
+        this.added = new ArrayList<>();
+        this.changed = new LinkedHashMap<>();
+        this.removed = new ArrayList<>();
+    }
+
+    boolean isEmpty() {
+        return added.isEmpty() && changed.isEmpty() && removed.isEmpty();
+    }
+}
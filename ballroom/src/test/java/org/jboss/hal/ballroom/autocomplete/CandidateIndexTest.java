@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import java.util.List;
+
+import org.jboss.hal.ballroom.form.SuggestHandler;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.stream.Collectors.toList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class CandidateIndexTest {
+
+    private CandidateIndex index;
+
+    @Before
+    public void setUp() {
+        index = index(true, "ExampleDS", "OtherDS", "example-xa", "ds", "aaaa");
+    }
+
+    @Test
+    public void nullQuery() {
+        assertTrue(index.filter(null).isEmpty());
+    }
+
+    @Test
+    public void emptyQuery() {
+        assertTrue(index.filter("").isEmpty());
+    }
+
+    @Test
+    public void showAll() {
+        assertEquals(asList("ExampleDS", "OtherDS", "example-xa", "ds", "aaaa"),
+                names(index.filter(SuggestHandler.SHOW_ALL_VALUE)));
+    }
+
+    @Test
+    public void shortQuery() {
+        assertEquals(asList("ExampleDS", "OtherDS", "ds"), names(index.filter("ds")));
+        assertEquals(asList("ExampleDS", "example-xa", "aaaa"), names(index.filter("a")));
+    }
+
+    @Test
+    public void trigramQuery() {
+        assertEquals(asList("ExampleDS", "example-xa"), names(index.filter("ample")));
+        assertEquals(asList("ExampleDS"), names(index.filter("eDS")));
+        assertEquals(asList("OtherDS"), names(index.filter("THER")));
+        assertEquals(asList("aaaa"), names(index.filter("aaa")));
+    }
+
+    @Test
+    public void allTrigramsButNoMatch() {
+        // 'aaaa' contains all trigrams of 'aaaaa', but not the query itself
+        assertTrue(index.filter("aaaaa").isEmpty());
+    }
+
+    @Test
+    public void noMatch() {
+        assertTrue(index.filter("foo").isEmpty());
+        assertTrue(index.filter("q").isEmpty());
+    }
+
+    @Test
+    public void caseSensitive() {
+        CandidateIndex caseSensitive = index(false, "ExampleDS", "example-xa");
+        assertEquals(asList("ExampleDS"), names(caseSensitive.filter("Exam")));
+        assertEquals(asList("example-xa"), names(caseSensitive.filter("exam")));
+        assertTrue(caseSensitive.filter("EXAM").isEmpty());
+    }
+
+    private CandidateIndex index(boolean ignoreCase, String... names) {
+        return new CandidateIndex(asList(names).stream().map(ReadChildrenResult::new).collect(toList()), ignoreCase);
+    }
+
+    private List<String> names(List<ReadChildrenResult> results) {
+        return results.stream().map(result -> result.name).collect(toList());
+    }
+}
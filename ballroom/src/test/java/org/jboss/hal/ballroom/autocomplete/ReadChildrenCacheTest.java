@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.autocomplete;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ReadChildrenCacheTest {
+
+    private static final ResourceAddress DATA_SOURCES = ResourceAddress
+            .from("subsystem=datasources/data-source=*");
+    private static final ResourceAddress QUEUES = ResourceAddress
+            .from("subsystem=messaging-activemq/server=*/jms-queue=*");
+
+    @Test
+    public void child() {
+        assertTrue(ReadChildrenCache.affects(ResourceAddress.from("subsystem=datasources/data-source=foo"),
+                DATA_SOURCES));
+        assertTrue(ReadChildrenCache.affects(
+                ResourceAddress.from("subsystem=messaging-activemq/server=default/jms-queue=foo"), QUEUES));
+    }
+
+    @Test
+    public void ancestor() {
+        assertTrue(ReadChildrenCache.affects(ResourceAddress.from("subsystem=datasources"), DATA_SOURCES));
+        assertTrue(ReadChildrenCache.affects(ResourceAddress.root(), DATA_SOURCES));
+    }
+
+    @Test
+    public void lastSegmentMatchesAnyValue() {
+        assertTrue(ReadChildrenCache.affects(ResourceAddress.from("subsystem=datasources/data-source=foo"),
+                ResourceAddress.from("subsystem=datasources/data-source=bar")));
+    }
+
+    @Test
+    public void unrelated() {
+        assertFalse(ReadChildrenCache.affects(ResourceAddress.from("subsystem=datasources/xa-data-source=foo"),
+                DATA_SOURCES));
+        assertFalse(ReadChildrenCache.affects(ResourceAddress.from("subsystem=logging"), DATA_SOURCES));
+        assertFalse(ReadChildrenCache.affects(
+                ResourceAddress.from("subsystem=messaging-activemq/server=default/jms-queue=foo"),
+                ResourceAddress.from("subsystem=messaging-activemq/server=other/jms-queue=*")));
+    }
+
+    @Test
+    public void descendant() {
+        assertFalse(ReadChildrenCache.affects(
+                ResourceAddress.from("subsystem=datasources/data-source=foo/connection-properties=bar"),
+                DATA_SOURCES));
+    }
+}
@@ -0,0 +1,96 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.chart;
+
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+public class RingBufferTest {
+
+    private static final double DELTA = 0.0001;
+
+    @Test
+    public void empty() {
+        RingBuffer buffer = new RingBuffer(3);
+        assertTrue(buffer.isEmpty());
+        assertEquals(0, buffer.size());
+        assertEquals(3, buffer.capacity());
+        assertEquals(0, buffer.last(), DELTA);
+        assertEquals(0, buffer.min(), DELTA);
+        assertEquals(0, buffer.max(), DELTA);
+    }
+
+    @Test
+    public void partial() {
+        RingBuffer buffer = new RingBuffer(3);
+        buffer.add(1);
+        buffer.add(2);
+        assertEquals(2, buffer.size());
+        assertEquals(1, buffer.get(0), DELTA);
+        assertEquals(2, buffer.get(1), DELTA);
+        assertEquals(2, buffer.last(), DELTA);
+    }
+
+    @Test
+    public void overwrite() {
+        RingBuffer buffer = new RingBuffer(3);
+        for (int i = 1; i <= 5; i++) {
+            buffer.add(i);
+        }
+        assertEquals(3, buffer.size());
+        assertEquals(3, buffer.get(0), DELTA);
+        assertEquals(4, buffer.get(1), DELTA);
+        assertEquals(5, buffer.get(2), DELTA);
+        assertEquals(5, buffer.last(), DELTA);
+        assertEquals(3, buffer.min(), DELTA);
+        assertEquals(5, buffer.max(), DELTA);
+    }
+
+    @Test
+    public void negative() {
+        RingBuffer buffer = new RingBuffer(2);
+        buffer.add(-3);
+        buffer.add(-1);
+        assertEquals(-3, buffer.min(), DELTA);
+        assertEquals(-1, buffer.max(), DELTA);
+    }
+
+    @Test
+    public void clear() {
+        RingBuffer buffer = new RingBuffer(2);
+        buffer.add(1);
+        buffer.add(2);
+        buffer.add(3);
+        buffer.clear();
+        assertTrue(buffer.isEmpty());
+        buffer.add(4);
+        assertEquals(4, buffer.get(0), DELTA);
+    }
+
+    @Test(expected = IndexOutOfBoundsException.class)
+    public void outOfBounds() {
+        RingBuffer buffer = new RingBuffer(2);
+        buffer.add(1);
+        buffer.get(1);
+    }
+
+    @Test(expected = IllegalArgumentException.class)
+    public void invalidCapacity() {
+        new RingBuffer(0);
+    }
+}
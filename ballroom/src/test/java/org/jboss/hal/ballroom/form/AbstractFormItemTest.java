@@ -419,6 +419,29 @@ public class AbstractFormItemTest {
         verify(editingAppearance, never()).apply(eq(EXPRESSION), argThat(eqExpr));
     }
 
+    @Test
+    public void showResolvedValue() {
+        AbstractFormItem<String> formItem = formItem(true);
+        formItem.setExpressionValue("${foo:bar}");
+        formItem.showResolvedValue("bar");
+
+        verify(readOnlyAppearance).apply(RESOLVED, "bar");
+        verify(editingAppearance).apply(RESOLVED, "bar");
+
+        formItem.setExpressionValue("${foo:baz}");
+        verify(readOnlyAppearance, atLeastOnce()).unapply(RESOLVED);
+    }
+
+    @Test
+    public void showResolvedValueWithoutExpression() {
+        AbstractFormItem<String> formItem = formItem(true);
+        formItem.setValue("foo");
+        formItem.showResolvedValue("bar");
+
+        verify(readOnlyAppearance, never()).apply(RESOLVED, "bar");
+        verify(editingAppearance, never()).apply(RESOLVED, "bar");
+    }
+
     @Test
     public void registerSuggestHandler() {
         AbstractFormItem<String> formItem = formItem(false);
@@ -0,0 +1,110 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.table;
+
+import java.util.function.Function;
+
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class RowDiffTest {
+
+    private static final Function<String, String> KEY = row -> row.substring(0, row.indexOf('='));
+
+    /** @return an equal, but different instance, like rows read again from the server */
+    private static String read(String row) {
+        return new String(row);
+    }
+
+    @Test
+    public void unchanged() {
+        RowDiff<String> diff = RowDiff.diff(new int[] { 0, 1 }, new String[] { "a=1", "b=2" },
+                asList(read("b=2"), read("a=1")), KEY);
+        assertTrue(diff.isEmpty());
+    }
+
+    @Test
+    public void added() {
+        RowDiff<String> diff = RowDiff.diff(new int[] { 0 }, new String[] { "a=1" }, asList(read("a=1"), "b=2"),
+                KEY);
+        assertEquals(singletonList("b=2"), diff.added);
+        assertTrue(diff.changed.isEmpty());
+        assertTrue(diff.removed.isEmpty());
+    }
+
+    @Test
+    public void removed() {
+        RowDiff<String> diff = RowDiff.diff(new int[] { 3, 5, 7 }, new String[] { "a=1", "b=2", "c=3" },
+                singletonList(read("b=2")), KEY);
+        assertTrue(diff.added.isEmpty());
+        assertTrue(diff.changed.isEmpty());
+        assertEquals(asList(3, 7), diff.removed);
+    }
+
+    @Test
+    public void changed() {
+        RowDiff<String> diff = RowDiff.diff(new int[] { 3, 5 }, new String[] { "a=1", "b=2" },
+                asList(read("a=1"), "b=3"), KEY);
+        assertTrue(diff.added.isEmpty());
+        assertEquals(1, diff.changed.size());
+        assertEquals("b=3", diff.changed.get(5));
+        assertTrue(diff.removed.isEmpty());
+    }
+
+    @Test
+    public void sameInstance() {
+        String[] rows = new String[] { "a=1", "b=2" };
+        RowDiff<String> diff = RowDiff.diff(new int[] { 3, 5 }, rows, asList(read("a=1"), rows[1]), KEY);
+        assertEquals(1, diff.changed.size());
+        assertEquals("b=2", diff.changed.get(5));
+    }
+
+    @Test
+    public void insertedBeforeExisting() {
+        assertNull(RowDiff.diff(new int[] { 0 }, new String[] { "b=2" }, asList("a=1", read("b=2")), KEY));
+        assertNull(RowDiff.diff(new int[] { 0, 1 }, new String[] { "a=1", "c=3" },
+                asList(read("a=1"), "b=2", read("c=3")), KEY));
+    }
+
+    @Test
+    public void empty() {
+        RowDiff<String> diff = RowDiff.diff(new int[] { 0, 1 }, new String[] { "a=1", "b=2" }, emptyList(), KEY);
+        assertEquals(asList(0, 1), diff.removed);
+
+        diff = RowDiff.diff(new int[0], new String[0], asList("a=1", "b=2"), KEY);
+        assertEquals(asList("a=1", "b=2"), diff.added);
+    }
+
+    @Test
+    public void duplicates() {
+        assertNull(RowDiff.diff(new int[] { 0, 1 }, new String[] { "a=1", "a=2" }, singletonList("a=1"), KEY));
+        assertNull(RowDiff.diff(new int[] { 0 }, new String[] { "a=1" }, asList("a=1", "a=2"), KEY));
+    }
+
+    @Test
+    public void nullIdentifier() {
+        Function<String, String> key = row -> row.startsWith("x") ? null : row;
+        assertNull(RowDiff.diff(new int[] { 0 }, new String[] { "x" }, singletonList("a"), key));
+        assertNull(RowDiff.diff(new int[] { 0 }, new String[] { "a" }, singletonList("x"), key));
+    }
+}
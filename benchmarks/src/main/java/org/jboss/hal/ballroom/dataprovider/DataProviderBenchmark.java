@@ -0,0 +1,103 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.ballroom.dataprovider;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures updating, filtering and sorting the items of a data provider without any displays attached.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class DataProviderBenchmark {
+
+    private static final String FILTER = "name";
+    private static final int PAGE_SIZE = 10;
+
+    @Param({ "100", "1000", "10000" })
+    public int size;
+
+    private List<Item> items;
+    private DataProvider<Item> dataProvider;
+    private FilterValue<Item> filterValue;
+    private Comparator<Item> byName;
+
+    @Setup
+    public void setup() {
+        items = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            items.add(new Item("item-" + i));
+        }
+        Collections.shuffle(items, new Random(42));
+
+        dataProvider = new DataProvider<>(Item::getName, true, PAGE_SIZE);
+        dataProvider.update(items);
+        filterValue = new FilterValue<>((item, value) -> item.getName().contains(value), "7");
+        byName = Comparator.comparing(Item::getName);
+    }
+
+    @Benchmark
+    public DataProvider<Item> update() {
+        dataProvider.update(items);
+        return dataProvider;
+    }
+
+    @Benchmark
+    public DataProvider<Item> filter() {
+        dataProvider.addFilter(FILTER, filterValue);
+        return dataProvider;
+    }
+
+    @Benchmark
+    public DataProvider<Item> sort() {
+        dataProvider.setComparator(byName);
+        return dataProvider;
+    }
+
+    static class Item {
+
+        private final String name;
+
+        Item(String name) {
+            this.name = name;
+        }
+
+        String getName() {
+            return name;
+        }
+    }
+}
@@ -0,0 +1,115 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Base64;
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import com.google.common.base.CharMatcher;
+
+/**
+ * Measures decoding of recorded DMR payloads and attribute lookups on wide objects.
+ * <p>
+ * {@link ModelNode#fromBase64(String)} relies on the base64 decoder of the browser, so {@link #fromBase64(Payload)}
+ * replaces that step with {@link Base64} and measures the rest of the decoding as is. {@link ModelNode#toBase64String()}
+ * is not covered, since the encoder is backed by JavaScript arrays.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MICROSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+public class ModelNodeBenchmark {
+
+    @State(Scope.Benchmark)
+    public static class Payload {
+
+        @Param({ "rrd_wildcard_resource_security_only", "rrd_wildcard_resource_description_only",
+                "composite_rrd_recursive_description_only" })
+        public String name;
+
+        String base64;
+
+        @Setup
+        public void setup() throws IOException {
+            try (InputStream inputStream = ModelNodeBenchmark.class
+                    .getResourceAsStream("/org/jboss/hal/meta/processing/" + name + ".dmr")) {
+                ByteArrayOutputStream outputStream = new ByteArrayOutputStream();
+                org.jboss.dmr.ModelNode.fromStream(inputStream).writeBase64(outputStream);
+                base64 = outputStream.toString(StandardCharsets.US_ASCII);
+            }
+        }
+    }
+
+    @State(Scope.Benchmark)
+    public static class WideObject {
+
+        @Param({ "10", "100", "1000" })
+        public int width;
+
+        ModelNode modelNode;
+        String[] names;
+
+        @Setup
+        public void setup() {
+            modelNode = new ModelNode();
+            names = new String[width];
+            for (int i = 0; i < width; i++) {
+                names[i] = "attribute-" + i;
+                modelNode.get(names[i]).set(i);
+            }
+        }
+    }
+
+    @Benchmark
+    public ModelNode fromBase64(Payload payload) {
+        String safeEncoded = CharMatcher.breakingWhitespace().removeFrom(payload.base64);
+        ModelNode modelNode = new ModelNode();
+        modelNode.readExternal(new DataInput(Base64.getDecoder().decode(safeEncoded)));
+        return modelNode;
+    }
+
+    @Benchmark
+    public void get(WideObject object, Blackhole blackhole) {
+        for (String name : object.names) {
+            blackhole.consume(object.modelNode.get(name));
+        }
+    }
+
+    @Benchmark
+    public void hasDefined(WideObject object, Blackhole blackhole) {
+        for (String name : object.names) {
+            blackhole.consume(object.modelNode.hasDefined(name));
+        }
+    }
+}
@@ -0,0 +1,144 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures the resolution of address templates: Parsing and resolving from scratch, resolving a compiled template and
+ * looking up the resolved address key in the {@link ResolutionCache} of the registries.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Benchmark)
+public class AddressTemplateBenchmark {
+
+    @Param({ "/subsystem=undertow/server=*",
+            "{selected.profile}/subsystem=datasources/data-source=*",
+            "{selected.host}/{selected.server}/subsystem=messaging-activemq/server=*/jms-queue=*" })
+    public String template;
+
+    private StatementContext statementContext;
+    private AddressTemplate addressTemplate;
+    private ResolutionCache resolutionCache;
+
+    @Setup
+    public void setup() {
+        statementContext = new FixedStatementContext();
+        addressTemplate = AddressTemplate.of(template);
+        addressTemplate.resolve(statementContext); // compile
+        resolutionCache = new ResolutionCache(statementContext);
+    }
+
+    @Benchmark
+    public ResourceAddress parseAndResolve() {
+        return AddressTemplate.of(template).resolve(statementContext);
+    }
+
+    @Benchmark
+    public ResourceAddress resolve() {
+        return addressTemplate.resolve(statementContext);
+    }
+
+    @Benchmark
+    public AddressKey resolveCached() {
+        return resolutionCache.resolve(addressTemplate);
+    }
+
+    private static class FixedStatementContext implements StatementContext {
+
+        @Override
+        public String resolve(String placeholder, AddressTemplate template) {
+            return null;
+        }
+
+        @Override
+        public String[] resolveTuple(String placeholder, AddressTemplate template) {
+            Expression expression = Expression.from(placeholder);
+            if (expression != null) {
+                switch (expression) {
+                    case DOMAIN_CONTROLLER:
+                        return new String[] { expression.resource(), domainController() };
+                    case SELECTED_PROFILE:
+                        return new String[] { expression.resource(), selectedProfile() };
+                    case SELECTED_GROUP:
+                        return new String[] { expression.resource(), selectedServerGroup() };
+                    case SELECTED_HOST:
+                        return new String[] { expression.resource(), selectedHost() };
+                    case SELECTED_SERVER_CONFIG:
+                        return new String[] { expression.resource(), selectedServerConfig() };
+                    case SELECTED_SERVER:
+                        return new String[] { expression.resource(), selectedServer() };
+                    default:
+                        break;
+                }
+            }
+            return null;
+        }
+
+        @Override
+        public String domainController() {
+            return "primary";
+        }
+
+        @Override
+        public String selectedProfile() {
+            return "full";
+        }
+
+        @Override
+        public String selectedServerGroup() {
+            return "main-server-group";
+        }
+
+        @Override
+        public String selectedHost() {
+            return "primary";
+        }
+
+        @Override
+        public String selectedServerConfig() {
+            return "server-one";
+        }
+
+        @Override
+        public String selectedServer() {
+            return "server-one";
+        }
+
+        @Override
+        public int version() {
+            return 0;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.processing;
+
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ExternalModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RECURSIVE;
+
+/**
+ * Measures parsing recorded composite r-r-d results of the undertow subsystem. The parser takes the payload apart, so
+ * each invocation gets a freshly decoded result.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class CompositeRrdParserBenchmark {
+
+    private static final String[] TEMPLATES = new String[] {
+            "/subsystem=undertow",
+            "/subsystem=undertow/server=*",
+            "/subsystem=undertow/server=*/host=*",
+            "/subsystem=undertow/server=*/http-listener=*",
+            "/subsystem=undertow/server=*/https-listener=*",
+            "/subsystem=undertow/server=*/ajp-listener=*"
+    };
+
+    @Param({ "flat", "recursive" })
+    public String payload;
+
+    private byte[] bytes;
+    private Composite composite;
+    private CompositeResult compositeResult;
+
+    @Setup
+    public void setup() throws IOException {
+        boolean recursive = "recursive".equals(payload);
+        List<Operation> operations = Arrays.stream(TEMPLATES)
+                .map(template -> new Operation.Builder(AddressTemplate.of(template).resolve(StatementContext.NOOP),
+                        READ_RESOURCE_DESCRIPTION_OPERATION).param(RECURSIVE, recursive).build())
+                .collect(toList());
+        composite = new Composite(operations);
+        try (InputStream inputStream = CompositeRrdParserBenchmark.class
+                .getResourceAsStream("composite_rrd_" + payload + "_description_only.dmr")) {
+            bytes = inputStream.readAllBytes();
+        }
+    }
+
+    @Setup(Level.Invocation)
+    public void decode() {
+        compositeResult = new CompositeResult(ExternalModelNode.read(new ByteArrayInputStream(bytes)));
+    }
+
+    @Benchmark
+    public RrdResult parse() {
+        return new CompositeRrdParser(composite).parse(compositeResult);
+    }
+}
@@ -0,0 +1,68 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.security;
+
+import java.util.concurrent.TimeUnit;
+
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+/**
+ * Measures parsing {@code data-constraint} attributes. {@link #parseRepeated()} parses the same input over and over
+ * again (like the elements of a big form), whereas {@link #parseDistinct()} cycles through more distinct inputs than
+ * the parse cache holds.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.NANOSECONDS)
+@Fork(1)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@State(Scope.Thread)
+public class ConstraintsBenchmark {
+
+    private static final int DISTINCT_INPUTS = 1000;
+
+    private String[] inputs;
+    private int index;
+
+    @Setup
+    public void setup() {
+        inputs = new String[DISTINCT_INPUTS];
+        for (int i = 0; i < DISTINCT_INPUTS; i++) {
+            inputs[i] = "writable(/{selected.profile}/subsystem=datasources/data-source=*@jndi-name-" + i + ")&"
+                    + "executable(/{selected.profile}/subsystem=datasources/data-source=*:flush-" + i + ")";
+        }
+    }
+
+    @Benchmark
+    public Constraints parseRepeated() {
+        return Constraints.parse(inputs[0]);
+    }
+
+    @Benchmark
+    public Constraints parseDistinct() {
+        index = (index + 1) % DISTINCT_INPUTS;
+        return Constraints.parse(inputs[index]);
+    }
+}
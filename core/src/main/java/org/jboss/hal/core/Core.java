@@ -18,6 +18,7 @@ package org.jboss.hal.core;
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.meta.StatementContext;
@@ -33,6 +34,7 @@ public class Core {
     private final Dispatcher dispatcher;
     private final Environment environment;
     private final EventBus eventBus;
+    private final ExpressionResolver expressionResolver;
     private final StatementContext statementContext;
     private final TableButtonFactory tableButtonFactory;
 
@@ -40,11 +42,13 @@ public class Core {
     public Core(Dispatcher dispatcher,
             Environment environment,
             EventBus eventBus,
+            ExpressionResolver expressionResolver,
             StatementContext statementContext,
             TableButtonFactory tableButtonFactory) {
         this.dispatcher = dispatcher;
         this.environment = environment;
         this.eventBus = eventBus;
+        this.expressionResolver = expressionResolver;
         this.statementContext = statementContext;
         this.tableButtonFactory = tableButtonFactory;
     }
@@ -67,6 +71,13 @@ public class Core {
         return eventBus;
     }
 
+    /**
+     * @return expression resolver
+     */
+    public ExpressionResolver expressionResolver() {
+        return expressionResolver;
+    }
+
     /**
      * @return statement context
      */
@@ -28,8 +28,10 @@ import org.jboss.hal.core.finder.ItemActionFactory;
 import org.jboss.hal.core.finder.ItemMonitor;
 import org.jboss.hal.core.mbui.MbuiContext;
 import org.jboss.hal.core.mbui.table.TableButtonFactory;
+import org.jboss.hal.core.modelbrowser.ChildrenCache;
 import org.jboss.hal.core.modelbrowser.ModelBrowser;
 import org.jboss.hal.core.mvp.Places;
+import org.jboss.hal.core.polling.PollingScheduler;
 import org.jboss.hal.core.runtime.group.ServerGroupActions;
 import org.jboss.hal.core.runtime.host.HostActions;
 import org.jboss.hal.core.runtime.server.ServerActions;
@@ -51,6 +53,7 @@ public class CoreModule extends AbstractGinModule {
     @Override
     protected void configure() {
         bind(AccessControl.class).in(Singleton.class);
+        bind(ChildrenCache.class).in(Singleton.class);
         bind(ColumnActionFactory.class).in(Singleton.class);
         bind(ColumnRegistry.class).in(Singleton.class);
         bind(ComplexAttributeOperations.class).in(Singleton.class);
@@ -67,6 +70,7 @@ public class CoreModule extends AbstractGinModule {
         bind(ModelBrowser.class);
         bind(Core.class).in(Singleton.class);
         bind(Places.class).in(Singleton.class);
+        bind(PollingScheduler.class).in(Singleton.class);
         bind(ServerActions.class).in(Singleton.class);
         bind(ServerGroupActions.class).in(Singleton.class);
         bind(ServerUrlStorage.class).in(Singleton.class);
@@ -17,6 +17,7 @@ package org.jboss.hal.core;
 
 import java.util.EnumMap;
 import java.util.Map;
+import java.util.Objects;
 
 import javax.inject.Inject;
 
@@ -45,6 +46,9 @@ public class CoreStatementContext implements StatementContext,
 
     private final Environment environment;
     private final Map<Expression, String> context;
+    private int version;
+    private boolean standalone;
+    private String domainController;
 
     @Inject
     public CoreStatementContext(Environment environment, EventBus eventBus) {
@@ -57,6 +61,9 @@ public class CoreStatementContext implements StatementContext,
         context.put(SELECTED_HOST, null);
         context.put(SELECTED_SERVER_CONFIG, null);
         context.put(SELECTED_SERVER, null);
+        version = 0;
+        standalone = environment.isStandalone();
+        domainController = environment.getDomainController();
 
         eventBus.addHandler(ProfileSelectionEvent.getType(), this);
         eventBus.addHandler(ServerGroupSelectionEvent.getType(), this);
@@ -89,29 +96,50 @@ public class CoreStatementContext implements StatementContext,
 
     @Override
     public void onProfileSelection(ProfileSelectionEvent event) {
-        context.put(SELECTED_PROFILE, event.getProfile());
+        select(SELECTED_PROFILE, event.getProfile());
         logger.info("Selected profile {}", event.getProfile());
     }
 
     @Override
     public void onServerGroupSelection(ServerGroupSelectionEvent event) {
-        context.put(SELECTED_GROUP, event.getServerGroup());
+        select(SELECTED_GROUP, event.getServerGroup());
         logger.info("Selected server-group {}", event.getServerGroup());
     }
 
     @Override
     public void onHostSelection(HostSelectionEvent event) {
-        context.put(SELECTED_HOST, event.getHost());
+        select(SELECTED_HOST, event.getHost());
         logger.info("Selected host {}", event.getHost());
     }
 
     @Override
     public void onServerSelection(ServerSelectionEvent event) {
-        context.put(SELECTED_SERVER_CONFIG, event.getServer());
-        context.put(SELECTED_SERVER, event.getServer());
+        select(SELECTED_SERVER_CONFIG, event.getServer());
+        select(SELECTED_SERVER, event.getServer());
         logger.info("Selected server {}", event.getServer());
     }
 
+    private void select(Expression expression, String value) {
+        if (!Objects.equals(context.put(expression, value), value)) {
+            version++;
+        }
+    }
+
+    /**
+     * The version is increased whenever the selected profile, server group, host or server changes. Changes of the
+     * environment (operation mode and domain controller) increase the version as well.
+     */
+    @Override
+    public int version() {
+        if (standalone != environment.isStandalone()
+                || !Objects.equals(domainController, environment.getDomainController())) {
+            standalone = environment.isStandalone();
+            domainController = environment.getDomainController();
+            version++;
+        }
+        return version;
+    }
+
     @Override
     public String domainController() {
         return environment.getDomainController();
@@ -15,15 +15,22 @@
  */
 package org.jboss.hal.core.expression;
 
+import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import javax.inject.Inject;
 
 import org.jboss.hal.ballroom.form.ResolveExpressionEvent;
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.core.runtime.server.Server;
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.Composite;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.Property;
@@ -39,22 +46,112 @@ import com.google.common.collect.ImmutableMap;
 import com.google.gwt.user.client.rpc.AsyncCallback;
 import com.google.web.bindery.event.shared.EventBus;
 
+import elemental2.promise.Promise;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonMap;
+import static java.util.stream.Collectors.joining;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.EXPRESSION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD_SERVERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESOLVE_EXPRESSION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESOLVE_EXPRESSION_ON_DOMAIN;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESTART_SERVERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUPS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.START;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.START_SERVERS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STOP;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.STOP_SERVERS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SYSTEM_PROPERTY;
 
 public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpressionHandler {
 
+    private static final Set<String> LIFECYCLE_OPERATIONS = new HashSet<>(asList(RELOAD, RELOAD_SERVERS, RESTART,
+            RESTART_SERVERS, START, START_SERVERS, STOP, STOP_SERVERS));
     private static final Logger logger = LoggerFactory.getLogger(ExpressionResolver.class);
 
+    /**
+     * @return {@code true} if the operation might change the resolved values of expressions: Operations on system
+     *         properties and lifecycle operations which might change the set of running servers.
+     */
+    static boolean invalidates(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                if (invalidates(step)) {
+                    return true;
+                }
+            }
+            return false;
+        }
+        if (LIFECYCLE_OPERATIONS.contains(operation.getName())) {
+            return true;
+        }
+        AddressKey key = operation.getAddress().key();
+        for (int i = 0; i < key.size(); i++) {
+            if (SYSTEM_PROPERTY.equals(key.getName(i))) {
+                return true;
+            }
+        }
+        return false;
+    }
+
+    /**
+     * Parses the server groups of a {@code resolve-expression-on-domain} composite response.
+     *
+     * @return the resolved values per expression and server
+     */
+    static Map<String, Map<String, String>> parseServerGroups(List<String> expressions, ModelNode serverGroups) {
+        Map<String, Map<String, String>> values = new LinkedHashMap<>();
+        for (String expression : expressions) {
+            values.put(expression, new LinkedHashMap<>());
+        }
+        if (serverGroups.isDefined()) {
+            for (Property serverGroup : serverGroups.asPropertyList()) {
+                for (Property host : serverGroup.getValue().get(HOST).asPropertyList()) {
+                    for (Property server : host.getValue().asPropertyList()) {
+                        ModelNode result = server.getValue().get(RESPONSE).get(RESULT);
+                        for (int i = 0; i < expressions.size(); i++) {
+                            ModelNode step = result.get("step-" + (i + 1)); // NON-NLS
+                            if (step.hasDefined(RESULT)) {
+                                values.get(expressions.get(i)).put(server.getName(), step.get(RESULT).asString());
+                            }
+                        }
+                    }
+                }
+            }
+        }
+        return values;
+    }
+
+    /**
+     * Turns the resolved values of one expression into a single display value.
+     *
+     * @return {@code null} if there are no values, the value itself if all servers share the same value or a list of
+     *         {@code server=value} pairs otherwise.
+     */
+    public static String resolvedValue(Map<String, String> values) {
+        if (values == null || values.isEmpty()) {
+            return null;
+        }
+        Set<String> distinct = new HashSet<>(values.values());
+        if (distinct.size() == 1) {
+            return distinct.iterator().next();
+        }
+        return values.entrySet().stream()
+                .map(entry -> entry.getKey() + "=" + entry.getValue())
+                .collect(joining(", "));
+    }
+
     private final Dispatcher dispatcher;
     private final EventBus eventBus;
     private final Environment environment;
     private final Resources resources;
+    private final Map<String, Map<String, String>> resolved;
 
     @Inject
     public ExpressionResolver(final EventBus eventBus,
@@ -65,8 +162,14 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         this.environment = environment;
         this.dispatcher = dispatcher;
         this.resources = resources;
+        this.resolved = new HashMap<>();
 
         eventBus.addHandler(ResolveExpressionEvent.getType(), this);
+        dispatcher.addWriteListener(operation -> {
+            if (invalidates(operation)) {
+                resolved.clear();
+            }
+        });
     }
 
     @Override
@@ -93,6 +196,91 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
         }
     }
 
+    /**
+     * Resolves several expressions at once. Expressions which have been resolved before are taken from a cache, all
+     * others are resolved using one composite operation. If the composite fails, because one of the expressions cannot
+     * be resolved, the expressions are resolved one by one. Expressions which cannot be resolved are cached with no
+     * values. The cache is cleared if system properties are modified or if servers are (re)started or stopped.
+     *
+     * @param expressions the expressions to resolve like {@code ${jboss.bind.address:127.0.0.1}}
+     *
+     * @return the resolved values per expression and server. In standalone mode the only server is
+     *         {@link Server#STANDALONE}.
+     */
+    public Promise<Map<String, Map<String, String>>> resolve(Collection<String> expressions) {
+        List<String> missing = expressions.stream()
+                .filter(expression -> !resolved.containsKey(expression))
+                .distinct()
+                .collect(toList());
+        if (missing.isEmpty()) {
+            return Promise.resolve(cached(expressions));
+        }
+
+        Composite composite = new Composite(missing.stream().map(this::resolveOperation).collect(toList()));
+        logger.debug("Resolving {}", missing);
+        Promise<Object> promise;
+        if (environment.isStandalone()) {
+            promise = dispatcher.execute(composite).then(result -> {
+                for (int i = 0; i < missing.size(); i++) {
+                    ModelNode step = result.step(i);
+                    Map<String, String> values = new LinkedHashMap<>();
+                    if (step.hasDefined(RESULT)) {
+                        values.put(Server.STANDALONE.getName(), step.get(RESULT).asString());
+                    }
+                    resolved.put(missing.get(i), values);
+                }
+                return null;
+            });
+        } else {
+            promise = dispatcher.dmr(composite).then(payload -> {
+                resolved.putAll(parseServerGroups(missing, payload.get(SERVER_GROUPS)));
+                return null;
+            });
+        }
+        return promise
+                .catch_(error -> {
+                    logger.debug("Unable to resolve {} at once: {}. Resolve expressions one by one.", missing, error);
+                    return Promise.all(missing.stream().map(this::resolveOne).toArray(Promise[]::new));
+                })
+                .then(__ -> Promise.resolve(cached(expressions)));
+    }
+
+    private Promise<Object> resolveOne(String expression) {
+        Promise<Map<String, String>> promise;
+        if (environment.isStandalone()) {
+            promise = dispatcher.execute(resolveOperation(expression))
+                    .then(result -> Promise.resolve(singletonMap(Server.STANDALONE.getName(), result.asString())));
+        } else {
+            promise = dispatcher.dmr(resolveOperation(expression))
+                    .then(payload -> Promise.resolve(parseServerGroups(payload.get(SERVER_GROUPS))));
+        }
+        return promise
+                .then(values -> {
+                    resolved.put(expression, values);
+                    return null;
+                })
+                .catch_(error -> {
+                    logger.debug("Unable to resolve {}: {}", expression, error);
+                    resolved.put(expression, Collections.emptyMap()); // don't try again until the cache is cleared
+                    return null;
+                });
+    }
+
+    private Operation resolveOperation(String expression) {
+        String operationName = environment.isStandalone() ? RESOLVE_EXPRESSION : RESOLVE_EXPRESSION_ON_DOMAIN;
+        return new Operation.Builder(ResourceAddress.root(), operationName)
+                .param(EXPRESSION, expression)
+                .build();
+    }
+
+    private Map<String, Map<String, String>> cached(Collection<String> expressions) {
+        Map<String, Map<String, String>> values = new LinkedHashMap<>();
+        for (String expression : expressions) {
+            values.put(expression, resolved.getOrDefault(expression, Collections.emptyMap()));
+        }
+        return values;
+    }
+
     private Map<String, String> parseServerGroups(ModelNode serverGroups) {
         Map<String, String> values = new HashMap<>();
         if (serverGroups.isDefined()) {
@@ -102,8 +290,10 @@ public class ExpressionResolver implements ResolveExpressionEvent.ResolveExpress
                 for (Property host : hosts) {
                     List<Property> servers = host.getValue().asPropertyList();
                     for (Property server : servers) {
-                        values.put(server.getName(),
-                                server.getValue().get(RESPONSE).get(RESULT).asString());
+                        ModelNode response = server.getValue().get(RESPONSE);
+                        if (response.hasDefined(RESULT)) {
+                            values.put(server.getName(), response.get(RESULT).asString());
+                        }
                     }
                 }
             }
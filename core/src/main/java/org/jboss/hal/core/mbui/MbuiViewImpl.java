@@ -88,6 +88,16 @@ public abstract class MbuiViewImpl<P extends MbuiPresenter> extends HalViewImpl
         });
     }
 
+    /**
+     * Called when a lazily built page of a vertical navigation has been shown for the first time after the view was
+     * attached. Pages built while the view is attached are populated by the regular reload of the presenter.
+     * <p>
+     * The default implementation does nothing. Views with lazy pages should override this method and show the data of
+     * the specified page, e.g. by keeping the last model passed to the view or by reading only the data of that page.
+     */
+    protected void onPageBuilt(String id) {
+    }
+
     /**
      * Subclasses may override this method to provide a custom {@code SelectionAwareStatementContext} that resolves a dynamic
      * part of the address template. The .mbui.xml may define templates such as
@@ -0,0 +1,189 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.mbui.form;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeSet;
+
+import org.jboss.hal.ballroom.HelpTextBuilder;
+import org.jboss.hal.ballroom.LabelBuilder;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelNodeHelper;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.description.ResourceDescription;
+
+import com.google.gwt.safehtml.shared.SafeHtml;
+
+import static java.util.Collections.emptyList;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRES;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeBoolean;
+import static org.jboss.hal.dmr.ModelNodeHelper.failSafeList;
+
+/**
+ * The part of a {@link ModelNodeForm} which only depends on the resource description: The filtered and ordered
+ * attributes, their labels and help texts and the input for the form validations.
+ * <p>
+ * Definitions are cached per address template, attribute path and the builder settings which select the attributes. A
+ * definition is compiled again if the resource description or its attributes have been replaced. Form items are still
+ * created for each form, since they are stateful widgets.
+ */
+class FormDefinition {
+
+    private static final int CACHE_SIZE = 100;
+    private static final Map<String, FormDefinition> cache = new LinkedHashMap<String, FormDefinition>(16, 0.75f,
+            true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, FormDefinition> eldest) {
+            return size() > CACHE_SIZE;
+        }
+    };
+
+    static FormDefinition get(Metadata metadata, ModelNodeForm.Builder<?> builder) {
+        String key = key(metadata, builder);
+        FormDefinition definition = cache.get(key);
+        if (definition == null || !definition.compiledFrom(metadata.getDescription(), builder.attributePath)) {
+            definition = new FormDefinition(metadata.getDescription(), builder);
+            cache.put(key, definition);
+        }
+        return definition;
+    }
+
+    static void clear() {
+        cache.clear();
+    }
+
+    private static String key(Metadata metadata, ModelNodeForm.Builder<?> builder) {
+        // everything which is used by PropertyFilter and to order the attributes
+        return metadata.getTemplate() + "|" + builder.attributePath +
+                "|" + builder.addOnly + builder.unsorted + builder.requiredOnly + builder.includeRuntime +
+                builder.hideDeprecated +
+                "|" + builder.includes +
+                "|" + new TreeSet<>(builder.excludes) +
+                "|" + new TreeSet<>(builder.providers.keySet());
+    }
+
+    final List<Property> allAttributes;
+    final List<Property> properties;
+    final Map<String, ModelNode> attributeDescriptions;
+    private final ResourceDescription resourceDescription;
+    private final String attributePath;
+    private final ModelNode attributes;
+    private final Map<String, String> labels;
+    private final Map<String, SafeHtml> helpTexts;
+    private final Map<String, List<String>> alternatives;
+    private final Map<String, List<String>> requires;
+
+    FormDefinition(ResourceDescription resourceDescription, ModelNodeForm.Builder<?> builder) {
+        this.resourceDescription = resourceDescription;
+        this.attributePath = builder.attributePath;
+        this.attributes = ModelNodeHelper.failSafeGet(resourceDescription, attributePath);
+        this.allAttributes = resourceDescription.getAttributes(attributePath);
+
+        List<Property> filteredProperties = allAttributes.stream()
+                .filter(new PropertyFilter(builder))
+                .collect(toList());
+        LinkedHashMap<String, Property> filteredByName = new LinkedHashMap<>();
+        for (Property property : filteredProperties) {
+            filteredByName.put(property.getName(), property);
+        }
+
+        List<Property> ordered = new ArrayList<>();
+        if (builder.unsorted && !builder.includes.isEmpty()) {
+            // re-shuffle the properties:
+            // 1. the ones specified in 'builder.includes'
+            // 2. the remaining from 'filteredProperties'
+            for (String include : builder.includes) {
+                Property removed = filteredByName.remove(include);
+                if (removed != null) {
+                    ordered.add(removed);
+                }
+            }
+            ordered.addAll(filteredByName.values());
+        } else if (builder.unsorted) {
+            ordered.addAll(filteredByName.values());
+        } else {
+            ordered.addAll(filteredProperties);
+            ordered.sort(Comparator.comparing(Property::getName));
+        }
+        this.properties = ordered;
+
+        this.attributeDescriptions = new HashMap<>();
+        for (Property property : properties) {
+            attributeDescriptions.put(property.getName(), property.getValue());
+        }
+
+        this.labels = new HashMap<>();
+        this.helpTexts = new HashMap<>();
+        this.alternatives = new HashMap<>();
+        this.requires = new HashMap<>();
+        LabelBuilder labelBuilder = new LabelBuilder();
+        HelpTextBuilder helpTextBuilder = new HelpTextBuilder();
+        for (Property property : properties) {
+            String name = property.getName();
+            ModelNode attribute = property.getValue();
+            if (attribute.hasDefined(DESCRIPTION)) {
+                labels.put(name, labelBuilder.label(property));
+                helpTexts.put(name, helpTextBuilder.helpText(property));
+            }
+            alternatives.put(name, resourceDescription.findAlternatives(attributePath, name));
+            if (attribute.hasDefined(REQUIRES)) {
+                // all attributes from the 'requires' list of this attribute which are not required themselves
+                requires.put(name, failSafeList(attribute, REQUIRES).stream()
+                        .map(ModelNode::asString)
+                        .filter(requiresName -> {
+                            ModelNode requiresDescription = attributeDescriptions.get(requiresName);
+                            return requiresDescription != null && !failSafeBoolean(requiresDescription, REQUIRED);
+                        })
+                        .collect(toList()));
+            }
+        }
+    }
+
+    private boolean compiledFrom(ResourceDescription resourceDescription, String attributePath) {
+        ModelNode current = ModelNodeHelper.failSafeGet(resourceDescription, attributePath);
+        return this.resourceDescription == resourceDescription &&
+                (this.attributes == current || (!this.attributes.isDefined() && !current.isDefined()));
+    }
+
+    /** @return the label of an attribute with description or {@code null} */
+    String label(String name) {
+        return labels.get(name);
+    }
+
+    /** @return the help text of an attribute with description or {@code null} */
+    SafeHtml helpText(String name) {
+        return helpTexts.get(name);
+    }
+
+    List<String> alternatives(String name) {
+        List<String> names = alternatives.get(name);
+        return names != null ? names : resourceDescription.findAlternatives(attributePath, name);
+    }
+
+    /** @return the attributes required by {@code name} which are not required themselves */
+    List<String> requires(String name) {
+        return requires.getOrDefault(name, emptyList());
+    }
+}
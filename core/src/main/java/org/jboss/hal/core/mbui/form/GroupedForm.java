@@ -103,6 +103,9 @@ public class GroupedForm<T extends ModelNode> implements Form<T> {
                 if (builder.prepareReset != null) {
                     fb.prepareReset(builder.prepareReset);
                 }
+                if (builder.resolveExpressions) {
+                    fb.resolveExpressions();
+                }
 
                 Form<T> form = fb.build();
                 forms.add(form);
@@ -301,6 +304,7 @@ public class GroupedForm<T extends ModelNode> implements Form<T> {
         private SaveCallback<T> saveCallback;
         private CancelCallback<T> cancelCallback;
         private PrepareReset<T> prepareReset;
+        private boolean resolveExpressions;
 
         public Builder(String id, Metadata metadata) {
             this.id = id;
@@ -436,6 +440,12 @@ public class GroupedForm<T extends ModelNode> implements Form<T> {
             return this;
         }
 
+        public Builder<T> resolveExpressions() {
+            assertNoCurrentGroup();
+            this.resolveExpressions = true;
+            return this;
+        }
+
         public GroupedForm<T> build() {
             assertNoCurrentGroup();
             if (groups.isEmpty()) {
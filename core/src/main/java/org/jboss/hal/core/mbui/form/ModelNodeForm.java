@@ -16,12 +16,10 @@
 package org.jboss.hal.core.mbui.form;
 
 import java.util.ArrayList;
-import java.util.Comparator;
 import java.util.EnumSet;
 import java.util.HashMap;
 import java.util.HashSet;
 import java.util.Iterator;
-import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
@@ -31,7 +29,6 @@ import java.util.function.Supplier;
 import org.jboss.elemento.Elements;
 import org.jboss.hal.ballroom.Alert;
 import org.jboss.hal.ballroom.EmptyState;
-import org.jboss.hal.ballroom.HelpTextBuilder;
 import org.jboss.hal.ballroom.LabelBuilder;
 import org.jboss.hal.ballroom.form.AbstractForm;
 import org.jboss.hal.ballroom.form.AddOnlyStateMachine;
@@ -43,6 +40,7 @@ import org.jboss.hal.ballroom.form.SingletonStateMachine;
 import org.jboss.hal.ballroom.form.StateMachine;
 import org.jboss.hal.core.Core;
 import org.jboss.hal.core.NameI18n;
+import org.jboss.hal.core.expression.ExpressionResolver;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelType;
 import org.jboss.hal.dmr.Property;
@@ -68,23 +66,18 @@ import com.google.gwt.core.client.GWT;
 import com.google.gwt.safehtml.shared.SafeHtml;
 
 import static java.util.Arrays.asList;
-import static java.util.stream.Collectors.toList;
-import static java.util.stream.Collectors.toMap;
 import static org.jboss.hal.ballroom.form.Form.State.EMPTY;
 import static org.jboss.hal.ballroom.form.Form.State.READONLY;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DEFAULT;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_WRITE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUEST_PROPERTIES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRED;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.REQUIRES;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
 import static org.jboss.hal.dmr.ModelNodeHelper.failSafeBoolean;
-import static org.jboss.hal.dmr.ModelNodeHelper.failSafeList;
 
 @SuppressWarnings({ "unchecked", "rawtypes" })
 public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
@@ -96,6 +89,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
     private final boolean addOnly;
     private final boolean singleton;
     private final boolean omitNoAttributesWarning;
+    private final boolean resolveExpressions;
     private final Supplier<org.jboss.hal.dmr.Operation> ping;
     private final Map<String, ModelNode> attributeDescriptions;
     private final ResourceDescription resourceDescription;
@@ -103,13 +97,16 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
     private final Metadata metadata;
 
     protected ModelNodeForm(Builder<T> builder) {
-        super(builder.id, builder.stateMachine(),
-                new ModelNodeMapping<>(builder.metadata.getDescription().getAttributes(builder.attributePath)),
-                builder.emptyState);
+        this(builder, FormDefinition.get(builder.metadata, builder));
+    }
+
+    private ModelNodeForm(Builder<T> builder, FormDefinition definition) {
+        super(builder.id, builder.stateMachine(), new ModelNodeMapping<>(definition.allAttributes), builder.emptyState);
 
         this.addOnly = builder.addOnly;
         this.singleton = builder.singleton;
         this.omitNoAttributesWarning = builder.omitNoAttributesWarning;
+        this.resolveExpressions = builder.resolveExpressions;
         this.ping = builder.ping;
         this.saveCallback = builder.saveCallback;
         this.cancelCallback = builder.cancelCallback;
@@ -118,40 +115,11 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         this.resourceDescription = builder.metadata.getDescription();
         this.attributePath = builder.attributePath;
         this.metadata = builder.metadata;
-
-        List<Property> properties = new ArrayList<>();
-        List<Property> filteredProperties = resourceDescription.getAttributes(attributePath)
-                .stream()
-                .filter(new PropertyFilter(builder))
-                .collect(toList());
-        LinkedHashMap<String, Property> filteredByName = new LinkedHashMap<>();
-        for (Property property : filteredProperties) {
-            filteredByName.put(property.getName(), property);
-        }
-
-        if (builder.unsorted && !builder.includes.isEmpty()) {
-            // re-shuffle the properties:
-            // 1. the ones specified in 'builder.includes'
-            // 2. the remaining from 'filteredProperties'
-            for (String include : builder.includes) {
-                Property removed = filteredByName.remove(include);
-                if (removed != null) {
-                    properties.add(removed);
-                }
-            }
-            properties.addAll(filteredByName.values());
-        } else if (builder.unsorted) {
-            properties.addAll(filteredByName.values());
-        } else {
-            properties.addAll(filteredProperties);
-            properties.sort(Comparator.comparing(Property::getName));
-        }
-        this.attributeDescriptions = properties.stream().collect(toMap(Property::getName, Property::getValue));
+        this.attributeDescriptions = definition.attributeDescriptions;
 
         int index = 0;
         LabelBuilder labelBuilder = new LabelBuilder();
-        HelpTextBuilder helpTextBuilder = new HelpTextBuilder();
-        for (Property property : properties) {
+        for (Property property : definition.properties) {
 
             // any unbound form items for the current index?
             for (Iterator<UnboundFormItem> iterator = builder.unboundFormItems.iterator(); iterator.hasNext();) {
@@ -171,8 +139,6 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             }
 
             String name = property.getName();
-            ModelNode attribute = property.getValue();
-
             FormItem formItem;
             if (builder.providers.containsKey(name)) {
                 formItem = builder.providers.get(name).createFrom(property);
@@ -184,9 +150,9 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
                     NameI18n.localize(formItem);
                 }
                 addFormItem(formItem);
-                if (attribute.hasDefined(DESCRIPTION)) {
-                    SafeHtml helpText = helpTextBuilder.helpText(property);
-                    addHelp(labelBuilder.label(property), helpText);
+                SafeHtml helpText = definition.helpText(name);
+                if (helpText != null) {
+                    addHelp(definition.label(name), helpText);
                 }
                 index++;
             } else {
@@ -213,22 +179,10 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             String name = formItem.getName();
 
             // requires (1)
-            ModelNode attributeDescription = attributeDescriptions.get(name);
-            if (attributeDescription != null && attributeDescription.hasDefined(REQUIRES)) {
-                // collect all attributes from the 'requires' list of this attribute
-                // which are not required themselves.
-                failSafeList(attributeDescription, REQUIRES).stream()
-                        .map(ModelNode::asString)
-                        .forEach(requiresName -> {
-                            ModelNode requiresDescription = attributeDescriptions.get(requiresName);
-                            if (requiresDescription != null && !failSafeBoolean(requiresDescription, REQUIRED)) {
-                                requires.put(requiresName, name);
-                            }
-                        });
-            }
+            definition.requires(name).forEach(requiresName -> requires.put(requiresName, name));
 
             // alternatives
-            List<String> alternatives = resourceDescription.findAlternatives(attributePath, name);
+            List<String> alternatives = definition.alternatives(name);
             HashSet<String> uniqueAlternatives = new HashSet<>(alternatives);
             uniqueAlternatives.add(name);
             uniqueAlternatives.removeAll(processedAlternatives);
@@ -292,6 +246,30 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         }
     }
 
+    @Override
+    protected void prepareViewState() {
+        super.prepareViewState();
+        if (resolveExpressions) {
+            HashMultimap<String, FormItem> expressionItems = HashMultimap.create();
+            for (FormItem formItem : getBoundFormItems()) {
+                formItem.showResolvedValue(null);
+                if (formItem.isExpressionValue()) {
+                    expressionItems.put(formItem.getExpressionValue(), formItem);
+                }
+            }
+            if (!expressionItems.isEmpty()) {
+                Core.INSTANCE.expressionResolver().resolve(expressionItems.keySet()).then(values -> {
+                    values.forEach((expression, servers) -> expressionItems.get(expression)
+                            .forEach(formItem -> formItem.showResolvedValue(ExpressionResolver.resolvedValue(servers))));
+                    return null;
+                }).catch_(error -> {
+                    logger.debug("Unable to resolve expressions in form {}: {}", getId(), error);
+                    return null;
+                });
+            }
+        }
+    }
+
     @Override
     protected void prepare(State state) {
         super.prepare(state);
@@ -404,6 +382,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
         boolean singleton;
         boolean verifyExcludes;
         boolean omitNoAttributesWarning;
+        boolean resolveExpressions;
         Supplier<org.jboss.hal.dmr.Operation> ping;
         EmptyState emptyState;
         String attributePath;
@@ -431,6 +410,7 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             this.hideDeprecated = true;
             this.verifyExcludes = true;
             this.omitNoAttributesWarning = false;
+            this.resolveExpressions = false;
             this.attributePath = ATTRIBUTES;
         }
 
@@ -531,6 +511,13 @@ public class ModelNodeForm<T extends ModelNode> extends AbstractForm<T> {
             return this;
         }
 
+        /** Resolves expressions in read-only mode and shows the resolved values next to the expressions */
+        @EsReturn("FormBuilder")
+        public Builder<T> resolveExpressions() {
+            this.resolveExpressions = true;
+            return this;
+        }
+
         /**
          * Use this method if you want to manage a singleton resource. This will create a form with an
          * {@link org.jboss.hal.ballroom.form.SingletonStateMachine}.
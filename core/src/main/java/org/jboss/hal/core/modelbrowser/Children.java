@@ -0,0 +1,93 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ModelType;
+
+/**
+ * The child types and child names of a fully qualified resource as read by {@link ChildrenCache}. The names are taken
+ * from the (non-recursive) {@code read-resource} result. Child types which are not part of that result (e.g. runtime
+ * only children) have no names and need to be read separately.
+ */
+class Children {
+
+    /**
+     * @param types    the result of {@code read-children-types(include-singletons=true)}
+     * @param resource the result of {@code read-resource}
+     */
+    static Children from(ModelNode types, ModelNode resource) {
+        Map<String, Set<String>> singletons = new LinkedHashMap<>();
+        for (ModelNode modelNode : types.asList()) {
+            String type = modelNode.asString();
+            int index = type.indexOf('=');
+            if (index != -1) {
+                singletons.computeIfAbsent(type.substring(0, index), t -> new LinkedHashSet<>())
+                        .add(type.substring(index + 1));
+            } else {
+                singletons.putIfAbsent(type, new LinkedHashSet<>());
+            }
+        }
+
+        Map<String, List<String>> names = new LinkedHashMap<>();
+        if (resource.isDefined()) {
+            for (String type : singletons.keySet()) {
+                if (resource.has(type)) {
+                    ModelNode children = resource.get(type);
+                    names.put(type, children.getType() == ModelType.OBJECT
+                            ? new ArrayList<>(children.keys())
+                            : Collections.emptyList());
+                }
+            }
+        }
+        return new Children(singletons, names);
+    }
+
+    private final Map<String, Set<String>> singletons;
+    private final Map<String, List<String>> names;
+
+    private Children(Map<String, Set<String>> singletons, Map<String, List<String>> names) {
+        this.singletons = singletons;
+        this.names = names;
+    }
+
+    /** @return the child types in the order returned by the server */
+    Set<String> getTypes() {
+        return singletons.keySet();
+    }
+
+    /** @return the singletons of the specified type or an empty set if the type is not a singleton type */
+    Set<String> getSingletons(String type) {
+        return singletons.getOrDefault(type, Collections.emptySet());
+    }
+
+    /** @return the names of the specified type or {@code null} if the names are unknown */
+    List<String> getNames(String type) {
+        return names.get(type);
+    }
+
+    void setNames(String type, List<String> names) {
+        this.names.put(type, names);
+    }
+}
@@ -0,0 +1,202 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.promise.Promise;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Children cache shared by all model browsers (bound as singleton). The {@linkplain Children children} are cached per fully qualified
+ * address:
+ * <ul>
+ * <li>The child types and child names of an address are read using one composite operation.</li>
+ * <li>Several addresses can be {@linkplain #prefetch(List) prefetched} using one composite operation.</li>
+ * <li>Entries are removed if an operation which is not read-only is executed on the address, its parent or one of its
+ * ancestors (write-invalidation).</li>
+ * <li>Concurrent requests for the same address share one request.</li>
+ * </ul>
+ */
+public class ChildrenCache {
+
+    /** Maximum number of entries. The least recently used entry is removed first. */
+    static final int MAX_ENTRIES = 200;
+
+    private static final Logger logger = LoggerFactory.getLogger(ChildrenCache.class);
+
+    private final Dispatcher dispatcher;
+    private final Map<AddressKey, Children> entries;
+    private final Map<AddressKey, Promise<Children>> pending;
+
+    @Inject
+    public ChildrenCache(Dispatcher dispatcher) {
+        this.dispatcher = dispatcher;
+        this.entries = new LinkedHashMap<AddressKey, Children>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AddressKey, Children> eldest) {
+                return size() > MAX_ENTRIES;
+            }
+        };
+        this.pending = new HashMap<>();
+        dispatcher.addWriteListener(this::invalidate);
+    }
+
+    /** Returns the cached children of the fully qualified address or reads them if there's no entry. */
+    Promise<Children> children(ResourceAddress address) {
+        AddressKey key = address.key();
+        Children children = entries.get(key);
+        if (children != null) {
+            return Promise.resolve(children);
+        }
+        Promise<Children> promise = pending.get(key);
+        if (promise != null) {
+            return promise;
+        }
+        List<ResourceAddress> addresses = new ArrayList<>();
+        addresses.add(address);
+        return read(addresses).get(key).catch_(error -> {
+            logger.debug("Unable to read children of {}: {}. Fall back to child types only.", address, error);
+            Operation operation = new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION)
+                    .param(INCLUDE_SINGLETONS, true)
+                    .build();
+            return dispatcher.execute(operation).then(result -> {
+                Children typesOnly = Children.from(result, new ModelNode());
+                entries.put(key, typesOnly);
+                return Promise.resolve(typesOnly);
+            });
+        });
+    }
+
+    /**
+     * Returns the names of the child type. The names are taken from the children of the parent address. If they're not
+     * part of the children, they're read using {@code read-children-names} and added to the children.
+     */
+    Promise<List<String>> names(ResourceAddress parent, String type) {
+        return children(parent).then(children -> {
+            List<String> names = children.getNames(type);
+            if (names != null) {
+                return Promise.resolve(names);
+            }
+            Operation operation = new Operation.Builder(parent, READ_CHILDREN_NAMES_OPERATION)
+                    .param(CHILD_TYPE, type)
+                    .build();
+            return dispatcher.execute(operation).then(result -> {
+                List<String> readNames = result.asList().stream().map(ModelNode::asString).collect(toList());
+                children.setNames(type, readNames);
+                return Promise.resolve(readNames);
+            });
+        });
+    }
+
+    /** Reads the children of the addresses which are neither cached nor pending using one composite operation. */
+    void prefetch(List<ResourceAddress> addresses) {
+        List<ResourceAddress> missing = addresses.stream()
+                .filter(address -> {
+                    AddressKey key = address.key();
+                    return !entries.containsKey(key) && !pending.containsKey(key);
+                })
+                .collect(toList());
+        if (!missing.isEmpty()) {
+            logger.debug("Prefetch children of {}", missing);
+            for (Promise<Children> promise : read(missing).values()) {
+                promise.catch_(error -> null); // prefetching is best effort
+            }
+        }
+    }
+
+    /** Removes the entry of the fully qualified address. */
+    void evict(ResourceAddress address) {
+        entries.remove(address.key());
+    }
+
+    private Map<AddressKey, Promise<Children>> read(List<ResourceAddress> addresses) {
+        List<Operation> operations = new ArrayList<>();
+        for (ResourceAddress address : addresses) {
+            operations.add(new Operation.Builder(address, READ_CHILDREN_TYPES_OPERATION)
+                    .param(INCLUDE_SINGLETONS, true)
+                    .build());
+            operations.add(new Operation.Builder(address, READ_RESOURCE_OPERATION).build());
+        }
+        Promise<CompositeResult> composite = dispatcher.execute(new Composite(operations));
+
+        Map<AddressKey, Promise<Children>> promises = new LinkedHashMap<>();
+        for (int i = 0; i < addresses.size(); i++) {
+            AddressKey key = addresses.get(i).key();
+            int step = 2 * i;
+            Promise<Children> promise = composite
+                    .then(result -> {
+                        // if one step fails, the whole composite fails and is handled below
+                        pending.remove(key);
+                        Children children = Children.from(result.step(step).get(RESULT),
+                                result.step(step + 1).get(RESULT));
+                        entries.put(key, children);
+                        return Promise.resolve(children);
+                    })
+                    .catch_(error -> {
+                        pending.remove(key);
+                        return Promise.reject(error);
+                    });
+            pending.put(key, promise);
+            promises.put(key, promise);
+        }
+        return promises;
+    }
+
+    void invalidate(Operation operation) {
+        if (operation instanceof Composite) {
+            for (Operation step : (Composite) operation) {
+                invalidate(step);
+            }
+        } else {
+            AddressKey changed = operation.getAddress().key();
+            entries.keySet().removeIf(key -> affects(changed, key));
+        }
+    }
+
+    /**
+     * @return {@code true} if the children of the address identified by {@code key} might have been changed by an
+     *         operation on the {@code changed} address. That's the case for the parent of the changed address (a child
+     *         was added or removed) and for the changed address and all its descendants (the changed resource was
+     *         removed).
+     */
+    static boolean affects(AddressKey changed, AddressKey key) {
+        return key.startsWith(changed) || key.equals(changed.getParent());
+    }
+}
@@ -17,7 +17,6 @@ package org.jboss.hal.core.modelbrowser;
 
 import java.util.HashMap;
 import java.util.Iterator;
-import java.util.List;
 import java.util.Map;
 import java.util.Optional;
 
@@ -31,10 +30,7 @@ import org.jboss.hal.ballroom.table.Scope;
 import org.jboss.hal.ballroom.table.Table;
 import org.jboss.hal.ballroom.tree.Node;
 import org.jboss.hal.config.Environment;
-import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.Metadata;
@@ -51,13 +47,11 @@ import com.google.gwt.safehtml.shared.SafeHtmlBuilder;
 
 import elemental2.dom.HTMLElement;
 
-import static java.util.stream.Collectors.toList;
+import static java.util.Collections.emptyList;
 import static org.jboss.elemento.Elements.h;
 import static org.jboss.hal.core.modelbrowser.ModelBrowser.asGenericTemplate;
 import static org.jboss.hal.core.modelbrowser.ReadChildren.uniqueId;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
 
 /** Panel which holds the children of the selected resource. */
@@ -65,18 +59,20 @@ class ChildrenPanel implements Iterable<HTMLElement>, Attachable {
 
     private static final Logger logger = LoggerFactory.getLogger(ChildrenPanel.class);
 
+    private final ModelBrowser modelBrowser;
     private final Environment environment;
-    private final Dispatcher dispatcher;
+    private final ChildrenCache childrenCache;
     private final MetadataProcessor metadataProcessor;
     private final Iterable<HTMLElement> elements;
     private final HTMLElement header;
     private final Table<String> table;
     private Node<Context> parent;
 
-    ChildrenPanel(ModelBrowser modelBrowser, Environment environment, Dispatcher dispatcher,
+    ChildrenPanel(ModelBrowser modelBrowser, Environment environment, ChildrenCache childrenCache,
             MetadataProcessor metadataProcessor, Resources resources) {
+        this.modelBrowser = modelBrowser;
         this.environment = environment;
-        this.dispatcher = dispatcher;
+        this.childrenCache = childrenCache;
         this.metadataProcessor = metadataProcessor;
 
         Options<String> options = new OptionsBuilder<String>()
@@ -123,11 +119,7 @@ class ChildrenPanel implements Iterable<HTMLElement>, Attachable {
                 .appendHtmlConstant("</code>");
         header.innerHTML = safeHtml.toSafeHtml().asString();
 
-        Operation operation = new Operation.Builder(address.getParent(), READ_CHILDREN_NAMES_OPERATION)
-                .param(CHILD_TYPE, node.text)
-                .build();
-        dispatcher.execute(operation, result -> {
-            List<String> names = result.asList().stream().map(ModelNode::asString).collect(toList());
+        childrenCache.names(address.getParent(), node.text).then(names -> {
             table.update(names);
             if (node.data.hasSingletons()) {
                 logger.debug("Read {} / {} singletons", names.size(), node.data.getSingletons().size());
@@ -153,6 +145,11 @@ class ChildrenPanel implements Iterable<HTMLElement>, Attachable {
                             }
                         });
             }
+            return null;
+        }).catch_(error -> {
+            modelBrowser.readChildrenError(address.getParent(), error);
+            table.update(emptyList());
+            return null;
         });
     }
 
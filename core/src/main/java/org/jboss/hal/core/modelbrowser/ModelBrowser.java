@@ -55,6 +55,7 @@ import org.jboss.hal.resources.CSS;
 import org.jboss.hal.resources.Ids;
 import org.jboss.hal.resources.Names;
 import org.jboss.hal.resources.Resources;
+import org.jboss.hal.resources.UIConstants;
 import org.jboss.hal.spi.Footer;
 import org.jboss.hal.spi.Message;
 import org.jboss.hal.spi.MessageEvent;
@@ -65,12 +66,16 @@ import com.google.common.collect.Sets;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 import com.google.web.bindery.event.shared.EventBus;
 
+import elemental2.dom.DomGlobal;
 import elemental2.dom.HTMLButtonElement;
 import elemental2.dom.HTMLElement;
 import elemental2.promise.Promise;
+import jsinterop.base.Js;
 
+import static elemental2.dom.DomGlobal.setTimeout;
 import static java.util.Arrays.asList;
 import static java.util.Collections.emptyList;
+import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.toList;
 import static org.jboss.elemento.Elements.a;
 import static org.jboss.elemento.Elements.button;
@@ -118,10 +123,14 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     static final HTMLElement PLACE_HOLDER_ELEMENT = div().element();
 
+    /** Maximum number of resources whose children are prefetched when a child type is selected. */
+    static final int PREFETCH_LIMIT = 10;
+
     private final CrudOperations crud;
     private final MetadataProcessor metadataProcessor;
     private final Provider<Progress> progress;
     private final Dispatcher dispatcher;
+    private final ChildrenCache childrenCache;
     private final EventBus eventBus;
     private final Resources resources;
     private final Stack<FilterInfo> filterStack;
@@ -147,6 +156,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
             MetadataProcessor metadataProcessor,
             @Footer Provider<Progress> progress,
             Dispatcher dispatcher,
+            ChildrenCache childrenCache,
             Environment environment,
             EventBus eventBus,
             Resources resources) {
@@ -154,6 +164,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         this.metadataProcessor = metadataProcessor;
         this.progress = progress;
         this.dispatcher = dispatcher;
+        this.childrenCache = childrenCache;
         this.eventBus = eventBus;
         this.resources = resources;
         this.filterStack = new Stack<>();
@@ -184,7 +195,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         }
         resourcePanel.hide();
 
-        childrenPanel = new ChildrenPanel(this, environment, dispatcher, metadataProcessor, resources);
+        childrenPanel = new ChildrenPanel(this, environment, childrenCache, metadataProcessor, resources);
         for (HTMLElement element : childrenPanel) {
             content.appendChild(element);
         }
@@ -212,7 +223,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         Node<Context> rootNode = new Node.Builder<>(MODEL_BROWSER_ROOT, text, context)
                 .asyncFolder()
                 .build();
-        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(dispatcher));
+        tree = new Tree<>(Ids.MODEL_BROWSER, rootNode, new ReadChildren(this, childrenCache));
         Elements.removeChildrenFrom(treeContainer);
         treeContainer.appendChild(tree.element());
 
@@ -298,6 +309,11 @@ public class ModelBrowser implements IsElement<HTMLElement> {
 
     private void refresh(Node<Context> node) {
         if (node != null) {
+            if (node.data.isFullyQualified()) {
+                childrenCache.evict(node.data.getAddress());
+            } else {
+                childrenCache.evict(node.data.getAddress().getParent());
+            }
             updateNode(node);
             tree.refreshNode(node.id);
         }
@@ -327,6 +343,7 @@ public class ModelBrowser implements IsElement<HTMLElement> {
             updateBreadcrumb(null);
         } else {
             updateNode(context.node);
+            whenIdle(() -> prefetch(context.node));
         }
     }
 
@@ -343,6 +360,40 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         }
     }
 
+    /**
+     * Speculatively reads the children one level below the selected node: The children of a selected resource and the
+     * children of the first {@value #PREFETCH_LIMIT} resources of a selected child type.
+     */
+    private void prefetch(Node<Context> node) {
+        Node<Context> selected = tree.getSelected();
+        if (selected == null || !selected.id.equals(node.id)) {
+            return; // selection has changed in the meantime
+        }
+        ResourceAddress address = node.data.getAddress();
+        if (node.data.isFullyQualified()) {
+            childrenCache.prefetch(singletonList(address));
+        } else {
+            ResourceAddress parent = address.getParent();
+            childrenCache.names(parent, node.text)
+                    .then(names -> {
+                        childrenCache.prefetch(names.stream()
+                                .limit(PREFETCH_LIMIT)
+                                .map(name -> new ResourceAddress(parent).add(node.text, name))
+                                .collect(toList()));
+                        return null;
+                    })
+                    .catch_(error -> null);
+        }
+    }
+
+    private void whenIdle(Runnable runnable) {
+        if (Js.asPropertyMap(DomGlobal.window).has("requestIdleCallback")) {
+            DomGlobal.requestIdleCallback(deadline -> runnable.run());
+        } else {
+            setTimeout(__ -> runnable.run(), UIConstants.MEDIUM_TIMEOUT);
+        }
+    }
+
     private void updateBreadcrumb(Node<Context> node) {
         if (updateBreadcrumb) {
             ModelBrowserPath path = new ModelBrowserPath(this, node);
@@ -362,6 +413,11 @@ public class ModelBrowser implements IsElement<HTMLElement> {
         });
     }
 
+    void readChildrenError(ResourceAddress address, Object error) {
+        MessageEvent.fire(eventBus, Message.error(resources.messages().unknownResource(),
+                resources.messages().unknownResourceDetails(address.toString(), String.valueOf(error))));
+    }
+
     void add(Node<Context> parent, List<String> children) {
         if (parent.data.hasSingletons()) {
             if (parent.data.getSingletons().size() == children.size()) {
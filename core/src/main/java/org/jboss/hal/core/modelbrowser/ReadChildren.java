@@ -16,40 +16,29 @@
 package org.jboss.hal.core.modelbrowser;
 
 import java.util.ArrayList;
-import java.util.Collection;
 import java.util.Collections;
-import java.util.HashSet;
 import java.util.List;
-import java.util.Map;
 import java.util.Set;
 import java.util.SortedSet;
 import java.util.TreeSet;
 
 import org.jboss.hal.ballroom.tree.DataFunction;
 import org.jboss.hal.ballroom.tree.Node;
-import org.jboss.hal.dmr.ModelNode;
-import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
-import org.jboss.hal.dmr.dispatch.Dispatcher;
 
-import com.google.common.base.Splitter;
-import com.google.common.collect.HashMultimap;
-import com.google.common.collect.Multimap;
 import com.google.gwt.safehtml.shared.SafeHtmlUtils;
 
-import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.INCLUDE_SINGLETONS;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
-import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_TYPES_OPERATION;
+import elemental2.promise.Promise;
+
 import static org.jboss.hal.resources.CSS.fontAwesome;
 
 /**
- * Function which gets invoked when the user opens a node in the model browser tree. TODO Error handling
+ * Function which gets invoked when the user opens a node in the model browser tree. The children are taken from the
+ * {@link ChildrenCache}. Errors are shown as message and result in no children.
  */
 final class ReadChildren implements DataFunction<Context> {
 
     private static final String ID_SEPARATOR = "___";
-    private static final String NO_SINGLETON = "no_singleton";
 
     static String uniqueId(Node<Context> parent, String name) {
         String parentId = parent.id;
@@ -64,39 +53,22 @@ final class ReadChildren implements DataFunction<Context> {
         return parentId + ID_SEPARATOR + name;
     }
 
-    private final Dispatcher dispatcher;
+    private final ModelBrowser modelBrowser;
+    private final ChildrenCache childrenCache;
 
-    ReadChildren(final Dispatcher dispatcher) {
-        this.dispatcher = dispatcher;
+    ReadChildren(final ModelBrowser modelBrowser, final ChildrenCache childrenCache) {
+        this.modelBrowser = modelBrowser;
+        this.childrenCache = childrenCache;
     }
 
     @Override
     @SuppressWarnings("unchecked")
     public void load(final Node<Context> node, final ResultCallback<Context> callback) {
         if (node.data.isFullyQualified()) {
-            Operation operation = new Operation.Builder(node.data.getAddress(), READ_CHILDREN_TYPES_OPERATION)
-                    .param(INCLUDE_SINGLETONS, true)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
-                Multimap<String, String> resources = HashMultimap.create();
-                for (ModelNode modelNode : modelNodes) {
-                    String name = modelNode.asString();
-                    if (name.contains("=")) {
-                        List<String> parts = Splitter.on('=').limit(2).splitToList(name);
-                        resources.put(parts.get(0), parts.get(1));
-                    } else {
-                        resources.put(name, NO_SINGLETON);
-                    }
-                }
-
+            childrenCache.children(node.data.getAddress()).then(result -> {
                 List<Node<Context>> children = new ArrayList<>();
-                for (Map.Entry<String, Collection<String>> entry : resources.asMap().entrySet()) {
-                    String name = entry.getKey();
-                    Set<String> singletons = new HashSet<>(entry.getValue());
-                    if (singletons.size() == 1 && singletons.contains(NO_SINGLETON)) {
-                        singletons = Collections.emptySet();
-                    }
+                for (String name : result.getTypes()) {
+                    Set<String> singletons = result.getSingletons(name);
                     ResourceAddress address = new ResourceAddress(node.data.getAddress()).add(name, "*");
                     Context context = new Context(address, singletons);
                     // ids need to be unique!
@@ -108,21 +80,18 @@ final class ReadChildren implements DataFunction<Context> {
                     children.add(builder.build());
                 }
                 callback.result(children.toArray(new Node[children.size()]));
-            });
+                return null;
+            }).catch_(error -> failed(node.data.getAddress(), callback, error));
 
         } else {
             ResourceAddress parentAddress = node.data.getAddress().getParent();
-            Operation operation = new Operation.Builder(parentAddress, READ_CHILDREN_NAMES_OPERATION)
-                    .param(CHILD_TYPE, node.text)
-                    .build();
-            dispatcher.execute(operation, result -> {
-                List<ModelNode> modelNodes = result.asList();
+            childrenCache.names(parentAddress, node.text).then(names -> {
                 List<Node<Context>> children = new ArrayList<>();
                 SortedSet<String> singletons = new TreeSet<>(node.data.getSingletons());
 
                 // Add existing children
-                for (ModelNode modelNode : modelNodes) {
-                    String name = SafeHtmlUtils.fromString(modelNode.asString()).asString();
+                for (String existing : names) {
+                    String name = SafeHtmlUtils.fromString(existing).asString();
                     singletons.remove(name);
                     ResourceAddress address = new ResourceAddress(parentAddress).add(node.text, name);
                     Context context = new Context(address, Collections.emptySet());
@@ -145,7 +114,15 @@ final class ReadChildren implements DataFunction<Context> {
                 }
 
                 callback.result(children.toArray(new Node[children.size()]));
-            });
+                return null;
+            }).catch_(error -> failed(parentAddress, callback, error));
         }
     }
+
+    @SuppressWarnings("unchecked")
+    private Promise<Object> failed(ResourceAddress address, ResultCallback<Context> callback, Object error) {
+        modelBrowser.readChildrenError(address, error);
+        callback.result(new Node[0]);
+        return null;
+    }
 }
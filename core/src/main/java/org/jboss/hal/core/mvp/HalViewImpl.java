@@ -48,10 +48,12 @@ public abstract class HalViewImpl extends ViewImpl implements HalView {
     private HTMLElement element;
     private Iterable<HTMLElement> elements = Collections.emptyList();
     private boolean attached;
+    private boolean attaching;
 
     protected HalViewImpl() {
         attachables = new ArrayList<>();
         attached = false;
+        attaching = false;
 
         // noinspection HardCodedStringLiteral
         element = div().css(marginTopLarge)
@@ -98,13 +100,39 @@ public abstract class HalViewImpl extends ViewImpl implements HalView {
         this.attachables.addAll(attachables);
     }
 
+    /**
+     * Registers attachables which are created after the view has been initialized, e.g. when a page is built the first
+     * time it's shown. If the view is already attached or in the middle of being attached, the attachables are attached
+     * right away.
+     */
+    protected void registerLazyAttachable(Attachable first, Attachable... rest) {
+        List<Attachable> lazy = new ArrayList<>();
+        lazy.add(first);
+        if (rest != null) {
+            Collections.addAll(lazy, rest);
+        }
+        attachables.addAll(lazy);
+        if (attached || attaching) {
+            for (Attachable attachable : lazy) {
+                attachable.attach();
+            }
+        }
+    }
+
+    protected boolean isAttached() {
+        return attached;
+    }
+
     @Override
     public void attach() {
         if (!attached) {
             PatternFly.initComponents();
-            for (Attachable attachable : attachables) {
+            attaching = true;
+            // attachables registered while attaching have already been attached
+            for (Attachable attachable : new ArrayList<>(attachables)) {
                 attachable.attach();
             }
+            attaching = false;
             attached = true;
         }
     }
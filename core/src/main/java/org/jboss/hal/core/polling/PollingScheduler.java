@@ -0,0 +1,308 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.polling;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.Dispatcher;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.EventListener;
+
+import static elemental2.dom.DomGlobal.clearTimeout;
+import static elemental2.dom.DomGlobal.document;
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+
+/**
+ * Central scheduler for repeated read operations. Instead of starting their own timers, components subscribe an
+ * operation, an interval and a consumer. The scheduler runs on shared ticks of {@value #TICK} ms and executes all
+ * operations which are due in one tick using one composite operation.
+ * <p>
+ * The scheduler pauses while the document is hidden and stops if there are no subscriptions. If the composite of a tick
+ * fails, the operations are executed one by one, so that a failing operation doesn't affect the other subscriptions.
+ */
+public class PollingScheduler {
+
+    /** The length of a tick in milliseconds. All intervals are rounded up to a multiple of this value. */
+    public static final int TICK = 1000;
+
+    private static final Logger logger = LoggerFactory.getLogger(PollingScheduler.class);
+
+    private final Timer timer;
+    private final Executor executor;
+    private final List<Subscription> subscriptions;
+    private double handle;
+    private boolean pending;
+
+    @Inject
+    public PollingScheduler(Dispatcher dispatcher) {
+        this(new BrowserTimer(), new DispatcherExecutor(dispatcher));
+    }
+
+    PollingScheduler(Timer timer, Executor executor) {
+        this.timer = timer;
+        this.executor = executor;
+        this.subscriptions = new ArrayList<>();
+        this.handle = -1;
+        this.pending = false;
+    }
+
+    // ------------------------------------------------------ subscribe
+
+    /** Executes the operation with the given address and name every {@code interval} ms. */
+    public Subscription subscribe(ResourceAddress address, String operation, double interval,
+            Consumer<ModelNode> onResult) {
+        return subscribe(new Operation.Builder(address, operation).build(), interval, onResult);
+    }
+
+    /** Executes the operation every {@code interval} ms. */
+    public Subscription subscribe(Operation operation, double interval, Consumer<ModelNode> onResult) {
+        return subscribe(() -> operation, interval, onResult, null);
+    }
+
+    /**
+     * Executes an operation every {@code interval} ms. The supplier is called whenever the subscription is due, which
+     * allows to adjust the operation between two executions.
+     * <p>
+     * The operation can be a {@link Composite}. In that case the result is the result of the composite which can be
+     * wrapped in a {@link CompositeResult}.
+     *
+     * @param operation supplies the operation to execute
+     * @param interval the interval in ms, rounded up to a multiple of {@value #TICK} ms
+     * @param onResult called with the result of the operation
+     * @param onFailure called with the failure description if the operation failed, may be {@code null}
+     * @return the subscription, use {@link Subscription#cancel()} to stop polling
+     */
+    public Subscription subscribe(Supplier<Operation> operation, double interval, Consumer<ModelNode> onResult,
+            Consumer<String> onFailure) {
+        Subscription subscription = new Subscription(operation, interval, onResult, onFailure);
+        subscriptions.add(subscription);
+        if (subscriptions.size() == 1) {
+            timer.onVisibilityChange(this::visibilityChanged);
+            if (!timer.hidden()) {
+                start();
+            }
+        }
+        return subscription;
+    }
+
+    /**
+     * Same as {@link #subscribe(Supplier, double, Consumer, Consumer)}, but executes the operation in the next tick
+     * instead of waiting for the first tick which is aligned to the interval. Use this method instead of executing the
+     * operation once before subscribing it.
+     */
+    public Subscription subscribeNow(Supplier<Operation> operation, double interval, Consumer<ModelNode> onResult,
+            Consumer<String> onFailure) {
+        Subscription subscription = subscribe(operation, interval, onResult, onFailure);
+        subscription.dueNow();
+        return subscription;
+    }
+
+    /** @return the active subscriptions including their costs */
+    public List<Subscription> subscriptions() {
+        return Collections.unmodifiableList(subscriptions);
+    }
+
+    // ------------------------------------------------------ ticks
+
+    private void visibilityChanged() {
+        if (timer.hidden()) {
+            stop();
+        } else {
+            start();
+        }
+    }
+
+    private void start() {
+        if (handle == -1 && !subscriptions.isEmpty()) {
+            // fire at the start of the next tick, so that the ticks don't drift
+            handle = timer.schedule(this::tick, TICK - timer.now() % TICK);
+        }
+    }
+
+    private void stop() {
+        if (handle != -1) {
+            timer.cancel(handle);
+            handle = -1;
+        }
+    }
+
+    private void tick() {
+        handle = -1;
+        subscriptions.removeIf(Subscription::isCancelled);
+        if (subscriptions.isEmpty()) {
+            timer.onVisibilityChange(null);
+            return;
+        }
+
+        // skip this tick if the previous composite is still running: due subscriptions remain due
+        if (!pending) {
+            long tick = timer.now() / TICK;
+            List<Subscription> due = new ArrayList<>();
+            for (Subscription subscription : subscriptions) {
+                if (subscription.isDue(tick)) {
+                    subscription.executed(tick);
+                    due.add(subscription);
+                }
+            }
+            if (!due.isEmpty()) {
+                execute(due);
+            }
+        }
+        if (!timer.hidden()) {
+            start();
+        }
+    }
+
+    private void execute(List<Subscription> due) {
+        List<Operation> operations = new ArrayList<>();
+        for (Subscription subscription : due) {
+            operations.add(subscription.operation());
+        }
+        long start = timer.now();
+        pending = true;
+        if (due.size() == 1) {
+            executor.execute(operations.get(0), result -> {
+                pending = false;
+                due.get(0).success(result, timer.now() - start);
+            }, failure -> {
+                pending = false;
+                due.get(0).failure(failure, timer.now() - start);
+            });
+        } else {
+            executor.executeComposite(new Composite(operations), result -> {
+                pending = false;
+                double time = (double) (timer.now() - start) / due.size();
+                for (int i = 0; i < due.size(); i++) {
+                    ModelNode step = result.step(i);
+                    if (step.isFailure()) {
+                        due.get(i).failure(step.get(FAILURE_DESCRIPTION).asString(), time);
+                    } else {
+                        due.get(i).success(step.get(RESULT), time);
+                    }
+                }
+            }, failure -> {
+                logger.debug("Polling composite failed: {}. Execute {} operations one by one.", failure, due.size());
+                for (int i = 0; i < due.size(); i++) {
+                    Subscription subscription = due.get(i);
+                    long single = timer.now();
+                    executor.execute(operations.get(i),
+                            result -> subscription.success(result, timer.now() - single),
+                            error -> subscription.failure(error, timer.now() - single));
+                }
+                pending = false;
+            });
+        }
+    }
+
+    // ------------------------------------------------------ timer and executor
+
+    /** The browser APIs used by the scheduler. */
+    interface Timer {
+
+        long now();
+
+        double schedule(Runnable callback, long delay);
+
+        void cancel(double handle);
+
+        boolean hidden();
+
+        /** Sets the listener for visibility changes. {@code null} removes the current listener. */
+        void onVisibilityChange(Runnable listener);
+    }
+
+    /** Executes the operations of a tick. */
+    interface Executor {
+
+        void execute(Operation operation, Consumer<ModelNode> onResult, Consumer<String> onFailure);
+
+        void executeComposite(Composite composite, Consumer<CompositeResult> onResult, Consumer<String> onFailure);
+    }
+
+    private static class BrowserTimer implements Timer {
+
+        private static final String VISIBILITY_CHANGE = "visibilitychange";
+
+        private EventListener listener;
+
+        @Override
+        public long now() {
+            return System.currentTimeMillis();
+        }
+
+        @Override
+        public double schedule(Runnable callback, long delay) {
+            return setTimeout(__ -> callback.run(), delay);
+        }
+
+        @Override
+        public void cancel(double handle) {
+            clearTimeout(handle);
+        }
+
+        @Override
+        public boolean hidden() {
+            return document.hidden;
+        }
+
+        @Override
+        public void onVisibilityChange(Runnable callback) {
+            if (listener != null) {
+                document.removeEventListener(VISIBILITY_CHANGE, listener);
+                listener = null;
+            }
+            if (callback != null) {
+                listener = event -> callback.run();
+                document.addEventListener(VISIBILITY_CHANGE, listener);
+            }
+        }
+    }
+
+    private static class DispatcherExecutor implements Executor {
+
+        private final Dispatcher dispatcher;
+
+        DispatcherExecutor(Dispatcher dispatcher) {
+            this.dispatcher = dispatcher;
+        }
+
+        @Override
+        public void execute(Operation operation, Consumer<ModelNode> onResult, Consumer<String> onFailure) {
+            dispatcher.execute(operation, onResult, (op, failure) -> onFailure.accept(failure));
+        }
+
+        @Override
+        public void executeComposite(Composite composite, Consumer<CompositeResult> onResult,
+                Consumer<String> onFailure) {
+            dispatcher.execute(composite, onResult, (op, failure) -> onFailure.accept(failure));
+        }
+    }
+}
@@ -0,0 +1,142 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.polling;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+
+/**
+ * A subscription of the {@link PollingScheduler}. The interval of a subscription is rounded up to a multiple of
+ * {@link PollingScheduler#TICK}. Subscriptions are due on ticks which are a multiple of their interval, so that
+ * subscriptions with the same or related intervals share the same ticks.
+ * <p>
+ * Each subscription keeps track of its costs: The number of executions and failures and the time spent waiting for the
+ * responses. As the operations of one tick are executed in one composite, the time of a composite is shared equally by
+ * its operations.
+ */
+public class Subscription {
+
+    static long ticks(double interval) {
+        return Math.max(1, (long) Math.ceil(interval / PollingScheduler.TICK));
+    }
+
+    private final Supplier<Operation> operation;
+    private final long ticks;
+    private final Consumer<ModelNode> onResult;
+    private final Consumer<String> onFailure;
+    private long nextTick;
+    private boolean cancelled;
+    private int executions;
+    private int failures;
+    private double time;
+
+    Subscription(Supplier<Operation> operation, double interval, Consumer<ModelNode> onResult,
+            Consumer<String> onFailure) {
+        this.operation = operation;
+        this.ticks = ticks(interval);
+        this.onResult = onResult;
+        this.onFailure = onFailure;
+        this.nextTick = -1;
+    }
+
+    @Override
+    public String toString() {
+        return "Subscription(every " + getInterval() + " ms, " + executions + " executions, " + failures +
+                " failures, " + getAverageTime() + " ms)";
+    }
+
+    /** Stops polling. The subscription is removed from the scheduler on the next tick. */
+    public void cancel() {
+        cancelled = true;
+    }
+
+    public boolean isCancelled() {
+        return cancelled;
+    }
+
+    // ------------------------------------------------------ scheduling
+
+    /** @return {@code true} if the subscription should be executed in the given tick */
+    boolean isDue(long tick) {
+        if (cancelled) {
+            return false;
+        }
+        if (nextTick == -1) {
+            // align to the next tick which is a multiple of the interval
+            nextTick = tick % ticks == 0 ? tick : tick + ticks - tick % ticks;
+        }
+        return tick >= nextTick;
+    }
+
+    /** Makes the subscription due in the next tick. Afterwards the executions are aligned to the interval. */
+    void dueNow() {
+        nextTick = 0;
+    }
+
+    /** Schedules the next execution after the subscription has been executed in the given tick. */
+    void executed(long tick) {
+        nextTick = tick - tick % ticks + ticks;
+    }
+
+    Operation operation() {
+        return operation.get();
+    }
+
+    void success(ModelNode result, double time) {
+        executions++;
+        this.time += time;
+        if (!cancelled) {
+            onResult.accept(result);
+        }
+    }
+
+    void failure(String failure, double time) {
+        executions++;
+        failures++;
+        this.time += time;
+        if (!cancelled && onFailure != null) {
+            onFailure.accept(failure);
+        }
+    }
+
+    // ------------------------------------------------------ costs
+
+    /** @return the interval in milliseconds */
+    public long getInterval() {
+        return ticks * PollingScheduler.TICK;
+    }
+
+    public int getExecutions() {
+        return executions;
+    }
+
+    public int getFailures() {
+        return failures;
+    }
+
+    /** @return the time in milliseconds spent waiting for the responses */
+    public double getTime() {
+        return time;
+    }
+
+    /** @return the average time in milliseconds spent waiting for a response */
+    public double getAverageTime() {
+        return executions == 0 ? 0 : time / executions;
+    }
+}
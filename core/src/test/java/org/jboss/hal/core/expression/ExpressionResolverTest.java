@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.expression;
+
+import java.util.Collections;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RELOAD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.WRITE_ATTRIBUTE_OPERATION;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ExpressionResolverTest {
+
+    private static final String BIND_ADDRESS = "${jboss.bind.address:127.0.0.1}";
+    private static final String PORT_OFFSET = "${jboss.socket.binding.port-offset:0}";
+
+    @Test
+    public void systemProperty() {
+        assertTrue(ExpressionResolver.invalidates(
+                new Operation.Builder(ResourceAddress.from("/system-property=foo"), ADD).build()));
+        assertTrue(ExpressionResolver.invalidates(
+                new Operation.Builder(ResourceAddress.from("/host=primary/system-property=foo"),
+                        WRITE_ATTRIBUTE_OPERATION).build()));
+    }
+
+    @Test
+    public void lifecycle() {
+        assertTrue(ExpressionResolver.invalidates(new Operation.Builder(ResourceAddress.root(), RELOAD).build()));
+    }
+
+    @Test
+    public void composite() {
+        Operation unrelated = new Operation.Builder(ResourceAddress.from("/subsystem=logging"),
+                WRITE_ATTRIBUTE_OPERATION).build();
+        Operation property = new Operation.Builder(ResourceAddress.from("/system-property=foo"), ADD).build();
+        assertFalse(ExpressionResolver.invalidates(new Composite(unrelated)));
+        assertTrue(ExpressionResolver.invalidates(new Composite(unrelated, property)));
+    }
+
+    @Test
+    public void unrelated() {
+        assertFalse(ExpressionResolver.invalidates(
+                new Operation.Builder(ResourceAddress.from("/subsystem=logging"), WRITE_ATTRIBUTE_OPERATION).build()));
+        assertFalse(ExpressionResolver.invalidates(
+                new Operation.Builder(ResourceAddress.root(), READ_RESOURCE_OPERATION).build()));
+    }
+
+    @Test
+    public void parseServerGroups() {
+        ModelNode serverGroups = new ModelNode();
+        server(serverGroups, "main-server-group", "primary", "server-one", "127.0.0.1", "0");
+        server(serverGroups, "other-server-group", "secondary", "server-three", "192.168.0.1", "250");
+
+        List<String> expressions = asList(BIND_ADDRESS, PORT_OFFSET);
+        Map<String, Map<String, String>> values = ExpressionResolver.parseServerGroups(expressions, serverGroups);
+
+        assertEquals(expressions, asList(values.keySet().toArray()));
+        assertEquals("127.0.0.1", values.get(BIND_ADDRESS).get("server-one"));
+        assertEquals("192.168.0.1", values.get(BIND_ADDRESS).get("server-three"));
+        assertEquals("0", values.get(PORT_OFFSET).get("server-one"));
+        assertEquals("250", values.get(PORT_OFFSET).get("server-three"));
+    }
+
+    @Test
+    public void parseUndefined() {
+        Map<String, Map<String, String>> values = ExpressionResolver.parseServerGroups(
+                Collections.singletonList(BIND_ADDRESS), new ModelNode());
+        assertTrue(values.get(BIND_ADDRESS).isEmpty());
+    }
+
+    @Test
+    public void resolvedValue() {
+        Map<String, String> values = new LinkedHashMap<>();
+        assertNull(ExpressionResolver.resolvedValue(values));
+
+        values.put("server-one", "127.0.0.1");
+        values.put("server-two", "127.0.0.1");
+        assertEquals("127.0.0.1", ExpressionResolver.resolvedValue(values));
+
+        values.put("server-three", "192.168.0.1");
+        assertEquals("server-one=127.0.0.1, server-two=127.0.0.1, server-three=192.168.0.1",
+                ExpressionResolver.resolvedValue(values));
+    }
+
+    private void server(ModelNode serverGroups, String group, String host, String server, String... results) {
+        ModelNode result = serverGroups.get(group).get(HOST).get(host).get(server).get(RESPONSE).get(RESULT);
+        for (int i = 0; i < results.length; i++) {
+            result.get("step-" + (i + 1)).get(RESULT).set(results[i]);
+        }
+    }
+}
@@ -0,0 +1,109 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.mbui.form;
+
+import java.util.List;
+
+import org.jboss.hal.core.mbui.ResourceDescriptionBuilder;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+import org.jboss.hal.meta.Metadata;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.junit.Before;
+import org.junit.Test;
+
+import com.google.gwt.junit.GWTMockUtilities;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.singletonList;
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNotSame;
+import static org.junit.Assert.assertSame;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class FormDefinitionTest {
+
+    private Metadata metadata;
+
+    @Before
+    public void setUp() {
+        GWTMockUtilities.disarm();
+        FormDefinition.clear();
+        metadata = Metadata.staticDescription(new ResourceDescriptionBuilder().attributes("foo", "bar", "baz", "qux"));
+    }
+
+    @Test
+    public void sorted() {
+        FormDefinition definition = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("sorted", metadata));
+        assertEquals(asList("bar", "baz", "foo", "qux"), names(definition));
+    }
+
+    @Test
+    public void unsortedIncludes() {
+        FormDefinition definition = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("unsorted", metadata)
+                .include("qux", "foo")
+                .unsorted());
+        assertEquals(asList("qux", "foo"), names(definition));
+    }
+
+    @Test
+    public void cached() {
+        FormDefinition first = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("first", metadata));
+        FormDefinition second = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("second", metadata));
+        FormDefinition third = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("third", metadata)
+                .exclude("foo"));
+
+        assertSame(first, second);
+        assertNotSame(first, third);
+        assertEquals(asList("bar", "baz", "qux"), names(third));
+    }
+
+    @Test
+    public void replacedAttributes() {
+        ModelNode payload = new ModelNode();
+        payload.get(ATTRIBUTES).get("foo").set(new ModelNode());
+        payload.get(ATTRIBUTES).get("bar").set(new ModelNode());
+        Metadata metadata = Metadata.staticDescription(new ResourceDescription(payload));
+        FormDefinition first = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("first", metadata));
+
+        // the same way the data source wizard replaces the attributes
+        ModelNode attributes = new ModelNode();
+        attributes.get("baz").set(new ModelNode());
+        ResourceDescription description = metadata.getDescription();
+        description.remove(ATTRIBUTES);
+        description.get(ATTRIBUTES).set(attributes);
+        FormDefinition second = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("second", metadata));
+
+        assertNotSame(first, second);
+        assertEquals(singletonList("baz"), names(second));
+    }
+
+    @Test
+    public void replacedDescription() {
+        FormDefinition first = FormDefinition.get(metadata, new ModelNodeForm.Builder<>("first", metadata));
+        Metadata other = Metadata.staticDescription(new ResourceDescriptionBuilder().attributes("foo"));
+        FormDefinition second = FormDefinition.get(other, new ModelNodeForm.Builder<>("second", other));
+
+        assertNotSame(first, second);
+        assertEquals(singletonList("foo"), names(second));
+    }
+
+    private List<String> names(FormDefinition definition) {
+        return definition.properties.stream().map(Property::getName).collect(toList());
+    }
+}
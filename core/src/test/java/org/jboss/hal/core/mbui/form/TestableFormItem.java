@@ -107,6 +107,11 @@ public class TestableFormItem implements FormItem<String> {
         return null;
     }
 
+    @Override
+    public void showResolvedValue(String resolvedValue) {
+
+    }
+
     @Override
     public boolean supportsExpressions() {
         return false;
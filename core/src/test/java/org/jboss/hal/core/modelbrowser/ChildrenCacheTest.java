@@ -0,0 +1,52 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.junit.Test;
+
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ChildrenCacheTest {
+
+    private static final AddressKey DATA_SOURCES = AddressKey.of("/subsystem=datasources");
+    private static final AddressKey EXAMPLE_DS = AddressKey.of("/subsystem=datasources/data-source=ExampleDS");
+
+    @Test
+    public void parent() {
+        assertTrue(ChildrenCache.affects(EXAMPLE_DS, DATA_SOURCES));
+    }
+
+    @Test
+    public void self() {
+        assertTrue(ChildrenCache.affects(EXAMPLE_DS, EXAMPLE_DS));
+    }
+
+    @Test
+    public void descendant() {
+        assertTrue(ChildrenCache.affects(DATA_SOURCES, EXAMPLE_DS));
+        assertTrue(ChildrenCache.affects(AddressKey.ROOT, EXAMPLE_DS));
+    }
+
+    @Test
+    public void unrelated() {
+        assertFalse(ChildrenCache.affects(EXAMPLE_DS, AddressKey.ROOT));
+        assertFalse(ChildrenCache.affects(EXAMPLE_DS, AddressKey.of("/subsystem=datasources/data-source=OtherDS")));
+        assertFalse(ChildrenCache.affects(AddressKey.of("/subsystem=logging"), DATA_SOURCES));
+    }
+}
@@ -0,0 +1,83 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.modelbrowser;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.emptyList;
+import static java.util.Collections.emptySet;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class ChildrenTest {
+
+    private ModelNode types;
+    private ModelNode resource;
+
+    @Before
+    public void setUp() {
+        types = new ModelNode();
+        types.add("server");
+        types.add("configuration=filter");
+        types.add("configuration=handler");
+        types.add("buffer-cache");
+        types.add("servlet-container");
+
+        resource = new ModelNode();
+        resource.get("default-server").set("default-server");
+        resource.get("server").get("default-server");
+        resource.get("server").get("other-server");
+        resource.get("configuration").get("handler");
+        resource.get("buffer-cache");
+    }
+
+    @Test
+    public void types() {
+        Children children = Children.from(types, resource);
+        assertEquals(asList("server", "configuration", "buffer-cache", "servlet-container"),
+                asList(children.getTypes().toArray()));
+    }
+
+    @Test
+    public void singletons() {
+        Children children = Children.from(types, resource);
+        assertEquals(emptySet(), children.getSingletons("server"));
+        assertEquals(asList("filter", "handler"), asList(children.getSingletons("configuration").toArray()));
+        assertEquals(emptySet(), children.getSingletons("unknown"));
+    }
+
+    @Test
+    public void names() {
+        Children children = Children.from(types, resource);
+        assertEquals(asList("default-server", "other-server"), children.getNames("server"));
+        assertEquals(asList("handler"), children.getNames("configuration"));
+        assertEquals(emptyList(), children.getNames("buffer-cache"));
+        assertNull(children.getNames("servlet-container"));
+    }
+
+    @Test
+    public void typesOnly() {
+        Children children = Children.from(types, new ModelNode());
+        assertEquals(4, children.getTypes().size());
+        assertNull(children.getNames("server"));
+        children.setNames("server", asList("default-server"));
+        assertEquals(asList("default-server"), children.getNames("server"));
+    }
+}
@@ -0,0 +1,305 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.polling;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Consumer;
+
+import org.jboss.hal.core.polling.PollingScheduler.Executor;
+import org.jboss.hal.core.polling.PollingScheduler.Timer;
+import org.jboss.hal.dmr.Composite;
+import org.jboss.hal.dmr.CompositeResult;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.FAILURE_DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OUTCOME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_RESOURCE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotNull;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class PollingSchedulerTest {
+
+    private FakeTimer timer;
+    private FakeExecutor executor;
+    private PollingScheduler scheduler;
+    private List<String> results;
+
+    @Before
+    public void setUp() {
+        timer = new FakeTimer();
+        executor = new FakeExecutor();
+        scheduler = new PollingScheduler(timer, executor);
+        results = new ArrayList<>();
+    }
+
+    @Test
+    public void single() {
+        scheduler.subscribe(operation("a"), 1000, result -> results.add(result.asString()));
+        timer.tick();
+
+        assertEquals(1, executor.requests.size());
+        assertFalse(executor.requests.get(0).operation instanceof Composite);
+        executor.succeed(0, new ModelNode().set("a"));
+        assertEquals(1, results.size());
+    }
+
+    @Test
+    public void merged() {
+        scheduler.subscribe(operation("a"), 1000, result -> results.add("a"));
+        scheduler.subscribe(operation("b"), 1000, result -> results.add("b"));
+        timer.tick();
+
+        assertEquals(1, executor.requests.size());
+        Composite composite = (Composite) executor.requests.get(0).operation;
+        assertEquals(2, composite.size());
+        executor.succeed(0, steps(new ModelNode().set(1), new ModelNode().set(2)));
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void subscribeNow() {
+        // the first tick (101 s) is not aligned to the interval of 3 s
+        scheduler.subscribeNow(() -> operation("a"), 3000, result -> results.add("a"), null);
+        timer.tick();
+        assertEquals(1, executor.requests.size());
+    }
+
+    @Test
+    public void sharedTicks() {
+        // the ticks of the 4 s subscription are a subset of the 2 s ticks: 10 ticks, 5 requests
+        scheduler.subscribe(operation("two"), 2000, result -> {});
+        scheduler.subscribe(operation("four"), 4000, result -> {});
+        for (int i = 0; i < 10; i++) {
+            timer.tick();
+            executor.completeAll();
+        }
+        assertEquals(5, executor.executed);
+    }
+
+    @Test
+    public void skipWhilePending() {
+        scheduler.subscribe(operation("a"), 1000, result -> results.add("a"));
+        timer.tick();
+        timer.tick();
+        timer.tick();
+        assertEquals(1, executor.requests.size());
+
+        executor.succeed(0, new ModelNode());
+        timer.tick();
+        assertEquals(2, executor.requests.size());
+    }
+
+    @Test
+    public void stepFailure() {
+        List<String> failures = new ArrayList<>();
+        scheduler.subscribe(() -> operation("a"), 1000, result -> results.add("a"), failures::add);
+        scheduler.subscribe(() -> operation("b"), 1000, result -> results.add("b"), failures::add);
+        timer.tick();
+
+        ModelNode failed = new ModelNode();
+        failed.get(OUTCOME).set("failed");
+        failed.get(FAILURE_DESCRIPTION).set("oops");
+        ModelNode payload = steps(new ModelNode().set(1), new ModelNode());
+        payload.get("step-2").set(failed);
+        executor.succeed(0, payload);
+
+        assertEquals(1, results.size());
+        assertEquals("a", results.get(0));
+        assertEquals(1, failures.size());
+        assertEquals("oops", failures.get(0));
+    }
+
+    @Test
+    public void compositeFailure() {
+        scheduler.subscribe(operation("a"), 1000, result -> results.add("a"));
+        scheduler.subscribe(operation("b"), 1000, result -> results.add("b"));
+        timer.tick();
+        executor.fail(0, "composite failed");
+
+        // executed one by one
+        assertEquals(3, executor.requests.size());
+        executor.succeed(1, new ModelNode());
+        executor.succeed(2, new ModelNode());
+        assertEquals(2, results.size());
+    }
+
+    @Test
+    public void hidden() {
+        scheduler.subscribe(operation("a"), 1000, result -> {});
+        timer.hidden = true;
+        timer.visibilityChanged();
+        assertNull(timer.callback);
+
+        timer.hidden = false;
+        timer.visibilityChanged();
+        assertNotNull(timer.callback);
+        timer.tick();
+        assertEquals(1, executor.requests.size());
+    }
+
+    @Test
+    public void cancelled() {
+        Subscription subscription = scheduler.subscribe(operation("a"), 1000, result -> {});
+        subscription.cancel();
+        timer.tick();
+
+        assertTrue(executor.requests.isEmpty());
+        assertTrue(scheduler.subscriptions().isEmpty());
+        assertNull(timer.callback);
+        assertNull(timer.listener);
+    }
+
+    @Test
+    public void costs() {
+        Subscription subscription = scheduler.subscribe(operation("a"), 1000, result -> {});
+        timer.tick();
+        timer.now += 40;
+        executor.succeed(0, new ModelNode());
+
+        assertEquals(1, subscription.getExecutions());
+        assertEquals(40, subscription.getTime(), 0.001);
+    }
+
+    // ------------------------------------------------------ helpers
+
+    private Operation operation(String name) {
+        return new Operation.Builder(new ResourceAddress().add("subsystem", name), READ_RESOURCE_OPERATION).build();
+    }
+
+    private static ModelNode steps(ModelNode... results) {
+        ModelNode payload = new ModelNode();
+        for (int i = 0; i < results.length; i++) {
+            ModelNode step = new ModelNode();
+            step.get(OUTCOME).set(SUCCESS);
+            step.get(RESULT).set(results[i]);
+            payload.get("step-" + (i + 1)).set(step);
+        }
+        return payload;
+    }
+
+    private static class FakeTimer implements Timer {
+
+        long now = 100_000;
+        boolean hidden;
+        Runnable callback;
+        Runnable listener;
+
+        /** Advances the time to the scheduled tick and runs it. */
+        void tick() {
+            assertNotNull("no tick scheduled", callback);
+            now = (now / PollingScheduler.TICK + 1) * PollingScheduler.TICK;
+            Runnable current = callback;
+            callback = null;
+            current.run();
+        }
+
+        void visibilityChanged() {
+            listener.run();
+        }
+
+        @Override
+        public long now() {
+            return now;
+        }
+
+        @Override
+        public double schedule(Runnable callback, long delay) {
+            this.callback = callback;
+            return 1;
+        }
+
+        @Override
+        public void cancel(double handle) {
+            callback = null;
+        }
+
+        @Override
+        public boolean hidden() {
+            return hidden;
+        }
+
+        @Override
+        public void onVisibilityChange(Runnable listener) {
+            this.listener = listener;
+        }
+    }
+
+    private static class FakeExecutor implements Executor {
+
+        final List<Request> requests = new ArrayList<>();
+        int executed;
+
+        @Override
+        public void execute(Operation operation, Consumer<ModelNode> onResult, Consumer<String> onFailure) {
+            requests.add(new Request(operation, onResult, onFailure));
+        }
+
+        @Override
+        public void executeComposite(Composite composite, Consumer<CompositeResult> onResult,
+                Consumer<String> onFailure) {
+            requests.add(new Request(composite, result -> onResult.accept(new CompositeResult(result)), onFailure));
+        }
+
+        void succeed(int index, ModelNode result) {
+            executed++;
+            requests.get(index).onResult.accept(result);
+        }
+
+        void fail(int index, String failure) {
+            executed++;
+            requests.get(index).onFailure.accept(failure);
+        }
+
+        void completeAll() {
+            for (int i = executed; i < requests.size(); i++) {
+                Request request = requests.get(i);
+                if (request.operation instanceof Composite) {
+                    ModelNode[] steps = new ModelNode[((Composite) request.operation).size()];
+                    for (int j = 0; j < steps.length; j++) {
+                        steps[j] = new ModelNode();
+                    }
+                    succeed(i, steps(steps));
+                } else {
+                    succeed(i, new ModelNode());
+                }
+            }
+        }
+    }
+
+    private static class Request {
+
+        final Operation operation;
+        final Consumer<ModelNode> onResult;
+        final Consumer<String> onFailure;
+
+        Request(Operation operation, Consumer<ModelNode> onResult, Consumer<String> onFailure) {
+            this.operation = operation;
+            this.onResult = onResult;
+            this.onFailure = onFailure;
+        }
+    }
+}
@@ -0,0 +1,131 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.core.polling;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings("HardCodedStringLiteral")
+public class SubscriptionTest {
+
+    private List<ModelNode> results;
+    private List<String> failures;
+
+    @Before
+    public void setUp() {
+        results = new ArrayList<>();
+        failures = new ArrayList<>();
+    }
+
+    @Test
+    public void ticks() {
+        assertEquals(1, Subscription.ticks(0));
+        assertEquals(1, Subscription.ticks(500));
+        assertEquals(1, Subscription.ticks(1000));
+        assertEquals(4, Subscription.ticks(3333));
+        assertEquals(10, Subscription.ticks(10000));
+    }
+
+    @Test
+    public void aligned() {
+        Subscription subscription = subscription(3000);
+        assertFalse(subscription.isDue(10));
+        assertFalse(subscription.isDue(11));
+        assertTrue(subscription.isDue(12));
+        subscription.executed(12);
+        assertFalse(subscription.isDue(13));
+        assertFalse(subscription.isDue(14));
+        assertTrue(subscription.isDue(15));
+    }
+
+    @Test
+    public void dueNow() {
+        Subscription subscription = subscription(3000);
+        subscription.dueNow();
+        assertTrue(subscription.isDue(10));
+        subscription.executed(10);
+        assertFalse(subscription.isDue(11));
+        assertTrue(subscription.isDue(12));
+    }
+
+    @Test
+    public void shared() {
+        Subscription two = subscription(2000);
+        Subscription four = subscription(4000);
+        int shared = 0;
+        for (long tick = 100; tick < 120; tick++) {
+            boolean twoDue = two.isDue(tick);
+            boolean fourDue = four.isDue(tick);
+            if (twoDue) {
+                two.executed(tick);
+            }
+            if (fourDue) {
+                four.executed(tick);
+                assertTrue(twoDue); // every tick of 'four' is a tick of 'two'
+                shared++;
+            }
+        }
+        assertEquals(5, shared);
+    }
+
+    @Test
+    public void late() {
+        // a skipped tick keeps the subscription due and re-aligns afterwards
+        Subscription subscription = subscription(2000);
+        assertTrue(subscription.isDue(20));
+        subscription.executed(20);
+        assertTrue(subscription.isDue(23));
+        subscription.executed(23);
+        assertFalse(subscription.isDue(23));
+        assertTrue(subscription.isDue(24));
+    }
+
+    @Test
+    public void cancelled() {
+        Subscription subscription = subscription(1000);
+        subscription.cancel();
+        assertFalse(subscription.isDue(1));
+        subscription.success(new ModelNode(), 10);
+        assertTrue(results.isEmpty());
+    }
+
+    @Test
+    public void costs() {
+        Subscription subscription = subscription(1000);
+        subscription.success(new ModelNode().set(42), 10);
+        subscription.success(new ModelNode().set(43), 20);
+        subscription.failure("failed", 30);
+
+        assertEquals(2, results.size());
+        assertEquals(1, failures.size());
+        assertEquals(3, subscription.getExecutions());
+        assertEquals(1, subscription.getFailures());
+        assertEquals(60, subscription.getTime(), 0.001);
+        assertEquals(20, subscription.getAverageTime(), 0.001);
+    }
+
+    private Subscription subscription(int interval) {
+        return new Subscription(() -> null, interval, results::add, failures::add);
+    }
+}
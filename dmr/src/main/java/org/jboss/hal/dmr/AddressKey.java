@@ -0,0 +1,177 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.util.Arrays;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Immutable and canonical representation of a {@link ResourceAddress}. The hash code and the string representation are
+ * computed only once.
+ * <p>
+ * Keys are interned: {@link #of(ResourceAddress)} returns the same instance for equal addresses as long as the key is in the
+ * (bounded) pool. Comparing two interned keys is a pointer comparison in the common case, which makes keys a good choice for
+ * registries and caches.
+ */
+public final class AddressKey {
+
+    private static final int POOL_SIZE = 5000;
+    private static final String[] EMPTY = new String[0];
+    private static final Map<AddressKey, AddressKey> pool = new LinkedHashMap<AddressKey, AddressKey>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<AddressKey, AddressKey> eldest) {
+            return size() > POOL_SIZE;
+        }
+    };
+
+    /** The key of the root address */
+    public static final AddressKey ROOT = new AddressKey(EMPTY, EMPTY);
+
+    /** @return the interned key of the specified address */
+    public static AddressKey of(ResourceAddress address) {
+        if (address == null) {
+            throw new IllegalArgumentException("Address must not be null");
+        }
+        if (!address.isDefined()) {
+            return ROOT;
+        }
+        List<ModelNode> segments = address.asList();
+        if (segments.isEmpty()) {
+            return ROOT;
+        }
+        String[] names = new String[segments.size()];
+        String[] values = new String[segments.size()];
+        for (int i = 0; i < names.length; i++) {
+            Property property = segments.get(i).asProperty();
+            names[i] = property.getName();
+            values[i] = property.getValue().asString();
+        }
+        return intern(new AddressKey(names, values));
+    }
+
+    /** @return the interned key of the specified address */
+    public static AddressKey of(String address) {
+        return of(ResourceAddress.from(address));
+    }
+
+    private static AddressKey intern(AddressKey key) {
+        AddressKey interned = pool.get(key);
+        if (interned == null) {
+            pool.put(key, key);
+            interned = key;
+        }
+        return interned;
+    }
+
+    // ------------------------------------------------------ instance
+
+    private final String[] names;
+    private final String[] values;
+    private final int hash;
+    private final String string;
+
+    private AddressKey(String[] names, String[] values) {
+        this.names = names;
+        this.values = values;
+        this.hash = 31 * Arrays.hashCode(names) + Arrays.hashCode(values);
+
+        StringBuilder builder = new StringBuilder("/");
+        for (int i = 0; i < names.length; i++) {
+            if (i > 0) {
+                builder.append("/");
+            }
+            builder.append(names[i]).append("=").append(values[i]);
+        }
+        this.string = builder.toString();
+    }
+
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof AddressKey)) {
+            return false;
+        }
+
+        AddressKey that = (AddressKey) o;
+        return hash == that.hash && Arrays.equals(names, that.names) && Arrays.equals(values, that.values);
+    }
+
+    @Override
+    public int hashCode() {
+        return hash;
+    }
+
+    /** @return the address as string using the same format as {@link ResourceAddress#toString()} */
+    @Override
+    public String toString() {
+        return string;
+    }
+
+    /** @return a new (mutable) resource address for this key */
+    public ResourceAddress toAddress() {
+        ResourceAddress address = new ResourceAddress();
+        for (int i = 0; i < names.length; i++) {
+            address.add(names[i], values[i]);
+        }
+        return address;
+    }
+
+    /** @return the number of segments. */
+    public int size() {
+        return names.length;
+    }
+
+    /** @return whether this key is the root key. */
+    public boolean isEmpty() {
+        return names.length == 0;
+    }
+
+    /** @return the name of the segment at the specified index */
+    public String getName(int index) {
+        return names[index];
+    }
+
+    /** @return the value of the segment at the specified index */
+    public String getValue(int index) {
+        return values[index];
+    }
+
+    /** @return the parent key or this key if this is the root key */
+    public AddressKey getParent() {
+        if (isEmpty()) {
+            return this;
+        }
+        int size = names.length - 1;
+        return size == 0 ? ROOT : intern(new AddressKey(Arrays.copyOf(names, size), Arrays.copyOf(values, size)));
+    }
+
+    /** @return true if this key starts with the specified key, false otherwise */
+    public boolean startsWith(AddressKey key) {
+        if (size() < key.size()) {
+            return false;
+        }
+        for (int i = 0; i < key.size(); i++) {
+            if (!names[i].equals(key.names[i]) || !values[i].equals(key.values[i])) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -23,6 +23,7 @@ class DataInput {
 
     private final byte[] bytes;
     private int pos = 0;
+    private boolean internValues = false;
 
     DataInput(byte[] bytes) {
         this.bytes = bytes;
@@ -117,8 +118,44 @@ class DataInput {
         return ((a << 8) | b);
     }
 
+    /** Reads an object key or property name and interns it. */
+    String readKey() {
+        return readUTF(true);
+    }
+
+    /**
+     * Reads a string value. Values are only interned if they are already in the {@link StringTable} or if they're read
+     * between {@link #internValues(boolean) internValues(true)} and {@link #internValues(boolean) internValues(false)}.
+     */
     String readUTF() {
-        int bytes = readUnsignedShort();
+        return readUTF(internValues);
+    }
+
+    /** Turns interning of values on or off. Used to intern the enum-like values of {@code allowed} lists. */
+    void internValues(boolean internValues) {
+        this.internValues = internValues;
+    }
+
+    private String readUTF(boolean intern) {
+        int length = readUnsignedShort();
+        if (length <= StringTable.MAX_LENGTH && pos + length <= bytes.length) {
+            String interned = StringTable.INSTANCE.lookup(bytes, pos, length);
+            if (interned != null) {
+                pos += length;
+                return interned;
+            }
+            if (intern) {
+                int start = pos;
+                String value = decodeUTF(length);
+                StringTable.INSTANCE.add(bytes, start, length, value);
+                return value;
+            }
+        }
+        return decodeUTF(length);
+    }
+
+    private String decodeUTF(int length) {
+        int bytes = length;
         StringBuilder sb = new StringBuilder();
 
         while (bytes > 0) {
@@ -22,12 +22,17 @@ import java.util.List;
 import java.util.NoSuchElementException;
 
 /**
+ * Copies of {@linkplain #protect() protected} values are copy-on-write: They share the protected list until the first
+ * operation which might modify the list or one of its elements. Only then the list is copied. Since the elements of a
+ * protected value are protected as well, the copied elements are copy-on-write again, so only the touched path is copied.
+ *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 class ListModelValue extends ModelValue {
 
     public static final ModelNode[] NO_NODES = new ModelNode[0];
-    private final List<ModelNode> list;
+    private List<ModelNode> list;
+    private boolean shared;
 
     ListModelValue() {
         super(ModelType.LIST);
@@ -40,8 +45,13 @@ class ListModelValue extends ModelValue {
     }
 
     ListModelValue(List<ModelNode> list) {
+        this(list, false);
+    }
+
+    private ListModelValue(List<ModelNode> list, boolean shared) {
         super(ModelType.LIST);
         this.list = list;
+        this.shared = shared;
     }
 
     ListModelValue(DataInput in) {
@@ -68,6 +78,10 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
+        if (shared) {
+            // the shared list and its elements are already protected
+            return new ListModelValue(list);
+        }
         List<ModelNode> list = this.list;
         for (ModelNode node : list) {
             node.protect();
@@ -75,6 +89,24 @@ class ListModelValue extends ModelValue {
         return list.getClass() == ArrayList.class ? new ListModelValue(Collections.unmodifiableList(list)) : this;
     }
 
+    /** @return whether the list is protected and can be shared by copies */
+    private boolean frozen() {
+        return shared || list.getClass() != ArrayList.class;
+    }
+
+    /** Copies the shared list (if necessary) before it or one of its elements is modified. */
+    private List<ModelNode> writableList() {
+        if (shared) {
+            ArrayList<ModelNode> newList = new ArrayList<>(list.size());
+            for (ModelNode node : list) {
+                newList.add(node.clone());
+            }
+            list = newList;
+            shared = false;
+        }
+        return list;
+    }
+
     @Override
     long asLong() {
         return asInt();
@@ -117,7 +149,7 @@ class ListModelValue extends ModelValue {
     @Override
     List<Property> asPropertyList() {
         List<Property> propertyList = new ArrayList<>();
-        Iterator<ModelNode> i = list.iterator();
+        Iterator<ModelNode> i = writableList().iterator();
         while (i.hasNext()) {
             ModelNode node = i.next();
             if (node.getType() == ModelType.PROPERTY) {
@@ -149,7 +181,7 @@ class ListModelValue extends ModelValue {
 
     @Override
     ModelNode getChild(int index) {
-        List<ModelNode> list = this.list;
+        List<ModelNode> list = writableList();
         int size = list.size();
         if (size <= index) {
             for (int i = 0; i < index - size + 1; i++) {
@@ -162,18 +194,18 @@ class ListModelValue extends ModelValue {
     @Override
     ModelNode addChild() {
         ModelNode node = new ModelNode();
-        list.add(node);
+        writableList().add(node);
         return node;
     }
 
     @Override
     List<ModelNode> asList() {
-        return Collections.unmodifiableList(list);
+        return Collections.unmodifiableList(writableList());
     }
 
     @Override
     ModelValue copy() {
-        return new ListModelValue(this);
+        return frozen() ? new ListModelValue(list, true) : new ListModelValue(this);
     }
 
     @Override
@@ -195,7 +227,6 @@ class ListModelValue extends ModelValue {
     @Override
     void format(StringBuilder builder, int indent, boolean multiLineRequested) {
         boolean multiLine = multiLineRequested && list.size() > 1;
-        List<ModelNode> list = asList();
         Iterator<ModelNode> iterator = list.iterator();
         builder.append('[');
         if (multiLine) {
@@ -221,7 +252,6 @@ class ListModelValue extends ModelValue {
     @Override
     void formatAsJSON(StringBuilder builder, int indent, boolean multiLineRequested) {
         boolean multiLine = multiLineRequested && list.size() > 1;
-        List<ModelNode> list = asList();
         Iterator<ModelNode> iterator = list.iterator();
         builder.append('[');
         if (multiLine) {
@@ -280,7 +310,7 @@ class ListModelValue extends ModelValue {
     @Override
     ModelNode requireChild(int index) throws NoSuchElementException {
         try {
-            return list.get(index);
+            return writableList().get(index);
         } catch (IndexOutOfBoundsException ignored) {
             return super.requireChild(index);
         }
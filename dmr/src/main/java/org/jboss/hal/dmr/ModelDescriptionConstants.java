@@ -67,6 +67,7 @@ public interface ModelDescriptionConstants {
     String AJP_LISTENER = "ajp-listener";
     String ALGORITHM = "algorithm";
     String ALIAS = "alias";
+    String ALL_SERVICES = "all-services";
     String ALLOW_BLANK_PASSWORD = "allow-blank-password";
     String ALLOW_RESOURCE_SERVICE_RESTART = "allow-resource-service-restart";
     String ALLOWED = "allowed";
@@ -126,6 +127,7 @@ public interface ModelDescriptionConstants {
     String CANCEL_NON_PROGRESSING_OPERATION = "cancel-non-progressing-operation";
     String CANCEL_OPERATION = "cancel";
     String CANCELLED = "cancelled";
+    String CAPABILITIES = "capabilities";
     String CAPABILITY_REFERENCE = "capability-reference";
     String CERTIFICATE_AUTHORITY = "certificate-authority";
     String CERTIFICATE_AUTHORITY_ACCOUNT = "certificate-authority-account";
@@ -610,6 +612,7 @@ public interface ModelDescriptionConstants {
     String NEW_PRIORITY = "new-priority";
     String NEXT_TIMEOUT = "next-timeout";
     String NILLABLE = "nillable";
+    String NO_SERVICES = "no-services";
     String NO_TX_SEPARATE_POOL = "no-tx-separate-pool";
     String NODE = "node";
     String NON_DURABLE_MESSAGE_COUNT = "non-durable-message-count";
@@ -644,6 +647,7 @@ public interface ModelDescriptionConstants {
     String OVERRIDE = "override";
     String OVERRIDE_ALL = "override-all";
     String OVERRIDE_MODULE = "override-modules";
+    String OVERWRITE = "overwrite";
     String PARAMS = "params";
     String PARTICIPANTS = "partitcipants";
     String PARTITION_HANDLING = "partition-handling";
@@ -805,6 +809,7 @@ public interface ModelDescriptionConstants {
     String RESOURCE_ADAPTERS = "resource-adapters";
     String RESOURCE_METHODS = "resource-methods";
     String RESOURCE_PATH = "resource-path";
+    String RESOURCE_SERVICES = "resource-services";
     String RESPONSE = "response";
     String RESPONSE_COUNT = "response-count";
     String RESPONSE_HEADERS = "response-headers";
@@ -1009,6 +1014,7 @@ public interface ModelDescriptionConstants {
     String UP = "UP";
     String UPDATE_ACCOUNT = "update-account";
     String UPDATE_AUTO_START_WITH_SERVER_STATUS = "update-auto-start-with-server-status";
+    String UPLOAD_DEPLOYMENT_STREAM = "upload-deployment-stream";
     String UPTIME = "uptime";
     String URL = "url";
     String USE_RECURSIVE_SEARCH = "use-recursive-search";
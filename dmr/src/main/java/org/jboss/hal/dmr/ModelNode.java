@@ -76,6 +76,10 @@ public class ModelNode implements Cloneable {
     /**
      * Prevent further modifications to this node and its sub-nodes. Note that copies of this node made after this method call
      * will not be protected.
+     * <p>
+     * Copies of a protected node are copy-on-write: They share the protected values and copy only the path which is
+     * modified. Protecting a large, read-mostly node like a decoded resource description thus saves a deep copy whenever
+     * the node is cloned.
      */
     public void protect() {
         if (!protect) {
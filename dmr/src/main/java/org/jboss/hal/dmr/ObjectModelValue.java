@@ -24,12 +24,19 @@ import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Set;
 
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ALLOWED;
+
 /**
+ * Copies of {@linkplain #protect() protected} values are copy-on-write: They share the protected map until the first
+ * operation which might modify the map or one of its children. Only then the map is copied. Since the children of a
+ * protected value are protected as well, the copied children are copy-on-write again, so only the touched path is copied.
+ *
  * @author <a href="mailto:david.lloyd@redhat.com">David M. Lloyd</a>
  */
 class ObjectModelValue extends ModelValue {
 
-    private final Map<String, ModelNode> map;
+    private Map<String, ModelNode> map;
+    private boolean shared;
 
     ObjectModelValue() {
         super(ModelType.OBJECT);
@@ -37,8 +44,13 @@ class ObjectModelValue extends ModelValue {
     }
 
     private ObjectModelValue(Map<String, ModelNode> map) {
+        this(map, false);
+    }
+
+    private ObjectModelValue(Map<String, ModelNode> map, boolean shared) {
         super(ModelType.OBJECT);
         this.map = map;
+        this.shared = shared;
     }
 
     ObjectModelValue(DataInput in) {
@@ -46,9 +58,11 @@ class ObjectModelValue extends ModelValue {
         int count = in.readInt();
         LinkedHashMap<String, ModelNode> map = new LinkedHashMap<>();
         for (int i = 0; i < count; i++) {
-            String key = in.readUTF();
+            String key = in.readKey();
             ModelNode value = new ModelNode();
+            in.internValues(ALLOWED.equals(key));
             value.readExternal(in);
+            in.internValues(false);
             map.put(key, value);
         }
         this.map = map;
@@ -67,6 +81,10 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     ModelValue protect() {
+        if (shared) {
+            // the shared map and its children are already protected
+            return new ObjectModelValue(map);
+        }
         Map<String, ModelNode> map = this.map;
         for (ModelNode node : map.values()) {
             node.protect();
@@ -74,6 +92,24 @@ class ObjectModelValue extends ModelValue {
         return map.getClass() == LinkedHashMap.class ? new ObjectModelValue(Collections.unmodifiableMap(map)) : this;
     }
 
+    /** @return whether the map is protected and can be shared by copies */
+    private boolean frozen() {
+        return shared || map.getClass() != LinkedHashMap.class;
+    }
+
+    /** Copies the shared map (if necessary) before it or one of its children is modified. */
+    private Map<String, ModelNode> writableMap() {
+        if (shared) {
+            LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
+            for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
+                newMap.put(entry.getKey(), entry.getValue().clone());
+            }
+            map = newMap;
+            shared = false;
+        }
+        return map;
+    }
+
     @Override
     ModelNode asObject() {
         return new ModelNode(copy());
@@ -84,6 +120,7 @@ class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
+        Map<String, ModelNode> map = writableMap();
         ModelNode node = map.get(name);
         if (node != null) {
             return node;
@@ -98,7 +135,7 @@ class ObjectModelValue extends ModelValue {
         if (name == null) {
             return null;
         }
-        return map.remove(name);
+        return writableMap().remove(name);
     }
 
     @Override
@@ -160,6 +197,9 @@ class ObjectModelValue extends ModelValue {
     }
 
     ModelValue copy(boolean resolve) {
+        if (!resolve && frozen()) {
+            return new ObjectModelValue(map, true);
+        }
         LinkedHashMap<String, ModelNode> newMap = new LinkedHashMap<>();
         for (Map.Entry<String, ModelNode> entry : map.entrySet()) {
             newMap.put(entry.getKey(), resolve ? entry.getValue().resolve() : entry.getValue().clone());
@@ -180,7 +220,7 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     Set<String> getKeys() {
-        return map.keySet();
+        return writableMap().keySet();
     }
 
     @Override
@@ -281,7 +321,7 @@ class ObjectModelValue extends ModelValue {
 
     @Override
     ModelNode requireChild(String name) throws NoSuchElementException {
-        ModelNode node = map.get(name);
+        ModelNode node = writableMap().get(name);
         if (node != null) {
             return node;
         }
@@ -191,6 +191,11 @@ public class ResourceAddress extends ModelNode {
         return newAddress;
     }
 
+    /** @return the interned and immutable key of this address */
+    public AddressKey key() {
+        return AddressKey.of(this);
+    }
+
     /** @return the address as string */
     @Override
     public String toString() {
@@ -0,0 +1,127 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+
+/**
+ * Bounded intern table used by {@link DataInput} to share strings which occur over and over again in DMR payloads: Attribute
+ * names like {@code type}, {@code description} or {@code access-type} and enum-like values like {@code read-write} or
+ * {@code configuration}. Strings are looked up by their encoded bytes, so a hit neither decodes nor allocates anything.
+ * <p>
+ * The table is pre-seeded with well known names and values from {@link ModelDescriptionConstants}. While decoding,
+ * {@link DataInput} adds object keys and the values of {@code allowed} lists up to {@link #MAX_LENGTH} bytes until the
+ * table is full. Other values are only looked up, so runtime payloads like resource names or attribute values never
+ * claim a slot.
+ */
+final class StringTable {
+
+    static final int MAX_LENGTH = 32;
+    static final StringTable INSTANCE = new StringTable(4096,
+            // keys of resource descriptions
+            ACCESS_CONSTRAINTS, ACCESS_CONTROL, ACCESS_TYPE, ALLOWED, ALTERNATIVES, ATTRIBUTES,
+            CAPABILITY_REFERENCE, CHILDREN, DEFAULT, DEPRECATED, DESCRIPTION, EXCEPTIONS, EXECUTE, EXPRESSIONS_ALLOWED,
+            MAX, METRIC, MIN, MODEL_DESCRIPTION, NILLABLE, OPERATIONS, READ, REASON, REPLY_PROPERTIES,
+            REQUEST_PROPERTIES, REQUIRED, REQUIRES, RESTART_REQUIRED, SENSITIVE, SINCE, STORAGE, TYPE, UNIT, VALUE_TYPE,
+            WRITE,
+            // values of resource descriptions
+            ALL_SERVICES, CONFIGURATION, JVM, NO_SERVICES, READ_ONLY, READ_WRITE, RESOURCE_SERVICES, RUNTIME,
+            // operations and responses
+            ADDRESS, FAILED, FAILURE_DESCRIPTION, NAME, OPERATION, OUTCOME, RESPONSE_HEADERS, RESULT, SUCCESS,
+            UNDEFINED, VALUE);
+
+    private final int mask;
+    private final int maxEntries;
+    private final int[] hashes;
+    private final byte[][] keys;
+    private final String[] values;
+    private int size;
+
+    /**
+     * @param capacity the number of slots, must be a power of two. At most half of the slots are used.
+     * @param seeds    ASCII strings which are added to the table
+     */
+    StringTable(int capacity, String... seeds) {
+        this.mask = capacity - 1;
+        this.maxEntries = capacity / 2;
+        this.hashes = new int[capacity];
+        this.keys = new byte[capacity][];
+        this.values = new String[capacity];
+        for (String seed : seeds) {
+            byte[] bytes = new byte[seed.length()];
+            for (int i = 0; i < bytes.length; i++) {
+                bytes[i] = (byte) seed.charAt(i);
+            }
+            add(bytes, 0, bytes.length, seed);
+        }
+    }
+
+    /** @return the interned string for the specified encoded bytes or {@code null} if there's no such string */
+    String lookup(byte[] buffer, int offset, int length) {
+        int hash = hash(buffer, offset, length);
+        for (int slot = hash & mask; keys[slot] != null; slot = (slot + 1) & mask) {
+            if (hashes[slot] == hash && matches(keys[slot], buffer, offset, length)) {
+                return values[slot];
+            }
+        }
+        return null;
+    }
+
+    /** Adds the string and its encoded bytes unless the table is full or the string is too long. */
+    void add(byte[] buffer, int offset, int length, String value) {
+        if (length > MAX_LENGTH || size >= maxEntries) {
+            return;
+        }
+        int hash = hash(buffer, offset, length);
+        int slot = hash & mask;
+        while (keys[slot] != null) {
+            if (hashes[slot] == hash && matches(keys[slot], buffer, offset, length)) {
+                return;
+            }
+            slot = (slot + 1) & mask;
+        }
+        byte[] key = new byte[length];
+        System.arraycopy(buffer, offset, key, 0, length);
+        hashes[slot] = hash;
+        keys[slot] = key;
+        values[slot] = value;
+        size++;
+    }
+
+    int size() {
+        return size;
+    }
+
+    private static int hash(byte[] buffer, int offset, int length) {
+        int hash = length;
+        for (int i = offset; i < offset + length; i++) {
+            hash = 31 * hash + (buffer[i] & 0xff);
+        }
+        return hash;
+    }
+
+    private static boolean matches(byte[] key, byte[] buffer, int offset, int length) {
+        if (key.length != length) {
+            return false;
+        }
+        for (int i = 0; i < length; i++) {
+            if (key[i] != buffer[offset + i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
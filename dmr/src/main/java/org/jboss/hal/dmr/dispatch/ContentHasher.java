@@ -0,0 +1,223 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.js.Browser;
+
+import elemental2.dom.Blob;
+import elemental2.dom.File;
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Computes the SHA-1 hash of a file in a web worker. The worker reads the file slice by slice, so that even very large files
+ * are never loaded into memory as a whole. The hashes are the same as the ones used by the content repository.
+ * <p>
+ * The worker also reads the entries of zip archives and extracts them, so that large archives can be uploaded entry by
+ * entry.
+ */
+public class ContentHasher {
+
+    /** The size of the slices read by the web worker. */
+    public static final int DEFAULT_SLICE_SIZE = 4 * 1024 * 1024;
+
+    private static final String SHA1 = "sha1";
+    private static final String ENTRIES = "entries";
+    private static final String EXTRACT = "extract";
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsProperty static Worker hashWorker;
+    }
+
+    private final Worker worker;
+    private final Map<Integer, Pending<?>> pending;
+    private int counter;
+
+    @Inject
+    public ContentHasher() {
+        this.worker = Browser.isIE() ? null : WorkerProvider.hashWorker;
+        this.pending = new HashMap<>();
+        this.counter = 0;
+        if (worker != null) {
+            worker.onmessage = event -> onResponse(Js.cast(event.data));
+        }
+    }
+
+    /** @return {@code true} if hashes can be computed in this browser */
+    public boolean isSupported() {
+        return worker != null;
+    }
+
+    /** Computes the SHA-1 hash of the file using slices of {@value #DEFAULT_SLICE_SIZE} bytes. */
+    public Promise<String> sha1(File file) {
+        return sha1(file, DEFAULT_SLICE_SIZE);
+    }
+
+    /**
+     * Computes the SHA-1 hash of the file.
+     *
+     * @param file the file to hash
+     * @param sliceSize the number of bytes which are read and hashed at once
+     * @return a promise with the hash as lower case hex string
+     */
+    public Promise<String> sha1(File file, int sliceSize) {
+        WorkerRequest request = new WorkerRequest();
+        request.type = SHA1;
+        request.file = file;
+        request.sliceSize = sliceSize;
+        return post(request, response -> response.hash);
+    }
+
+    /**
+     * Reads the central directory of a zip archive. Fails if the file is no zip archive or uses features not supported by the
+     * worker (zip64, encryption, compression methods other than stored and deflated).
+     *
+     * @return a promise with the file entries of the archive (directories are skipped)
+     */
+    public Promise<Entry[]> entries(File file) {
+        WorkerRequest request = new WorkerRequest();
+        request.type = ENTRIES;
+        request.file = file;
+        return post(request, response -> response.entries);
+    }
+
+    /**
+     * Extracts the specified entries. The CRC-32 checksum of each entry is verified against the checksum in the archive.
+     *
+     * @return a promise with one blob for each entry
+     */
+    public Promise<Blob[]> extract(File file, List<Entry> entries) {
+        WorkerRequest request = new WorkerRequest();
+        request.type = EXTRACT;
+        request.file = file;
+        request.entries = entries.toArray(new Entry[0]);
+        return post(request, response -> response.blobs);
+    }
+
+    private <T> Promise<T> post(WorkerRequest request, Function<WorkerResponse, T> value) {
+        if (worker == null) {
+            return Promise.reject("Web worker for content hashes not available");
+        }
+        return new Promise<>((resolve, reject) -> {
+            request.id = ++counter;
+            pending.put(request.id, new Pending<>(resolve, reject, value));
+            worker.postMessage(request);
+        });
+    }
+
+    private void onResponse(WorkerResponse response) {
+        Pending<?> callbacks = pending.remove(response.id);
+        if (callbacks != null) {
+            if (response.error != null) {
+                callbacks.reject.onInvoke(response.error);
+            } else {
+                callbacks.resolve(response);
+            }
+        }
+    }
+
+    // ------------------------------------------------------ hex helpers
+
+    /** Converts the hash as returned by the management model to a lower case hex string. */
+    public static String toHex(byte[] hash) {
+        StringBuilder builder = new StringBuilder();
+        for (byte b : hash) {
+            String hex = Integer.toHexString(b & 0xff);
+            if (hex.length() == 1) {
+                builder.append('0');
+            }
+            builder.append(hex);
+        }
+        return builder.toString();
+    }
+
+    /** Converts a hex string to the byte array as expected by the management model. */
+    public static byte[] fromHex(String hex) {
+        byte[] hash = new byte[hex.length() / 2];
+        for (int i = 0; i < hash.length; i++) {
+            hash[i] = (byte) Integer.parseInt(hex.substring(2 * i, 2 * i + 2), 16);
+        }
+        return hash;
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private static class Pending<T> {
+
+        final ResolveCallbackFn<T> resolve;
+        final RejectCallbackFn reject;
+        final Function<WorkerResponse, T> value;
+
+        Pending(ResolveCallbackFn<T> resolve, RejectCallbackFn reject, Function<WorkerResponse, T> value) {
+            this.resolve = resolve;
+            this.reject = reject;
+            this.value = value;
+        }
+
+        void resolve(WorkerResponse response) {
+            resolve.onInvoke(value.apply(response));
+        }
+    }
+
+    /** A file entry of a zip archive as returned by {@link #entries(File)}. */
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    public static class Entry {
+
+        /** The path of the entry inside the archive */
+        public String name;
+
+        /** The uncompressed size in bytes */
+        public double size;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class WorkerRequest {
+
+        int id;
+        String type;
+        File file;
+        int sliceSize;
+        Entry[] entries;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class WorkerResponse {
+
+        int id;
+        String hash;
+        Entry[] entries;
+        Blob[] blobs;
+        String error;
+    }
+}
@@ -17,8 +17,10 @@ package org.jboss.hal.dmr.dispatch;
 
 import java.util.ArrayList;
 import java.util.Arrays;
+import java.util.HashMap;
 import java.util.HashSet;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
@@ -72,6 +74,7 @@ import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.FIND_NON_PROGRESSING_OPERATION;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HOST;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.INSTALLED_DRIVER_LIST;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OP;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATION;
@@ -80,6 +83,7 @@ import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESPONSE_HEADERS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.SERVER_GROUPS;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.UPLOAD_DEPLOYMENT_STREAM;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.GET;
 import static org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod.POST;
 import static org.jboss.hal.dmr.dispatch.PayloadProcessor.PARSE_ERROR;
@@ -107,21 +111,37 @@ public class Dispatcher implements RecordingHandler {
     private final EventBus eventBus;
     private final ResponseHeadersProcessors responseHeadersProcessors;
     private final Macros macros;
+    private final ContentHasher contentHasher;
     private final ErrorCallback errorCallback;
+    private final List<Consumer<Operation>> writeListeners;
+    private final Map<String, ResumableUpload> resumableUploads;
+    private final Set<String> uploadedContent;
 
     @Inject
     public Dispatcher(Environment environment, Endpoints endpoints, Settings settings,
             EventBus eventBus, ResponseHeadersProcessors responseHeadersProcessors,
-            Macros macros) {
+            Macros macros, ContentHasher contentHasher) {
         this.environment = environment;
         this.endpoints = endpoints;
         this.settings = settings;
         this.eventBus = eventBus;
         this.responseHeadersProcessors = responseHeadersProcessors;
         this.macros = macros;
+        this.contentHasher = contentHasher;
 
         this.eventBus.addHandler(RecordingEvent.getType(), this);
         this.errorCallback = (operation, error) -> logger.error("Dispatcher error: {}, operation {}", error, operation.asCli());
+        this.writeListeners = new ArrayList<>();
+        this.resumableUploads = new HashMap<>();
+        this.uploadedContent = new HashSet<>();
+    }
+
+    /**
+     * Registers a listener which is called after an operation, which is not read-only, has been executed successfully. Use
+     * this to invalidate data cached on the client.
+     */
+    public void addWriteListener(Consumer<Operation> listener) {
+        writeListeners.add(listener);
     }
 
     // ------------------------------------------------------ execute composite
@@ -199,13 +219,17 @@ public class Dispatcher implements RecordingHandler {
      * "result" attribute.
      */
     public Promise<ModelNode> dmr(Operation operation) {
+        return dmr(operation, true);
+    }
+
+    Promise<ModelNode> dmr(Operation operation, boolean recordOperation) {
         RequestInit init = requestInit(POST, true);
         init.setBody(runAs(operation).toBase64String());
         Request request = new Request(endpoints.dmr(), init);
 
         return fetch(request)
                 .then(processResponse())
-                .then(processText(operation, new DmrPayloadProcessor(), true))
+                .then(processText(operation, new DmrPayloadProcessor(), recordOperation))
                 .catch_(rejectWithError());
     }
 
@@ -251,6 +275,74 @@ public class Dispatcher implements RecordingHandler {
                 .catch_(rejectWithError());
     }
 
+    /**
+     * Uploads the blobs as attachments of the operation. The operation refers to the blobs using their index in the array.
+     * The operation is not recorded.
+     */
+    Promise<ModelNode> upload(Blob[] blobs, String[] names, Operation operation) {
+        Operation uploadOperation = runAs(operation);
+        ConstructorBlobPartsArrayUnionType blob = ConstructorBlobPartsArrayUnionType.of(
+                uploadOperation.toBase64String());
+        BlobPropertyBag options = BlobPropertyBag.create();
+        options.setType("application/dmr-encoded");
+
+        FormData formData = new FormData();
+        for (int i = 0; i < blobs.length; i++) {
+            formData.append(String.valueOf(i), blobs[i], names[i]);
+        }
+        formData.append(OPERATION, new Blob(new ConstructorBlobPartsArrayUnionType[] { blob }, options));
+
+        RequestInit init = requestInit(POST, false);
+        init.setBody(formData);
+        Request request = new Request(endpoints.upload(), init);
+
+        return fetch(request)
+                .then(processResponse())
+                .then(processText(operation, new UploadPayloadProcessor(), false))
+                .catch_(rejectWithError());
+    }
+
+    /**
+     * Uploads the file to the content repository using {@code upload-deployment-stream}.
+     *
+     * @return the hash of the uploaded content
+     */
+    public Promise<byte[]> uploadContent(File file) {
+        Operation operation = new Operation.Builder(ResourceAddress.root(), UPLOAD_DEPLOYMENT_STREAM)
+                .param(INPUT_STREAM_INDEX, 0)
+                .build();
+        return upload(file, operation).then(payload -> {
+            byte[] hash = payload.get(RESULT).asBytes();
+            uploadedContent.add(ContentHasher.toHex(hash));
+            return Promise.resolve(hash);
+        });
+    }
+
+    /**
+     * Returns a resumable upload for the file. Use this for large files where the upload might fail due to network issues.
+     * <p>
+     * If a previous upload of the same file (same name, size and modification date) failed, the pending upload is returned,
+     * so that it resumes where the previous one stopped.
+     *
+     * @see ResumableUpload
+     */
+    public ResumableUpload resumableUpload(File file) {
+        return resumableUploads.computeIfAbsent(ResumableUpload.key(file),
+                key -> new ResumableUpload(this, contentHasher, file));
+    }
+
+    void finished(ResumableUpload upload) {
+        resumableUploads.remove(upload.key());
+    }
+
+    /**
+     * @return the hashes of the content uploaded to the content repository by this console. The content might not be
+     *         referenced by any deployment.
+     */
+    Set<String> uploadedContent() {
+        return uploadedContent;
+    }
+
     // ------------------------------------------------------ download
 
     public void download(Operation operation, Consumer<String> success) {
@@ -379,6 +471,11 @@ public class Dispatcher implements RecordingHandler {
             logger.trace("DMR operation: {}", operation);
             ModelNode payload = payloadProcessor.processPayload(POST, APPLICATION_DMR_ENCODED, text);
             if (!payload.isFailure()) {
+                if (!writeListeners.isEmpty() && !readOnlyOperation(operation)) {
+                    for (Consumer<Operation> listener : writeListeners) {
+                        listener.accept(operation);
+                    }
+                }
                 if (environment.isStandalone()) {
                     if (payload.hasDefined(RESPONSE_HEADERS)) {
                         Header[] headers = new Header[] { new Header(payload.get(RESPONSE_HEADERS)) };
@@ -0,0 +1,529 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.dispatch;
+
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.function.Supplier;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Operation;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.dispatch.ContentHasher.Entry;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.dom.File;
+import elemental2.promise.Promise;
+
+import static elemental2.dom.DomGlobal.setTimeout;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ADD_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ARCHIVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.BROWSE_CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CHILD_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CONTENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DEPLOYMENT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EMPTY;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ENABLED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.HASH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.INPUT_STREAM_INDEX;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OVERWRITE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.PATH;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_ATTRIBUTE_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.REMOVE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.RESULT;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TARGET_PATH;
+
+/**
+ * Uploads a (large) file in separate steps which can be retried and resumed independently:
+ * <ol>
+ * <li>If the content repository already contains content with the same hash (see {@link #existingContent(Set)}), the
+ * transfer is skipped and the operation references the existing content. The file is hashed slice by slice in a web
+ * worker.</li>
+ * <li>Files up to the {@linkplain #threshold(double) threshold} are uploaded together with the operation using one
+ * request.</li>
+ * <li>Bigger files are uploaded to the content repository as one attachment using {@code upload-deployment-stream}.
+ * The hash returned by the server is verified against the local hash. Archives stay archives.</li>
+ * <li>Only if {@linkplain #exploded(boolean) explicitly requested}, bigger zip archives are uploaded entry by entry into
+ * an exploded staging deployment using {@code add-content}. The entries are grouped to chunks of about one
+ * {@linkplain #sliceSize(int) slice}. The worker verifies the CRC-32 checksum of each entry, the sizes of the staged
+ * entries are verified against the archive. If an upload is interrupted, the next attempt only uploads the missing
+ * entries, even if the page was reloaded in between.</li>
+ * <li>The actual operation (e.g. {@code add} or {@code full-replace-deployment}) is executed with a reference to the
+ * uploaded content hash instead of an attached input stream.</li>
+ * </ol>
+ * Failed chunks and transfers are retried with an exponential backoff. If a step finally fails, calling
+ * {@link #upload(Operation)} again (or uploading the same file using {@link Dispatcher#resumableUpload(File)}) resumes
+ * with that step and doesn't transfer the bytes which are already on the server.
+ * <p>
+ * The management model has no operation to concatenate content. That's why chunked archives end up as managed exploded
+ * deployments. The staging deployment is named {@code <file>}{@value #STAGING_SUFFIX} and disabled. It's removed once
+ * the upload has finished. A staging deployment left behind by an interrupted upload is removed as soon as the same
+ * file is uploaded as an archive. None of the operations is recorded as part of a macro.
+ */
+public class ResumableUpload {
+
+    /** Number of attempts to upload a chunk or the bytes before giving up. */
+    public static final int DEFAULT_ATTEMPTS = 3;
+
+    /** Initial delay in milliseconds before an upload is retried. Doubled for each further attempt. */
+    public static final long DEFAULT_BACKOFF = 2_000;
+
+    /** Files bigger than this are uploaded in two steps resp. in chunks. */
+    public static final double DEFAULT_THRESHOLD = 64 * 1024 * 1024;
+
+    /** Suffix of the exploded deployment which stages the entries of an archive. */
+    static final String STAGING_SUFFIX = ".hal-upload-staging";
+
+    private static final int MAX_ENTRIES_PER_CHUNK = 500;
+    private static final String DIRECTORY = "directory";
+    private static final String FILE_SIZE = "file-size";
+    private static final Logger logger = LoggerFactory.getLogger(ResumableUpload.class);
+
+    static String key(File file) {
+        return file.name + "|" + file.size + "|" + file.lastModified;
+    }
+
+    private final Dispatcher dispatcher;
+    private final ContentHasher contentHasher;
+    private final File file;
+    private final String staging;
+    private int sliceSize;
+    private int attempts;
+    private long backoff;
+    private double threshold;
+    private Set<String> existingContent;
+    private String localHash;
+    private byte[] uploadedHash;
+    private boolean orphan;
+    private boolean archive;
+    private boolean exploded;
+    private boolean chunkable;
+    private Entry[] entries;
+    private Set<String> staged;
+
+    ResumableUpload(Dispatcher dispatcher, ContentHasher contentHasher, File file) {
+        this.dispatcher = dispatcher;
+        this.contentHasher = contentHasher;
+        this.file = file;
+        this.staging = file.name + STAGING_SUFFIX;
+        this.sliceSize = ContentHasher.DEFAULT_SLICE_SIZE;
+        this.attempts = DEFAULT_ATTEMPTS;
+        this.backoff = DEFAULT_BACKOFF;
+        this.threshold = DEFAULT_THRESHOLD;
+        this.existingContent = Collections.emptySet();
+        this.archive = true;
+        this.chunkable = true;
+    }
+
+    public ResumableUpload sliceSize(int sliceSize) {
+        this.sliceSize = sliceSize;
+        return this;
+    }
+
+    public ResumableUpload attempts(int attempts) {
+        this.attempts = Math.max(1, attempts);
+        return this;
+    }
+
+    public ResumableUpload backoff(long backoff) {
+        this.backoff = backoff;
+        return this;
+    }
+
+    public ResumableUpload threshold(double threshold) {
+        this.threshold = threshold;
+        return this;
+    }
+
+    /**
+     * Whether bigger zip archives should be uploaded entry by entry into an exploded staging deployment. Such uploads can
+     * be resumed entry by entry, but the resulting deployment is a managed exploded deployment. Defaults to
+     * {@code false}: Archives are uploaded as one attachment and deployed as archives.
+     */
+    public ResumableUpload exploded(boolean exploded) {
+        this.exploded = exploded;
+        return this;
+    }
+
+    /**
+     * @param hashes the hashes of the content already present in the content repository as hex strings
+     */
+    public ResumableUpload existingContent(Set<String> hashes) {
+        this.existingContent = hashes;
+        return this;
+    }
+
+    /**
+     * Uploads the file (unless already done by a previous call) and executes the operation using the hash of the uploaded
+     * content.
+     *
+     * @param operation an operation with a {@code content} parameter like {@code add} or {@code full-replace-deployment}. Any
+     *        existing {@code content} is replaced by a reference to the uploaded content.
+     * @return the payload of the operation
+     */
+    public Promise<ModelNode> upload(Operation operation) {
+        return hash(false)
+                .then(__ -> {
+                    if (uploadedHash == null && !deduplicated() && file.size <= threshold) {
+                        return dispatcher.upload(file, operation);
+                    }
+                    return content().then(hash -> execute(operation, hash));
+                })
+                .then(payload -> {
+                    finished();
+                    return Promise.resolve(payload);
+                });
+    }
+
+    String key() {
+        return key(file);
+    }
+
+    /** @return the local hash of the file as hex string or {@code null} if the file has not been hashed */
+    public String localHash() {
+        return localHash;
+    }
+
+    /** @return whether the bytes have been uploaded to the content repository or the content was already present */
+    public boolean uploaded() {
+        return uploadedHash != null;
+    }
+
+    /** @return whether the content was already present in the content repository and the transfer has been skipped */
+    public boolean deduplicated() {
+        return localHash != null && knownContent().contains(localHash);
+    }
+
+    private Set<String> knownContent() {
+        if (dispatcher.uploadedContent().isEmpty()) {
+            return existingContent;
+        }
+        Set<String> known = new HashSet<>(existingContent);
+        known.addAll(dispatcher.uploadedContent());
+        return known;
+    }
+
+    // ------------------------------------------------------ hash
+
+    private Promise<String> hash(boolean force) {
+        if (localHash != null || !contentHasher.isSupported() || (!force && knownContent().isEmpty())) {
+            // hash only if there's something to compare with
+            return Promise.resolve(localHash);
+        }
+        return contentHasher.sha1(file, sliceSize)
+                .then(hash -> {
+                    localHash = hash;
+                    return Promise.resolve(hash);
+                })
+                .catch_(error -> {
+                    logger.warn("Unable to hash {}: {}", file.name, error);
+                    return Promise.resolve((String) null);
+                });
+    }
+
+    // ------------------------------------------------------ content
+
+    private Promise<byte[]> content() {
+        if (uploadedHash != null) {
+            logger.debug("Content of {} already uploaded. Skip transfer.", file.name);
+            return Promise.resolve(uploadedHash);
+        }
+        if (deduplicated()) {
+            logger.info("Content of {} already exists in the content repository ({}). Skip transfer.", file.name,
+                    localHash);
+            orphan = !existingContent.contains(localHash);
+            uploadedHash = ContentHasher.fromHex(localHash);
+            return Promise.resolve(uploadedHash);
+        }
+        if (exploded) {
+            return entries().then(entries -> entries != null ? chunked(entries) : transfer());
+        }
+        return transfer();
+    }
+
+    private Promise<ModelNode> execute(Operation operation, byte[] hash) {
+        return dispatcher.dmr(withHash(operation, hash), false).catch_(error -> {
+            if (orphan) {
+                // content which is not referenced by any deployment might have been removed in the meantime
+                logger.info("Unable to reference content {} for {}: {}. Upload content again.", localHash, file.name,
+                        error);
+                dispatcher.uploadedContent().remove(localHash);
+                orphan = false;
+                uploadedHash = null;
+                return content().then(h -> dispatcher.dmr(withHash(operation, h), false));
+            }
+            return Promise.reject(error);
+        });
+    }
+
+    private Operation withHash(Operation operation, byte[] hash) {
+        Operation hashOperation = new Operation(operation);
+        ModelNode content = new ModelNode();
+        content.get(HASH).set(hash);
+        if (!archive) {
+            content.get(ARCHIVE).set(false);
+        }
+        hashOperation.get(CONTENT).setEmptyList();
+        hashOperation.get(CONTENT).add(content);
+        return hashOperation;
+    }
+
+    private void finished() {
+        dispatcher.finished(this);
+        if (staged != null) {
+            // the final deployment holds its own reference to the content
+            removeStaging();
+        } else if (!exploded && file.size > threshold) {
+            // a staging deployment of an interrupted exploded upload is no longer needed
+            stagingExists().then(exists -> {
+                if (exists) {
+                    logger.info("Remove stale staging deployment {}", staging);
+                    removeStaging();
+                }
+                return null;
+            });
+        }
+    }
+
+    private void removeStaging() {
+        Operation operation = new Operation.Builder(stagingAddress(), REMOVE).build();
+        dispatcher.dmr(operation, false).catch_(error -> {
+            logger.warn("Unable to remove staging deployment {}: {}", staging, error);
+            return null;
+        });
+    }
+
+    // ------------------------------------------------------ transfer as one attachment
+
+    private Promise<byte[]> transfer() {
+        return hash(true)
+                .then(__ -> retry(() -> dispatcher.uploadContent(file), 1))
+                .then(hash -> {
+                    String remoteHash = ContentHasher.toHex(hash);
+                    if (localHash != null && !localHash.equals(remoteHash)) {
+                        return Promise.reject("Content hash mismatch for " + file.name + ": Expected " + localHash +
+                                ", but server returned " + remoteHash);
+                    }
+                    uploadedHash = hash;
+                    return Promise.resolve(hash);
+                });
+    }
+
+    // ------------------------------------------------------ chunked transfer
+
+    private Promise<Entry[]> entries() {
+        if (entries != null || !chunkable) {
+            return Promise.resolve(entries);
+        }
+        return contentHasher.entries(file)
+                .then(e -> {
+                    entries = e;
+                    return Promise.resolve(e);
+                })
+                .catch_(error -> {
+                    logger.info("Unable to read entries of {}: {}. Upload as one attachment.", file.name, error);
+                    chunkable = false;
+                    return Promise.resolve((Entry[]) null);
+                });
+    }
+
+    private Promise<byte[]> chunked(Entry[] entries) {
+        return stage()
+                .then(__ -> {
+                    List<List<Entry>> chunks = chunks(entries);
+                    logger.info("Upload {} in {} chunk(s), {} of {} entries already staged", file.name, chunks.size(),
+                            staged.size(), entries.length);
+                    return uploadChunks(chunks, 0);
+                })
+                .then(__ -> verify(entries))
+                .then(hash -> {
+                    archive = false;
+                    uploadedHash = hash;
+                    return Promise.resolve(hash);
+                });
+    }
+
+    /** Creates the staging deployment or reads the entries staged by a previous (interrupted) upload. */
+    private Promise<Void> stage() {
+        if (staged != null) {
+            return Promise.resolve((Void) null);
+        }
+        return stagingExists().then(exists -> {
+            if (exists) {
+                return browse().then(sizes -> {
+                    Set<String> resumed = new HashSet<>();
+                    for (Entry entry : entries) {
+                        Long size = sizes.get(entry.name);
+                        if (size != null && size == (long) entry.size) {
+                            resumed.add(entry.name);
+                        }
+                    }
+                    staged = resumed;
+                    return Promise.resolve((Void) null);
+                });
+            } else {
+                ModelNode content = new ModelNode();
+                content.get(EMPTY).set(true);
+                Operation add = new Operation.Builder(stagingAddress(), ADD)
+                        .param(CONTENT, new ModelNode().add(content))
+                        .param(ENABLED, false)
+                        .build();
+                return dispatcher.dmr(add, false).then(__ -> {
+                    staged = new HashSet<>();
+                    return Promise.resolve((Void) null);
+                });
+            }
+        });
+    }
+
+    private List<List<Entry>> chunks(Entry[] entries) {
+        List<List<Entry>> chunks = new ArrayList<>();
+        List<Entry> chunk = new ArrayList<>();
+        double chunkSize = 0;
+        for (Entry entry : entries) {
+            if (!staged.contains(entry.name)) {
+                if (!chunk.isEmpty() && (chunkSize + entry.size > sliceSize || chunk.size() == MAX_ENTRIES_PER_CHUNK)) {
+                    chunks.add(chunk);
+                    chunk = new ArrayList<>();
+                    chunkSize = 0;
+                }
+                chunk.add(entry);
+                chunkSize += entry.size;
+            }
+        }
+        if (!chunk.isEmpty()) {
+            chunks.add(chunk);
+        }
+        return chunks;
+    }
+
+    private Promise<Void> uploadChunks(List<List<Entry>> chunks, int index) {
+        if (index >= chunks.size()) {
+            return Promise.resolve((Void) null);
+        }
+        List<Entry> chunk = chunks.get(index);
+        return retry(() -> uploadChunk(chunk), 1).then(__ -> {
+            logger.debug("Uploaded chunk {} of {} for {}", index + 1, chunks.size(), file.name);
+            return uploadChunks(chunks, index + 1);
+        });
+    }
+
+    private Promise<Void> uploadChunk(List<Entry> chunk) {
+        return contentHasher.extract(file, chunk).then(blobs -> {
+            String[] names = new String[chunk.size()];
+            ModelNode content = new ModelNode();
+            for (int i = 0; i < chunk.size(); i++) {
+                names[i] = chunk.get(i).name;
+                ModelNode item = new ModelNode();
+                item.get(INPUT_STREAM_INDEX).set(i);
+                item.get(TARGET_PATH).set(names[i]);
+                content.add(item);
+            }
+            Operation operation = new Operation.Builder(stagingAddress(), ADD_CONTENT)
+                    .param(CONTENT, content)
+                    .param(OVERWRITE, true)
+                    .build();
+            return dispatcher.upload(blobs, names, operation);
+        }).then(__ -> {
+            for (Entry entry : chunk) {
+                staged.add(entry.name);
+            }
+            return Promise.resolve((Void) null);
+        });
+    }
+
+    /** Verifies the sizes of the staged entries and returns the hash of the staged content. */
+    private Promise<byte[]> verify(Entry[] entries) {
+        return browse().then(sizes -> {
+            List<String> invalid = new ArrayList<>();
+            for (Entry entry : entries) {
+                Long size = sizes.get(entry.name);
+                if (size == null || size != (long) entry.size) {
+                    invalid.add(entry.name);
+                }
+            }
+            if (!invalid.isEmpty()) {
+                // upload them again on the next attempt
+                staged.removeAll(invalid);
+                return Promise.reject("Staged content of " + file.name + " differs from the archive: " + invalid);
+            }
+            Operation operation = new Operation.Builder(stagingAddress(), READ_ATTRIBUTE_OPERATION)
+                    .param(NAME, CONTENT)
+                    .build();
+            return dispatcher.dmr(operation, false)
+                    .then(payload -> Promise.resolve(payload.get(RESULT).asList().get(0).get(HASH).asBytes()));
+        });
+    }
+
+    /** @return the sizes of the staged files by path */
+    private Promise<Map<String, Long>> browse() {
+        Operation operation = new Operation.Builder(stagingAddress(), BROWSE_CONTENT).build();
+        return dispatcher.dmr(operation, false).then(payload -> {
+            Map<String, Long> sizes = new HashMap<>();
+            for (ModelNode node : payload.get(RESULT).asList()) {
+                if (!node.get(DIRECTORY).asBoolean(false)) {
+                    sizes.put(node.get(PATH).asString(), node.get(FILE_SIZE).asLong());
+                }
+            }
+            return Promise.resolve(sizes);
+        });
+    }
+
+    private Promise<Boolean> stagingExists() {
+        Operation operation = new Operation.Builder(ResourceAddress.root(), READ_CHILDREN_NAMES_OPERATION)
+                .param(CHILD_TYPE, DEPLOYMENT)
+                .build();
+        return dispatcher.dmr(operation, false).then(payload -> Promise.resolve(
+                payload.get(RESULT).asList().stream().anyMatch(node -> staging.equals(node.asString()))));
+    }
+
+    private ResourceAddress stagingAddress() {
+        return new ResourceAddress().add(DEPLOYMENT, staging);
+    }
+
+    // ------------------------------------------------------ retry
+
+    private <T> Promise<T> retry(Supplier<Promise<T>> supplier, int attempt) {
+        return supplier.get().catch_(error -> {
+            if (attempt < attempts) {
+                long delay = backoff * (1L << (attempt - 1));
+                logger.warn("Upload of {} failed: {}. Retry {} of {} in {} ms", file.name, error, attempt,
+                        attempts - 1, delay);
+                return new Promise<>((resolve, reject) -> setTimeout(
+                        __ -> retry(supplier, attempt + 1)
+                                .then(value -> {
+                                    resolve.onInvoke(value);
+                                    return null;
+                                })
+                                .catch_(e -> {
+                                    reject.onInvoke(e);
+                                    return null;
+                                }),
+                        delay));
+            }
+            return Promise.reject(error);
+        });
+    }
+}
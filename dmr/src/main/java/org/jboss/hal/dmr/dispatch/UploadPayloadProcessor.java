@@ -15,11 +15,13 @@
  */
 package org.jboss.hal.dmr.dispatch;
 
+import org.jboss.hal.dmr.Base64;
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.dispatch.Dispatcher.HttpMethod;
 import org.jboss.hal.js.Json;
 import org.jboss.hal.js.JsonObject;
 import org.jboss.hal.js.JsonType;
+import org.jboss.hal.js.JsonValue;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.resources.Names.UNKNOWN;
@@ -27,6 +29,7 @@ import static org.jboss.hal.resources.Names.UNKNOWN;
 public class UploadPayloadProcessor implements PayloadProcessor {
 
     private static final String FAILURE = "failure";
+    private static final String BYTES_VALUE = "BYTES_VALUE";
 
     @Override
     public ModelNode processPayload(final HttpMethod method, final String contentType, final String payload) {
@@ -42,7 +45,10 @@ public class UploadPayloadProcessor implements PayloadProcessor {
             node.get(OUTCOME).set(jsonOutcome);
 
             if (SUCCESS.equals(jsonOutcome)) {
-                if (jsonResponse.hasKey(RESULT)) {
+                if (jsonResponse.hasKey(RESULT) && isBytes(jsonResponse.get(RESULT))) {
+                    // e.g. the content hash returned by "upload-deployment-stream"
+                    node.get(RESULT).set(bytes(jsonResponse.getObject(RESULT).getString(BYTES_VALUE)));
+                } else if (jsonResponse.hasKey(RESULT)) {
                     node.get(RESULT).set(jsonResponse.get(RESULT).asString());
                 } else {
                     node.get(RESULT).set(new ModelNode());
@@ -61,6 +67,19 @@ public class UploadPayloadProcessor implements PayloadProcessor {
         return node;
     }
 
+    private boolean isBytes(JsonValue value) {
+        return value.getType() == JsonType.OBJECT && ((JsonObject) value).hasKey(BYTES_VALUE);
+    }
+
+    private byte[] bytes(String base64) {
+        String decoded = Base64.decode(base64);
+        byte[] bytes = new byte[decoded.length()];
+        for (int i = 0; i < bytes.length; i++) {
+            bytes[i] = (byte) decoded.charAt(i);
+        }
+        return bytes;
+    }
+
     private String extractFailure(final JsonObject jsonResponse) {
         String failure = UNKNOWN;
         JsonType type = jsonResponse.get(FAILURE_DESCRIPTION).getType();
@@ -22,4 +22,7 @@ public interface MacroOptionsResources extends ClientBundle {
 
     @Source("macroOptions.base64")
     TextResource macroOptions();
+
+    @Source("macroPlayback.base64")
+    TextResource macroPlayback();
 }
@@ -0,0 +1,60 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.macro;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.NamedNode;
+
+/**
+ * Options for the playback of a macro. By default the operations are executed step by step. Batches of composite
+ * operations and atomic playback have to be chosen explicitly.
+ */
+public class PlaybackOptions extends NamedNode {
+
+    public static final String MODE = "mode";
+    public static final String STEP_BY_STEP = "step-by-step";
+    public static final String BATCH = "batch";
+    public static final String ATOMIC = "atomic";
+    public static final String BATCH_SIZE = "batch-size";
+    public static final String DRY_RUN = "dry-run";
+    public static final int DEFAULT_BATCH_SIZE = 20;
+
+    public PlaybackOptions() {
+        super("", new ModelNode());
+        get(MODE).set(STEP_BY_STEP);
+        get(BATCH_SIZE).set(DEFAULT_BATCH_SIZE);
+        get(DRY_RUN).set(false);
+    }
+
+    /**
+     * @return the number of operations per composite operation: 1 for step-by-step playback, the batch size for batch
+     *         playback and 0 (all operations) for atomic playback
+     */
+    public int batchSize() {
+        String mode = hasDefined(MODE) ? get(MODE).asString() : STEP_BY_STEP;
+        if (ATOMIC.equals(mode)) {
+            return 0;
+        } else if (BATCH.equals(mode)) {
+            return Math.max(1, get(BATCH_SIZE).asInt(DEFAULT_BATCH_SIZE));
+        } else {
+            return 1;
+        }
+    }
+
+    public boolean dryRun() {
+        return get(DRY_RUN).asBoolean(false);
+    }
+}
@@ -0,0 +1,91 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Test;
+
+import static org.junit.Assert.*;
+
+public class AddressKeyTest {
+
+    @Test
+    public void root() {
+        assertSame(AddressKey.ROOT, AddressKey.of(ResourceAddress.root()));
+        assertSame(AddressKey.ROOT, AddressKey.of("/"));
+        assertTrue(AddressKey.ROOT.isEmpty());
+        assertEquals(ResourceAddress.root().toString(), AddressKey.ROOT.toString());
+    }
+
+    @Test
+    public void interned() {
+        AddressKey key = AddressKey.of("/subsystem=datasources/data-source=ExampleDS");
+        assertSame(key, AddressKey.of(new ResourceAddress()
+                .add("subsystem", "datasources")
+                .add("data-source", "ExampleDS")));
+        assertSame(key, ResourceAddress.from("subsystem=datasources/data-source=ExampleDS").key());
+    }
+
+    @Test
+    public void segments() {
+        AddressKey key = AddressKey.of("/subsystem=datasources/data-source=ExampleDS");
+        assertEquals(2, key.size());
+        assertEquals("subsystem", key.getName(0));
+        assertEquals("datasources", key.getValue(0));
+        assertEquals("data-source", key.getName(1));
+        assertEquals("ExampleDS", key.getValue(1));
+    }
+
+    @Test
+    public void string() {
+        ResourceAddress address = ResourceAddress.from("/subsystem=datasources/data-source=ExampleDS");
+        assertEquals(address.toString(), address.key().toString());
+    }
+
+    @Test
+    public void roundTrip() {
+        ResourceAddress address = ResourceAddress.from("/host=primary/server=server-one/subsystem=undertow");
+        ResourceAddress converted = address.key().toAddress();
+        assertEquals(address, converted);
+        assertNotSame(address, converted);
+    }
+
+    @Test
+    public void parent() {
+        AddressKey key = AddressKey.of("/subsystem=datasources/data-source=ExampleDS");
+        assertSame(AddressKey.of("/subsystem=datasources"), key.getParent());
+        assertSame(AddressKey.ROOT, key.getParent().getParent());
+        assertSame(AddressKey.ROOT, AddressKey.ROOT.getParent());
+    }
+
+    @Test
+    public void startsWith() {
+        AddressKey key = AddressKey.of("/subsystem=datasources/data-source=ExampleDS");
+        assertTrue(key.startsWith(AddressKey.ROOT));
+        assertTrue(key.startsWith(AddressKey.of("/subsystem=datasources")));
+        assertTrue(key.startsWith(key));
+        assertFalse(key.startsWith(AddressKey.of("/subsystem=ee")));
+        assertFalse(AddressKey.of("/subsystem=datasources").startsWith(key));
+    }
+
+    @Test
+    public void equalsAndHashCode() {
+        AddressKey a = AddressKey.of("/a=b/c=d");
+        AddressKey b = AddressKey.of("/a=b/c=e");
+        assertNotEquals(a, b);
+        assertEquals(a, AddressKey.of("a=b/c=d"));
+        assertEquals(a.hashCode(), AddressKey.of("a=b/c=d").hashCode());
+    }
+}
@@ -0,0 +1,162 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class CopyOnWriteTest {
+
+    private ModelNode original;
+
+    @Before
+    public void setUp() {
+        original = new ModelNode();
+        original.get("attributes").get("foo").get("type").set(ModelType.STRING);
+        original.get("attributes").get("bar").get("type").set(ModelType.INT);
+        original.get("list").add("a").add("b");
+        original.get("list").add().get("c").set("d");
+        original.get("pair").add("key").add().get("e").set("f");
+        original.protect();
+    }
+
+    @Test
+    public void equalCopy() {
+        ModelNode copy = original.clone();
+        assertEquals(original, copy);
+        assertEquals(original.toString(), copy.toString());
+        assertEquals(original.toJSONString(), copy.toJSONString());
+    }
+
+    @Test
+    public void modifyObject() {
+        ModelNode copy = original.clone();
+        copy.get("attributes").get("foo").get("type").set(ModelType.BOOLEAN);
+        copy.get("attributes").remove("bar");
+        copy.get("new").set(true);
+
+        assertEquals(ModelType.BOOLEAN, copy.get("attributes").get("foo").get("type").asType());
+        assertFalse(copy.get("attributes").has("bar"));
+        assertTrue(copy.get("new").asBoolean());
+
+        assertEquals(ModelType.STRING, original.get("attributes").get("foo").get("type").asType());
+        assertTrue(original.get("attributes").has("bar"));
+        assertFalse(original.has("new"));
+    }
+
+    @Test
+    public void modifyList() {
+        ModelNode copy = original.clone();
+        copy.get("list").get(0).set("z");
+        copy.get("list").get(2).get("c").set("e");
+        copy.get("list").add("y");
+
+        assertEquals("z", copy.get("list").get(0).asString());
+        assertEquals("e", copy.get("list").get(2).get("c").asString());
+        assertEquals(4, copy.get("list").asList().size());
+
+        assertEquals("a", original.get("list").get(0).asString());
+        assertEquals("d", original.get("list").get(2).get("c").asString());
+        assertEquals(3, original.get("list").asList().size());
+    }
+
+    @Test
+    public void modifyKeys() {
+        ModelNode copy = original.clone();
+        ModelNode attributes = copy.get("attributes");
+        for (String key : attributes.keys()) {
+            attributes.get(key).get("label").set(key);
+        }
+
+        assertEquals("foo", copy.get("attributes").get("foo").get("label").asString());
+        assertEquals("bar", copy.get("attributes").get("bar").get("label").asString());
+        assertFalse(original.get("attributes").get("foo").has("label"));
+        assertFalse(original.get("attributes").get("bar").has("label"));
+    }
+
+    @Test
+    public void modifyNestedByIndex() {
+        ModelNode copy = original.clone();
+        copy.get("pair").get(1).get("e").set("g");
+        copy.get("pair").get(1).get("h").set("i");
+
+        assertEquals("g", copy.get("pair").get(1).get("e").asString());
+        assertEquals("i", copy.get("pair").get(1).get("h").asString());
+        assertEquals("f", original.get("pair").get(1).get("e").asString());
+        assertFalse(original.get("pair").get(1).has("h"));
+    }
+
+    @Test
+    public void modifyChildOfCopy() {
+        // mirrors Metadata.forComplexAttribute(): copy a nested description and modify it
+        ModelNode child = original.get("attributes").get("foo").clone();
+        child.get("type").set(ModelType.LONG);
+        child.get("nillable").set(true);
+
+        assertEquals(ModelType.LONG, child.get("type").asType());
+        assertEquals(ModelType.STRING, original.get("attributes").get("foo").get("type").asType());
+        assertFalse(original.get("attributes").get("foo").has("nillable"));
+    }
+
+    @Test
+    public void independentCopies() {
+        ModelNode first = original.clone();
+        ModelNode second = original.clone();
+        first.get("attributes").get("foo").get("type").set(ModelType.BOOLEAN);
+        second.get("list").get(2).get("c").set("x");
+
+        assertEquals(ModelType.STRING, second.get("attributes").get("foo").get("type").asType());
+        assertEquals("d", first.get("list").get(2).get("c").asString());
+        assertEquals(ModelType.STRING, original.get("attributes").get("foo").get("type").asType());
+        assertEquals("d", original.get("list").get(2).get("c").asString());
+    }
+
+    @Test
+    public void copyOfCopy() {
+        ModelNode copy = original.clone();
+        ModelNode copyOfCopy = copy.clone();
+        copy.get("attributes").get("foo").get("type").set(ModelType.LONG);
+
+        assertEquals(ModelType.STRING, copyOfCopy.get("attributes").get("foo").get("type").asType());
+        assertEquals(ModelType.STRING, original.get("attributes").get("foo").get("type").asType());
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void protectCopy() {
+        ModelNode copy = original.clone();
+        copy.protect();
+        copy.get("attributes").get("baz");
+    }
+
+    @Test(expected = UnsupportedOperationException.class)
+    public void originalStaysProtected() {
+        original.clone().get("attributes").get("baz");
+        original.get("attributes").get("baz");
+    }
+
+    @Test
+    public void unprotected() {
+        ModelNode node = new ModelNode();
+        node.get("foo").set("bar");
+        ModelNode copy = node.clone();
+        copy.get("foo").set("baz");
+        assertEquals("bar", node.get("foo").asString());
+    }
+}
@@ -0,0 +1,122 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr;
+
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ACCESS_TYPE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ALLOWED;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.TYPE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertSame;
+
+public class StringTableTest {
+
+    @Test
+    public void seeded() {
+        StringTable table = new StringTable(16, TYPE, ACCESS_TYPE);
+        assertEquals(2, table.size());
+        assertSame(TYPE, lookup(table, "type"));
+        assertSame(ACCESS_TYPE, lookup(table, "access-type"));
+        assertNull(lookup(table, "types"));
+    }
+
+    @Test
+    public void offset() {
+        StringTable table = new StringTable(16, TYPE);
+        byte[] buffer = bytes("xxtypexx");
+        assertSame(TYPE, table.lookup(buffer, 2, 4));
+        assertNull(table.lookup(buffer, 1, 4));
+    }
+
+    @Test
+    public void add() {
+        StringTable table = new StringTable(16);
+        byte[] buffer = bytes("read-write");
+        String value = new String("read-write");
+        table.add(buffer, 0, buffer.length, value);
+        table.add(buffer, 0, buffer.length, new String("read-write"));
+        assertEquals(1, table.size());
+        assertSame(value, lookup(table, "read-write"));
+    }
+
+    @Test
+    public void bounded() {
+        StringTable table = new StringTable(8);
+        for (int i = 0; i < 10; i++) {
+            String value = "value-" + i;
+            byte[] buffer = bytes(value);
+            table.add(buffer, 0, buffer.length, value);
+        }
+        assertEquals(4, table.size());
+        assertEquals("value-3", lookup(table, "value-3"));
+        assertNull(lookup(table, "value-4"));
+    }
+
+    @Test
+    public void tooLong() {
+        StringTable table = new StringTable(16);
+        String value = "a-very-long-attribute-name-which-is-not-interned";
+        byte[] buffer = bytes(value);
+        table.add(buffer, 0, buffer.length, value);
+        assertEquals(0, table.size());
+    }
+
+    @Test
+    public void instance() {
+        assertSame(TYPE, lookup(StringTable.INSTANCE, "type"));
+    }
+
+    @Test
+    public void decodeInternsKeysAndAllowedValues() throws IOException {
+        org.jboss.dmr.ModelNode node = new org.jboss.dmr.ModelNode();
+        node.get("intern-test-key").set("intern-test-value");
+        node.get(ALLOWED).add("intern-test-allowed");
+        node.get("intern-test-list").add("intern-test-list-value");
+        node.get("intern-test-property").set("intern-test-name", "intern-test-property-value");
+        decode(node);
+
+        assertSame(lookup(StringTable.INSTANCE, "intern-test-key"), decode(node).keys().iterator().next());
+        assertEquals("intern-test-name", lookup(StringTable.INSTANCE, "intern-test-name"));
+        assertEquals("intern-test-allowed", lookup(StringTable.INSTANCE, "intern-test-allowed"));
+        assertNull(lookup(StringTable.INSTANCE, "intern-test-value"));
+        assertNull(lookup(StringTable.INSTANCE, "intern-test-list-value"));
+        assertNull(lookup(StringTable.INSTANCE, "intern-test-property-value"));
+    }
+
+    private ModelNode decode(org.jboss.dmr.ModelNode node) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        node.writeExternal(new DataOutputStream(out));
+        ModelNode decoded = new ModelNode();
+        decoded.readExternal(new DataInput(out.toByteArray()));
+        return decoded;
+    }
+
+    private String lookup(StringTable table, String value) {
+        byte[] buffer = bytes(value);
+        return table.lookup(buffer, 0, buffer.length);
+    }
+
+    private byte[] bytes(String value) {
+        return value.getBytes(StandardCharsets.UTF_8);
+    }
+}
@@ -0,0 +1,62 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.dmr.macro;
+
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.macro.PlaybackOptions.ATOMIC;
+import static org.jboss.hal.dmr.macro.PlaybackOptions.BATCH;
+import static org.jboss.hal.dmr.macro.PlaybackOptions.BATCH_SIZE;
+import static org.jboss.hal.dmr.macro.PlaybackOptions.MODE;
+import static org.junit.Assert.assertEquals;
+
+public class PlaybackOptionsTest {
+
+    @Test
+    public void stepByStepByDefault() {
+        PlaybackOptions options = new PlaybackOptions();
+        options.get(BATCH_SIZE).set(50);
+
+        assertEquals(1, options.batchSize());
+    }
+
+    @Test
+    public void undefinedMode() {
+        PlaybackOptions options = new PlaybackOptions();
+        options.remove(MODE);
+
+        assertEquals(1, options.batchSize());
+    }
+
+    @Test
+    public void batch() {
+        PlaybackOptions options = new PlaybackOptions();
+        options.get(MODE).set(BATCH);
+        assertEquals(PlaybackOptions.DEFAULT_BATCH_SIZE, options.batchSize());
+
+        options.get(BATCH_SIZE).set(5);
+        assertEquals(5, options.batchSize());
+    }
+
+    @Test
+    public void atomic() {
+        PlaybackOptions options = new PlaybackOptions();
+        options.get(MODE).set(ATOMIC);
+        options.get(BATCH_SIZE).set(5);
+
+        assertEquals(0, options.batchSize());
+    }
+}
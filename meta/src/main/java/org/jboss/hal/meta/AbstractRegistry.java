@@ -15,28 +15,28 @@
  */
 package org.jboss.hal.meta;
 
-import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.dmr.AddressKey;
 
 /** Abstract registry which uses the specified statement context to resolve the address template. */
 public abstract class AbstractRegistry<T> implements Registry<T> {
 
-    private final StatementContext statementContext;
+    private final ResolutionCache resolutionCache;
     protected final String type;
 
     protected AbstractRegistry(StatementContext statementContext, String type) {
-        this.statementContext = statementContext;
+        this.resolutionCache = new ResolutionCache(statementContext);
         this.type = type;
     }
 
     @Override
     public boolean contains(AddressTemplate template) {
-        ResourceAddress address = resolveTemplate(template);
+        AddressKey address = resolveTemplate(template);
         return lookupAddress(address) != null;
     }
 
     @Override
     public T lookup(AddressTemplate template) throws MissingMetadataException {
-        ResourceAddress address = resolveTemplate(template);
+        AddressKey address = resolveTemplate(template);
         T metadata = lookupAddress(address);
         if (metadata == null) {
             throw new MissingMetadataException(type, template);
@@ -44,9 +44,10 @@ public abstract class AbstractRegistry<T> implements Registry<T> {
         return metadata;
     }
 
-    protected ResourceAddress resolveTemplate(AddressTemplate template) {
-        return template.resolve(statementContext);
+    /** Resolves the template to an interned address key using a cache. */
+    protected AddressKey resolveTemplate(AddressTemplate template) {
+        return resolutionCache.resolve(template);
     }
 
-    protected abstract T lookupAddress(ResourceAddress address);
+    protected abstract T lookupAddress(AddressKey address);
 }
@@ -17,12 +17,12 @@ package org.jboss.hal.meta;
 
 import java.util.ArrayList;
 import java.util.Arrays;
-import java.util.HashMap;
+import java.util.HashSet;
 import java.util.Iterator;
 import java.util.LinkedList;
 import java.util.List;
-import java.util.Map;
 import java.util.NoSuchElementException;
+import java.util.Set;
 
 import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ModelNodeHelper;
@@ -30,9 +30,6 @@ import org.jboss.hal.dmr.Property;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.spi.EsParam;
 
-import com.google.common.collect.Lists;
-
-import static java.util.Collections.singletonList;
 import static java.util.stream.Collectors.joining;
 import static java.util.stream.Collectors.toList;
 
@@ -171,6 +168,7 @@ public final class AddressTemplate implements Iterable<String> {
     private final String template;
     private final LinkedList<Token> tokens;
     private final boolean optional;
+    private Instruction[] program;
 
     /**
      * Creates a new instance from an encoded string template. '/' characters inside values must have been encoded using
@@ -399,41 +397,24 @@ public final class AddressTemplate implements Iterable<String> {
 
         int wildcardCount = 0;
         ModelNode model = new ModelNode();
-        Memory<String[]> tupleMemory = new Memory<>();
-        Memory<String> valueMemory = new Memory<>();
-
-        for (Token token : tokens) {
-            if (!token.hasKey()) {
-                // a single token, something like "{foo}" of "bar"
-                String value = token.getValue();
-                String[] resolvedValue;
-
-                if (value.startsWith("{")) {
-                    String variable = value.substring(1, value.length() - 1);
-                    value = variable;
-                    if (!tupleMemory.contains(variable)) {
-                        String[] resolvedTuple = context.resolveTuple(variable, this);
-                        if (resolvedTuple != null) {
-                            tupleMemory.memorize(variable, singletonList(resolvedTuple));
-                        }
-                    }
-                    resolvedValue = tupleMemory.next(value);
-                } else {
-                    assert value.contains(EQUALS) : "Invalid token expression " + value;
-                    resolvedValue = value.split(EQUALS);
-                }
-
-                if (resolvedValue != null) {
-                    model.add(resolvedValue[0], ModelNodeHelper.decodeValue(resolvedValue[1]));
+        for (Instruction instruction : program()) {
+            if (instruction.tuple) {
+                // a single token, something like "{foo}"
+                String[] resolvedTuple = instruction.valueFirst ? context.resolveTuple(instruction.value, this) : null;
+                if (resolvedTuple != null) {
+                    model.add(resolvedTuple[0], ModelNodeHelper.decodeValue(resolvedTuple[1]));
                 }
 
             } else {
                 // a key/value token, something like "foo=bar", "foo=*", "{foo}=bar" or "foo={bar}"
-                String keyRef = token.getKey();
-                String valueRef = token.getValue();
-
-                String resolvedKey = resolveSome(context, valueMemory, keyRef);
-                String resolvedValue = resolveSome(context, valueMemory, valueRef);
+                String resolvedKey = instruction.key;
+                if (instruction.keyVariable) {
+                    resolvedKey = instruction.keyFirst ? context.resolve(instruction.key, this) : null;
+                }
+                String resolvedValue = instruction.value;
+                if (instruction.valueVariable) {
+                    resolvedValue = instruction.valueFirst ? context.resolve(instruction.value, this) : null;
+                }
 
                 if (resolvedKey == null) {
                     resolvedKey = BLANK;
@@ -443,32 +424,67 @@ public final class AddressTemplate implements Iterable<String> {
                 }
 
                 // wildcards
-                String addressValue = resolvedValue;
-                if ("*".equals(
-                        resolvedValue) && wildcards != null && wildcards.length > 0 && wildcardCount < wildcards.length) {
-                    addressValue = wildcards[wildcardCount];
+                if ("*".equals(resolvedValue) && wildcards != null && wildcardCount < wildcards.length) {
+                    model.add(resolvedKey, ModelNodeHelper.decodeValue(wildcards[wildcardCount]));
                     wildcardCount++;
+                } else if (instruction.valueVariable) {
+                    model.add(resolvedKey, ModelNodeHelper.decodeValue(resolvedValue));
+                } else {
+                    model.add(resolvedKey, instruction.decodedValue);
                 }
-                model.add(resolvedKey, ModelNodeHelper.decodeValue(addressValue));
             }
         }
         return new ResourceAddress(model);
     }
 
-    private String resolveSome(StatementContext context, Memory<String> memory, String input) {
-        String resolved;
-        if (input.startsWith("{")) {
-            input = input.substring(1, input.length() - 1);
-            if (!memory.contains(input)) {
-                if (context.resolve(input, this) != null) {
-                    memory.memorize(input, Lists.newArrayList(context.resolve(input, this)));
+    /**
+     * Returns the tokens of this template compiled into a flat list of instructions. The program is compiled on first use and
+     * reused by all subsequent calls to {@link #resolve(StatementContext, String...)}.
+     */
+    private Instruction[] program() {
+        if (program == null) {
+            // a variable is resolved only once per resolve() call, subsequent usages resolve to null
+            Set<String> tupleVariables = new HashSet<>();
+            Set<String> valueVariables = new HashSet<>();
+            Instruction[] instructions = new Instruction[tokens.size()];
+            int index = 0;
+            for (Token token : tokens) {
+                if (!token.hasKey()) {
+                    String value = token.getValue();
+                    if (value.startsWith("{")) {
+                        String variable = variable(value);
+                        instructions[index] = Instruction.tuple(variable, tupleVariables.add(variable));
+                    } else {
+                        assert value.contains(EQUALS) : "Invalid token expression " + value;
+                        String[] keyValue = value.split(EQUALS);
+                        instructions[index] = Instruction.segment(keyValue[0], false, false, keyValue[1], false,
+                                false);
+                    }
+                } else {
+                    String key = token.getKey();
+                    String value = token.getValue();
+                    boolean keyVariable = key.startsWith("{");
+                    boolean valueVariable = value.startsWith("{");
+                    if (keyVariable) {
+                        key = variable(key);
+                    }
+                    boolean keyFirst = keyVariable && valueVariables.add(key);
+                    if (valueVariable) {
+                        value = variable(value);
+                    }
+                    boolean valueFirst = valueVariable && valueVariables.add(value);
+                    instructions[index] = Instruction.segment(key, keyVariable, keyFirst, value, valueVariable,
+                            valueFirst);
                 }
+                index++;
             }
-            resolved = memory.next(input);
-        } else {
-            resolved = input;
+            program = instructions;
         }
-        return resolved;
+        return program;
+    }
+
+    private static String variable(String expression) {
+        return expression.substring(1, expression.length() - 1);
     }
 
     // ------------------------------------------------------ JS methods
@@ -496,34 +512,37 @@ public final class AddressTemplate implements Iterable<String> {
         String unresolve(String name, String value, boolean first, boolean last, int index, int size);
     }
 
-    private static class Memory<T> {
+    /** A compiled token: Either a tuple variable or a key/value segment with constant or variable parts. */
+    private static class Instruction {
 
-        final Map<String, List<T>> values = new HashMap<>();
-        final Map<String, Integer> indexes = new HashMap<>();
-
-        boolean contains(String key) {
-            return values.containsKey(key);
+        static Instruction tuple(String variable, boolean first) {
+            return new Instruction(true, null, false, false, variable, true, first);
         }
 
-        void memorize(String key, List<T> resolved) {
-            int startIdx = resolved.isEmpty() ? 0 : resolved.size() - 1;
-            values.put(key, resolved);
-            indexes.put(key, startIdx);
+        static Instruction segment(String key, boolean keyVariable, boolean keyFirst, String value,
+                boolean valueVariable, boolean valueFirst) {
+            return new Instruction(false, key, keyVariable, keyFirst, value, valueVariable, valueFirst);
         }
 
-        T next(String key) {
-            T result = null;
-
-            if (values.containsKey(key) && indexes.containsKey(key)) {
-                List<T> items = values.get(key);
-                Integer idx = indexes.get(key);
+        final boolean tuple;
+        final String key;
+        final boolean keyVariable;
+        final boolean keyFirst;
+        final String value;
+        final String decodedValue;
+        final boolean valueVariable;
+        final boolean valueFirst;
 
-                if (!items.isEmpty() && idx >= 0) {
-                    result = items.get(idx);
-                    indexes.put(key, --idx);
-                }
-            }
-            return result;
+        private Instruction(boolean tuple, String key, boolean keyVariable, boolean keyFirst, String value,
+                boolean valueVariable, boolean valueFirst) {
+            this.tuple = tuple;
+            this.key = key;
+            this.keyVariable = keyVariable;
+            this.keyFirst = keyFirst;
+            this.value = value;
+            this.decodedValue = valueVariable ? null : ModelNodeHelper.decodeValue(value);
+            this.valueVariable = valueVariable;
+            this.valueFirst = valueFirst;
         }
     }
 
@@ -68,6 +68,19 @@ public class FilteringStatementContext implements StatementContext {
         return delegate.selectedServer();
     }
 
+    /**
+     * Returns {@code -1} since filters are not necessarily stable. Subclasses whose filters depend on the delegate only should
+     * return {@code delegate().version()}.
+     */
+    @Override
+    public int version() {
+        return -1;
+    }
+
+    protected StatementContext delegate() {
+        return delegate;
+    }
+
     /**
      * Allows to modify resource names and placeholders. Methods should return {@code null} if no modification is necessary.
      */
@@ -16,10 +16,12 @@
 package org.jboss.hal.meta;
 
 import org.jboss.hal.meta.capabilitiy.Capabilities;
+import org.jboss.hal.meta.description.MetadataSnapshot;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
 import org.jboss.hal.meta.processing.MetadataProcessor;
 import org.jboss.hal.meta.processing.WorkerChannel;
+import org.jboss.hal.meta.search.MetadataSearch;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.jboss.hal.spi.GinModule;
@@ -34,6 +36,8 @@ public class MetaModule extends AbstractGinModule {
     protected void configure() {
         bind(Capabilities.class).in(Singleton.class);
         bind(MetadataProcessor.class).in(Singleton.class);
+        bind(MetadataSnapshot.class).in(Singleton.class);
+        bind(MetadataSearch.class).in(Singleton.class);
         bind(MetadataRegistry.class).in(Singleton.class);
         bind(ResourceDescriptionDatabase.class).in(Singleton.class);
         bind(ResourceDescriptionRegistry.class).in(Singleton.class);
@@ -0,0 +1,63 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import org.jboss.hal.dmr.AddressKey;
+
+/**
+ * Caches the resolved address keys of address templates for one statement context. The cache is dropped whenever the
+ * {@linkplain StatementContext#version() version} of the statement context changes. Statement contexts with a negative
+ * version are never cached.
+ */
+class ResolutionCache {
+
+    private static final int CACHE_SIZE = 1000;
+
+    private final StatementContext statementContext;
+    private final Map<AddressTemplate, AddressKey> addresses;
+    private int version;
+
+    ResolutionCache(StatementContext statementContext) {
+        this.statementContext = statementContext;
+        this.addresses = new LinkedHashMap<AddressTemplate, AddressKey>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<AddressTemplate, AddressKey> eldest) {
+                return size() > CACHE_SIZE;
+            }
+        };
+        this.version = -1;
+    }
+
+    AddressKey resolve(AddressTemplate template) {
+        int currentVersion = statementContext.version();
+        if (currentVersion < 0) {
+            return AddressKey.of(template.resolve(statementContext));
+        }
+        if (currentVersion != version) {
+            addresses.clear();
+            version = currentVersion;
+        }
+        AddressKey key = addresses.get(template);
+        if (key == null) {
+            key = AddressKey.of(template.resolve(statementContext));
+            addresses.put(template, key);
+        }
+        return key;
+    }
+}
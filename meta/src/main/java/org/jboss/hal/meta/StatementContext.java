@@ -107,6 +107,11 @@ public interface StatementContext {
         public String selectedServer() {
             return null;
         }
+
+        @Override
+        public int version() {
+            return 0;
+        }
     };
 
     /** Resolves a single value. */
@@ -132,4 +137,13 @@ public interface StatementContext {
 
     /** @return the selected server */
     String selectedServer();
+
+    /**
+     * Returns a version which changes whenever one of the values of this statement context changes. Resolved address
+     * templates can be cached as long as the version stays the same. A negative version means that resolved templates must
+     * not be cached.
+     */
+    default int version() {
+        return -1;
+    }
 }
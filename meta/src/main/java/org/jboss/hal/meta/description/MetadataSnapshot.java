@@ -0,0 +1,196 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.description;
+
+import java.util.Map;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.config.Version;
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.js.Browser;
+import org.jboss.hal.meta.AddressTemplate;
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import elemental2.core.Global;
+import elemental2.promise.Promise;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsProperty;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+import jsinterop.base.JsPropertyMap;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Static snapshot of the resource descriptions for one management model version and locale. Resource descriptions are
+ * the same for everyone running the same management model version, so the console can ship them instead of reading them
+ * on the first visit of a view. Security contexts depend on the user and are never part of a snapshot. They're still
+ * read from the server, but without the resource descriptions ({@code access-control=trim-descriptions}).
+ * <p>
+ * Snapshots are JSON files which are gzip compressed by the build and served from the {@value #PATH} folder of the
+ * console. The build lists the packaged snapshots in {@code metadata/snapshots.js}. The file name is built from the
+ * management model version and the locale (see {@link #fileName(Version, String)}). The snapshot for the current server
+ * is {@linkplain #load() loaded} during bootstrap and seeds the {@link ResourceDescriptionRegistry}. A snapshot is
+ * {@linkplain #create(Map) created} from the resource descriptions stored in the {@link ResourceDescriptionDatabase}.
+ */
+public class MetadataSnapshot {
+
+    static final String PATH = "metadata/";
+    private static final String EXTENSION = ".json";
+    private static final String COMPRESSED = ".gz";
+    private static final Logger logger = LoggerFactory.getLogger(MetadataSnapshot.class);
+
+    /** @return the (uncompressed) file name of the snapshot for the management model version and locale */
+    public static String fileName(Version version, String locale) {
+        return version(version) + "-" + locale + EXTENSION;
+    }
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class SnapshotLoader {
+
+        @JsMethod
+        static native Promise<Snapshot> loadMetadataSnapshot(String url);
+
+        // provided by metadata/snapshots.js, which is generated by the build
+        @JsProperty static String[] metadataSnapshots;
+    }
+
+    private final Environment environment;
+    private final Settings settings;
+    private final ResourceDescriptionRegistry resourceDescriptionRegistry;
+    private final ResourceDescriptionDatabase resourceDescriptionDatabase;
+
+    @Inject
+    public MetadataSnapshot(Environment environment, Settings settings,
+            ResourceDescriptionRegistry resourceDescriptionRegistry,
+            ResourceDescriptionDatabase resourceDescriptionDatabase) {
+        this.environment = environment;
+        this.settings = settings;
+        this.resourceDescriptionRegistry = resourceDescriptionRegistry;
+        this.resourceDescriptionDatabase = resourceDescriptionDatabase;
+    }
+
+    /**
+     * Loads the snapshot for the management model version of the server and the current locale and seeds the resource
+     * description registry. Never rejects: If there's no snapshot or the snapshot doesn't match the server, the console
+     * reads the resource descriptions from the server as usual.
+     *
+     * @return the number of resource descriptions in the snapshot
+     */
+    public Promise<Integer> load() {
+        if (Browser.isIE()) {
+            return Promise.resolve(0);
+        }
+        String version = version();
+        String locale = locale();
+        String fileName = fileName(environment.getManagementVersion(), locale);
+        if (!packaged(fileName)) {
+            logger.debug("No metadata snapshot {} packaged", fileName);
+            return Promise.resolve(0);
+        }
+        String url = PATH + fileName + COMPRESSED;
+        return SnapshotLoader.loadMetadataSnapshot(url)
+                .then(snapshot -> {
+                    int count = 0;
+                    if (snapshot == null) {
+                        logger.debug("No metadata snapshot found at {}", url);
+                    } else if (!version.equals(snapshot.version) || !locale.equals(snapshot.locale)) {
+                        logger.warn("Ignore metadata snapshot {}: Version {}/{} does not match {}/{}", url,
+                                snapshot.version, snapshot.locale, version, locale);
+                    } else if (snapshot.descriptions != null) {
+                        int[] counter = new int[] { 0 };
+                        snapshot.descriptions.forEach(address -> {
+                            resourceDescriptionRegistry.addSnapshot(ResourceAddress.from(address),
+                                    snapshot.descriptions.get(address));
+                            counter[0]++;
+                        });
+                        count = counter[0];
+                        logger.info("Seeded resource description registry with {} descriptions from {}", count, url);
+                    }
+                    return Promise.resolve(count);
+                })
+                .catch_(error -> {
+                    logger.warn("Unable to load metadata snapshot {}: {}", url, error);
+                    return Promise.resolve(0);
+                });
+    }
+
+    /**
+     * Creates a snapshot from the resource descriptions in the database and the specified resource descriptions.
+     *
+     * @param resourceDescriptions resource descriptions which might not yet be stored in the database
+     * @return the snapshot as JSON (not yet compressed)
+     */
+    public Promise<String> create(Map<ResourceAddress, ResourceDescription> resourceDescriptions) {
+        return resourceDescriptionDatabase.getRecursive(AddressTemplate.ROOT)
+                .then(stored -> {
+                    JsPropertyMap<String> descriptions = Js.uncheckedCast(JsPropertyMap.of());
+                    stored.forEach((address, description) -> descriptions.set(address.toString(),
+                            description.toBase64String()));
+                    resourceDescriptions.forEach((address, description) -> descriptions.set(address.toString(),
+                            description.toBase64String()));
+
+                    Snapshot snapshot = new Snapshot();
+                    snapshot.version = version();
+                    snapshot.locale = locale();
+                    snapshot.descriptions = descriptions;
+                    return Promise.resolve(Global.JSON.stringify(snapshot));
+                });
+    }
+
+    private boolean packaged(String fileName) {
+        String[] snapshots = SnapshotLoader.metadataSnapshots;
+        if (snapshots != null) {
+            for (String snapshot : snapshots) {
+                if (fileName.equals(snapshot)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    /** @return the (uncompressed) file name of the snapshot for the current server and locale */
+    public String fileName() {
+        return fileName(environment.getManagementVersion(), locale());
+    }
+
+    private String version() {
+        return version(environment.getManagementVersion());
+    }
+
+    private static String version(Version version) {
+        return version.getMajor() + "." + version.getMinor() + "." + version.getMicro();
+    }
+
+    private String locale() {
+        return settings.get(Settings.Key.LOCALE).value();
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    static class Snapshot {
+
+        String version;
+        String locale;
+        JsPropertyMap<String> descriptions;
+    }
+}
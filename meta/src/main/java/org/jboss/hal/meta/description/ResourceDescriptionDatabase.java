@@ -52,7 +52,9 @@ public class ResourceDescriptionDatabase extends AbstractDatabase<ResourceDescri
 
     @Override
     public ResourceDescription asMetadata(Document document) {
-        return new ResourceDescription(ModelNode.fromBase64(document.getAsAny(PAYLOAD).asString()));
+        ModelNode payload = ModelNode.fromBase64(document.getAsAny(PAYLOAD).asString());
+        payload.protect();
+        return new ResourceDescription(payload);
     }
 
     @Override
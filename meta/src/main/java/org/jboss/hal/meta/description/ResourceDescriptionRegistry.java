@@ -15,9 +15,15 @@
  */
 package org.jboss.hal.meta.description;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.function.BiConsumer;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.dmr.AddressKey;
+import org.jboss.hal.dmr.ModelNode;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.AddressTemplate;
@@ -30,14 +36,21 @@ import com.google.common.cache.CacheBuilder;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
-/** A registry for resource descriptions. */
+/**
+ * A registry for resource descriptions.
+ * <p>
+ * The registry can be seeded with the encoded resource descriptions of a {@linkplain MetadataSnapshot metadata snapshot}.
+ * Snapshot descriptions are decoded and added to the cache when they're looked up. The encoded descriptions are kept,
+ * so a description which has been evicted from the cache is decoded again instead of being read from the server.
+ */
 public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescription> {
 
     private static final int CACHE_SIZE = 250;
     private static final String RESOURCE_DESCRIPTION_TYPE = "resource description";
     private static final Logger logger = LoggerFactory.getLogger(ResourceDescriptionRegistry.class);
 
-    private final Cache<ResourceAddress, ResourceDescription> cache;
+    private final Cache<AddressKey, ResourceDescription> cache;
+    private final Map<AddressKey, String> snapshot;
     private final ResourceDescriptionTemplateProcessor templateProcessor;
 
     @Inject
@@ -50,22 +63,51 @@ public class ResourceDescriptionRegistry extends AbstractRegistry<ResourceDescri
                         notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
                                 notification.getCause()))
                 .build();
+        this.snapshot = new HashMap<>();
         this.templateProcessor = new ResourceDescriptionTemplateProcessor();
     }
 
     public void add(ResourceAddress address, ResourceDescription resourceDescription, boolean recursive) {
         resourceDescription.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, resourceDescription);
+        cache.put(address.key(), resourceDescription);
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
+    /** Adds the base64 encoded resource description of a metadata snapshot. */
+    void addSnapshot(ResourceAddress address, String payload) {
+        snapshot.put(address.key(), payload);
+    }
+
+    /**
+     * Decodes the resource descriptions of the metadata snapshot and passes them to the consumer. The decoded descriptions
+     * are not added to the cache.
+     */
+    public void forEachSnapshot(BiConsumer<ResourceAddress, ResourceDescription> consumer) {
+        snapshot.forEach((address, payload) -> consumer.accept(address.toAddress(), decode(payload)));
+    }
+
     @Override
-    protected ResourceDescription lookupAddress(ResourceAddress address) {
-        return cache.getIfPresent(address);
+    protected ResourceDescription lookupAddress(AddressKey address) {
+        ResourceDescription resourceDescription = cache.getIfPresent(address);
+        if (resourceDescription == null && !snapshot.isEmpty()) {
+            String payload = snapshot.get(address);
+            if (payload != null) {
+                resourceDescription = decode(payload);
+                cache.put(address, resourceDescription);
+                logger.debug("Added {} from snapshot to {}", address, type);
+            }
+        }
+        return resourceDescription;
+    }
+
+    private ResourceDescription decode(String payload) {
+        ModelNode modelNode = ModelNode.fromBase64(payload);
+        modelNode.protect();
+        return new ResourceDescription(modelNode);
     }
 
     @Override
-    protected ResourceAddress resolveTemplate(AddressTemplate template) {
+    protected AddressKey resolveTemplate(AddressTemplate template) {
         AddressTemplate modifiedTemplate = templateProcessor.apply(template);
         return super.resolveTemplate(modifiedTemplate);
     }
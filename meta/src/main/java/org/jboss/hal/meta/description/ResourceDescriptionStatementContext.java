@@ -49,4 +49,10 @@ public class ResourceDescriptionStatementContext extends FilteringStatementConte
             }
         });
     }
+
+    @Override
+    public int version() {
+        // the filter depends on the delegate and the environment only
+        return delegate().version();
+    }
 }
@@ -26,7 +26,9 @@ public final class StaticResourceDescription {
 
     public static ResourceDescription from(TextResource resource) {
         try {
-            return new ResourceDescription(ModelNode.fromBase64(resource.getText()));
+                ModelNode payload = ModelNode.fromBase64(resource.getText());
+            payload.protect();
+            return new ResourceDescription(payload);
         } catch (IllegalArgumentException e) {
             throw new IllegalArgumentException("Unable to read static resource description from " + resource.getName());
         }
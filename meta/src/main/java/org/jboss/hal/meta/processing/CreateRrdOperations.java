@@ -16,15 +16,23 @@
 package org.jboss.hal.meta.processing;
 
 import java.util.ArrayList;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
+import java.util.Map;
+import java.util.Set;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
 import org.jboss.hal.meta.description.ResourceDescriptionStatementContext;
+import org.jboss.hal.meta.resource.FetchPlan;
 import org.jboss.hal.meta.security.SecurityContextStatementContext;
 
+import com.google.common.collect.Lists;
+
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
 import static org.jboss.hal.meta.processing.LookupResult.ALL_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.NOTHING_PRESENT;
@@ -52,39 +60,115 @@ class CreateRrdOperations {
         lookupResult.templates().stream()
                 .filter(template -> optional == template.isOptional())
                 .forEach(template -> {
-                    int missingMetadata = lookupResult.missingMetadata(template);
-                    if (missingMetadata != ALL_PRESENT) {
-
-                        ResourceAddress address;
-                        Operation.Builder builder = null;
-
-                        if (missingMetadata == NOTHING_PRESENT) {
-                            address = template.resolve(securityContextStatementContext);
-                            builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
-                                    .param(ACCESS_CONTROL, COMBINED_DESCRIPTIONS)
-                                    .param(OPERATIONS, true);
-
-                        } else if (missingMetadata == RESOURCE_DESCRIPTION_PRESENT) {
-                            address = template.resolve(securityContextStatementContext);
-                            builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
-                                    .param(ACCESS_CONTROL, TRIM_DESCRIPTIONS)
-                                    .param(OPERATIONS, true);
-
-                        } else if (missingMetadata == SECURITY_CONTEXT_PRESENT) {
-                            address = template.resolve(resourceDescriptionStatementContext);
-                            builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
-                                    .param(OPERATIONS, true);
-                        }
-
-                        if (builder != null) {
-                            if (recursive) {
-                                builder.param(RECURSIVE_DEPTH, depth);
-                            }
-                            builder.param(LOCALE, locale);
-                            operations.add(builder.build());
-                        }
+                    Operation operation = create(template, lookupResult.missingMetadata(template), recursive);
+                    if (operation != null) {
+                        operations.add(operation);
                     }
                 });
         return operations;
     }
+
+    /**
+     * Creates the non-optional operations according to the fetch plan of the context. Groups of the plan which are
+     * completely missing are used as is, operations of partially present groups and of templates not part of the plan
+     * are packed into batches of the given size. Templates covered by a recursive ancestor are skipped if the ancestor
+     * reads all the metadata missing for the template.
+     *
+     * @return the operations grouped into composites
+     */
+    public List<List<Operation>> create(LookupContext context, boolean recursive, FetchPlan fetchPlan,
+            int batchSize) {
+        LookupResult lookupResult = context.lookupResult;
+        Map<String, AddressTemplate> templates = new LinkedHashMap<>();
+        for (AddressTemplate template : lookupResult.templates()) {
+            if (!template.isOptional()) {
+                templates.put(template.toString(), template);
+            }
+        }
+
+        List<List<Operation>> piles = new ArrayList<>();
+        List<Operation> remaining = new ArrayList<>();
+        Set<String> planned = new HashSet<>();
+        for (List<String> group : fetchPlan.getGroups()) {
+            List<Operation> pile = new ArrayList<>();
+            boolean complete = true;
+            for (String value : group) {
+                AddressTemplate template = templates.get(value);
+                Operation operation = template != null
+                        ? create(template, lookupResult.missingMetadata(template), recursive)
+                        : null;
+                if (operation != null) {
+                    pile.add(operation);
+                } else {
+                    complete = false;
+                }
+                planned.add(value);
+            }
+            if (complete) {
+                piles.add(pile);
+            } else {
+                remaining.addAll(pile);
+            }
+        }
+        for (AddressTemplate template : templates.values()) {
+            if (!planned.contains(template.toString())) {
+                int missingMetadata = lookupResult.missingMetadata(template);
+                if (!recursive || !covered(lookupResult, templates, fetchPlan, template, missingMetadata)) {
+                    Operation operation = create(template, missingMetadata, recursive);
+                    if (operation != null) {
+                        remaining.add(operation);
+                    }
+                }
+            }
+        }
+        piles.addAll(Lists.partition(remaining, batchSize));
+        return piles;
+    }
+
+    /** A template is covered if its ancestor is read and the ancestor's operation reads all the missing metadata. */
+    private boolean covered(LookupResult lookupResult, Map<String, AddressTemplate> templates, FetchPlan fetchPlan,
+            AddressTemplate template, int missingMetadata) {
+        String ancestor = fetchPlan.coveredBy(template.toString());
+        if (ancestor != null && templates.containsKey(ancestor)) {
+            int missing = ~missingMetadata & ALL_PRESENT;
+            int missingByAncestor = ~lookupResult.missingMetadata(templates.get(ancestor)) & ALL_PRESENT;
+            return (missing & missingByAncestor) == missing;
+        }
+        return false;
+    }
+
+    private Operation create(AddressTemplate template, int missingMetadata, boolean recursive) {
+        if (missingMetadata != ALL_PRESENT) {
+
+            ResourceAddress address;
+            Operation.Builder builder = null;
+
+            if (missingMetadata == NOTHING_PRESENT) {
+                address = template.resolve(securityContextStatementContext);
+                builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                        .param(ACCESS_CONTROL, COMBINED_DESCRIPTIONS)
+                        .param(OPERATIONS, true);
+
+            } else if (missingMetadata == RESOURCE_DESCRIPTION_PRESENT) {
+                address = template.resolve(securityContextStatementContext);
+                builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                        .param(ACCESS_CONTROL, TRIM_DESCRIPTIONS)
+                        .param(OPERATIONS, true);
+
+            } else if (missingMetadata == SECURITY_CONTEXT_PRESENT) {
+                address = template.resolve(resourceDescriptionStatementContext);
+                builder = new Operation.Builder(address, READ_RESOURCE_DESCRIPTION_OPERATION)
+                        .param(OPERATIONS, true);
+            }
+
+            if (builder != null) {
+                if (recursive) {
+                    builder.param(RECURSIVE_DEPTH, depth);
+                }
+                builder.param(LOCALE, locale);
+                return builder.build();
+            }
+        }
+        return null;
+    }
 }
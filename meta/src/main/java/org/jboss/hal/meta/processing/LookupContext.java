@@ -24,11 +24,13 @@ import org.jboss.hal.flow.FlowContext;
 import org.jboss.hal.flow.Progress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.resource.FetchPlan;
 import org.jboss.hal.meta.security.SecurityContext;
 
 class LookupContext extends FlowContext {
 
     final boolean recursive;
+    final FetchPlan fetchPlan;
     final LookupResult lookupResult;
     final Map<ResourceAddress, ResourceDescription> toResourceDescriptionRegistry;
     final Map<ResourceAddress, ResourceDescription> toResourceDescriptionDatabase;
@@ -37,8 +39,14 @@ class LookupContext extends FlowContext {
 
     // for unit testing only!
     LookupContext(LookupResult lookupResult) {
+        this(lookupResult, false, null);
+    }
+
+    // for unit testing only!
+    LookupContext(LookupResult lookupResult, boolean recursive, FetchPlan fetchPlan) {
         super(Progress.NOOP);
-        this.recursive = false;
+        this.recursive = recursive;
+        this.fetchPlan = fetchPlan;
         this.lookupResult = lookupResult;
         this.toResourceDescriptionRegistry = new HashMap<>();
         this.toResourceDescriptionDatabase = new HashMap<>();
@@ -46,9 +54,10 @@ class LookupContext extends FlowContext {
         this.toSecurityContextDatabase = new HashMap<>();
     }
 
-    LookupContext(Progress progress, Set<AddressTemplate> template, boolean recursive) {
+    LookupContext(Progress progress, Set<AddressTemplate> template, boolean recursive, FetchPlan fetchPlan) {
         super(progress);
         this.recursive = recursive;
+        this.fetchPlan = fetchPlan;
         this.lookupResult = new LookupResult(template);
         this.toResourceDescriptionRegistry = new HashMap<>();
         this.toResourceDescriptionDatabase = new HashMap<>();
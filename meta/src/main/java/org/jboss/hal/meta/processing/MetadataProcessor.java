@@ -17,12 +17,14 @@ package org.jboss.hal.meta.processing;
 
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
 import java.util.Set;
 
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
 import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.dmr.dispatch.Dispatcher;
 import org.jboss.hal.flow.Flow;
 import org.jboss.hal.flow.Progress;
@@ -33,11 +35,15 @@ import org.jboss.hal.meta.Metadata;
 import org.jboss.hal.meta.MetadataRegistry;
 import org.jboss.hal.meta.MissingMetadataException;
 import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.resource.FetchPlan;
 import org.jboss.hal.meta.resource.RequiredResources;
+import org.jboss.hal.meta.search.MetadataSearch;
 import org.jboss.hal.meta.security.SecurityContextDatabase;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
+import org.jboss.hal.spi.Requires;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -48,6 +54,7 @@ import elemental2.promise.Promise;
 import static java.util.Collections.singleton;
 import static java.util.concurrent.TimeUnit.MILLISECONDS;
 import static java.util.stream.Collectors.toSet;
+import static org.jboss.hal.meta.AddressTemplate.OPTIONAL;
 
 /**
  * Reads resource {@linkplain Metadata metadata} using read-resource-description operations and stores it into the
@@ -56,10 +63,10 @@ import static java.util.stream.Collectors.toSet;
 public class MetadataProcessor {
 
     /** Recursive depth for the r-r-d operations. Keep this small - some browsers choke on too big payload size */
-    static final int RRD_DEPTH = 3;
+    static final int RRD_DEPTH = Requires.RRD_DEPTH;
 
     /** Number of r-r-d operations part of one composite operation. */
-    private static final int BATCH_SIZE = 3;
+    static final int BATCH_SIZE = Requires.BATCH_SIZE;
 
     private static final Logger logger = LoggerFactory.getLogger(MetadataProcessor.class);
 
@@ -68,6 +75,7 @@ public class MetadataProcessor {
     private final RequiredResources requiredResources;
     private final StatementContext statementContext;
     private final MetadataRegistry metadataRegistry;
+    private final MetadataSearch metadataSearch;
     private final ResourceDescriptionDatabase resourceDescriptionDatabase;
     private final ResourceDescriptionRegistry resourceDescriptionRegistry;
     private final SecurityContextDatabase securityContextDatabase;
@@ -81,6 +89,7 @@ public class MetadataProcessor {
             StatementContext statementContext,
             RequiredResources requiredResources,
             MetadataRegistry metadataRegistry,
+            MetadataSearch metadataSearch,
             SecurityContextDatabase securityContextDatabase,
             SecurityContextRegistry securityContextRegistry,
             ResourceDescriptionDatabase resourceDescriptionDatabase,
@@ -91,6 +100,7 @@ public class MetadataProcessor {
         this.dispatcher = dispatcher;
         this.statementContext = statementContext;
         this.metadataRegistry = metadataRegistry;
+        this.metadataSearch = metadataSearch;
         this.requiredResources = requiredResources;
         this.securityContextDatabase = securityContextDatabase;
         this.securityContextRegistry = securityContextRegistry;
@@ -102,7 +112,7 @@ public class MetadataProcessor {
 
     public void lookup(AddressTemplate template, Progress progress, MetadataCallback callback) {
         logger.debug("Lookup metadata for {}", template);
-        processInternal(singleton(template), false, progress)
+        processInternal(singleton(template), false, null, progress)
                 .then(c -> {
                     callback.onMetadata(metadataRegistry.lookup(template));
                     return null;
@@ -115,7 +125,7 @@ public class MetadataProcessor {
 
     public Promise<Metadata> lookup(AddressTemplate template, Progress progress) {
         logger.debug("Lookup metadata for {}", template);
-        return processInternal(singleton(template), false, progress)
+        return processInternal(singleton(template), false, null, progress)
                 .then(__ -> Promise.resolve(metadataRegistry.lookup(template)));
     }
 
@@ -129,11 +139,12 @@ public class MetadataProcessor {
 
         } else {
             Set<AddressTemplate> templates = resources.stream().map(AddressTemplate::of).collect(toSet());
-            return processInternal(templates, recursive, progress);
+            return processInternal(templates, recursive, requiredResources.getFetchPlan(id), progress);
         }
     }
 
-    private Promise<Void> processInternal(Set<AddressTemplate> templates, boolean recursive, Progress progress) {
+    private Promise<Void> processInternal(Set<AddressTemplate> templates, boolean recursive, FetchPlan fetchPlan,
+            Progress progress) {
         // we can skip the tasks if the metadata is already in the registries
         LookupRegistryTask lookupRegistries = new LookupRegistryTask(resourceDescriptionRegistry,
                 securityContextRegistry);
@@ -142,21 +153,9 @@ public class MetadataProcessor {
             return Promise.resolve((Void) null);
 
         } else {
-            boolean ie = Browser.isIE();
-            List<Task<LookupContext>> tasks = new ArrayList<>();
-            tasks.add(lookupRegistries);
-            if (!ie) {
-                tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
-            }
-            tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
-            tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry));
-            if (!ie) {
-                tasks.add(new UpdateDatabaseTask(workerChannel));
-            }
-
-            LookupContext context = new LookupContext(progress, templates, recursive);
+            LookupContext context = new LookupContext(progress, templates, recursive, fetchPlan);
             Stopwatch stopwatch = Stopwatch.createStarted();
-            return Flow.sequential(context, tasks).then(
+            return Flow.sequential(context, tasks(lookupRegistries)).then(
                     c -> {
                         stopwatch.stop();
                         logger.info("Successfully processed metadata in {} ms", stopwatch.elapsed(MILLISECONDS));
@@ -165,6 +164,41 @@ public class MetadataProcessor {
         }
     }
 
+    /**
+     * Reads the metadata of all required resources recursively. All templates are treated as optional: Templates which
+     * cannot be read are skipped. Used to create {@linkplain org.jboss.hal.meta.description.MetadataSnapshot metadata
+     * snapshots}.
+     *
+     * @return the resource descriptions which have been read from the server by this call
+     */
+    public Promise<Map<ResourceAddress, ResourceDescription>> processAll(Progress progress) {
+        Set<AddressTemplate> templates = requiredResources.getAllResources().stream()
+                .map(template -> template.startsWith(OPTIONAL) ? template : OPTIONAL + template)
+                .map(AddressTemplate::of)
+                .collect(toSet());
+        logger.debug("Process all {} required resources", templates.size());
+        LookupRegistryTask lookupRegistries = new LookupRegistryTask(resourceDescriptionRegistry,
+                securityContextRegistry);
+        LookupContext context = new LookupContext(progress, templates, true, null);
+        return Flow.sequential(context, tasks(lookupRegistries))
+                .then(c -> Promise.resolve(c.toResourceDescriptionRegistry));
+    }
+
+    private List<Task<LookupContext>> tasks(LookupRegistryTask lookupRegistries) {
+        boolean ie = Browser.isIE();
+        List<Task<LookupContext>> tasks = new ArrayList<>();
+        tasks.add(lookupRegistries);
+        if (!ie) {
+            tasks.add(new LookupDatabaseTask(resourceDescriptionDatabase, securityContextDatabase));
+        }
+        tasks.add(new RrdTask(environment, dispatcher, statementContext, settings, BATCH_SIZE, RRD_DEPTH));
+        tasks.add(new UpdateRegistryTask(resourceDescriptionRegistry, securityContextRegistry, metadataSearch));
+        if (!ie) {
+            tasks.add(new UpdateDatabaseTask(workerChannel));
+        }
+        return tasks;
+    }
+
     public interface MetadataCallback {
 
         void onMetadata(Metadata metadata);
@@ -59,9 +59,14 @@ final class RrdTask implements Task<LookupContext> {
         boolean recursive = context.recursive;
         List<Task<LookupContext>> tasks = new ArrayList<>();
 
-        // create and partition non-optional operations
-        List<Operation> operations = rrdOps.create(context, recursive, false);
-        List<List<Operation>> piles = Lists.partition(operations, batchSize);
+        // create and partition non-optional operations (use the build-time fetch plan if available)
+        List<List<Operation>> piles;
+        if (context.fetchPlan != null) {
+            piles = rrdOps.create(context, recursive, context.fetchPlan, batchSize);
+        } else {
+            List<Operation> operations = rrdOps.create(context, recursive, false);
+            piles = Lists.partition(operations, batchSize);
+        }
         List<Composite> composites = piles.stream().map(Composite::new).collect(toList());
         for (Composite composite : composites) {
             tasks.add((LookupContext c) -> dispatcher.execute(composite).then(result -> {
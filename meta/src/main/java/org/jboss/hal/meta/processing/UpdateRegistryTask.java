@@ -21,6 +21,7 @@ import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.flow.Task;
 import org.jboss.hal.meta.description.ResourceDescription;
 import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.meta.search.MetadataSearch;
 import org.jboss.hal.meta.security.SecurityContext;
 import org.jboss.hal.meta.security.SecurityContextRegistry;
 import org.slf4j.Logger;
@@ -34,11 +35,13 @@ final class UpdateRegistryTask implements Task<LookupContext> {
 
     private final ResourceDescriptionRegistry resourceDescriptionRegistry;
     private final SecurityContextRegistry securityContextRegistry;
+    private final MetadataSearch metadataSearch;
 
     UpdateRegistryTask(ResourceDescriptionRegistry resourceDescriptionRegistry,
-            SecurityContextRegistry securityContextRegistry) {
+            SecurityContextRegistry securityContextRegistry, MetadataSearch metadataSearch) {
         this.resourceDescriptionRegistry = resourceDescriptionRegistry;
         this.securityContextRegistry = securityContextRegistry;
+        this.metadataSearch = metadataSearch;
     }
 
     @Override
@@ -48,6 +51,7 @@ final class UpdateRegistryTask implements Task<LookupContext> {
                 ResourceAddress address = entry.getKey();
                 ResourceDescription resourceDescription = entry.getValue();
                 resourceDescriptionRegistry.add(address, resourceDescription, context.recursive);
+                metadataSearch.index(address, resourceDescription);
             }
             for (Map.Entry<ResourceAddress, SecurityContext> entry : context.toSecurityContextRegistry.entrySet()) {
                 ResourceAddress address = entry.getKey();
@@ -0,0 +1,72 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.resource;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import static java.util.Arrays.asList;
+import static java.util.Collections.unmodifiableList;
+
+/**
+ * Plan how to read the metadata of the required resources of one id. The plan is generated by the annotation processor
+ * and contains
+ * <ul>
+ * <li>the non-optional templates which need to be read, grouped into the composite operations to use</li>
+ * <li>the templates which are covered by the recursive {@code read-resource-description} operation of an ancestor and
+ * don't need to be read on their own</li>
+ * </ul>
+ * Optional templates are not part of the plan. All templates use the format of
+ * {@link org.jboss.hal.meta.AddressTemplate#toString()}.
+ */
+public class FetchPlan {
+
+    private final List<List<String>> groups;
+    private final Map<String, String> covered;
+
+    public FetchPlan() {
+        this.groups = new ArrayList<>();
+        this.covered = new HashMap<>();
+    }
+
+    /** Adds a group of templates which should be read using one composite operation. */
+    public FetchPlan group(String... templates) {
+        groups.add(unmodifiableList(asList(templates)));
+        return this;
+    }
+
+    /** Marks the template as covered by the recursive read-resource-description operation of the ancestor. */
+    public FetchPlan covered(String template, String ancestor) {
+        covered.put(template, ancestor);
+        return this;
+    }
+
+    public List<List<String>> getGroups() {
+        return unmodifiableList(groups);
+    }
+
+    /** @return the ancestor which covers the template or {@code null} if the template is not covered */
+    public String coveredBy(String template) {
+        return covered.get(template);
+    }
+
+    @Override
+    public String toString() {
+        return "FetchPlan(groups=" + groups + ", covered=" + covered + ")";
+    }
+}
@@ -22,4 +22,10 @@ public interface RequiredResources {
     Set<String> getResources(String id);
 
     boolean isRecursive(String id);
+
+    /** @return the build-time fetch plan for the given id or {@code null} if there's no plan */
+    FetchPlan getFetchPlan(String id);
+
+    /** @return the de-duplicated templates of all ids */
+    Set<String> getAllResources();
 }
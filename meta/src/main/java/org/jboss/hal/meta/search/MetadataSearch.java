@@ -0,0 +1,246 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+import javax.inject.Inject;
+
+import org.jboss.hal.dmr.ResourceAddress;
+import org.jboss.hal.js.Browser;
+import org.jboss.hal.meta.description.ResourceDescription;
+import org.jboss.hal.meta.description.ResourceDescriptionDatabase;
+import org.jboss.hal.meta.description.ResourceDescriptionRegistry;
+import org.jboss.hal.resources.Ids;
+
+import elemental2.dom.Worker;
+import elemental2.promise.Promise;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.RejectCallbackFn;
+import elemental2.promise.Promise.PromiseExecutorCallbackFn.ResolveCallbackFn;
+import jsinterop.annotations.JsMethod;
+import jsinterop.annotations.JsType;
+import jsinterop.base.Js;
+
+import static jsinterop.annotations.JsPackage.GLOBAL;
+import static org.jboss.hal.resources.UIConstants.OBJECT;
+
+/**
+ * Full-text search over the management model metadata. The inverted index is built and queried in a web worker, which
+ * persists the index in a database next to the resource descriptions. The index covers the names and descriptions of
+ * resources, attributes and operations and the names of capabilities.
+ * <p>
+ * The web worker is started by the first search. Resource descriptions which are added to the
+ * {@link ResourceDescriptionRegistry} before are collected and indexed together with the descriptions of the metadata
+ * snapshot when the worker is started. Afterwards resource descriptions are indexed incrementally. Descriptions which
+ * are already part of the persisted index are not indexed again.
+ */
+public class MetadataSearch {
+
+    /** The default number of results returned by {@link #search(String)} */
+    public static final int DEFAULT_LIMIT = 25;
+
+    private static final String INDEX = "index";
+    private static final String SEARCH = "search";
+
+    // provided by app/src/web/script/index.js
+    @JsType(isNative = true, namespace = GLOBAL, name = "window")
+    static class WorkerProvider {
+
+        @JsMethod
+        static native Worker createSearchWorker();
+    }
+
+    private final ResourceDescriptionDatabase resourceDescriptionDatabase;
+    private final ResourceDescriptionRegistry resourceDescriptionRegistry;
+    private final boolean supported;
+    private final Map<String, ResourceDescription> unindexed;
+    private final Set<String> indexed;
+    private final Map<Integer, Pending> pending;
+    private Worker worker;
+    private int counter;
+
+    @Inject
+    public MetadataSearch(ResourceDescriptionDatabase resourceDescriptionDatabase,
+            ResourceDescriptionRegistry resourceDescriptionRegistry) {
+        this.resourceDescriptionDatabase = resourceDescriptionDatabase;
+        this.resourceDescriptionRegistry = resourceDescriptionRegistry;
+        this.supported = !Browser.isIE();
+        this.unindexed = new LinkedHashMap<>();
+        this.indexed = new HashSet<>();
+        this.pending = new HashMap<>();
+        this.counter = 0;
+    }
+
+    /** @return {@code true} if the metadata can be searched in this browser */
+    public boolean isSupported() {
+        return supported;
+    }
+
+    /**
+     * Adds the resource description to the index unless it has been indexed before. If the worker has not been started
+     * yet, the description is indexed when the worker is started.
+     */
+    public void index(ResourceAddress address, ResourceDescription resourceDescription) {
+        if (supported) {
+            String key = address.toString();
+            if (worker == null) {
+                unindexed.putIfAbsent(key, resourceDescription);
+            } else {
+                post(key, resourceDescription);
+            }
+        }
+    }
+
+    /** Searches the index and returns at most {@value #DEFAULT_LIMIT} results. */
+    public Promise<List<SearchEntry>> search(String query) {
+        return search(query, DEFAULT_LIMIT);
+    }
+
+    /**
+     * Searches the index. All terms of the query have to match, the last term also matches as prefix. Matches in names
+     * rank higher than matches in descriptions, rare terms rank higher than common ones.
+     *
+     * @param query the query like {@code max pool}
+     * @param limit the maximum number of results
+     * @return a promise with the results, best matches first
+     */
+    public Promise<List<SearchEntry>> search(String query, int limit) {
+        if (!supported) {
+            return Promise.reject("Web worker for metadata search not available");
+        }
+        if (worker == null) {
+            start();
+        }
+        return new Promise<>((resolve, reject) -> {
+            SearchMessage message = new SearchMessage();
+            message.type = SEARCH;
+            message.database = database();
+            message.id = ++counter;
+            message.query = query;
+            message.limit = limit;
+            pending.put(message.id, new Pending(resolve, reject));
+            worker.postMessage(message);
+        });
+    }
+
+    private void start() {
+        worker = WorkerProvider.createSearchWorker();
+        worker.onmessage = event -> onResponse(Js.cast(event.data));
+        unindexed.forEach(this::post);
+        unindexed.clear();
+        resourceDescriptionRegistry.forEachSnapshot((address, description) -> post(address.toString(), description));
+    }
+
+    private void post(String key, ResourceDescription resourceDescription) {
+        if (indexed.add(key)) {
+            List<SearchEntry> entries = SearchEntry.from(key, resourceDescription);
+            IndexMessage message = new IndexMessage();
+            message.type = INDEX;
+            message.database = database();
+            message.address = key;
+            message.entries = new Entry[entries.size()];
+            for (int i = 0; i < entries.size(); i++) {
+                message.entries[i] = toEntry(entries.get(i));
+            }
+            worker.postMessage(message);
+        }
+    }
+
+    private void onResponse(SearchResponse response) {
+        Pending callbacks = pending.remove(response.id);
+        if (callbacks != null) {
+            if (response.error != null) {
+                callbacks.reject.onInvoke(response.error);
+            } else {
+                List<SearchEntry> results = new ArrayList<>();
+                for (Entry entry : response.results) {
+                    results.add(new SearchEntry(entry.address, SearchEntry.Type.valueOf(entry.type), entry.name,
+                            entry.description));
+                }
+                callbacks.resolve.onInvoke(results);
+            }
+        }
+    }
+
+    private String database() {
+        // the name of the resource description database contains the build, locale and management version
+        return Ids.build(resourceDescriptionDatabase.name(), SEARCH);
+    }
+
+    private Entry toEntry(SearchEntry searchEntry) {
+        Entry entry = new Entry();
+        entry.address = searchEntry.getAddress();
+        entry.type = searchEntry.getType().name();
+        entry.name = searchEntry.getName();
+        entry.description = searchEntry.getDescription();
+        return entry;
+    }
+
+    // ------------------------------------------------------ inner classes
+
+    private static class Pending {
+
+        final ResolveCallbackFn<List<SearchEntry>> resolve;
+        final RejectCallbackFn reject;
+
+        Pending(ResolveCallbackFn<List<SearchEntry>> resolve, RejectCallbackFn reject) {
+            this.resolve = resolve;
+            this.reject = reject;
+        }
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class Entry {
+
+        String address;
+        String type;
+        String name;
+        String description;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class IndexMessage {
+
+        String type;
+        String database;
+        String address;
+        Entry[] entries;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchMessage {
+
+        String type;
+        String database;
+        int id;
+        String query;
+        int limit;
+    }
+
+    @JsType(isNative = true, namespace = GLOBAL, name = OBJECT)
+    private static class SearchResponse {
+
+        int id;
+        Entry[] results;
+        String error;
+    }
+}
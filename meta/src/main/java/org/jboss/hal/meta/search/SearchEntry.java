@@ -0,0 +1,120 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.Property;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CAPABILITIES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+
+/** A searchable part of a resource description: The resource itself, an attribute, an operation or a capability. */
+public class SearchEntry {
+
+    public enum Type {
+        RESOURCE, ATTRIBUTE, OPERATION, CAPABILITY
+    }
+
+    /**
+     * Extracts the searchable entries of a resource description.
+     *
+     * @param address the address of the resource description like {@code /subsystem=datasources/data-source=*}
+     * @param description the resource description
+     *
+     * @return the resource, its attributes, operations and capabilities in this order
+     */
+    public static List<SearchEntry> from(String address, ModelNode description) {
+        List<SearchEntry> entries = new ArrayList<>();
+        String resource = resourceName(address);
+        if (resource != null) {
+            entries.add(new SearchEntry(address, Type.RESOURCE, resource, failSafeString(description, DESCRIPTION)));
+        }
+        if (description.hasDefined(ATTRIBUTES)) {
+            for (Property attribute : description.get(ATTRIBUTES).asPropertyList()) {
+                entries.add(new SearchEntry(address, Type.ATTRIBUTE, attribute.getName(),
+                        failSafeString(attribute.getValue(), DESCRIPTION)));
+            }
+        }
+        if (description.hasDefined(OPERATIONS)) {
+            for (Property operation : description.get(OPERATIONS).asPropertyList()) {
+                entries.add(new SearchEntry(address, Type.OPERATION, operation.getName(),
+                        failSafeString(operation.getValue(), DESCRIPTION)));
+            }
+        }
+        if (description.hasDefined(CAPABILITIES)) {
+            for (ModelNode capability : description.get(CAPABILITIES).asList()) {
+                if (capability.hasDefined(NAME)) {
+                    entries.add(new SearchEntry(address, Type.CAPABILITY, capability.get(NAME).asString(), null));
+                }
+            }
+        }
+        return entries;
+    }
+
+    /** @return the type of the last segment or {@code null} for the root resource */
+    private static String resourceName(String address) {
+        int slash = address.lastIndexOf('/');
+        String segment = slash == -1 ? address : address.substring(slash + 1);
+        int equals = segment.indexOf('=');
+        String name = equals == -1 ? segment : segment.substring(0, equals);
+        return name.isEmpty() ? null : name;
+    }
+
+    private static String failSafeString(ModelNode node, String name) {
+        return node.hasDefined(name) ? node.get(name).asString() : null;
+    }
+
+    private final String address;
+    private final Type type;
+    private final String name;
+    private final String description;
+
+    public SearchEntry(String address, Type type, String name, String description) {
+        this.address = address;
+        this.type = type;
+        this.name = name;
+        this.description = description;
+    }
+
+    @Override
+    public String toString() {
+        return type + "(" + address + ", " + name + ")";
+    }
+
+    /** @return the address of the resource description this entry belongs to */
+    public String getAddress() {
+        return address;
+    }
+
+    public Type getType() {
+        return type;
+    }
+
+    public String getName() {
+        return name;
+    }
+
+    /** @return the description or {@code null} if there's no description (always {@code null} for capabilities) */
+    public String getDescription() {
+        return description;
+    }
+}
@@ -16,10 +16,13 @@
 package org.jboss.hal.meta.security;
 
 import java.util.BitSet;
+import java.util.HashMap;
+import java.util.Map;
 import java.util.Optional;
 
 import org.jboss.hal.config.AccessControlProvider;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.dmr.AddressKey;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
@@ -47,6 +50,9 @@ import static org.jboss.hal.meta.security.Target.OPERATION;
  * </dl>
  * <p>
  * If WildFly uses {@link AccessControlProvider#SIMPLE}, {@code isAllowed()} will <strong>always</strong> return {@code true}.
+ * <p>
+ * Decisions created by {@link #from(Environment, SecurityContextRegistry)} are memoized in the registry using the
+ * resolved address and the constraint as key.
  */
 public class AuthorisationDecision {
 
@@ -54,20 +60,15 @@ public class AuthorisationDecision {
 
     public static AuthorisationDecision from(Environment environment,
             SecurityContextRegistry securityContextRegistry) {
-        return new AuthorisationDecision(environment, constraint -> {
-            if (securityContextRegistry.contains(constraint.getTemplate())) {
-                return Optional.of(securityContextRegistry.lookup(constraint.getTemplate()));
-            }
-            return Optional.empty();
-        });
+        return new AuthorisationDecision(environment, null, securityContextRegistry);
     }
 
     public static AuthorisationDecision from(Environment environment, SecurityContext securityContext) {
-        return new AuthorisationDecision(environment, constraint -> Optional.of(securityContext));
+        return new AuthorisationDecision(environment, constraint -> Optional.of(securityContext), null);
     }
 
     public static AuthorisationDecision from(Environment environment, SecurityContextResolver resolver) {
-        return new AuthorisationDecision(environment, resolver);
+        return new AuthorisationDecision(environment, resolver, null);
     }
 
     // ------------------------------------------------------ instance
@@ -76,10 +77,28 @@ public class AuthorisationDecision {
 
     private final Environment environment;
     private final SecurityContextResolver resolver;
+    private final SecurityContextRegistry registry;
 
-    private AuthorisationDecision(Environment environment, SecurityContextResolver resolver) {
+    private AuthorisationDecision(Environment environment, SecurityContextResolver resolver,
+            SecurityContextRegistry registry) {
         this.environment = environment;
         this.resolver = resolver;
+        this.registry = registry;
+    }
+
+    /**
+     * Decides all specified constraints in one pass. Constraints which are used several times are decided only once.
+     *
+     * @return a map with the constraints and their decisions
+     */
+    public Map<Constraints, Boolean> decisions(Iterable<Constraints> constraints) {
+        Map<Constraints, Boolean> result = new HashMap<>();
+        for (Constraints c : constraints) {
+            if (!result.containsKey(c)) {
+                result.put(c, isAllowed(c));
+            }
+        }
+        return result;
     }
 
     public boolean isAllowed(Constraints constraints) {
@@ -106,43 +125,63 @@ public class AuthorisationDecision {
         if (environment.getAccessControlProvider() == AccessControlProvider.SIMPLE) {
             return true;
         }
-        boolean allowed = false;
+        if (registry != null) {
+            AddressKey address = registry.resolve(constraint);
+            Boolean decision = registry.decision(address, constraint);
+            if (decision != null) {
+                return decision;
+            }
+            SecurityContext securityContext = registry.securityContext(address);
+            if (securityContext != null) {
+                boolean allowed = decide(constraint, securityContext);
+                registry.remember(address, constraint, allowed);
+                return allowed;
+            }
+            logger.warn("No security context found for {}", constraint);
+            return false;
+        }
+
         Optional<SecurityContext> optional = resolver.resolve(constraint);
         if (optional.isPresent()) {
-            SecurityContext securityContext = optional.get();
-            if (constraint.getTarget() == OPERATION) {
-                switch (constraint.getPermission()) {
-                    case EXECUTABLE:
-                        allowed = securityContext.isExecutable(constraint.getName());
-                        break;
-                    case READABLE:
-                    case WRITABLE:
-                        logger.error("Unsupported permission in constraint {}. Only {} is allowed for target {}.",
-                                constraint, EXECUTABLE.name().toLowerCase(), OPERATION.name().toLowerCase());
-                        break;
-                    default:
-                        break;
-                }
-
-            } else if (constraint.getTarget() == ATTRIBUTE) {
-                switch (constraint.getPermission()) {
-                    case READABLE:
-                        allowed = securityContext.isReadable(constraint.getName());
-                        break;
-                    case WRITABLE:
-                        allowed = securityContext.isWritable(constraint.getName());
-                        break;
-                    case EXECUTABLE:
-                        logger.error("Unsupported permission in constraint {}. Only ({}|{}) are allowed for target {}.",
-                                constraint, READABLE.name().toLowerCase(), WRITABLE.name().toLowerCase(),
-                                ATTRIBUTE.name().toLowerCase());
-                        break;
-                    default:
-                        break;
-                }
-            }
+            return decide(constraint, optional.get());
         } else {
             logger.warn("No security context found for {}", constraint);
+            return false;
+        }
+    }
+
+    private boolean decide(Constraint constraint, SecurityContext securityContext) {
+        boolean allowed = false;
+        if (constraint.getTarget() == OPERATION) {
+            switch (constraint.getPermission()) {
+                case EXECUTABLE:
+                    allowed = securityContext.isExecutable(constraint.getName());
+                    break;
+                case READABLE:
+                case WRITABLE:
+                    logger.error("Unsupported permission in constraint {}. Only {} is allowed for target {}.",
+                            constraint, EXECUTABLE.name().toLowerCase(), OPERATION.name().toLowerCase());
+                    break;
+                default:
+                    break;
+            }
+
+        } else if (constraint.getTarget() == ATTRIBUTE) {
+            switch (constraint.getPermission()) {
+                case READABLE:
+                    allowed = securityContext.isReadable(constraint.getName());
+                    break;
+                case WRITABLE:
+                    allowed = securityContext.isWritable(constraint.getName());
+                    break;
+                case EXECUTABLE:
+                    logger.error("Unsupported permission in constraint {}. Only ({}|{}) are allowed for target {}.",
+                            constraint, READABLE.name().toLowerCase(), WRITABLE.name().toLowerCase(),
+                            ATTRIBUTE.name().toLowerCase());
+                    break;
+                default:
+                    break;
+            }
         }
         return allowed;
     }
@@ -15,8 +15,11 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.Collections;
 import java.util.Iterator;
+import java.util.LinkedHashMap;
 import java.util.LinkedHashSet;
+import java.util.Map;
 import java.util.Set;
 
 import com.google.common.base.Splitter;
@@ -95,34 +98,54 @@ public class Constraints implements Iterable<Constraint> {
 
     // ------------------------------------------------------ parse
 
+    private static final int PARSE_CACHE_SIZE = 500;
+    private static final Map<String, Constraints> parsed = new LinkedHashMap<String, Constraints>(16, 0.75f, true) {
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<String, Constraints> eldest) {
+            return size() > PARSE_CACHE_SIZE;
+        }
+    };
+
+    /**
+     * Parses the specified input. Constraints are immutable, so the result is cached: Parsing the same
+     * {@code data-constraint} attribute over and over again for big forms and tables returns the same instance.
+     */
     public static Constraints parse(String input) {
         if (emptyToNull(input) != null) {
-            Operator operator;
-            if (input.contains(AND.operator)) {
-                operator = AND;
-            } else if (input.contains(OR.operator)) {
-                operator = OR;
-            } else {
-                operator = AND;
-            }
-            Iterable<String> values = Splitter.on(operator.operator)
-                    .omitEmptyStrings()
-                    .trimResults()
-                    .split(input);
-            LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
-            for (String value : values) {
-                try {
-                    constraints.add(Constraint.parse(value));
-                } catch (IllegalArgumentException ignored) {
-                }
+            Constraints constraints = parsed.get(input);
+            if (constraints == null) {
+                constraints = parseInput(input);
+                parsed.put(input, constraints);
             }
-            return new Constraints(constraints, operator);
-
+            return constraints;
         } else {
             return empty();
         }
     }
 
+    private static Constraints parseInput(String input) {
+        Operator operator;
+        if (input.contains(AND.operator)) {
+            operator = AND;
+        } else if (input.contains(OR.operator)) {
+            operator = OR;
+        } else {
+            operator = AND;
+        }
+        Iterable<String> values = Splitter.on(operator.operator)
+                .omitEmptyStrings()
+                .trimResults()
+                .split(input);
+        LinkedHashSet<Constraint> constraints = new LinkedHashSet<>();
+        for (String value : values) {
+            try {
+                constraints.add(Constraint.parse(value));
+            } catch (IllegalArgumentException ignored) {
+            }
+        }
+        return new Constraints(constraints, operator);
+    }
+
     // ------------------------------------------------------ instance
 
     private final LinkedHashSet<Constraint> constraints;
@@ -133,6 +156,26 @@ public class Constraints implements Iterable<Constraint> {
         this.operator = operator;
     }
 
+    @Override
+    public boolean equals(Object o) {
+        if (this == o) {
+            return true;
+        }
+        if (!(o instanceof Constraints)) {
+            return false;
+        }
+
+        Constraints that = (Constraints) o;
+        return operator == that.operator && constraints.equals(that.constraints);
+    }
+
+    @Override
+    public int hashCode() {
+        int result = constraints.hashCode();
+        result = 31 * result + operator.hashCode();
+        return result;
+    }
+
     @Override
     public String toString() {
         // Do NOT change the format, Constraint.parseSingle() relies on it!
@@ -167,7 +210,7 @@ public class Constraints implements Iterable<Constraint> {
     }
 
     public Set<Constraint> getConstraints() {
-        return constraints;
+        return Collections.unmodifiableSet(constraints);
     }
 
     public Operator getOperator() {
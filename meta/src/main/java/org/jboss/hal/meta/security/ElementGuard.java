@@ -15,6 +15,10 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
 
@@ -53,10 +57,31 @@ public class ElementGuard {
         processElements(authorisationDecision, element.querySelectorAll("[" + data(UIConstants.CONSTRAINT + "]")));
     }
 
+    /**
+     * Processes the elements in one pass: Elements are grouped by their {@code data-constraint} attribute and each distinct
+     * constraint is parsed and decided only once.
+     */
     private static void processElements(AuthorisationDecision authorisationDecision, NodeList<Element> elements) {
+        Map<Constraints, List<HTMLElement>> elementsByConstraints = new LinkedHashMap<>();
         Elements.stream(elements)
                 .filter(new Visible()) // prevent that hidden elements become visible by Toggle()
-                .forEach(new Toggle(authorisationDecision));
+                .filter(element -> element instanceof HTMLElement)
+                .forEach(element -> {
+                    HTMLElement htmlElement = (HTMLElement) element;
+                    String data = htmlElement.dataset.get(UIConstants.CONSTRAINT);
+                    if (data != null) {
+                        elementsByConstraints.computeIfAbsent(Constraints.parse(data), c -> new ArrayList<>())
+                                .add(htmlElement);
+                    }
+                });
+
+        Map<Constraints, Boolean> decisions = authorisationDecision.decisions(elementsByConstraints.keySet());
+        elementsByConstraints.forEach((constraints, htmlElements) -> {
+            boolean allowed = decisions.get(constraints);
+            for (HTMLElement htmlElement : htmlElements) {
+                Elements.toggle(htmlElement, rbacHidden, !allowed);
+            }
+        });
     }
 
     private ElementGuard() {
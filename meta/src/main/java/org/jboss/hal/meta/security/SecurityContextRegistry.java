@@ -15,9 +15,15 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Objects;
+
 import javax.inject.Inject;
 
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.AddressKey;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AbstractRegistry;
 import org.jboss.hal.meta.StatementContext;
@@ -27,19 +33,30 @@ import org.slf4j.LoggerFactory;
 import com.google.common.cache.Cache;
 import com.google.common.cache.CacheBuilder;
 
+import static org.jboss.hal.config.Settings.Key.RUN_AS;
 import static org.jboss.hal.dmr.ModelDescriptionConstants.HAL_RECURSIVE;
 
+/**
+ * Registry for security contexts. Besides the security contexts, the registry memoizes the decisions made by
+ * {@link AuthorisationDecision} for a resolved address and a constraint. The decisions are dropped if a security context
+ * is added for the related address or if the run-as roles change.
+ */
 public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
 
     private static final int CACHE_SIZE = 500;
     private static final String SECURITY_CONTEXT_TYPE = "security context";
     private static final Logger logger = LoggerFactory.getLogger(SecurityContextRegistry.class);
 
-    private final Cache<ResourceAddress, SecurityContext> cache;
+    private final Settings settings;
+    private final Cache<AddressKey, SecurityContext> cache;
+    private final Cache<AddressKey, Map<Constraint, Boolean>> decisions;
+    private String runAs;
 
     @Inject
-    public SecurityContextRegistry(StatementContext statementContext, Environment environment) {
+    public SecurityContextRegistry(StatementContext statementContext, Environment environment, Settings settings) {
         super(new SecurityContextStatementContext(statementContext, environment), SECURITY_CONTEXT_TYPE);
+        this.settings = settings;
+        this.runAs = settings.get(RUN_AS).value();
         this.cache = CacheBuilder.newBuilder()
                 .maximumSize(CACHE_SIZE)
                 .recordStats()
@@ -47,16 +64,55 @@ public class SecurityContextRegistry extends AbstractRegistry<SecurityContext> {
                         notification -> logger.debug("Remove {} from {} cache: {}", notification.getKey(), type,
                                 notification.getCause()))
                 .build();
+        this.decisions = CacheBuilder.newBuilder()
+                .maximumSize(CACHE_SIZE)
+                .build();
     }
 
     public void add(ResourceAddress address, SecurityContext securityContext, boolean recursive) {
         securityContext.get(HAL_RECURSIVE).set(recursive);
-        cache.put(address, securityContext);
+        AddressKey key = address.key();
+        cache.put(key, securityContext);
+        decisions.invalidate(key);
         logger.debug("Added {} to {} ({})", address.toString(), type, recursive ? "recursive" : "none-recursive");
     }
 
     @Override
-    protected SecurityContext lookupAddress(ResourceAddress address) {
+    protected SecurityContext lookupAddress(AddressKey address) {
         return cache.getIfPresent(address);
     }
+
+    /** Drops all memoized decisions. */
+    public void invalidateDecisions() {
+        decisions.invalidateAll();
+        logger.debug("Invalidated decisions of {}", type);
+    }
+
+    AddressKey resolve(Constraint constraint) {
+        return resolveTemplate(constraint.getTemplate());
+    }
+
+    SecurityContext securityContext(AddressKey address) {
+        return lookupAddress(address);
+    }
+
+    Boolean decision(AddressKey address, Constraint constraint) {
+        String currentRunAs = settings.get(RUN_AS).value();
+        if (!Objects.equals(runAs, currentRunAs)) {
+            runAs = currentRunAs;
+            invalidateDecisions();
+            return null;
+        }
+        Map<Constraint, Boolean> decisionsOfAddress = decisions.getIfPresent(address);
+        return decisionsOfAddress != null ? decisionsOfAddress.get(constraint) : null;
+    }
+
+    void remember(AddressKey address, Constraint constraint, boolean allowed) {
+        Map<Constraint, Boolean> decisionsOfAddress = decisions.getIfPresent(address);
+        if (decisionsOfAddress == null) {
+            decisionsOfAddress = new HashMap<>();
+            decisions.put(address, decisionsOfAddress);
+        }
+        decisionsOfAddress.put(constraint, allowed);
+    }
 }
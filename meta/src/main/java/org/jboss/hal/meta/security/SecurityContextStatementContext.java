@@ -58,4 +58,10 @@ public class SecurityContextStatementContext extends FilteringStatementContext {
             }
         });
     }
+
+    @Override
+    public int version() {
+        // the filter depends on the delegate and the environment only
+        return delegate().version();
+    }
 }
@@ -256,6 +256,29 @@ public class AddressTemplateTest {
         assertResolved(new String[][] { { "a", "b" }, { "c", "d" } }, resolved);
     }
 
+    @Test
+    public void resolveVariables() {
+        AddressTemplate at = AddressTemplate.of("{selected.host}/server={selection}/{selected.host}/a={selection}");
+        ResourceAddress resolved = at.resolve(new TestableStatementContext());
+        assertResolved(new String[][] { { "host", "primary" }, { "server", "selection" }, { "a", "_blank" } },
+                resolved);
+    }
+
+    @Test
+    public void resolveEncoded() {
+        AddressTemplate at = AddressTemplate.of("a=" + ModelNodeHelper.encodeValue("b/c") + "/d=*");
+        ResourceAddress resolved = at.resolve(StatementContext.NOOP, ModelNodeHelper.encodeValue("e/f"));
+        assertResolved(new String[][] { { "a", "b/c" }, { "d", "e/f" } }, resolved);
+    }
+
+    @Test
+    public void resolveTwice() {
+        AddressTemplate at = AddressTemplate.of("{selected.profile}/subsystem=*");
+        StatementContext context = new TestableStatementContext();
+        assertEquals(at.resolve(context, "mail"), at.resolve(context, "mail"));
+        assertResolved(new String[][] { { "profile", "full" }, { "subsystem", "mail" } }, at.resolve(context, "mail"));
+    }
+
     @Test
     public void slashes() {
         AddressTemplate at = AddressTemplate.of("a=b/" + ModelNodeHelper.encodeValue("c=/") + "/d=e");
@@ -0,0 +1,81 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta;
+
+import org.jboss.hal.dmr.AddressKey;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertSame;
+
+public class ResolutionCacheTest {
+
+    private static final AddressTemplate TEMPLATE = AddressTemplate.of("{selected.host}/subsystem=logging");
+
+    private VersionedStatementContext statementContext;
+    private ResolutionCache cache;
+
+    @Before
+    public void setUp() {
+        statementContext = new VersionedStatementContext();
+        cache = new ResolutionCache(statementContext);
+    }
+
+    @Test
+    public void cached() {
+        AddressKey key = cache.resolve(TEMPLATE);
+        assertEquals("/host=primary/subsystem=logging", key.toString());
+        assertSame(key, cache.resolve(TEMPLATE));
+        assertSame(key, cache.resolve(AddressTemplate.of("{selected.host}/subsystem=logging")));
+        assertEquals(1, statementContext.resolutions);
+    }
+
+    @Test
+    public void versionChanged() {
+        cache.resolve(TEMPLATE);
+        statementContext.host = "secondary";
+        statementContext.version++;
+        assertEquals("/host=secondary/subsystem=logging", cache.resolve(TEMPLATE).toString());
+        assertEquals(2, statementContext.resolutions);
+    }
+
+    @Test
+    public void notCacheable() {
+        statementContext.version = -1;
+        cache.resolve(TEMPLATE);
+        cache.resolve(TEMPLATE);
+        assertEquals(2, statementContext.resolutions);
+    }
+
+    private static class VersionedStatementContext extends TestableStatementContext {
+
+        int version;
+        int resolutions;
+        String host = "primary";
+
+        @Override
+        public String[] resolveTuple(String placeholder, AddressTemplate template) {
+            resolutions++;
+            return new String[] { "host", host };
+        }
+
+        @Override
+        public int version() {
+            return version;
+        }
+    }
+}
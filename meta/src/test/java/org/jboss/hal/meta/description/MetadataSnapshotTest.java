@@ -0,0 +1,35 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.description;
+
+import org.jboss.hal.config.Version;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class MetadataSnapshotTest {
+
+    @Test
+    public void fileName() {
+        assertEquals("20.0.0-en.json", MetadataSnapshot.fileName(new Version(20, 0, 0), "en"));
+    }
+
+    @Test
+    public void fileNameWithoutQualifier() {
+        assertEquals("1.2.3-zh_Hans.json", MetadataSnapshot.fileName(new Version(1, 2, 3, "Final"), "zh_Hans"));
+    }
+}
@@ -23,6 +23,7 @@ import org.jboss.hal.dmr.Operation;
 import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AddressTemplate;
 import org.jboss.hal.meta.StatementContext;
+import org.jboss.hal.meta.resource.FetchPlan;
 import org.junit.Before;
 import org.junit.Test;
 import org.mockito.Mockito;
@@ -30,6 +31,7 @@ import org.mockito.Mockito;
 import com.google.common.collect.Sets;
 
 import static org.jboss.hal.dmr.ModelDescriptionConstants.*;
+import static org.jboss.hal.meta.processing.LookupResult.ALL_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.RESOURCE_DESCRIPTION_PRESENT;
 import static org.jboss.hal.meta.processing.LookupResult.SECURITY_CONTEXT_PRESENT;
 import static org.jboss.hal.meta.processing.MetadataProcessor.RRD_DEPTH;
@@ -101,6 +103,71 @@ public class CreateRrdOperationsTest {
         throw new IllegalStateException("No operation found for " + template);
     }
 
+    @Test
+    public void fetchPlanGroups() {
+        AddressTemplate a = AddressTemplate.of("a=1");
+        AddressTemplate b = AddressTemplate.of("b=2");
+        AddressTemplate c = AddressTemplate.of("c=3");
+        AddressTemplate d = AddressTemplate.of("d=4");
+        LookupResult lookupResult = new LookupResult(Sets.newHashSet(a, b, c, d));
+        FetchPlan fetchPlan = new FetchPlan().group("a=1", "b=2").group("c=3", "d=4");
+
+        List<List<Operation>> piles = rrdOps.create(new LookupContext(lookupResult), false, fetchPlan, 3);
+        assertEquals(2, piles.size());
+        assertEquals(2, piles.get(0).size());
+        assertEquals(a.resolve(statementContext), piles.get(0).get(0).get(ADDRESS));
+        assertEquals(b.resolve(statementContext), piles.get(0).get(1).get(ADDRESS));
+        assertEquals(c.resolve(statementContext), piles.get(1).get(0).get(ADDRESS));
+    }
+
+    @Test
+    public void fetchPlanPartiallyPresent() {
+        AddressTemplate a = AddressTemplate.of("a=1");
+        AddressTemplate b = AddressTemplate.of("b=2");
+        AddressTemplate c = AddressTemplate.of("c=3");
+        AddressTemplate d = AddressTemplate.of("d=4");
+        AddressTemplate e = AddressTemplate.of("e=5");
+        LookupResult lookupResult = new LookupResult(Sets.newHashSet(a, b, c, d, e));
+        lookupResult.markMetadataPresent(a, ALL_PRESENT);
+        lookupResult.markMetadataPresent(c, ALL_PRESENT);
+        // e is not part of the plan
+        FetchPlan fetchPlan = new FetchPlan().group("a=1", "b=2").group("c=3", "d=4");
+
+        List<List<Operation>> piles = rrdOps.create(new LookupContext(lookupResult), false, fetchPlan, 3);
+        assertEquals(1, piles.size());
+        assertEquals(3, piles.get(0).size());
+    }
+
+    @Test
+    public void fetchPlanCovered() {
+        AddressTemplate parent = AddressTemplate.of("subsystem=foo");
+        AddressTemplate child = AddressTemplate.of("subsystem=foo/bar=*");
+        FetchPlan fetchPlan = new FetchPlan().group("subsystem=foo").covered("subsystem=foo/bar=*", "subsystem=foo");
+
+        // parent and child missing: read the parent only
+        LookupResult lookupResult = new LookupResult(Sets.newHashSet(parent, child));
+        List<List<Operation>> piles = rrdOps.create(new LookupContext(lookupResult, true, fetchPlan), true, fetchPlan,
+                3);
+        assertEquals(1, piles.size());
+        assertEquals(1, piles.get(0).size());
+        assertEquals(parent.resolve(statementContext), piles.get(0).get(0).get(ADDRESS));
+
+        // parent present: read the child
+        lookupResult = new LookupResult(Sets.newHashSet(parent, child));
+        lookupResult.markMetadataPresent(parent, ALL_PRESENT);
+        piles = rrdOps.create(new LookupContext(lookupResult, true, fetchPlan), true, fetchPlan, 3);
+        assertEquals(1, piles.size());
+        assertEquals(child.resolve(statementContext), piles.get(0).get(0).get(ADDRESS));
+
+        // parent reads the security context only, but the child misses the resource description
+        lookupResult = new LookupResult(Sets.newHashSet(parent, child));
+        lookupResult.markMetadataPresent(parent, RESOURCE_DESCRIPTION_PRESENT);
+        piles = rrdOps.create(new LookupContext(lookupResult, true, fetchPlan), true, fetchPlan, 3);
+        assertEquals(2, piles.size());
+        assertEquals(parent.resolve(statementContext), piles.get(0).get(0).get(ADDRESS));
+        assertEquals(child.resolve(statementContext), piles.get(1).get(0).get(ADDRESS));
+    }
+
     @Test
     public void recursive() {
         LookupResult lookupResult = new LookupResult(Sets.<AddressTemplate> newHashSet(AddressTemplate.of("foo=bar")));
@@ -0,0 +1,78 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.meta.search;
+
+import java.util.List;
+
+import org.jboss.hal.dmr.ModelNode;
+import org.junit.Test;
+
+import static org.jboss.hal.dmr.ModelDescriptionConstants.ATTRIBUTES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.CAPABILITIES;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.DESCRIPTION;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.NAME;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
+import static org.jboss.hal.meta.search.SearchEntry.Type.ATTRIBUTE;
+import static org.jboss.hal.meta.search.SearchEntry.Type.CAPABILITY;
+import static org.jboss.hal.meta.search.SearchEntry.Type.OPERATION;
+import static org.jboss.hal.meta.search.SearchEntry.Type.RESOURCE;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertTrue;
+
+@SuppressWarnings({ "HardCodedStringLiteral", "DuplicateStringLiteralInspection" })
+public class SearchEntryTest {
+
+    private static final String DATA_SOURCE = "/subsystem=datasources/data-source=*";
+
+    @Test
+    public void empty() {
+        assertTrue(SearchEntry.from("/", new ModelNode()).isEmpty());
+    }
+
+    @Test
+    public void resource() {
+        ModelNode description = new ModelNode();
+        description.get(DESCRIPTION).set("A JDBC data-source configuration");
+
+        List<SearchEntry> entries = SearchEntry.from(DATA_SOURCE, description);
+        assertEquals(1, entries.size());
+        assertEntry(entries.get(0), RESOURCE, "data-source", "A JDBC data-source configuration");
+    }
+
+    @Test
+    public void entries() {
+        ModelNode description = new ModelNode();
+        description.get(ATTRIBUTES, "max-pool-size", DESCRIPTION).set("The max-pool-size element");
+        description.get(ATTRIBUTES, "jndi-name", DESCRIPTION).set("Specifies the JNDI name");
+        description.get(OPERATIONS, "flush-all-connection-in-pool", DESCRIPTION).set("Flush all connections");
+        description.get(CAPABILITIES).add().get(NAME).set("org.wildfly.data-source");
+
+        List<SearchEntry> entries = SearchEntry.from(DATA_SOURCE, description);
+        assertEquals(5, entries.size());
+        assertEntry(entries.get(0), RESOURCE, "data-source", null);
+        assertEntry(entries.get(1), ATTRIBUTE, "max-pool-size", "The max-pool-size element");
+        assertEntry(entries.get(2), ATTRIBUTE, "jndi-name", "Specifies the JNDI name");
+        assertEntry(entries.get(3), OPERATION, "flush-all-connection-in-pool", "Flush all connections");
+        assertEntry(entries.get(4), CAPABILITY, "org.wildfly.data-source", null);
+    }
+
+    private void assertEntry(SearchEntry entry, SearchEntry.Type type, String name, String description) {
+        assertEquals(DATA_SOURCE, entry.getAddress());
+        assertEquals(type, entry.getType());
+        assertEquals(name, entry.getName());
+        assertEquals(description, entry.getDescription());
+    }
+}
@@ -15,19 +15,31 @@
  */
 package org.jboss.hal.meta.security;
 
+import java.util.Map;
 import java.util.Optional;
 
 import org.jboss.hal.config.AccessControlProvider;
 import org.jboss.hal.config.Environment;
+import org.jboss.hal.config.Settings;
+import org.jboss.hal.dmr.ModelNode;
+import org.jboss.hal.dmr.ResourceAddress;
 import org.jboss.hal.meta.AddressTemplate;
+import org.jboss.hal.meta.StatementContext;
 import org.junit.Before;
 import org.junit.Test;
 
+import static java.util.Arrays.asList;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.EXECUTE;
+import static org.jboss.hal.dmr.ModelDescriptionConstants.OPERATIONS;
 import static org.jboss.hal.meta.security.SecurityContext.READ_ONLY;
 import static org.jboss.hal.meta.security.SecurityContext.RWX;
+import static org.junit.Assert.assertEquals;
 import static org.junit.Assert.assertFalse;
 import static org.junit.Assert.assertTrue;
 import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.spy;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
 import static org.mockito.Mockito.when;
 
 public class AuthorisationDecisionTest {
@@ -106,4 +118,46 @@ public class AuthorisationDecisionTest {
         Constraints constraints = Constraints.or(foo, bar);
         assertTrue(AuthorisationDecision.from(rbac, c -> Optional.of(securityContext)).isAllowed(constraints));
     }
-}
\ No newline at end of file
+
+    @Test
+    public void decisions() {
+        SecurityContextResolver resolver = mock(SecurityContextResolver.class);
+        when(resolver.resolve(foo)).thenReturn(Optional.of(securityContext));
+        when(resolver.resolve(bar)).thenReturn(Optional.of(securityContext));
+
+        Constraints single = Constraints.single(foo);
+        Constraints and = Constraints.and(foo, bar);
+        Map<Constraints, Boolean> decisions = AuthorisationDecision.from(rbac, resolver)
+                .decisions(asList(single, and, Constraints.single(foo)));
+
+        assertEquals(2, decisions.size());
+        assertTrue(decisions.get(single));
+        assertFalse(decisions.get(and));
+        verify(resolver, times(2)).resolve(foo);
+        verify(resolver, times(1)).resolve(bar);
+    }
+
+    @Test
+    public void memoized() {
+        Settings settings = mock(Settings.class);
+        when(settings.get(Settings.Key.RUN_AS)).thenReturn(mock(Settings.Value.class));
+        SecurityContextRegistry registry = new SecurityContextRegistry(mock(StatementContext.class), rbac, settings);
+        SecurityContext context = executable(false);
+        registry.add(ResourceAddress.root(), context, false);
+
+        AuthorisationDecision decision = AuthorisationDecision.from(rbac, registry);
+        assertFalse(decision.isAllowed(foo));
+        assertFalse(decision.isAllowed(foo));
+        verify(context, times(1)).isExecutable("foo");
+
+        // adding a security context drops the decisions for that address
+        registry.add(ResourceAddress.root(), executable(true), false);
+        assertTrue(decision.isAllowed(foo));
+    }
+
+    private SecurityContext executable(boolean executable) {
+        ModelNode payload = new ModelNode();
+        payload.get(OPERATIONS).get("foo").get(EXECUTE).set(executable);
+        return spy(new SecurityContext(payload));
+    }
+}
@@ -15,11 +15,14 @@
  */
 package org.jboss.hal.processor;
 
+import java.util.ArrayList;
 import java.util.HashMap;
 import java.util.HashSet;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Set;
+import java.util.TreeSet;
 import java.util.function.Supplier;
 
 import javax.annotation.processing.Processor;
@@ -34,16 +37,26 @@ import org.jboss.hal.spi.Column;
 import org.jboss.hal.spi.Requires;
 
 import com.google.auto.service.AutoService;
+import com.google.common.base.Splitter;
 import com.google.common.collect.ImmutableList;
+import com.google.common.collect.Lists;
 import com.gwtplatform.mvp.client.annotations.NameToken;
 
 import static java.util.Arrays.asList;
+import static java.util.Comparator.comparing;
+import static java.util.stream.Collectors.toList;
 import static org.jboss.hal.processor.TemplateNames.CLASS_NAME;
 import static org.jboss.hal.processor.TemplateNames.GENERATED_WITH;
 import static org.jboss.hal.processor.TemplateNames.PACKAGE_NAME;
 import static org.jboss.hal.processor.TemplateNames.TEMPLATES;
 
-/** Processor which scans all {@code @Requires} annotations and generates the {@code RequiredResources} registry. */
+/**
+ * Processor which scans all {@code @Requires} annotations and generates the {@code RequiredResources} registry.
+ * <p>
+ * Besides the required resources, the registry contains a fetch plan for each id: The templates which are covered by the
+ * recursive {@code read-resource-description} operation of an ancestor are removed and the remaining templates are
+ * grouped into the composite operations used to read the metadata.
+ */
 @AutoService(Processor.class)
 @SuppressWarnings("HardCodedStringLiteral")
 @SupportedAnnotationTypes("org.jboss.hal.spi.Requires")
@@ -57,6 +70,11 @@ public class RequiredResourcesProcessor extends AbstractProcessor {
     private static final String REGISTRY_MODULE_PACKAGE = "org.jboss.hal.meta";
     private static final String REGISTRY_MODULE_CLASS = "RequiredResourcesRegistryModule";
 
+    private static final int RRD_DEPTH = Requires.RRD_DEPTH;
+    private static final int BATCH_SIZE = Requires.BATCH_SIZE;
+    private static final String OPTIONAL = "opt://";
+    private static final String WILDCARD = "*";
+
     private final Map<String, RequiredInfo> requiredInfos;
 
     public RequiredResourcesProcessor() {
@@ -92,6 +110,7 @@ public class RequiredResourcesProcessor extends AbstractProcessor {
                 RequiredInfo requiredInfo = new RequiredInfo(id, requiredElement);
                 requiredInfo.addResources(requires.value());
                 requiredInfo.setRecursive(requires.recursive());
+                plan(requiredInfo);
 
                 if (requiredInfos.containsKey(id)) {
                     RequiredInfo other = requiredInfos.get(id);
@@ -133,26 +152,94 @@ public class RequiredResourcesProcessor extends AbstractProcessor {
 
     private Supplier<Map<String, Object>> context(String packageName, String className) {
         return () -> {
+            Set<String> allResources = new TreeSet<>();
+            requiredInfos.values().forEach(requiredInfo -> allResources.addAll(requiredInfo.getResources()));
+
             Map<String, Object> context = new HashMap<>();
             context.put(GENERATED_WITH, RequiredResourcesProcessor.class.getName());
             context.put(PACKAGE_NAME, packageName);
             context.put(CLASS_NAME, className);
             context.put("requiredInfos", requiredInfos.values());
+            context.put("allResources", allResources);
             return context;
         };
     }
 
+    /**
+     * Creates the fetch plan for the required info. A template is covered by an ancestor if the ancestor is read
+     * recursively and the template adds no more than {@value #RRD_DEPTH} wildcard segments to the ancestor. Optional
+     * templates are neither covered nor used as ancestors, since their operations might fail.
+     */
+    private void plan(RequiredInfo requiredInfo) {
+        List<String> required = requiredInfo.getResources().stream()
+                .filter(template -> !template.startsWith(OPTIONAL))
+                .map(RequiredResourcesProcessor::normalize)
+                .distinct()
+                .sorted()
+                .collect(toList());
+
+        List<String> fetch = new ArrayList<>();
+        if (requiredInfo.isRecursive()) {
+            List<String> bySize = new ArrayList<>(required);
+            bySize.sort(comparing((String template) -> segments(template).size()).thenComparing(template -> template));
+            Set<String> covered = new HashSet<>();
+            for (String template : bySize) {
+                for (String ancestor : bySize) {
+                    if (!ancestor.equals(template) && !covered.contains(ancestor) && covers(ancestor, template)) {
+                        requiredInfo.covered.put(template, ancestor);
+                        covered.add(template);
+                        break;
+                    }
+                }
+            }
+            required.stream().filter(template -> !covered.contains(template)).forEach(fetch::add);
+        } else {
+            fetch.addAll(required);
+        }
+        requiredInfo.groups.addAll(Lists.partition(fetch, BATCH_SIZE));
+    }
+
+    private static boolean covers(String ancestor, String template) {
+        List<String> ancestorSegments = segments(ancestor);
+        List<String> templateSegments = segments(template);
+        int depth = templateSegments.size() - ancestorSegments.size();
+        if (depth < 1 || depth > RRD_DEPTH || !templateSegments.subList(0, ancestorSegments.size())
+                .equals(ancestorSegments)) {
+            return false;
+        }
+        // children are registered using the names of the model descriptions: only wildcards are safe to match
+        for (String segment : templateSegments.subList(ancestorSegments.size(), templateSegments.size())) {
+            if (!segment.endsWith("=" + WILDCARD)) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private static List<String> segments(String template) {
+        return Splitter.on('/').omitEmptyStrings().trimResults().splitToList(template);
+    }
+
+    /** Same format as {@code AddressTemplate.toString()}: segments joined by '/' w/o leading slash */
+    private static String normalize(String template) {
+        return String.join("/", segments(template));
+    }
+
     public static class RequiredInfo {
 
         private final String id;
         private final TypeElement source;
         private final Set<String> resources;
+        private final List<List<String>> groups;
+        private final Map<String, String> covered;
         private boolean recursive;
 
         RequiredInfo(String id, TypeElement source) {
             this.id = id;
             this.source = source;
             this.resources = new HashSet<>();
+            this.groups = new ArrayList<>();
+            this.covered = new LinkedHashMap<>();
             this.recursive = false;
         }
 
@@ -199,5 +286,14 @@ public class RequiredResourcesProcessor extends AbstractProcessor {
         public String getId() {
             return id;
         }
+
+        public List<List<String>> getGroups() {
+            return groups;
+        }
+
+        /** @return pairs of covered templates and their ancestors */
+        public List<List<String>> getCovered() {
+            return covered.entrySet().stream().map(entry -> asList(entry.getKey(), entry.getValue())).collect(toList());
+        }
     }
 }
@@ -19,10 +19,12 @@ class MbuiElementInfo {
 
     private final String name;
     private final String selector;
+    private boolean lazy;
 
     MbuiElementInfo(final String name, final String selector) {
         this.name = name;
         this.selector = selector;
+        this.lazy = false;
     }
 
     public String getName() {
@@ -32,4 +34,13 @@ class MbuiElementInfo {
     public String getSelector() {
         return selector;
     }
+
+    /** @return whether this element is part of a lazily built vertical navigation page */
+    public boolean isLazy() {
+        return lazy;
+    }
+
+    void setLazy(final boolean lazy) {
+        this.lazy = lazy;
+    }
 }
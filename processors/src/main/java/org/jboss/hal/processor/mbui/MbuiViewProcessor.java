@@ -185,6 +185,7 @@ public class MbuiViewProcessor extends AbstractProcessor {
         processMbuiElements(type, document, context);
         processRoot(document, context);
         processCrossReferences(document, context);
+        verifyLazyPages(type, context);
 
         // init parameters and abstract properties
         processAbstractProperties(type, context);
@@ -439,11 +440,39 @@ public class MbuiViewProcessor extends AbstractProcessor {
                 Content reference = parentItem.findContent(id);
                 if (reference != null) {
                     reference.setReference(elementInfo.getName());
+                    if (navigation.isLazy()) {
+                        elementInfo.setLazy(true);
+                        if (elementInfo instanceof DataTableInfo) {
+                            parentItem.addDataTable((DataTableInfo) elementInfo);
+                        } else if (elementInfo instanceof FormInfo) {
+                            parentItem.addForm((FormInfo) elementInfo);
+                        }
+                    }
                 }
             }
         }
     }
 
+    private void verifyLazyPages(TypeElement type, MbuiViewContext context) {
+        VerticalNavigationInfo navigation = context.getVerticalNavigation();
+        if (navigation != null && navigation.isLazy()) {
+            for (VerticalNavigationInfo.Item item : navigation.getItems()) {
+                verifyLazyPage(type, item);
+                item.getSubItems().forEach(subItem -> verifyLazyPage(type, subItem));
+            }
+        }
+    }
+
+    private void verifyLazyPage(TypeElement type, VerticalNavigationInfo.Item item) {
+        for (DataTableInfo table : item.getDataTables()) {
+            FormInfo formRef = table.getFormRef();
+            if (formRef != null && !item.getForms().contains(formRef)) {
+                error(type, "Invalid form-ref \"%s\" in table \"%s\": In a lazy vertical navigation table and form " +
+                        "must be part of the same item.", formRef.getSelector(), table.getSelector());
+            }
+        }
+    }
+
     // ------------------------------------------------------ abstract properties
 
     void processAbstractProperties(TypeElement type, MbuiViewContext context) {
@@ -16,9 +16,12 @@
 package org.jboss.hal.processor.mbui;
 
 import java.util.ArrayList;
+import java.util.Collection;
 import java.util.HashMap;
+import java.util.LinkedHashSet;
 import java.util.List;
 import java.util.Map;
+import java.util.Set;
 
 import static com.google.common.base.CaseFormat.LOWER_CAMEL;
 import static com.google.common.base.CaseFormat.LOWER_HYPHEN;
@@ -26,15 +29,22 @@ import static java.util.stream.Collectors.toList;
 
 public class VerticalNavigationInfo extends MbuiElementInfo {
 
+    private final boolean lazy;
     private final List<Item> items;
     private final Map<String, Item> itemsById;
 
-    VerticalNavigationInfo(final String name, final String selector) {
+    VerticalNavigationInfo(final String name, final String selector, final boolean lazy) {
         super(name, selector);
+        this.lazy = lazy;
         this.items = new ArrayList<>();
         this.itemsById = new HashMap<>();
     }
 
+    /** @return whether the pages are built the first time they're shown */
+    public boolean isLazy() {
+        return lazy;
+    }
+
     public List<Item> getItems() {
         return items;
     }
@@ -66,6 +76,8 @@ public class VerticalNavigationInfo extends MbuiElementInfo {
         private final List<Content> content;
         private final List<Item> subItems;
         private final Map<String, Item> subItemsById;
+        private final List<FormInfo> forms;
+        private final List<DataTableInfo> dataTables;
 
         Item(final String id, final String title, final String icon) {
             this.id = id;
@@ -75,6 +87,8 @@ public class VerticalNavigationInfo extends MbuiElementInfo {
             this.content = new ArrayList<>();
             this.subItems = new ArrayList<>();
             this.subItemsById = new HashMap<>();
+            this.forms = new ArrayList<>();
+            this.dataTables = new ArrayList<>();
         }
 
         public String getId() {
@@ -118,6 +132,39 @@ public class VerticalNavigationInfo extends MbuiElementInfo {
             this.content.add(content);
         }
 
+        /** @return the forms of a lazily built page */
+        public List<FormInfo> getForms() {
+            return forms;
+        }
+
+        void addForm(FormInfo form) {
+            forms.add(form);
+        }
+
+        /** @return the tables of a lazily built page */
+        public List<DataTableInfo> getDataTables() {
+            return dataTables;
+        }
+
+        void addDataTable(DataTableInfo dataTable) {
+            dataTables.add(dataTable);
+        }
+
+        /** @return the tables and forms of a lazily built page */
+        public List<MbuiElementInfo> getAttachables() {
+            List<MbuiElementInfo> attachables = new ArrayList<>(dataTables);
+            attachables.addAll(forms);
+            return attachables;
+        }
+
+        /** @return the metadata used by the tables and forms of a lazily built page */
+        public Collection<MetadataInfo> getMetadataInfos() {
+            Set<MetadataInfo> metadataInfos = new LinkedHashSet<>();
+            forms.forEach(form -> metadataInfos.add(form.getMetadata()));
+            dataTables.forEach(table -> metadataInfos.add(table.getMetadata()));
+            return metadataInfos;
+        }
+
         Content findContent(final String id) {
             for (Content c : content) {
                 if (id.equals(c.getReference())) {
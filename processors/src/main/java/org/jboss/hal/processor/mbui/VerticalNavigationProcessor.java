@@ -35,7 +35,8 @@ class VerticalNavigationProcessor extends AbstractMbuiElementProcessor implement
 
     @Override
     public void process(VariableElement field, Element element, String selector, MbuiViewContext context) {
-        VerticalNavigationInfo navigationInfo = new VerticalNavigationInfo(field.getSimpleName().toString(), selector);
+        VerticalNavigationInfo navigationInfo = new VerticalNavigationInfo(field.getSimpleName().toString(), selector,
+                Boolean.parseBoolean(element.getAttributeValue(XmlTags.LAZY)));
         context.setVerticalNavigation(navigationInfo);
 
         XPathExpression<Element> expression = xPathFactory.compile(XmlTags.ITEM, Filters.element());
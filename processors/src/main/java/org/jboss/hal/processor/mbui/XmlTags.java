@@ -39,6 +39,7 @@ public interface XmlTags {
     String ID = "id";
     String INCLUDE_RUNTIME = "include-runtime";
     String ITEM = "item";
+    String LAZY = "lazy";
     String METADATA = "metadata";
     String NAME = "name";
     String NAME_RESOLVER = "name-resolver";
@@ -86,6 +86,191 @@ public final class ${context.subclass} extends ${context.base} {
         this.expressionElements = new HashMap<>();
 
         <#list context.forms as form>
+            <#if !form.lazy>
+<@buildForm form/>
+            </#if>
+        </#list>
+
+        <#list context.dataTables as table>
+            <#if !table.lazy>
+<@buildTable table/>
+            </#if>
+        </#list>
+
+        <#if context.verticalNavigation??>
+        ${context.verticalNavigation.name} = new VerticalNavigation();
+            <#list context.verticalNavigation.items as primaryItem>
+                <#if primaryItem.content?has_content>
+                    <#if context.verticalNavigation.lazy>
+        HTMLElement ${primaryItem.name}Element = section().element();
+        ${context.verticalNavigation.name}.addPrimary("${primaryItem.id}", ${primaryItem.title}<#if primaryItem.icon??>, "${primaryItem.icon}"</#if>, ${primaryItem.name}Element);
+        ${context.verticalNavigation.name}.onFirstShow("${primaryItem.id}", () -> build${primaryItem.name?cap_first}(${primaryItem.name}Element));
+                    <#else>
+                        <#if primaryItem.htmlContent?has_content>
+        HTMLElement <#list primaryItem.htmlContent as htmlContent>${htmlContent.name}<#if htmlContent_has_next>, </#if></#list>;
+                        </#if>
+        HTMLElement ${primaryItem.name}Element = section()
+                        <#list primaryItem.content as content>
+                            <#if content.html??>
+            .add(${content.name} = div()
+                .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
+                            .element())
+                            <#elseif content.reference??>
+            .add(${content.reference})
+                            </#if>
+                        </#list>
+                    .element();
+                        <#list primaryItem.htmlContent as htmlContent>
+        expressionElements.put("${htmlContent.name}", ${htmlContent.name});
+                        </#list>
+        ${context.verticalNavigation.name}.addPrimary("${primaryItem.id}", ${primaryItem.title}<#if primaryItem.icon??>, "${primaryItem.icon}"</#if>, ${primaryItem.name}Element);
+                    </#if>
+                <#elseif primaryItem.subItems?has_content>
+        ${context.verticalNavigation.name}.addPrimary("${primaryItem.id}", ${primaryItem.title}<#if primaryItem.icon??>, "${primaryItem.icon}"</#if>);
+                    <#list primaryItem.subItems as subItem>
+                        <#if subItem.content?has_content>
+                            <#if context.verticalNavigation.lazy>
+        HTMLElement ${subItem.name}Element = section().element();
+        ${context.verticalNavigation.name}.addSecondary("${primaryItem.id}", "${subItem.id}", ${subItem.title}, ${subItem.name}Element);
+        ${context.verticalNavigation.name}.onFirstShow("${subItem.id}", () -> build${subItem.name?cap_first}(${subItem.name}Element));
+                            <#else>
+                                <#if subItem.htmlContent?has_content>
+        HTMLElement <#list subItem.htmlContent as htmlContent>${htmlContent.name}<#if htmlContent_has_next>, </#if></#list>;
+                                </#if>
+        HTMLElement ${subItem.name}Element = section()
+                                <#list subItem.content as content>
+                                    <#if content.html??>
+            .add(${content.name} = div()
+                .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
+                                    .element())
+                                    <#elseif content.reference??>
+            .add(${content.reference})
+                                    </#if>
+                                </#list>
+                            .element();
+                                <#list subItem.htmlContent as htmlContent>
+        expressionElements.put("${htmlContent.name}", ${htmlContent.name});
+                                </#list>
+        ${context.verticalNavigation.name}.addSecondary("${primaryItem.id}", "${subItem.id}", ${subItem.title}, ${subItem.name}Element);
+                            </#if>
+                        </#if>
+                    </#list>
+                </#if>
+            </#list>
+        HTMLElement root = row()
+            .add(column()
+                .addAll(${context.verticalNavigation.name}.panes()))
+            .element();
+        <#else>
+            <#if context.content?has_content>
+                <#if context.htmlContent?has_content>
+        HTMLElement <#list context.htmlContent as htmlContent>${htmlContent.name}<#if htmlContent_has_next>, </#if></#list>;
+                </#if>
+        HTMLElement root = row()
+            .add(column()
+                <#list context.content as content>
+                    <#if content.html??>
+                .add(${content.name} = div()
+                    .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
+                        .element())
+                    <#elseif content.reference??>
+                .add(${content.reference})
+                    </#if>
+                </#list>)
+                .element();
+                <#list context.htmlContent as htmlContent>
+        expressionElements.put("${htmlContent.name}", ${htmlContent.name});
+                </#list>
+            <#else>
+        HTMLElement root = row()
+            .add(
+                column()
+                    .add(h(1).textContent("${context.base}"))
+                .add(p().textContent(org.jboss.hal.resources.Names.NYI)))
+                .element();
+            </#if>
+        </#if>
+
+        <#list context.attachables as attachable>
+            <#if !attachable.lazy>
+        registerAttachable(${attachable.name});
+            </#if>
+        </#list>
+
+        initElement(root);
+
+        <#-- @PostConstruct -->
+        <#list context.postConstructs as postConstruct>
+        ${postConstruct.name}();
+        </#list>
+    }
+    <#-- Lazily built pages -->
+    <#if context.verticalNavigation?? && context.verticalNavigation.lazy>
+        <#list context.verticalNavigation.items as primaryItem>
+            <#if primaryItem.content?has_content>
+<@buildPage primaryItem/>
+            </#if>
+            <#list primaryItem.subItems as subItem>
+                <#if subItem.content?has_content>
+<@buildPage subItem/>
+                </#if>
+            </#list>
+        </#list>
+    </#if>
+    <#-- Abstract properties -->
+    <#list context.abstractProperties as abstractProperty>
+
+    @Override
+    ${abstractProperty.modifier}${abstractProperty.type} ${abstractProperty.method}() {
+    return ${abstractProperty.field};
+    }
+    </#list>
+
+    @Override
+    public void attach() {
+        super.attach();
+
+        <#list context.dataTables as table>
+            <#if table.formRef?? && !table.lazy>
+            ${table.name}.bindForm(${table.formRef.name});
+            </#if>
+        </#list>
+
+        <#if context.verticalNavigation??>
+            <#-- expressions of lazily built pages are replaced when the page is built -->
+            <#if !context.verticalNavigation.lazy>
+            <#list context.verticalNavigation.items as primaryItem>
+                <#list primaryItem.content as content>
+                    <#if content.html??>
+                        <#list content.handlebars?keys as handlebar>
+        ExpressionUtil.replaceExpression(expressionElements.get("${content.name}"), "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
+                        </#list>
+                    </#if>
+                </#list>
+                <#list primaryItem.subItems as subItem>
+                    <#list subItem.content as content>
+                        <#if content.html??>
+                            <#list content.handlebars?keys as handlebar>
+        ExpressionUtil.replaceExpression(expressionElements.get("${content.name}"), "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
+                            </#list>
+                        </#if>
+                    </#list>
+                </#list>
+            </#list>
+            </#if>
+        <#else>
+            <#list context.content as content>
+                <#if content.html??>
+                    <#list content.handlebars?keys as handlebar>
+        ExpressionUtil.replaceExpression(expressionElements.get("${content.name}"), "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
+                    </#list>
+                </#if>
+            </#list>
+        </#if>
+    }
+}
+<#-- Builds the form and assigns it to its field -->
+<#macro buildForm form>
             <#if form.groups?has_content>
         ${form.name} = new GroupedForm.Builder<${form.typeParameter.type}>("${form.selector}", ${form.metadata.name})
                 <#list form.groups as group>
@@ -201,9 +386,9 @@ public final class ${context.subclass} extends ${context.base} {
                     mbuiContext.dispatcher(), statementContext(), ${form.name}Templates));
                 </#if>
             </#list>
-        </#list>
-
-        <#list context.dataTables as table>
+</#macro>
+<#-- Builds the table and assigns it to its field -->
+<#macro buildTable table>
         ${table.name} = new ModelNodeTable.Builder<${table.typeParameter.type}>("${table.selector}", ${table.metadata.name})
             <#list table.actions as action>
                 <#if action.knownHandler>
@@ -313,147 +498,46 @@ public final class ${context.subclass} extends ${context.base} {
                 </#list>
             </#if>
             .build();
-        </#list>
+</#macro>
+<#-- Builds the content of a page of a lazy vertical navigation: Called the first time the page is shown -->
+<#macro buildPage item>
 
-        <#if context.verticalNavigation??>
-        ${context.verticalNavigation.name} = new VerticalNavigation();
-            <#list context.verticalNavigation.items as primaryItem>
-                <#if primaryItem.content?has_content>
-                    <#if primaryItem.htmlContent?has_content>
-        HTMLElement <#list primaryItem.htmlContent as htmlContent>${htmlContent.name}<#if htmlContent_has_next>, </#if></#list>;
-                    </#if>
-        HTMLElement ${primaryItem.name}Element = section()
-                    <#list primaryItem.content as content>
-                        <#if content.html??>
-            .add(${content.name} = div()
-                .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
-                            .element())
-                        <#elseif content.reference??>
-            .add(${content.reference})
-                        </#if>
-                    </#list>
-                    .element();
-                    <#list primaryItem.htmlContent as htmlContent>
-        expressionElements.put("${htmlContent.name}", ${htmlContent.name});
-                    </#list>
-        ${context.verticalNavigation.name}.addPrimary("${primaryItem.id}", ${primaryItem.title}<#if primaryItem.icon??>, "${primaryItem.icon}"</#if>, ${primaryItem.name}Element);
-                <#elseif primaryItem.subItems?has_content>
-        ${context.verticalNavigation.name}.addPrimary("${primaryItem.id}", ${primaryItem.title}<#if primaryItem.icon??>, "${primaryItem.icon}"</#if>);
-                    <#list primaryItem.subItems as subItem>
-                        <#if subItem.content?has_content>
-                            <#if subItem.htmlContent?has_content>
-        HTMLElement <#list subItem.htmlContent as htmlContent>${htmlContent.name}<#if htmlContent_has_next>, </#if></#list>;
-                            </#if>
-        HTMLElement ${subItem.name}Element = section()
-                            <#list subItem.content as content>
-                                <#if content.html??>
-            .add(${content.name} = div()
-                .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
-                                    .element())
-                                <#elseif content.reference??>
-            .add(${content.reference})
-                                </#if>
-                            </#list>
-                            .element();
-                            <#list subItem.htmlContent as htmlContent>
-        expressionElements.put("${htmlContent.name}", ${htmlContent.name});
-                            </#list>
-        ${context.verticalNavigation.name}.addSecondary("${primaryItem.id}", "${subItem.id}", ${subItem.title}, ${subItem.name}Element);
-                        </#if>
-                    </#list>
-                </#if>
-            </#list>
-        HTMLElement root = row()
-            .add(column()
-                .addAll(${context.verticalNavigation.name}.panes()))
-            .element();
-        <#else>
-            <#if context.content?has_content>
-                <#if context.htmlContent?has_content>
-        HTMLElement <#list context.htmlContent as htmlContent>${htmlContent.name}<#if htmlContent_has_next>, </#if></#list>;
-                </#if>
-        HTMLElement root = row()
-            .add(column()
-                <#list context.content as content>
-                    <#if content.html??>
-                .add(${content.name} = div()
-                    .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
-                        .element())
-                    <#elseif content.reference??>
-                .add(${content.reference})
-                    </#if>
-                </#list>)
-                .element();
-                <#list context.htmlContent as htmlContent>
-        expressionElements.put("${htmlContent.name}", ${htmlContent.name});
-                </#list>
-            <#else>
-        HTMLElement root = row()
-            .add(
-                column()
-                    .add(h(1).textContent("${context.base}"))
-                .add(p().textContent(org.jboss.hal.resources.Names.NYI)))
-                .element();
-            </#if>
-        </#if>
-
-        <#list context.attachables as attachable>
-        registerAttachable(${attachable.name});
-        </#list>
-
-        initElement(root);
-
-        <#-- @PostConstruct -->
-        <#list context.postConstructs as postConstruct>
-        ${postConstruct.name}();
-        </#list>
-    }
-    <#-- Abstract properties -->
-    <#list context.abstractProperties as abstractProperty>
-
-    @Override
-    ${abstractProperty.modifier}${abstractProperty.type} ${abstractProperty.method}() {
-    return ${abstractProperty.field};
-    }
+    @SuppressWarnings("unchecked")
+    private void build${item.name?cap_first}(HTMLElement element) {
+    <#list item.metadataInfos as metadataInfo>
+        AddressTemplate ${metadataInfo.name}Template = AddressTemplate.of("${metadataInfo.template}");
+    </#list>
+    <#list item.forms as form>
+<@buildForm form/>
+    </#list>
+    <#list item.dataTables as table>
+<@buildTable table/>
     </#list>
 
-    @Override
-    public void attach() {
-        super.attach();
-
-        <#list context.dataTables as table>
-            <#if table.formRef??>
-            ${table.name}.bindForm(${table.formRef.name});
-            </#if>
-        </#list>
-
-        <#if context.verticalNavigation??>
-            <#list context.verticalNavigation.items as primaryItem>
-                <#list primaryItem.content as content>
-                    <#if content.html??>
-                        <#list content.handlebars?keys as handlebar>
-        ExpressionUtil.replaceExpression(expressionElements.get("${content.name}"), "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
-                        </#list>
-                    </#if>
-                </#list>
-                <#list primaryItem.subItems as subItem>
-                    <#list subItem.content as content>
-                        <#if content.html??>
-                            <#list content.handlebars?keys as handlebar>
-        ExpressionUtil.replaceExpression(expressionElements.get("${content.name}"), "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
-                            </#list>
-                        </#if>
-                    </#list>
-                </#list>
-            </#list>
-        <#else>
-            <#list context.content as content>
-                <#if content.html??>
-                    <#list content.handlebars?keys as handlebar>
-        ExpressionUtil.replaceExpression(expressionElements.get("${content.name}"), "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
-                    </#list>
-                </#if>
+    <#list item.content as content>
+        <#if content.html??>
+        HTMLElement ${content.name} = div()
+            .innerHtml(SafeHtmlUtils.fromSafeConstant("${content.html}"))
+            .element();
+        element.appendChild(${content.name});
+            <#list content.handlebars?keys as handlebar>
+        ExpressionUtil.replaceExpression(${content.name}, "${handlebar}", String.valueOf(${content.handlebars?values[handlebar_index]}));
             </#list>
+        <#elseif content.reference??>
+        element.appendChild(${content.reference}.element());
+        </#if>
+    </#list>
+    <#if item.attachables?has_content>
+        registerLazyAttachable(<#list item.attachables as attachable>${attachable.name}<#if attachable_has_next>, </#if></#list>);
+    </#if>
+    <#list item.dataTables as table>
+        <#if table.formRef??>
+        ${table.name}.bindForm(${table.formRef.name});
         </#if>
+    </#list>
+
+        if (isAttached()) {
+            onPageBuilt("${item.id}");
+        }
     }
-}
+</#macro>
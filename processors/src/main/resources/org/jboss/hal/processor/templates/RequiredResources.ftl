@@ -19,16 +19,20 @@
 <#-- @ftlvariable name="packageName" type="java.lang.String" -->
 <#-- @ftlvariable name="className" type="java.lang.String" -->
 <#-- @ftlvariable name="requiredInfos" type="java.util.Collection<org.jboss.hal.processor.RequiredResourcesProcessor.RequiredInfo>" -->
+<#-- @ftlvariable name="allResources" type="java.util.Set<java.lang.String>" -->
 package ${packageName};
 
 import com.google.common.collect.HashMultimap;
 
 import java.util.Collections;
+import java.util.HashSet;
 import java.util.Map;
 import java.util.Set;
 import java.util.HashMap;
 import javax.annotation.Generated;
 
+import org.jboss.hal.meta.resource.FetchPlan;
+
 import static java.util.Arrays.asList;
 
 /*
@@ -39,17 +43,27 @@ public class ${className} implements org.jboss.hal.meta.resource.RequiredResourc
 
     private final HashMultimap<String, String> resources;
     private final Map<String, Boolean> recursive;
+    private final Map<String, FetchPlan> fetchPlans;
+    private final Set<String> allResources;
 
     public ${className}() {
         resources = HashMultimap.create();
         recursive = new HashMap<>();
+        fetchPlans = new HashMap<>();
+        allResources = new HashSet<>();
 
         <#list requiredInfos as requiredInfo>
         <#if (requiredInfo.resources?size > 0)>
         resources.putAll("${requiredInfo.id}", asList(<#list requiredInfo.resources as resource>"${resource}"<#if resource_has_next>, </#if></#list>));
         </#if>
         recursive.put("${requiredInfo.id}", ${requiredInfo.recursive?c});
+        fetchPlans.put("${requiredInfo.id}", new FetchPlan()<#list requiredInfo.groups as group>
+                .group(<#list group as template>"${template}"<#if template_has_next>, </#if></#list>)</#list><#list requiredInfo.covered as covered>
+                .covered("${covered[0]}", "${covered[1]}")</#list>);
         </#list>
+        <#if (allResources?size > 0)>
+        allResources.addAll(asList(<#list allResources as resource>"${resource}"<#if resource_has_next>, </#if></#list>));
+        </#if>
     }
 
     @Override
@@ -69,4 +83,14 @@ public class ${className} implements org.jboss.hal.meta.resource.RequiredResourc
             return false;
         }
     }
+
+    @Override
+    public FetchPlan getFetchPlan(String id) {
+        return fetchPlans.get(id);
+    }
+
+    @Override
+    public Set<String> getAllResources() {
+        return Collections.unmodifiableSet(allResources);
+    }
 }
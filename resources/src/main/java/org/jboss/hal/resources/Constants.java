@@ -366,6 +366,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String exportCertificate();
 
+    String exportMetadataSnapshot();
+
     String exportSecretKey();
 
     String expression();
@@ -834,6 +836,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String outcome();
 
+    String outliers();
+
     String output();
 
     String patchError();
@@ -998,6 +1002,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String sameOrigin();
 
+    String samplingInterval();
+
     String save();
 
     String search();
@@ -1062,6 +1068,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String statements();
 
+    String statistics();
+
     String statisticsDisabled();
 
     String statisticsDisabledHeader();
@@ -1088,6 +1096,8 @@ public interface Constants extends com.google.gwt.i18n.client.Constants {
 
     String success();
 
+    String sum();
+
     String supportsExpressions();
 
     String suspend();
@@ -172,6 +172,7 @@ public interface Ids {
     String DISTRIBUTED_CACHE = "distributed-cache";
     String DISABLE_SSL = "disable-ssl";
     String DOMAIN_BROWSE_BY = "domain-browse-by";
+    String DOMAIN_CONTROLLER_STORAGE = "hal-local-storage-domain-controller";
     String DRAG_AND_DROP_DEPLOYMENT = "drag-and-drop-deployment";
     String EE = "ee";
     String EE_ATTRIBUTES_FORM = "ee-attributes-form";
@@ -491,6 +492,7 @@ public interface Ids {
     String MACRO_EMPTY = "macro-empty";
     String MACRO_LIST = "macro-list";
     String MACRO_OPTIONS = "macro-options";
+    String MACRO_PLAYBACK_OPTIONS = "macro-playback-options";
     String MACRO_STORAGE = "hal-local-storage-macro";
     String MAIL_SERVER = "mail-server";
     String MAIL_SERVER_DIALOG = "mail-server-add-form";
@@ -721,6 +723,7 @@ public interface Ids {
     String SERVER_GROUP_DEPLOYMENT_UNMANAGED_ADD = "server-group-deployment-unmanaged-add";
     String SERVER_GROUP_DEPLOYMENT_UPLOAD = "server-group-deployment-upload";
     String SERVER_GROUP_REFRESH = "server-group-refresh";
+    String SERVER_GROUP_STATISTICS = "server-group-statistics";
     String SERVER_REFRESH = "server-refresh";
     String SERVER_RUNTIME_BOOTSTRAP_FORM = "server-runtime-bootstrap-form";
     String SERVER_RUNTIME_ITEM = "server-runtime-item";
@@ -731,6 +734,7 @@ public interface Ids {
     String SERVER_RUNTIME_STATUS_HEAP_USED = "server-runtime-status-heap-used";
     String SERVER_RUNTIME_STATUS_NON_HEAP_COMMITTED = "server-runtime-status-non-heap-committed";
     String SERVER_RUNTIME_STATUS_NON_HEAP_USED = "server-runtime-status-non-heap-used";
+    String SERVER_RUNTIME_STATUS_SAMPLING_INTERVAL = "server-runtime-status-sampling-interval";
     String SERVER_RUNTIME_STATUS_THREADS = "server-runtime-status-threads";
     String SERVER_STATUS_BOOTSTRAP_ITEM = "server-runtime-bootstrap-item";
     String SERVER_STATUS_MAIN_ATTRIBUTES_ITEM = "server-runtime-main-attributes-item";
@@ -430,6 +430,10 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml longRunningManagementOperations();
 
+    SafeHtml macroDryRunProblems(@PluralCount int problems);
+
+    SafeHtml macroDryRunSuccessful(int operations);
+
     SafeHtml macroPlaybackError();
 
     SafeHtml macroPlaybackSuccessful();
@@ -450,6 +454,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     SafeHtml metadataError();
 
+    SafeHtml metadataSnapshotCreated(String filename);
+
     SafeHtml microprofileHealthOutcome(String outcome);
 
     SafeHtml modifyResourceSuccess(String type, String name);
@@ -1151,6 +1157,22 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     String logFilePreview(int lines);
 
+    String macroBatchFailed(int first, int last, int total, String failure);
+
+    String macroMissingParameter(String parameter);
+
+    String macroNoMetadata();
+
+    String macroStep(int step, String cli);
+
+    String macroStepFailed(int step, int total, String cli, String failure);
+
+    String macroStepsApplied(@PluralCount int applied);
+
+    String macroUnknownOperation(String operation);
+
+    String macroUnknownParameter(String parameter);
+
     String mailColumnFilterDescription();
 
     String membershipColumnFilterDescription();
@@ -1185,6 +1207,8 @@ public interface Messages extends com.google.gwt.i18n.client.Messages {
 
     String pathRequired();
 
+    String playMacro(String name);
+
     String profileIncludes(String includes);
 
     String proxyColumnFilterDescription();
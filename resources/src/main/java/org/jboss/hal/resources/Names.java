@@ -49,6 +49,7 @@ public interface Names {
     String BROWSER_DEFAULT_TITLE = "%n | Management Console";
     String BROWSER_FALLBACK_TITLE = "HAL Management Console";
     String BUFFER_CACHES = "Buffer Caches";
+    String BUFFER_POOLS = "Buffer Pools";
     String BUNDLED_EXTENSION = "Bundled Extension";
     String BYTE_BUFFER_POOL = "Byte Buffer Pool";
 
@@ -57,6 +58,7 @@ public interface Names {
     String CACHING_REALM = "Caching Realm";
     String CATEGORY = "Category";
     String CHANNEL = "Channel";
+    String CLASSES = "Classes";
     String CLIENT_CONFIGURATION = "Client Configuration";
     String CLIENT_MAPPING = "Client Mapping";
     String CLIENT_MAPPINGS = "Client Mappings";
@@ -91,6 +93,7 @@ public interface Names {
     String CUSTOM_MODIFIABLE_REALM = "Custom Modifiable Realm";
     String CUSTOM_POLICY = "Custom Policy";
 
+    String DAEMON_THREADS = "Daemon Threads";
     String DATASOURCE = "Datasource";
     String DATASOURCES = "Datasources";
     String DATASOURCES_DRIVERS = "Datasources & Drivers";
@@ -128,6 +131,7 @@ public interface Names {
     String FILTERS = "Filters";
     String FORK = "Fork";
 
+    String GARBAGE_COLLECTION = "Garbage Collection";
     String GENERIC_ACCEPTOR = "Generic Acceptor";
     String GENERIC_CONNECTOR = "Generic Connector";
     String GLOBAL_DIRECTORY = "Global Directory";
@@ -329,6 +333,7 @@ public interface Names {
     String SERVER = "Server";
     String SERVER_GROUP = "Server Group";
     String SERVER_GROUPS = "Server Groups";
+    String SERVERS = "Servers";
     String SERVLET = "Servlet";
     String SERVLET_CONTAINER = "Servlet Container";
     String SESSION_ID = "Session ID";
@@ -366,6 +371,7 @@ public interface Names {
     String SUBSYSTEM = "Subsystem";
     String SUBSYSTEMS = "Subsystems";
     String SYSLOG_ACTION_HANDLER = "Syslog ActionHandler";
+    String SYSTEM_LOAD = "System Load";
     String SYSTEM_PROPERTIES = "System Properties";
     String SYSTEM_PROPERTY = "System Property";
 
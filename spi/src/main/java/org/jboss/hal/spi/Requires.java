@@ -32,6 +32,15 @@ import static java.lang.annotation.RetentionPolicy.RUNTIME;
 @Target(TYPE)
 public @interface Requires {
 
+    /**
+     * Recursive depth of the read-resource-description operations which read the required resources. Used by the metadata
+     * processor at runtime and by the annotation processor which groups the required resources at compile time.
+     */
+    int RRD_DEPTH = 3;
+
+    /** Number of read-resource-description operations which are part of one composite operation. */
+    int BATCH_SIZE = 3;
+
     /** Set of required resource to operate on (addressable privilege) */
     String[] value();
 
@@ -0,0 +1,132 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+/*
+ * Compares the bytes transferred and the time needed to load the bootstrap files of the standalone console for
+ * different transfer encodings and for a cold vs. a warm browser cache. The time to the last byte of the bootstrap
+ * files is used as an approximation of the time to first paint.
+ *
+ * Usage: node src/bench/assets.js [base-url] [runs] [path]...
+ *
+ * Paths default to the files referenced by index.html. Pass the permutation (<md5>.cache.js) of your browser to
+ * include it in the measurement.
+ */
+const http = require("http");
+const https = require("https");
+const zlib = require("zlib");
+
+const base = new URL(process.argv[2] || "http://localhost:9090/");
+const runs = parseInt(process.argv[3] || "10", 10);
+const extraPaths = process.argv.slice(4);
+
+function get(path, headers) {
+    const url = new URL(path, base);
+    const client = url.protocol === "https:" ? https : http;
+    return new Promise((resolve, reject) => {
+        const start = process.hrtime.bigint();
+        client.get(url, {headers}, response => {
+            let bytes = 0;
+            const chunks = [];
+            response.on("data", chunk => {
+                bytes += chunk.length;
+                chunks.push(chunk);
+            });
+            response.on("end", () => resolve({
+                status: response.statusCode,
+                headers: response.headers,
+                bytes,
+                body: Buffer.concat(chunks),
+                millis: Number(process.hrtime.bigint() - start) / 1e6
+            }));
+        }).on("error", reject);
+    });
+}
+
+function decode(response) {
+    switch (response.headers["content-encoding"]) {
+        case "br":
+            return zlib.brotliDecompressSync(response.body).toString();
+        case "gzip":
+            return zlib.gunzipSync(response.body).toString();
+        default:
+            return response.body.toString();
+    }
+}
+
+async function bootstrapPaths() {
+    const index = decode(await get("index.html", {"accept-encoding": "gzip"}));
+    const paths = ["index.html"];
+    for (const match of index.matchAll(/(?:src|href)="([^"]+\.(?:js|css))"/g)) {
+        paths.push(match[1]);
+    }
+    return paths.concat(extraPaths);
+}
+
+async function load(paths, acceptEncoding, cache) {
+    const start = process.hrtime.bigint();
+    const responses = await Promise.all(paths.map(path => {
+        const headers = acceptEncoding ? {"accept-encoding": acceptEncoding} : {};
+        const cached = cache && cache.get(path);
+        if (cached) {
+            if (/immutable/.test(cached["cache-control"] || "")) {
+                return {status: 200, bytes: 0}; // served from the browser cache
+            }
+            if (cached.etag) {
+                headers["if-none-match"] = cached.etag;
+            } else if (cached["last-modified"]) {
+                headers["if-modified-since"] = cached["last-modified"];
+            }
+        }
+        return get(path, headers).then(response => {
+            if (cache && !cached) {
+                cache.set(path, response.headers);
+            }
+            return response;
+        });
+    }));
+    return {
+        bytes: responses.reduce((sum, response) => sum + response.bytes, 0),
+        millis: Number(process.hrtime.bigint() - start) / 1e6
+    };
+}
+
+async function scenario(name, paths, acceptEncoding, warm) {
+    let bytes = 0;
+    let millis = 0;
+    for (let i = 0; i < runs; i++) {
+        const cache = warm ? new Map() : null;
+        if (warm) {
+            await load(paths, acceptEncoding, cache);
+        }
+        const result = await load(paths, acceptEncoding, cache);
+        bytes += result.bytes;
+        millis += result.millis;
+    }
+    console.log(`${name.padEnd(24)} ${String(Math.round(bytes / runs / 1024)).padStart(8)} KB` +
+        `${(millis / runs).toFixed(1).padStart(10)} ms`);
+}
+
+(async () => {
+    const paths = await bootstrapPaths();
+    console.log(`Bootstrap files (${runs} runs): ${paths.join(", ")}\n`);
+    console.log(`${"Scenario".padEnd(24)} ${"Bytes".padStart(11)} ${"Time".padStart(12)}`);
+    await scenario("identity, cold cache", paths, null, false);
+    await scenario("gzip, cold cache", paths, "gzip", false);
+    await scenario("brotli, cold cache", paths, "br, gzip", false);
+    await scenario("brotli, warm cache", paths, "br, gzip", true);
+})().catch(error => {
+    console.error(error.message);
+    process.exit(1);
+});
@@ -0,0 +1,281 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.net.URL;
+import java.net.URLConnection;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.regex.Pattern;
+
+import io.vertx.core.Handler;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.RoutingContext;
+
+/**
+ * Serves the content-hashed and bootstrap files of the console:
+ * <ul>
+ * <li>Content-hashed files (GWT permutations and Parcel bundles) are served with
+ * {@code Cache-Control: public, max-age=31536000, immutable}.</li>
+ * <li>Bootstrap files ({@code *.nocache.*} and HTML pages) must be revalidated and are served with an {@code ETag}. A
+ * matching {@code If-None-Match} header is answered with {@code 304 Not Modified}.</li>
+ * <li>If the client accepts brotli or gzip, the precompressed variants ({@code .br} / {@code .gz}) created by the build
+ * are served instead of the original file.</li>
+ * </ul>
+ * Requests for other files are passed to the next handler.
+ */
+class AssetHandler implements Handler<RoutingContext> {
+
+    enum Caching {
+        IMMUTABLE, REVALIDATE
+    }
+
+    enum Encoding {
+        BROTLI("br", ".br"), GZIP("gzip", ".gz");
+
+        final String token;
+        final String suffix;
+
+        Encoding(String token, String suffix) {
+            this.token = token;
+            this.suffix = suffix;
+        }
+    }
+
+    private static final String INDEX = "index.html";
+    private static final String IMMUTABLE_CACHE_CONTROL = "public, max-age=31536000, immutable";
+    private static final String REVALIDATE_CACHE_CONTROL = "no-cache";
+
+    // GWT: <md5>.cache.js
+    private static final Pattern GWT_HASH = Pattern.compile(".*/[0-9a-fA-F]{32}\\.cache\\.[a-z]+");
+    // Parcel writes the bundles and their assets to the root of the webroot as <name>.<hash>.<ext>. The hash must
+    // contain a letter, so that date-stamped files like "report.20221231.js" are not mistaken for bundles.
+    private static final Pattern PARCEL_HASH = Pattern.compile(
+            "/[\\w.-]+\\.(?=[0-9]*[a-f])[0-9a-f]{8}\\.(js|css|map|woff2?|ttf|eot|svg|png|gif|jpe?g|ico)");
+    private static final Pattern BOOTSTRAP = Pattern.compile(".*(\\.nocache\\.[a-z]+|\\.html)");
+
+    // Vert.x doesn't provide a public API to look up MIME types, and the JDK doesn't know about all the types we ship
+    private static final Map<String, String> CONTENT_TYPES = new HashMap<>();
+
+    static {
+        CONTENT_TYPES.put("css", "text/css");
+        CONTENT_TYPES.put("eot", "application/vnd.ms-fontobject");
+        CONTENT_TYPES.put("html", "text/html");
+        CONTENT_TYPES.put("ico", "image/x-icon");
+        CONTENT_TYPES.put("js", "application/javascript");
+        CONTENT_TYPES.put("json", "application/json");
+        CONTENT_TYPES.put("map", "application/json");
+        CONTENT_TYPES.put("svg", "image/svg+xml");
+        CONTENT_TYPES.put("ttf", "font/ttf");
+        CONTENT_TYPES.put("woff", "font/woff");
+        CONTENT_TYPES.put("woff2", "font/woff2");
+    }
+
+    private final String webroot;
+    private final ClassLoader classLoader;
+    private final Map<String, Asset> assets;
+
+    AssetHandler(String webroot) {
+        this.webroot = webroot.endsWith("/") ? webroot : webroot + "/";
+        this.classLoader = Thread.currentThread().getContextClassLoader();
+        this.assets = new ConcurrentHashMap<>();
+    }
+
+    @Override
+    public void handle(RoutingContext context) {
+        String path = context.normalizedPath();
+        if (path.endsWith("/")) {
+            path = path + INDEX;
+        }
+        Caching caching = caching(path);
+        Asset asset = caching != null ? asset(path, caching) : null;
+        if (asset == null) {
+            context.next();
+            return;
+        }
+
+        Encoding encoding = asset.encoding(context.request().getHeader(HttpHeaders.ACCEPT_ENCODING));
+        HttpServerResponse response = context.response();
+        response.putHeader(HttpHeaders.CONTENT_TYPE, asset.contentType);
+        if (asset.brotli || asset.gzip) {
+            response.putHeader(HttpHeaders.VARY, HttpHeaders.ACCEPT_ENCODING);
+        }
+        if (asset.caching == Caching.IMMUTABLE) {
+            response.putHeader(HttpHeaders.CACHE_CONTROL, IMMUTABLE_CACHE_CONTROL);
+        } else {
+            String etag = asset.etag(encoding);
+            response.putHeader(HttpHeaders.CACHE_CONTROL, REVALIDATE_CACHE_CONTROL);
+            response.putHeader(HttpHeaders.ETAG, etag);
+            if (matches(context.request().getHeader(HttpHeaders.IF_NONE_MATCH), etag)) {
+                response.setStatusCode(304).end();
+                return;
+            }
+        }
+        if (encoding != null) {
+            response.putHeader(HttpHeaders.CONTENT_ENCODING, encoding.token);
+            response.sendFile(asset.resource + encoding.suffix);
+        } else {
+            response.sendFile(asset.resource);
+        }
+    }
+
+    static Caching caching(String path) {
+        if (GWT_HASH.matcher(path).matches() || PARCEL_HASH.matcher(path).matches()) {
+            return Caching.IMMUTABLE;
+        } else if (BOOTSTRAP.matcher(path).matches()) {
+            return Caching.REVALIDATE;
+        }
+        return null;
+    }
+
+    /** @return the preferred encoding or {@code null} if the client accepts neither brotli nor gzip */
+    static Encoding accepted(String acceptEncoding, boolean brotli, boolean gzip) {
+        if (acceptEncoding != null) {
+            boolean acceptsBrotli = false;
+            boolean acceptsGzip = false;
+            for (String part : acceptEncoding.split(",")) {
+                String[] tokenAndParams = part.trim().split(";");
+                String token = tokenAndParams[0].trim().toLowerCase();
+                boolean rejected = false;
+                for (int i = 1; i < tokenAndParams.length; i++) {
+                    String param = tokenAndParams[i].trim().replace(" ", "");
+                    if (param.startsWith("q=")) {
+                        rejected = zero(param.substring(2));
+                    }
+                }
+                if (!rejected) {
+                    acceptsBrotli |= Encoding.BROTLI.token.equals(token);
+                    acceptsGzip |= Encoding.GZIP.token.equals(token);
+                }
+            }
+            if (brotli && acceptsBrotli) {
+                return Encoding.BROTLI;
+            } else if (gzip && acceptsGzip) {
+                return Encoding.GZIP;
+            }
+        }
+        return null;
+    }
+
+    private static boolean zero(String quality) {
+        try {
+            return Double.parseDouble(quality) == 0;
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
+
+    static String contentType(String resource) {
+        String contentType = null;
+        int dot = resource.lastIndexOf('.');
+        if (dot != -1) {
+            contentType = CONTENT_TYPES.get(resource.substring(dot + 1).toLowerCase());
+        }
+        if (contentType == null) {
+            contentType = URLConnection.guessContentTypeFromName(resource);
+        }
+        if (contentType == null) {
+            return "application/octet-stream";
+        } else if (contentType.startsWith("text/") || contentType.equals("application/javascript")) {
+            return contentType + ";charset=UTF-8";
+        }
+        return contentType;
+    }
+
+    static boolean matches(String ifNoneMatch, String etag) {
+        if (ifNoneMatch != null) {
+            for (String candidate : ifNoneMatch.split(",")) {
+                String value = candidate.trim();
+                if (value.startsWith("W/")) {
+                    value = value.substring(2);
+                }
+                if ("*".equals(value) || etag.equals(value)) {
+                    return true;
+                }
+            }
+        }
+        return false;
+    }
+
+    private Asset asset(String path, Caching caching) {
+        Asset asset = assets.get(path);
+        if (asset == null) {
+            // only existing files are cached, the webroot does not change at runtime
+            String resource = webroot + path.substring(1);
+            URL url = classLoader.getResource(resource);
+            if (url != null) {
+                asset = new Asset(resource, caching, url,
+                        classLoader.getResource(resource + Encoding.BROTLI.suffix) != null,
+                        classLoader.getResource(resource + Encoding.GZIP.suffix) != null);
+                assets.put(path, asset);
+            }
+        }
+        return asset;
+    }
+
+    private static class Asset {
+
+        final String resource;
+        final Caching caching;
+        final String contentType;
+        final boolean brotli;
+        final boolean gzip;
+        final String hash;
+
+        Asset(String resource, Caching caching, URL url, boolean brotli, boolean gzip) {
+            this.resource = resource;
+            this.caching = caching;
+            this.contentType = contentType(resource);
+            this.brotli = brotli;
+            this.gzip = gzip;
+            this.hash = caching == Caching.REVALIDATE ? hash(url) : null;
+        }
+
+        Encoding encoding(String acceptEncoding) {
+            return accepted(acceptEncoding, brotli, gzip);
+        }
+
+        String etag(Encoding encoding) {
+            return "\"" + hash + (encoding != null ? "-" + encoding.token : "") + "\"";
+        }
+
+        private static String hash(URL url) {
+            try (InputStream in = url.openStream()) {
+                MessageDigest digest = MessageDigest.getInstance("SHA-256");
+                byte[] buffer = new byte[8192];
+                int read;
+                while ((read = in.read(buffer)) != -1) {
+                    digest.update(buffer, 0, read);
+                }
+                StringBuilder builder = new StringBuilder();
+                byte[] bytes = digest.digest();
+                for (int i = 0; i < 16; i++) {
+                    builder.append(Character.forDigit((bytes[i] >> 4) & 0xf, 16));
+                    builder.append(Character.forDigit(bytes[i] & 0xf, 16));
+                }
+                return builder.toString();
+            } catch (IOException | NoSuchAlgorithmException e) {
+                throw new IllegalStateException("Unable to compute hash of " + url + ": " + e.getMessage(), e);
+            }
+        }
+    }
+}
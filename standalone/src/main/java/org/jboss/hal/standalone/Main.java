@@ -24,11 +24,12 @@ import io.vertx.ext.web.handler.StaticHandler;
 @ApplicationScoped
 public class Main {
 
-    public void init(@Observes Router router) {
-        StaticHandler noCache = StaticHandler.create().setCachingEnabled(false);
-        StaticHandler staticHandler = StaticHandler.create();
+    private static final String WEBROOT = "webroot";
 
-        router.getWithRegex(".*nocache.*").order(0).handler(noCache);
-        router.get().order(1).handler(staticHandler);
+    public void init(@Observes Router router) {
+        // content-hashed, bootstrap and precompressed files
+        router.get().order(0).handler(new AssetHandler(WEBROOT));
+        // everything else
+        router.get().order(1).handler(StaticHandler.create(WEBROOT));
     }
 }
@@ -0,0 +1,203 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.proxy;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+
+/** Helper methods to inspect {@code application/dmr-encoded} requests and responses of the proxy and replay endpoints. */
+public final class DmrMessages {
+
+    public static final String APPLICATION_DMR_ENCODED = "application/dmr-encoded";
+
+    public static final String ACCESS_CONTROL = "access-control";
+    public static final String ADDRESS = "address";
+    public static final String CHILD_TYPE = "child-type";
+    public static final String COMPOSITE = "composite";
+    public static final String FAILED = "failed";
+    public static final String FAILURE_DESCRIPTION = "failure-description";
+    public static final String LOCALE = "locale";
+    public static final String MANAGEMENT_MAJOR_VERSION = "management-major-version";
+    public static final String MANAGEMENT_MICRO_VERSION = "management-micro-version";
+    public static final String MANAGEMENT_MINOR_VERSION = "management-minor-version";
+    public static final String NAME = "name";
+    public static final String NONE = "none";
+    public static final String OPERATION = "operation";
+    public static final String OPERATION_HEADERS = "operation-headers";
+    public static final String OUTCOME = "outcome";
+    public static final String READ_CHILDREN_NAMES_OPERATION = "read-children-names";
+    public static final String READ_CHILDREN_RESOURCES_OPERATION = "read-children-resources";
+    public static final String READ_RESOURCE_DESCRIPTION_OPERATION = "read-resource-description";
+    public static final String RESULT = "result";
+    public static final String STEPS = "steps";
+    public static final String SUCCESS = "success";
+
+    private static final Set<String> READ_ONLY_OPERATIONS = new HashSet<>(Arrays.asList(
+            "query",
+            "read-attribute",
+            "read-attribute-group",
+            "read-attribute-group-names",
+            READ_CHILDREN_NAMES_OPERATION,
+            READ_CHILDREN_RESOURCES_OPERATION,
+            "read-children-types",
+            "read-operation-description",
+            "read-operation-names",
+            "read-resource",
+            READ_RESOURCE_DESCRIPTION_OPERATION,
+            "whoami"));
+
+    private DmrMessages() {
+    }
+
+    public static ModelNode decode(byte[] base64) throws IOException {
+        return ModelNode.fromBase64(new ByteArrayInputStream(base64));
+    }
+
+    public static byte[] encode(ModelNode modelNode) throws IOException {
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+        modelNode.writeBase64(out);
+        return out.toByteArray();
+    }
+
+    /** @return the operation itself or the steps of a composite operation */
+    public static List<ModelNode> steps(ModelNode operation) {
+        if (COMPOSITE.equals(operation.get(OPERATION).asString()) && operation.hasDefined(STEPS)) {
+            List<ModelNode> steps = new ArrayList<>();
+            for (ModelNode step : operation.get(STEPS).asList()) {
+                steps.addAll(steps(step));
+            }
+            return steps;
+        }
+        return List.of(operation);
+    }
+
+    /** @return true if all (composite) steps only read the management model */
+    public static boolean readOnly(ModelNode operation) {
+        for (ModelNode step : steps(operation)) {
+            if (!step.hasDefined(OPERATION) || !READ_ONLY_OPERATIONS.contains(step.get(OPERATION).asString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Returns true if all (composite) steps read resource descriptions without access control information. Such
+     * descriptions are the same for all users and can be shared across sessions.
+     * <p>
+     * Please note that the console reads the resource descriptions together with the access control information,
+     * unless it already knows the security context. Only these reads and reads of other clients are role-neutral.
+     */
+    public static boolean roleNeutral(ModelNode operation) {
+        for (ModelNode step : steps(operation)) {
+            if (!READ_RESOURCE_DESCRIPTION_OPERATION.equals(step.get(OPERATION).asString())) {
+                return false;
+            }
+            if (step.hasDefined(ACCESS_CONTROL) && !NONE.equals(step.get(ACCESS_CONTROL).asString())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /** @return the locale of the first step which specifies one or {@code null} */
+    public static String locale(ModelNode operation) {
+        for (ModelNode step : steps(operation)) {
+            if (step.hasDefined(LOCALE)) {
+                return step.get(LOCALE).asString();
+            }
+        }
+        return null;
+    }
+
+    /** @return a stable representation of the operation w/o operation headers */
+    public static String canonical(ModelNode operation) {
+        ModelNode copy = operation.clone();
+        strip(copy);
+        return copy.toJSONString(true);
+    }
+
+    private static void strip(ModelNode operation) {
+        if (operation.getType() == ModelType.OBJECT) {
+            if (operation.has(OPERATION_HEADERS)) {
+                operation.remove(OPERATION_HEADERS);
+            }
+            if (operation.hasDefined(STEPS)) {
+                for (ModelNode step : operation.get(STEPS).asList()) {
+                    strip(step);
+                }
+            }
+        }
+    }
+
+    public static boolean successful(ModelNode response) {
+        return SUCCESS.equals(response.get(OUTCOME).asString());
+    }
+
+    /**
+     * Looks for the management model version in the response of a read operation of the root resource.
+     *
+     * @return the management version as {@code <major>.<minor>.<micro>} or {@code null}
+     */
+    public static String managementVersion(ModelNode operation, ModelNode response) {
+        if (successful(response)) {
+            if (COMPOSITE.equals(operation.get(OPERATION).asString())) {
+                ModelNode result = response.get(RESULT);
+                if (result.getType() == ModelType.OBJECT) {
+                    for (Property property : result.asPropertyList()) {
+                        String version = managementVersion(property.getValue());
+                        if (version != null) {
+                            return version;
+                        }
+                    }
+                }
+            } else if (!operation.hasDefined(ADDRESS) || operation.get(ADDRESS).asList().isEmpty()) {
+                return managementVersion(response);
+            }
+        }
+        return null;
+    }
+
+    private static String managementVersion(ModelNode response) {
+        ModelNode result = response.get(RESULT);
+        if (result.getType() == ModelType.OBJECT && result.hasDefined(MANAGEMENT_MAJOR_VERSION)) {
+            return result.get(MANAGEMENT_MAJOR_VERSION).asInt() + "." +
+                    result.get(MANAGEMENT_MINOR_VERSION).asInt(0) + "." +
+                    result.get(MANAGEMENT_MICRO_VERSION).asInt(0);
+        }
+        return null;
+    }
+
+    /**
+     * Returns a key which identifies the credentials of a request. The key contains the full {@code Authorization} and
+     * {@code Cookie} values. Ignoring parts of them (e.g. the digest response) would let a request with forged
+     * credentials join the reads of another user. As a consequence, digest authenticated requests never map to the
+     * same key, since every request uses a new nonce count.
+     */
+    public static String identity(String authorization, String cookie) {
+        return (authorization != null ? authorization : "") + "|" + (cookie != null ? cookie : "");
+    }
+}
@@ -0,0 +1,368 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.proxy;
+
+import java.io.IOException;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.dmr.ModelNode;
+import org.jboss.hal.standalone.replay.Recorder;
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Future;
+import io.vertx.core.MultiMap;
+import io.vertx.core.Promise;
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpClient;
+import io.vertx.core.http.HttpClientOptions;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerRequest;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.core.http.RequestOptions;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import static org.jboss.hal.standalone.proxy.DmrMessages.APPLICATION_DMR_ENCODED;
+
+/**
+ * Optional reverse proxy for the management endpoints {@code /management} and {@code /management-upload}. The proxy is
+ * enabled by setting {@code hal.proxy.url} to the base URL of a management interface (e.g.
+ * {@code http://localhost:9990}). The console then connects to the standalone server it was loaded from.
+ * <p>
+ * Read-only DMR requests are optimized:
+ * <ul>
+ * <li>Identical concurrent reads with the same credentials ({@code Authorization} and {@code Cookie} headers) are
+ * coalesced into one request.</li>
+ * <li>Resource descriptions w/o access control information are role-neutral. They're shared across all users and
+ * cached in a {@link MetadataCache} keyed by management version and locale. Cached responses are only served to
+ * credentials the management endpoint has accepted before.</li>
+ * </ul>
+ * Requests which join the request of another client only get the body and the content type of the response. Other
+ * response headers like {@code Set-Cookie} are never passed on.
+ * <p>
+ * <strong>These optimizations only help clients which use Basic or Bearer authentication and read resource
+ * descriptions w/o access control (e.g. scripts or other tools).</strong> They don't help the console: The console
+ * reads resource descriptions with access control ({@code combined-descriptions} or {@code trim-descriptions}), which
+ * depends on the roles of the user and is never cached. And credentials are compared as they are, so digest
+ * authenticated requests (which use a new nonce count for every request) are neither coalesced nor served from the
+ * cache. For the console, the proxy is a plain pass-through. See {@link DmrMessages#identity(String, String)} and
+ * {@link DmrMessages#roleNeutral(ModelNode)} for details.
+ * <p>
+ * All other requests (writes, downloads and uploads) are streamed as they are. Authentication headers are passed
+ * through untouched.
+ * <p>
+ * If {@code hal.proxy.record} is set, read-only DMR exchanges are appended to that file. The recording can be replayed
+ * using the {@link org.jboss.hal.standalone.replay.ReplayEndpoint}.
+ */
+@ApplicationScoped
+public class ManagementProxy {
+
+    static final String MANAGEMENT = "/management";
+    static final String X_CACHE = "X-Cache";
+
+    private static final int MAX_IDENTITIES = 1000;
+    private static final Set<String> HOP_BY_HOP_HEADERS = Set.of(
+            "connection", "host", "keep-alive", "proxy-authenticate", "proxy-authorization", "te", "trailer",
+            "transfer-encoding", "upgrade");
+    private static final Logger logger = Logger.getLogger(ManagementProxy.class);
+
+    @Inject Vertx vertx;
+
+    @ConfigProperty(name = "hal.proxy.url") Optional<String> url;
+
+    @ConfigProperty(name = "hal.proxy.trust-all", defaultValue = "false") boolean trustAll;
+
+    @ConfigProperty(name = "hal.proxy.cache.size", defaultValue = "2000") int cacheSize;
+
+    @ConfigProperty(name = "hal.proxy.cache.ttl", defaultValue = "PT1H") Duration cacheTtl;
+
+    @ConfigProperty(name = "hal.proxy.record") Optional<String> record;
+
+    private String target;
+    private HttpClient client;
+    private MetadataCache cache;
+    private Map<String, Future<Reply>> inFlight;
+    private Map<String, Long> identities;
+    private Recorder recorder;
+
+    public void init(@Observes Router router) {
+        if (url.isEmpty()) {
+            return;
+        }
+        target = url.get().endsWith("/") ? url.get().substring(0, url.get().length() - 1) : url.get();
+        client = vertx.createHttpClient(new HttpClientOptions()
+                .setTrustAll(trustAll)
+                .setVerifyHost(!trustAll));
+        cache = new MetadataCache(cacheSize, cacheTtl.toMillis());
+        inFlight = new ConcurrentHashMap<>();
+        identities = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Long> eldest) {
+                return size() > MAX_IDENTITIES;
+            }
+        };
+        recorder = record.map(file -> new Recorder(Paths.get(file))).orElse(null);
+
+        // matches /management, /management/* and /management-upload
+        router.route(MANAGEMENT + "*").order(-1).handler(this::handle);
+        logger.infof("Proxy management requests to %s", target);
+    }
+
+    private void handle(RoutingContext context) {
+        HttpServerRequest request = context.request();
+        String contentType = request.getHeader(HttpHeaders.CONTENT_TYPE);
+        if (request.method() == HttpMethod.POST && MANAGEMENT.equals(context.normalizedPath()) &&
+                contentType != null && contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+            request.body()
+                    .onSuccess(body -> dmr(context, body))
+                    .onFailure(context::fail);
+        } else {
+            stream(context);
+        }
+    }
+
+    // ------------------------------------------------------ DMR requests
+
+    private void dmr(RoutingContext context, Buffer body) {
+        ModelNode operation;
+        try {
+            operation = DmrMessages.decode(body.getBytes());
+        } catch (IOException | RuntimeException e) {
+            forward(context.request(), body).onComplete(reply -> write(context, reply.result(), reply.cause(), false));
+            return;
+        }
+
+        if (!DmrMessages.readOnly(operation)) {
+            forward(context.request(), body).onComplete(reply -> {
+                if (reply.succeeded()) {
+                    inspect(context.request(), operation, reply.result(), false, null, null);
+                }
+                write(context, reply.result(), reply.cause(), false);
+            });
+            return;
+        }
+
+        HttpServerRequest request = context.request();
+        String identity = DmrMessages.identity(request.getHeader(HttpHeaders.AUTHORIZATION),
+                request.getHeader(HttpHeaders.COOKIE));
+        boolean shared = DmrMessages.roleNeutral(operation) && authenticated(identity);
+        String locale = DmrMessages.locale(operation);
+        String canonical = DmrMessages.canonical(operation);
+
+        if (shared) {
+            byte[] cached = cache.get(locale, canonical, System.currentTimeMillis());
+            if (cached != null) {
+                context.response()
+                        .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_DMR_ENCODED)
+                        .putHeader(X_CACHE, "HIT")
+                        .end(Buffer.buffer(cached));
+                return;
+            }
+        }
+
+        String key = (shared ? "*" : identity) + "|" + canonical;
+        Promise<Reply> promise = Promise.promise();
+        Future<Reply> pending = inFlight.putIfAbsent(key, promise.future());
+        if (pending == null) {
+            // first request: forward and share the reply with identical requests which arrive in the meantime
+            forward(request, body).onComplete(reply -> {
+                inFlight.remove(key);
+                if (reply.succeeded()) {
+                    inspect(request, operation, reply.result(), shared, locale, canonical);
+                }
+                promise.handle(reply);
+                write(context, reply.result(), reply.cause(), false);
+            });
+        } else {
+            pending.onComplete(reply -> {
+                if (reply.failed() || reply.result().status != 200) {
+                    // the joined request failed (e.g. because of the credentials of another user) and we must not
+                    // pass on its challenges: retry on our own
+                    forward(request, body).onComplete(own -> write(context, own.result(), own.cause(), false));
+                } else {
+                    write(context, reply.result(), reply.cause(), true);
+                }
+            });
+        }
+    }
+
+    private void inspect(HttpServerRequest request, ModelNode operation, Reply reply, boolean shared, String locale,
+            String canonical) {
+        if (reply.status / 100 != 2) {
+            return;
+        }
+        authenticated(DmrMessages.identity(request.getHeader(HttpHeaders.AUTHORIZATION),
+                request.getHeader(HttpHeaders.COOKIE)), System.currentTimeMillis());
+        try {
+            byte[] bytes = reply.body.getBytes();
+            ModelNode response = DmrMessages.decode(bytes);
+            String managementVersion = DmrMessages.managementVersion(operation, response);
+            if (managementVersion != null) {
+                cache.managementVersion(managementVersion);
+            }
+            if (shared && DmrMessages.successful(response)) {
+                cache.put(locale, canonical, bytes, System.currentTimeMillis());
+            }
+            if (recorder != null && DmrMessages.readOnly(operation)) {
+                recorder.record(operation, response);
+            }
+        } catch (IOException | RuntimeException e) {
+            logger.debugf("Unable to decode DMR response: %s", e.getMessage());
+        }
+    }
+
+    private Future<Reply> forward(HttpServerRequest request, Buffer body) {
+        MultiMap headers = requestHeaders(request);
+        // we need to decode the response
+        headers.remove(HttpHeaders.ACCEPT_ENCODING);
+        return client.request(options(request, headers))
+                .compose(clientRequest -> clientRequest.send(body))
+                .compose(response -> {
+                    MultiMap responseHeaders = MultiMap.caseInsensitiveMultiMap().addAll(response.headers());
+                    return response.body().map(buffer -> new Reply(response.statusCode(), response.statusMessage(),
+                            responseHeaders, buffer));
+                });
+    }
+
+    private void write(RoutingContext context, Reply reply, Throwable failure, boolean joined) {
+        if (failure != null) {
+            badGateway(context, failure);
+            return;
+        }
+        HttpServerResponse response = context.response();
+        response.setStatusCode(reply.status);
+        if (reply.statusMessage != null) {
+            response.setStatusMessage(reply.statusMessage);
+        }
+        if (joined) {
+            // the reply belongs to another request: don't pass on its cookies or challenges
+            String contentType = reply.headers.get(HttpHeaders.CONTENT_TYPE);
+            if (contentType != null) {
+                response.putHeader(HttpHeaders.CONTENT_TYPE, contentType);
+            }
+        } else {
+            copyHeaders(reply.headers, response.headers());
+        }
+        response.headers().remove(HttpHeaders.CONTENT_LENGTH);
+        response.putHeader(X_CACHE, "MISS");
+        response.end(reply.body);
+    }
+
+    // ------------------------------------------------------ streamed requests
+
+    private void stream(RoutingContext context) {
+        HttpServerRequest request = context.request();
+        request.pause();
+        client.request(options(request, requestHeaders(request)))
+                .compose(clientRequest -> {
+                    if (request.headers().contains(HttpHeaders.CONTENT_LENGTH) ||
+                            request.headers().contains(HttpHeaders.TRANSFER_ENCODING)) {
+                        return clientRequest.send(request);
+                    } else {
+                        request.resume();
+                        return clientRequest.send();
+                    }
+                })
+                .onSuccess(clientResponse -> {
+                    HttpServerResponse response = context.response();
+                    response.setStatusCode(clientResponse.statusCode());
+                    response.setStatusMessage(clientResponse.statusMessage());
+                    copyHeaders(clientResponse.headers(), response.headers());
+                    if (!response.headers().contains(HttpHeaders.CONTENT_LENGTH)) {
+                        response.setChunked(true);
+                    }
+                    clientResponse.pipeTo(response);
+                })
+                .onFailure(failure -> badGateway(context, failure));
+    }
+
+    // ------------------------------------------------------ helpers
+
+    private RequestOptions options(HttpServerRequest request, MultiMap headers) {
+        return new RequestOptions()
+                .setMethod(request.method())
+                .setAbsoluteURI(target + request.uri())
+                .setHeaders(headers);
+    }
+
+    private MultiMap requestHeaders(HttpServerRequest request) {
+        MultiMap headers = MultiMap.caseInsensitiveMultiMap();
+        copyHeaders(request.headers(), headers);
+        // the management interface rejects origins which don't match its host
+        headers.remove(HttpHeaders.ORIGIN);
+        return headers;
+    }
+
+    private void copyHeaders(MultiMap from, MultiMap to) {
+        for (Map.Entry<String, String> header : from) {
+            if (!HOP_BY_HOP_HEADERS.contains(header.getKey().toLowerCase())) {
+                to.add(header.getKey(), header.getValue());
+            }
+        }
+    }
+
+    private void badGateway(RoutingContext context, Throwable failure) {
+        logger.errorf("Unable to proxy %s %s: %s", context.request().method(), context.request().uri(),
+                failure.getMessage());
+        HttpServerResponse response = context.response();
+        if (!response.headWritten()) {
+            response.setStatusCode(502).end();
+        } else {
+            response.close();
+        }
+    }
+
+    private boolean authenticated(String identity) {
+        synchronized (identities) {
+            Long timestamp = identities.get(identity);
+            return timestamp != null && System.currentTimeMillis() - timestamp <= cacheTtl.toMillis();
+        }
+    }
+
+    private void authenticated(String identity, long now) {
+        synchronized (identities) {
+            identities.put(identity, now);
+        }
+    }
+
+    private static class Reply {
+
+        final int status;
+        final String statusMessage;
+        final MultiMap headers;
+        final Buffer body;
+
+        Reply(int status, String statusMessage, MultiMap headers, Buffer body) {
+            this.status = status;
+            this.statusMessage = statusMessage;
+            this.headers = headers;
+            this.body = body;
+        }
+    }
+}
@@ -0,0 +1,108 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.proxy;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Objects;
+
+/**
+ * Cache for role-neutral metadata responses which is shared across all sessions. Entries are keyed by the management
+ * version, the locale and the canonical operation. The cache is cleared if the management version of the proxied
+ * server changes.
+ */
+class MetadataCache {
+
+    static class Entry {
+
+        final byte[] body;
+        final long created;
+
+        Entry(byte[] body, long created) {
+            this.body = body;
+            this.created = created;
+        }
+    }
+
+    private final int maxSize;
+    private final long ttl;
+    private final Map<String, Entry> entries;
+    private String managementVersion;
+    private long hits;
+    private long misses;
+
+    MetadataCache(int maxSize, long ttl) {
+        this.maxSize = maxSize;
+        this.ttl = ttl;
+        this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+            @Override
+            protected boolean removeEldestEntry(Map.Entry<String, Entry> eldest) {
+                return size() > MetadataCache.this.maxSize;
+            }
+        };
+    }
+
+    /** @return the cached response or {@code null} if the management version is unknown or there's no fresh entry */
+    synchronized byte[] get(String locale, String operation, long now) {
+        if (managementVersion != null) {
+            String key = key(locale, operation);
+            Entry entry = entries.get(key);
+            if (entry != null) {
+                if (now - entry.created <= ttl) {
+                    hits++;
+                    return entry.body;
+                }
+                entries.remove(key);
+            }
+        }
+        misses++;
+        return null;
+    }
+
+    synchronized void put(String locale, String operation, byte[] body, long now) {
+        if (managementVersion != null) {
+            entries.put(key(locale, operation), new Entry(body, now));
+        }
+    }
+
+    /** Sets the management version. Clears the cache if the version has changed. */
+    synchronized void managementVersion(String managementVersion) {
+        if (!Objects.equals(this.managementVersion, managementVersion)) {
+            entries.clear();
+            this.managementVersion = managementVersion;
+        }
+    }
+
+    synchronized String managementVersion() {
+        return managementVersion;
+    }
+
+    synchronized int size() {
+        return entries.size();
+    }
+
+    synchronized long hits() {
+        return hits;
+    }
+
+    synchronized long misses() {
+        return misses;
+    }
+
+    private String key(String locale, String operation) {
+        return managementVersion + "|" + (locale != null ? locale : "") + "|" + operation;
+    }
+}
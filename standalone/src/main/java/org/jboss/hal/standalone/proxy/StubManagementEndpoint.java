@@ -0,0 +1,136 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.proxy;
+
+import java.io.IOException;
+import java.time.Duration;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicLong;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.dmr.ModelNode;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import static org.jboss.hal.standalone.proxy.DmrMessages.ADDRESS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.APPLICATION_DMR_ENCODED;
+import static org.jboss.hal.standalone.proxy.DmrMessages.COMPOSITE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.MANAGEMENT_MAJOR_VERSION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.MANAGEMENT_MICRO_VERSION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.MANAGEMENT_MINOR_VERSION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OUTCOME;
+import static org.jboss.hal.standalone.proxy.DmrMessages.READ_RESOURCE_DESCRIPTION_OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.RESULT;
+import static org.jboss.hal.standalone.proxy.DmrMessages.STEPS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.SUCCESS;
+
+/**
+ * Minimal management endpoint for testing the {@link ManagementProxy} without a running server. The endpoint is enabled
+ * by {@code hal.stub.enabled=true} and mounted at {@code /stub/management}. Use {@code hal.proxy.url=
+ * http://localhost:9090/stub} to proxy to the stub.
+ * <p>
+ * The stub answers the read operations of the root resource with the configured management version, returns a
+ * generic description for {@code read-resource-description} and an undefined result for everything else. Each response
+ * contains the number of requests served so far in the {@value #X_STUB_REQUESTS} header.
+ */
+@ApplicationScoped
+public class StubManagementEndpoint {
+
+    static final String PATH = "/stub/management";
+    static final String X_STUB_REQUESTS = "X-Stub-Requests";
+
+    @Inject Vertx vertx;
+
+    @ConfigProperty(name = "hal.stub.enabled", defaultValue = "false") boolean enabled;
+
+    @ConfigProperty(name = "hal.stub.management-version", defaultValue = "20.0.0") String managementVersion;
+
+    @ConfigProperty(name = "hal.stub.latency", defaultValue = "PT0S") Duration latency;
+
+    private final AtomicLong requests = new AtomicLong();
+
+    public void init(@Observes Router router) {
+        if (enabled) {
+            router.route(PATH).order(-2).handler(this::handle);
+        }
+    }
+
+    private void handle(RoutingContext context) {
+        long count = requests.incrementAndGet();
+        if (context.request().method() != HttpMethod.POST) {
+            reply(context, count, Buffer.buffer());
+            return;
+        }
+        context.request().body().onSuccess(body -> {
+            Buffer response;
+            try {
+                ModelNode operation = DmrMessages.decode(body.getBytes());
+                response = Buffer.buffer(DmrMessages.encode(execute(operation)));
+            } catch (IOException | RuntimeException e) {
+                context.response().setStatusCode(400).end(e.getMessage());
+                return;
+            }
+            if (latency.isZero()) {
+                reply(context, count, response);
+            } else {
+                vertx.setTimer(latency.toMillis(), __ -> reply(context, count, response));
+            }
+        }).onFailure(context::fail);
+    }
+
+    private void reply(RoutingContext context, long count, Buffer body) {
+        context.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_DMR_ENCODED)
+                .putHeader(X_STUB_REQUESTS, String.valueOf(count))
+                .end(body);
+    }
+
+    private ModelNode execute(ModelNode operation) {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        String name = operation.get(OPERATION).asString();
+        if (COMPOSITE.equals(name)) {
+            List<ModelNode> steps = operation.get(STEPS).asList();
+            ModelNode result = response.get(RESULT).setEmptyObject();
+            for (int i = 0; i < steps.size(); i++) {
+                result.get("step-" + (i + 1)).set(execute(steps.get(i)));
+            }
+        } else if (READ_RESOURCE_DESCRIPTION_OPERATION.equals(name)) {
+            ModelNode description = response.get(RESULT);
+            description.get("description").set("Stub description of " + operation.get(ADDRESS).asString());
+            description.get("attributes").setEmptyObject();
+            description.get("operations").setEmptyObject();
+            description.get("children").setEmptyObject();
+        } else if (!operation.hasDefined(ADDRESS) || operation.get(ADDRESS).asList().isEmpty()) {
+            String[] version = managementVersion.split("\\.");
+            ModelNode result = response.get(RESULT);
+            result.get(MANAGEMENT_MAJOR_VERSION).set(Integer.parseInt(version[0]));
+            result.get(MANAGEMENT_MINOR_VERSION).set(version.length > 1 ? Integer.parseInt(version[1]) : 0);
+            result.get(MANAGEMENT_MICRO_VERSION).set(version.length > 2 ? Integer.parseInt(version[2]) : 0);
+        }
+        return response;
+    }
+}
@@ -0,0 +1,217 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.replay;
+
+import java.util.ArrayList;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.dmr.ModelType;
+import org.jboss.dmr.Property;
+import org.jboss.hal.standalone.proxy.DmrMessages;
+
+import static org.jboss.hal.standalone.proxy.DmrMessages.ADDRESS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.CHILD_TYPE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.COMPOSITE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.NAME;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.READ_CHILDREN_RESOURCES_OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.RESULT;
+import static org.jboss.hal.standalone.proxy.DmrMessages.STEPS;
+import static org.jboss.hal.standalone.replay.Recording.STEP_PREFIX;
+
+/**
+ * Synthesizes additional resources in replayed responses. For each scaled resource type (e.g. {@code host}), the first
+ * recorded resource is used as template and copied until the configured number of resources is reached. Copies are
+ * named {@code <template>-<n>}.
+ * <p>
+ * Operations addressing a synthesized resource are mapped back to the template before they're looked up in the
+ * recording.
+ */
+class PayloadScaler {
+
+    private final Map<String, Integer> counts;
+    // <type>=<synthesized name> -> template name
+    private final Map<String, String> synthesized;
+
+    PayloadScaler(Map<String, Integer> counts) {
+        this.counts = counts;
+        this.synthesized = new ConcurrentHashMap<>();
+    }
+
+    boolean enabled() {
+        return counts.values().stream().anyMatch(count -> count > 0);
+    }
+
+    /** @return a copy of the operation where synthesized names in addresses are replaced by their templates */
+    ModelNode normalize(ModelNode operation) {
+        ModelNode copy = operation.clone();
+        normalizeInPlace(copy);
+        return copy;
+    }
+
+    private void normalizeInPlace(ModelNode operation) {
+        if (operation.hasDefined(ADDRESS)) {
+            ModelNode address = new ModelNode().setEmptyList();
+            for (Property segment : operation.get(ADDRESS).asPropertyList()) {
+                String name = segment.getValue().asString();
+                String template = synthesized.get(segment.getName() + "=" + name);
+                address.add(segment.getName(), template != null ? template : name);
+            }
+            operation.get(ADDRESS).set(address);
+        }
+        if (COMPOSITE.equals(operation.get(OPERATION).asString()) && operation.hasDefined(STEPS)) {
+            // don't rely on asList() returning the original nodes
+            List<ModelNode> steps = operation.get(STEPS).asList();
+            ModelNode normalized = new ModelNode().setEmptyList();
+            for (ModelNode step : steps) {
+                normalizeInPlace(step);
+                normalized.add(step);
+            }
+            operation.get(STEPS).set(normalized);
+        }
+    }
+
+    /** Adds synthesized resources to the response and renames resources which were read using a synthesized name. */
+    void expand(ModelNode operation, ModelNode response) {
+        if (!DmrMessages.successful(response)) {
+            return;
+        }
+        String name = operation.get(OPERATION).asString();
+        if (COMPOSITE.equals(name) && operation.hasDefined(STEPS)) {
+            List<ModelNode> steps = operation.get(STEPS).asList();
+            for (int i = 0; i < steps.size(); i++) {
+                String step = STEP_PREFIX + (i + 1);
+                if (response.get(RESULT).hasDefined(step)) {
+                    expand(steps.get(i), response.get(RESULT).get(step));
+                }
+            }
+            return;
+        }
+
+        ModelNode result = response.get(RESULT);
+        String childType = operation.hasDefined(CHILD_TYPE) ? operation.get(CHILD_TYPE).asString() : "";
+        if (READ_CHILDREN_NAMES_OPERATION.equals(name) && count(childType) > 0 && result.getType() == ModelType.LIST) {
+            response.get(RESULT).set(expandNames(childType, result));
+        } else if (READ_CHILDREN_RESOURCES_OPERATION.equals(name) && count(childType) > 0 &&
+                result.getType() == ModelType.OBJECT) {
+            response.get(RESULT).set(expandResources(childType, result));
+        } else if (result.getType() == ModelType.OBJECT) {
+            expandNested(result);
+            rename(operation, result);
+        }
+    }
+
+    private ModelNode expandNames(String type, ModelNode names) {
+        Set<String> existing = new LinkedHashSet<>();
+        for (ModelNode name : names.asList()) {
+            existing.add(name.asString());
+        }
+        ModelNode expanded = new ModelNode().setEmptyList();
+        for (String name : names(type, existing)) {
+            expanded.add(name);
+        }
+        return expanded;
+    }
+
+    private ModelNode expandResources(String type, ModelNode resources) {
+        Set<String> existing = new LinkedHashSet<>(resources.keys());
+        if (existing.isEmpty()) {
+            return resources;
+        }
+        String template = existing.iterator().next();
+        ModelNode expanded = new ModelNode().setEmptyObject();
+        for (String name : names(type, existing)) {
+            if (existing.contains(name)) {
+                expanded.get(name).set(resources.get(name));
+            } else {
+                ModelNode copy = resources.get(template).clone();
+                if (copy.getType() == ModelType.OBJECT && copy.hasDefined(NAME) &&
+                        template.equals(copy.get(NAME).asString())) {
+                    copy.get(NAME).set(name);
+                }
+                expanded.get(name).set(copy);
+            }
+        }
+        return expanded;
+    }
+
+    private void expandNested(ModelNode resource) {
+        for (String key : new ArrayList<>(resource.keys())) {
+            ModelNode value = resource.get(key);
+            if (value.getType() == ModelType.OBJECT) {
+                if (count(key) > 0 && children(value)) {
+                    resource.get(key).set(expandResources(key, value));
+                }
+                for (String child : new ArrayList<>(resource.get(key).keys())) {
+                    ModelNode childValue = resource.get(key).get(child);
+                    if (childValue.getType() == ModelType.OBJECT) {
+                        expandNested(childValue);
+                    }
+                }
+            }
+        }
+    }
+
+    private void rename(ModelNode operation, ModelNode result) {
+        if (operation.hasDefined(ADDRESS) && result.hasDefined(NAME)) {
+            List<Property> address = operation.get(ADDRESS).asPropertyList();
+            if (!address.isEmpty()) {
+                Property last = address.get(address.size() - 1);
+                String template = synthesized.get(last.getName() + "=" + last.getValue().asString());
+                if (template != null && template.equals(result.get(NAME).asString())) {
+                    result.get(NAME).set(last.getValue().asString());
+                }
+            }
+        }
+    }
+
+    private List<String> names(String type, Set<String> existing) {
+        List<String> names = new ArrayList<>(existing);
+        if (!existing.isEmpty()) {
+            String template = existing.iterator().next();
+            int index = 1;
+            while (names.size() < count(type)) {
+                String name = template + "-" + index++;
+                if (!existing.contains(name)) {
+                    synthesized.put(type + "=" + name, template);
+                    names.add(name);
+                }
+            }
+        }
+        return names;
+    }
+
+    // a map of child resources has only object values (or undefined values for resources w/o attributes)
+    private boolean children(ModelNode node) {
+        for (String key : node.keys()) {
+            ModelType type = node.get(key).getType();
+            if (type != ModelType.OBJECT && type != ModelType.UNDEFINED) {
+                return false;
+            }
+        }
+        return !node.keys().isEmpty();
+    }
+
+    private int count(String type) {
+        return counts.getOrDefault(type, 0);
+    }
+}
@@ -0,0 +1,58 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.replay;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.logging.Logger;
+
+/** Appends DMR exchanges to a {@link Recording}. The file is written by a background thread. */
+public class Recorder {
+
+    private static final Logger logger = Logger.getLogger(Recorder.class);
+
+    private final Path file;
+    private final ExecutorService executor;
+
+    public Recorder(Path file) {
+        this.file = file;
+        this.executor = Executors.newSingleThreadExecutor(runnable -> {
+            Thread thread = new Thread(runnable, "hal-recorder");
+            thread.setDaemon(true);
+            return thread;
+        });
+    }
+
+    public void record(ModelNode operation, ModelNode response) {
+        executor.execute(() -> {
+            try (BufferedWriter writer = Files.newBufferedWriter(file, StandardCharsets.US_ASCII,
+                    StandardOpenOption.CREATE, StandardOpenOption.APPEND)) {
+                writer.write(Recording.line(operation, response));
+                writer.newLine();
+            } catch (IOException e) {
+                logger.errorf("Unable to record DMR exchange to %s: %s", file, e.getMessage());
+            }
+        });
+    }
+}
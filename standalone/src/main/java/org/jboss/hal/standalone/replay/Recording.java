@@ -0,0 +1,135 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.replay;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.hal.standalone.proxy.DmrMessages;
+
+import static org.jboss.hal.standalone.proxy.DmrMessages.COMPOSITE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.FAILED;
+import static org.jboss.hal.standalone.proxy.DmrMessages.FAILURE_DESCRIPTION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OUTCOME;
+import static org.jboss.hal.standalone.proxy.DmrMessages.RESULT;
+import static org.jboss.hal.standalone.proxy.DmrMessages.STEPS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.SUCCESS;
+
+/**
+ * Recorded DMR responses keyed by the canonical operation (see {@link DmrMessages#canonical(ModelNode)}). The steps of
+ * recorded composite operations are indexed as well, so composites which were not recorded as a whole can be replayed
+ * step by step.
+ * <p>
+ * A recording is a text file with one exchange per line: The base64 encoded operation, a space and the base64 encoded
+ * response. Lines starting with {@code #} are ignored. Recordings are written by the management proxy (see
+ * {@link Recorder}).
+ */
+public class Recording {
+
+    static final String STEP_PREFIX = "step-";
+
+    public static Recording read(Path file) throws IOException {
+        Recording recording = new Recording();
+        try (BufferedReader reader = Files.newBufferedReader(file, StandardCharsets.US_ASCII)) {
+            String line;
+            while ((line = reader.readLine()) != null) {
+                String trimmed = line.trim();
+                if (trimmed.isEmpty() || trimmed.startsWith("#")) {
+                    continue;
+                }
+                int space = trimmed.indexOf(' ');
+                if (space == -1) {
+                    throw new IOException("Invalid line in " + file + ": Missing response");
+                }
+                ModelNode operation = DmrMessages.decode(trimmed.substring(0, space).getBytes(StandardCharsets.US_ASCII));
+                ModelNode response = DmrMessages.decode(
+                        trimmed.substring(space + 1).trim().getBytes(StandardCharsets.US_ASCII));
+                recording.add(operation, response);
+            }
+        }
+        return recording;
+    }
+
+    public static String line(ModelNode operation, ModelNode response) throws IOException {
+        return base64(operation) + " " + base64(response);
+    }
+
+    private static String base64(ModelNode modelNode) throws IOException {
+        // the encoder might insert line breaks
+        return new String(DmrMessages.encode(modelNode), StandardCharsets.US_ASCII).replaceAll("\\s", "");
+    }
+
+    private final Map<String, ModelNode> responses;
+
+    Recording() {
+        this.responses = new HashMap<>();
+    }
+
+    void add(ModelNode operation, ModelNode response) {
+        responses.put(DmrMessages.canonical(operation), response);
+        if (COMPOSITE.equals(operation.get(OPERATION).asString()) && operation.hasDefined(STEPS)) {
+            List<ModelNode> steps = operation.get(STEPS).asList();
+            for (int i = 0; i < steps.size(); i++) {
+                String step = STEP_PREFIX + (i + 1);
+                if (response.hasDefined(RESULT) && response.get(RESULT).hasDefined(step)) {
+                    add(steps.get(i), response.get(RESULT).get(step));
+                }
+            }
+        }
+    }
+
+    /**
+     * Returns a copy of the recorded response. Composite operations which were not recorded as a whole are assembled
+     * from the recorded steps. Operations w/o recording result in a failed response.
+     */
+    ModelNode replay(ModelNode operation) {
+        ModelNode response = responses.get(DmrMessages.canonical(operation));
+        if (response != null) {
+            return response.clone();
+        }
+        if (COMPOSITE.equals(operation.get(OPERATION).asString()) && operation.hasDefined(STEPS)) {
+            ModelNode composite = new ModelNode();
+            composite.get(OUTCOME).set(SUCCESS);
+            ModelNode result = composite.get(RESULT).setEmptyObject();
+            List<ModelNode> steps = operation.get(STEPS).asList();
+            for (int i = 0; i < steps.size(); i++) {
+                ModelNode step = replay(steps.get(i));
+                result.get(STEP_PREFIX + (i + 1)).set(step);
+                if (!DmrMessages.successful(step) && SUCCESS.equals(composite.get(OUTCOME).asString())) {
+                    composite.get(OUTCOME).set(FAILED);
+                    composite.get(FAILURE_DESCRIPTION).set(step.get(FAILURE_DESCRIPTION));
+                }
+            }
+            return composite;
+        }
+        ModelNode failed = new ModelNode();
+        failed.get(OUTCOME).set(FAILED);
+        failed.get(FAILURE_DESCRIPTION).set("No recording for " + DmrMessages.canonical(operation));
+        return failed;
+    }
+
+    int size() {
+        return responses.size();
+    }
+}
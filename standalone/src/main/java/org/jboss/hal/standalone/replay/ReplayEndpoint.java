@@ -0,0 +1,158 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.replay;
+
+import java.io.IOException;
+import java.nio.file.Path;
+import java.nio.file.Paths;
+import java.time.Duration;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import javax.enterprise.context.ApplicationScoped;
+import javax.enterprise.event.Observes;
+import javax.inject.Inject;
+
+import org.eclipse.microprofile.config.inject.ConfigProperty;
+import org.jboss.dmr.ModelNode;
+import org.jboss.hal.standalone.proxy.DmrMessages;
+import org.jboss.logging.Logger;
+
+import io.vertx.core.Vertx;
+import io.vertx.core.buffer.Buffer;
+import io.vertx.core.http.HttpHeaders;
+import io.vertx.core.http.HttpMethod;
+import io.vertx.core.http.HttpServerResponse;
+import io.vertx.ext.web.Router;
+import io.vertx.ext.web.RoutingContext;
+
+import static org.jboss.hal.standalone.proxy.DmrMessages.APPLICATION_DMR_ENCODED;
+
+/**
+ * Management endpoint which replays a {@link Recording}. Use it to measure the performance of the console (e.g. the
+ * timings of the dispatcher, the metadata processor or the topology tasks logged by the console) reproducibly and w/o a
+ * running domain.
+ * <p>
+ * The endpoint is enabled by setting {@code hal.replay.recording} to a recording written by the management proxy (see
+ * {@code hal.proxy.record}). It then serves {@code /management} instead of the proxy. Responses can be shaped:
+ * <ul>
+ * <li>{@code hal.replay.latency}: Latency added to each response</li>
+ * <li>{@code hal.replay.bandwidth}: Bandwidth in bytes per second (0 = unlimited)</li>
+ * <li>{@code hal.replay.scale.hosts}, {@code hal.replay.scale.servers}, {@code hal.replay.scale.deployments}: Number of
+ * hosts, servers per host and deployments to synthesize from the recorded resources (0 = as recorded)</li>
+ * </ul>
+ */
+@ApplicationScoped
+public class ReplayEndpoint {
+
+    static final String MANAGEMENT = "/management";
+    private static final int SLICES_PER_SECOND = 10;
+    private static final Logger logger = Logger.getLogger(ReplayEndpoint.class);
+
+    @Inject Vertx vertx;
+
+    @ConfigProperty(name = "hal.replay.recording") Optional<String> recordingFile;
+
+    @ConfigProperty(name = "hal.replay.latency", defaultValue = "PT0S") Duration latency;
+
+    @ConfigProperty(name = "hal.replay.bandwidth", defaultValue = "0") long bandwidth;
+
+    @ConfigProperty(name = "hal.replay.scale.hosts", defaultValue = "0") int hosts;
+
+    @ConfigProperty(name = "hal.replay.scale.servers", defaultValue = "0") int servers;
+
+    @ConfigProperty(name = "hal.replay.scale.deployments", defaultValue = "0") int deployments;
+
+    private Recording recording;
+    private PayloadScaler scaler;
+
+    public void init(@Observes Router router) throws IOException {
+        if (recordingFile.isEmpty()) {
+            return;
+        }
+        Path file = Paths.get(recordingFile.get());
+        recording = Recording.read(file);
+
+        Map<String, Integer> counts = new HashMap<>();
+        counts.put("host", hosts);
+        counts.put("server-config", servers);
+        counts.put("server", servers);
+        counts.put("deployment", deployments);
+        scaler = new PayloadScaler(counts);
+
+        // takes precedence over the management proxy
+        router.route(MANAGEMENT + "*").order(-3).handler(this::handle);
+        logger.infof("Replay %d recorded operations from %s", recording.size(), file);
+    }
+
+    private void handle(RoutingContext context) {
+        String contentType = context.request().getHeader(HttpHeaders.CONTENT_TYPE);
+        if (context.request().method() == HttpMethod.GET && MANAGEMENT.equals(context.normalizedPath())) {
+            // connection check of the console
+            context.response().end();
+        } else if (context.request().method() == HttpMethod.POST && MANAGEMENT.equals(context.normalizedPath()) &&
+                contentType != null && contentType.startsWith(APPLICATION_DMR_ENCODED)) {
+            context.request().body().onSuccess(body -> replay(context, body)).onFailure(context::fail);
+        } else {
+            // downloads, uploads and JSON requests are not recorded
+            context.response().setStatusCode(404).end();
+        }
+    }
+
+    private void replay(RoutingContext context, Buffer body) {
+        Buffer payload;
+        try {
+            ModelNode operation = DmrMessages.decode(body.getBytes());
+            ModelNode response = recording.replay(scaler.enabled() ? scaler.normalize(operation) : operation);
+            if (scaler.enabled()) {
+                scaler.expand(operation, response);
+            }
+            payload = Buffer.buffer(DmrMessages.encode(response));
+        } catch (IOException | RuntimeException e) {
+            context.response().setStatusCode(400).end(String.valueOf(e.getMessage()));
+            return;
+        }
+
+        HttpServerResponse response = context.response()
+                .putHeader(HttpHeaders.CONTENT_TYPE, APPLICATION_DMR_ENCODED)
+                .putHeader(HttpHeaders.CONTENT_LENGTH, String.valueOf(payload.length()));
+        if (latency.isZero()) {
+            send(response, payload, 0);
+        } else {
+            vertx.setTimer(latency.toMillis(), __ -> send(response, payload, 0));
+        }
+    }
+
+    private void send(HttpServerResponse response, Buffer payload, int offset) {
+        if (response.closed()) {
+            return;
+        }
+        if (bandwidth <= 0) {
+            response.end(payload);
+        } else {
+            // write one slice of the payload every 1000 / SLICES_PER_SECOND ms
+            int slice = (int) Math.max(1, bandwidth / SLICES_PER_SECOND);
+            int end = Math.min(payload.length(), offset + slice);
+            if (end == payload.length()) {
+                response.end(payload.getBuffer(offset, end));
+            } else {
+                response.write(payload.getBuffer(offset, end));
+                vertx.setTimer(1000 / SLICES_PER_SECOND, __ -> send(response, payload, end));
+            }
+        }
+    }
+}
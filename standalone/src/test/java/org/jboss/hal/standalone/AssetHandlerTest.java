@@ -0,0 +1,111 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone;
+
+import org.jboss.hal.standalone.AssetHandler.Caching;
+import org.jboss.hal.standalone.AssetHandler.Encoding;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class AssetHandlerTest {
+
+    @Test
+    public void gwtPermutation() {
+        assertEquals(Caching.IMMUTABLE, AssetHandler.caching("/hal/0123456789ABCDEF0123456789abcdef.cache.js"));
+    }
+
+    @Test
+    public void parcelBundle() {
+        assertEquals(Caching.IMMUTABLE, AssetHandler.caching("/index.5f2ad7b1.js"));
+        assertEquals(Caching.IMMUTABLE, AssetHandler.caching("/index.runtime.0a1b2c3d.js"));
+        assertEquals(Caching.IMMUTABLE, AssetHandler.caching("/fontawesome-webfont.9e0c8f1a.woff2"));
+    }
+
+    @Test
+    public void dateStamped() {
+        assertNull(AssetHandler.caching("/report.20221231.js"));
+    }
+
+    @Test
+    public void nested() {
+        assertNull(AssetHandler.caching("/docs/index.5f2ad7b1.js"));
+    }
+
+    @Test
+    public void unknownExtension() {
+        assertNull(AssetHandler.caching("/backup.5f2ad7b1.tar"));
+    }
+
+    @Test
+    public void bootstrap() {
+        assertEquals(Caching.REVALIDATE, AssetHandler.caching("/hal/hal.nocache.js"));
+        assertEquals(Caching.REVALIDATE, AssetHandler.caching("/index.html"));
+    }
+
+    @Test
+    public void other() {
+        assertNull(AssetHandler.caching("/pouchdb.min.js"));
+        assertNull(AssetHandler.caching("/metadata/snapshots.js"));
+    }
+
+    @Test
+    public void preferBrotli() {
+        assertEquals(Encoding.BROTLI, AssetHandler.accepted("gzip, deflate, br", true, true));
+    }
+
+    @Test
+    public void gzipOnly() {
+        assertEquals(Encoding.GZIP, AssetHandler.accepted("gzip, deflate, br", false, true));
+        assertEquals(Encoding.GZIP, AssetHandler.accepted("gzip", true, true));
+    }
+
+    @Test
+    public void rejected() {
+        assertEquals(Encoding.GZIP, AssetHandler.accepted("br;q=0, gzip;q=0.8", true, true));
+        assertEquals(Encoding.GZIP, AssetHandler.accepted("br; q=0.0, GZIP", true, true));
+        assertNull(AssetHandler.accepted("br;q=0, gzip;q=0", true, true));
+    }
+
+    @Test
+    public void noEncoding() {
+        assertNull(AssetHandler.accepted(null, true, true));
+        assertNull(AssetHandler.accepted("identity", true, true));
+        assertNull(AssetHandler.accepted("gzip, br", false, false));
+    }
+
+    @Test
+    public void etag() {
+        assertTrue(AssetHandler.matches("\"abc\"", "\"abc\""));
+        assertTrue(AssetHandler.matches("\"xyz\", W/\"abc\"", "\"abc\""));
+        assertTrue(AssetHandler.matches("*", "\"abc\""));
+        assertFalse(AssetHandler.matches("\"abc-gzip\"", "\"abc\""));
+        assertFalse(AssetHandler.matches(null, "\"abc\""));
+    }
+
+    @Test
+    public void contentType() {
+        assertEquals("application/javascript;charset=UTF-8", AssetHandler.contentType("webroot/index.5f2ad7b1.js"));
+        assertEquals("text/css;charset=UTF-8", AssetHandler.contentType("webroot/index.5f2ad7b1.css"));
+        assertEquals("text/html;charset=UTF-8", AssetHandler.contentType("webroot/index.html"));
+        assertEquals("font/woff2", AssetHandler.contentType("webroot/fontawesome-webfont.9e0c8f1a.woff2"));
+        assertEquals("image/png", AssetHandler.contentType("webroot/logo.png"));
+        assertEquals("application/octet-stream", AssetHandler.contentType("webroot/LICENSE"));
+    }
+}
@@ -0,0 +1,153 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.proxy;
+
+import java.io.IOException;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Test;
+
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertNotEquals;
+import static org.junit.Assert.assertNull;
+import static org.junit.Assert.assertTrue;
+
+public class DmrMessagesTest {
+
+    @Test
+    public void encodeDecode() throws IOException {
+        ModelNode operation = rrd("combined-descriptions");
+        assertEquals(operation, DmrMessages.decode(DmrMessages.encode(operation)));
+    }
+
+    @Test
+    public void steps() {
+        ModelNode nested = composite(read("subsystem", "logging"), read("subsystem", "undertow"));
+        ModelNode composite = composite(nested, rrd(null));
+
+        assertEquals(3, DmrMessages.steps(composite).size());
+        assertEquals(1, DmrMessages.steps(rrd(null)).size());
+    }
+
+    @Test
+    public void readOnly() {
+        assertTrue(DmrMessages.readOnly(read("subsystem", "logging")));
+        assertTrue(DmrMessages.readOnly(composite(read("subsystem", "logging"), rrd(null))));
+
+        ModelNode add = new ModelNode();
+        add.get(DmrMessages.OPERATION).set("add");
+        assertFalse(DmrMessages.readOnly(add));
+        assertFalse(DmrMessages.readOnly(composite(read("subsystem", "logging"), add)));
+        assertFalse(DmrMessages.readOnly(new ModelNode()));
+    }
+
+    @Test
+    public void roleNeutral() {
+        assertTrue(DmrMessages.roleNeutral(rrd(null)));
+        assertTrue(DmrMessages.roleNeutral(rrd(DmrMessages.NONE)));
+        assertTrue(DmrMessages.roleNeutral(composite(rrd(null), rrd(DmrMessages.NONE))));
+
+        assertFalse(DmrMessages.roleNeutral(rrd("combined-descriptions")));
+        assertFalse(DmrMessages.roleNeutral(rrd("trim-descriptions")));
+        assertFalse(DmrMessages.roleNeutral(composite(rrd(null), rrd("trim-descriptions"))));
+        assertFalse(DmrMessages.roleNeutral(read("subsystem", "logging")));
+    }
+
+    @Test
+    public void locale() {
+        ModelNode rrd = rrd(null);
+        rrd.get(DmrMessages.LOCALE).set("de");
+
+        assertEquals("de", DmrMessages.locale(composite(rrd(null), rrd)));
+        assertNull(DmrMessages.locale(rrd(null)));
+    }
+
+    @Test
+    public void canonical() {
+        ModelNode operation = composite(read("subsystem", "logging"), rrd(null));
+        ModelNode withHeaders = operation.clone();
+        withHeaders.get(DmrMessages.OPERATION_HEADERS).get("rollback-on-runtime-failure").set(true);
+        withHeaders.get(DmrMessages.STEPS).get(0).get(DmrMessages.OPERATION_HEADERS).get("foo").set("bar");
+
+        assertEquals(DmrMessages.canonical(operation), DmrMessages.canonical(withHeaders));
+        assertTrue(withHeaders.has(DmrMessages.OPERATION_HEADERS));
+        assertNotEquals(DmrMessages.canonical(operation), DmrMessages.canonical(read("subsystem", "undertow")));
+    }
+
+    @Test
+    public void managementVersion() {
+        ModelNode response = new ModelNode();
+        response.get(DmrMessages.OUTCOME).set(DmrMessages.SUCCESS);
+        response.get(DmrMessages.RESULT).get(DmrMessages.MANAGEMENT_MAJOR_VERSION).set(20);
+        response.get(DmrMessages.RESULT).get(DmrMessages.MANAGEMENT_MINOR_VERSION).set(0);
+        response.get(DmrMessages.RESULT).get(DmrMessages.MANAGEMENT_MICRO_VERSION).set(1);
+        ModelNode root = new ModelNode();
+        root.get(DmrMessages.OPERATION).set("read-resource");
+        root.get(DmrMessages.ADDRESS).setEmptyList();
+
+        assertEquals("20.0.1", DmrMessages.managementVersion(root, response));
+        assertNull(DmrMessages.managementVersion(read("subsystem", "logging"), response));
+
+        ModelNode composite = new ModelNode();
+        composite.get(DmrMessages.OUTCOME).set(DmrMessages.SUCCESS);
+        composite.get(DmrMessages.RESULT).get("step-1").set(response);
+        assertEquals("20.0.1", DmrMessages.managementVersion(composite(root), composite));
+
+        response.get(DmrMessages.OUTCOME).set(DmrMessages.FAILED);
+        assertNull(DmrMessages.managementVersion(root, response));
+    }
+
+    @Test
+    public void identity() {
+        String first = "Digest username=\"admin\", nonce=\"abc\", nc=00000001, cnonce=\"x\", response=\"1234\"";
+        String second = "Digest username=\"admin\", nonce=\"abc\", nc=00000002, cnonce=\"y\", response=\"5678\"";
+        String forged = "Digest username=\"admin\", nonce=\"abc\", nc=00000001, cnonce=\"x\", response=\"0000\"";
+
+        assertEquals(DmrMessages.identity(first, null), DmrMessages.identity(first, null));
+        assertNotEquals(DmrMessages.identity(first, null), DmrMessages.identity(second, null));
+        assertNotEquals(DmrMessages.identity(first, null), DmrMessages.identity(forged, null));
+        assertNotEquals(DmrMessages.identity("Bearer a", "session=1"), DmrMessages.identity("Bearer a", "session=2"));
+        assertNotEquals(DmrMessages.identity("a", null), DmrMessages.identity(null, "a"));
+    }
+
+    private ModelNode read(String type, String name) {
+        ModelNode operation = new ModelNode();
+        operation.get(DmrMessages.OPERATION).set("read-resource");
+        operation.get(DmrMessages.ADDRESS).add(type, name);
+        return operation;
+    }
+
+    private ModelNode rrd(String accessControl) {
+        ModelNode operation = new ModelNode();
+        operation.get(DmrMessages.OPERATION).set(DmrMessages.READ_RESOURCE_DESCRIPTION_OPERATION);
+        operation.get(DmrMessages.ADDRESS).add("subsystem", "logging");
+        if (accessControl != null) {
+            operation.get(DmrMessages.ACCESS_CONTROL).set(accessControl);
+        }
+        return operation;
+    }
+
+    private ModelNode composite(ModelNode... steps) {
+        ModelNode composite = new ModelNode();
+        composite.get(DmrMessages.OPERATION).set(DmrMessages.COMPOSITE);
+        composite.get(DmrMessages.ADDRESS).setEmptyList();
+        for (ModelNode step : steps) {
+            composite.get(DmrMessages.STEPS).add(step);
+        }
+        return composite;
+    }
+}
@@ -0,0 +1,101 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.proxy;
+
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.junit.Assert.assertArrayEquals;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertNull;
+
+public class MetadataCacheTest {
+
+    private static final byte[] BODY = {1, 2, 3};
+
+    private MetadataCache cache;
+
+    @Before
+    public void setUp() {
+        cache = new MetadataCache(2, 1000);
+    }
+
+    @Test
+    public void unknownVersion() {
+        cache.put("en", "a", BODY, 0);
+
+        assertNull(cache.get("en", "a", 0));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void hit() {
+        cache.managementVersion("20.0.0");
+        cache.put("en", "a", BODY, 0);
+
+        assertArrayEquals(BODY, cache.get("en", "a", 500));
+        assertEquals(1, cache.hits());
+        assertEquals(0, cache.misses());
+    }
+
+    @Test
+    public void locale() {
+        cache.managementVersion("20.0.0");
+        cache.put("en", "a", BODY, 0);
+        cache.put(null, "b", BODY, 0);
+
+        assertNull(cache.get("de", "a", 0));
+        assertNull(cache.get(null, "a", 0));
+        assertArrayEquals(BODY, cache.get(null, "b", 0));
+    }
+
+    @Test
+    public void expired() {
+        cache.managementVersion("20.0.0");
+        cache.put("en", "a", BODY, 0);
+
+        assertNull(cache.get("en", "a", 1001));
+        assertEquals(0, cache.size());
+        assertEquals(1, cache.misses());
+    }
+
+    @Test
+    public void evictEldest() {
+        cache.managementVersion("20.0.0");
+        cache.put("en", "a", BODY, 0);
+        cache.put("en", "b", BODY, 0);
+        cache.get("en", "a", 0);
+        cache.put("en", "c", BODY, 0);
+
+        assertEquals(2, cache.size());
+        assertArrayEquals(BODY, cache.get("en", "a", 0));
+        assertNull(cache.get("en", "b", 0));
+    }
+
+    @Test
+    public void versionChanged() {
+        cache.managementVersion("20.0.0");
+        cache.put("en", "a", BODY, 0);
+        cache.managementVersion("20.0.0");
+        assertEquals(1, cache.size());
+
+        cache.managementVersion("21.0.0");
+        assertEquals("21.0.0", cache.managementVersion());
+        assertEquals(0, cache.size());
+        assertNull(cache.get("en", "a", 0));
+    }
+}
@@ -0,0 +1,186 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.replay;
+
+import java.util.List;
+import java.util.Map;
+
+import org.jboss.dmr.ModelNode;
+import org.junit.Before;
+import org.junit.Test;
+
+import static java.util.stream.Collectors.toList;
+import static org.jboss.hal.standalone.proxy.DmrMessages.ADDRESS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.CHILD_TYPE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.COMPOSITE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.FAILED;
+import static org.jboss.hal.standalone.proxy.DmrMessages.NAME;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OUTCOME;
+import static org.jboss.hal.standalone.proxy.DmrMessages.READ_CHILDREN_NAMES_OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.READ_CHILDREN_RESOURCES_OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.RESULT;
+import static org.jboss.hal.standalone.proxy.DmrMessages.STEPS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class PayloadScalerTest {
+
+    private PayloadScaler scaler;
+
+    @Before
+    public void setUp() {
+        scaler = new PayloadScaler(Map.of("host", 3));
+    }
+
+    @Test
+    public void enabled() {
+        assertTrue(scaler.enabled());
+        assertFalse(new PayloadScaler(Map.of("host", 0)).enabled());
+        assertFalse(new PayloadScaler(Map.of()).enabled());
+    }
+
+    @Test
+    public void expandNames() {
+        ModelNode response = success(new ModelNode().add("primary"));
+        scaler.expand(children(READ_CHILDREN_NAMES_OPERATION, "host"), response);
+
+        assertEquals(List.of("primary", "primary-1", "primary-2"), names(response.get(RESULT)));
+    }
+
+    @Test
+    public void expandResources() {
+        ModelNode hosts = new ModelNode();
+        hosts.get("primary").get(NAME).set("primary");
+        hosts.get("primary").get("running-mode").set("NORMAL");
+        hosts.get("secondary").get(NAME).set("secondary");
+        hosts.get("secondary").get("running-mode").set("ADMIN_ONLY");
+        ModelNode response = success(hosts);
+        scaler.expand(children(READ_CHILDREN_RESOURCES_OPERATION, "host"), response);
+
+        ModelNode result = response.get(RESULT);
+        assertEquals(List.of("primary", "secondary", "primary-1"), List.copyOf(result.keys()));
+        assertEquals("primary-1", result.get("primary-1").get(NAME).asString());
+        assertEquals("NORMAL", result.get("primary-1").get("running-mode").asString());
+        assertEquals("ADMIN_ONLY", result.get("secondary").get("running-mode").asString());
+    }
+
+    @Test
+    public void unscaledType() {
+        ModelNode response = success(new ModelNode().add("main-server-group"));
+        scaler.expand(children(READ_CHILDREN_NAMES_OPERATION, "server-group"), response);
+
+        assertEquals(List.of("main-server-group"), names(response.get(RESULT)));
+    }
+
+    @Test
+    public void failedResponse() {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(FAILED);
+        response.get(RESULT).add("primary");
+        scaler.expand(children(READ_CHILDREN_NAMES_OPERATION, "host"), response);
+
+        assertEquals(List.of("primary"), names(response.get(RESULT)));
+    }
+
+    @Test
+    public void normalizeAndRename() {
+        scaler.expand(children(READ_CHILDREN_NAMES_OPERATION, "host"), success(new ModelNode().add("primary")));
+
+        ModelNode operation = new ModelNode();
+        operation.get(OPERATION).set("read-resource");
+        operation.get(ADDRESS).add("host", "primary-2").add("server", "server-one");
+        ModelNode normalized = scaler.normalize(operation);
+
+        assertEquals("primary", normalized.get(ADDRESS).asPropertyList().get(0).getValue().asString());
+        assertEquals("server-one", normalized.get(ADDRESS).asPropertyList().get(1).getValue().asString());
+        assertEquals("primary-2", operation.get(ADDRESS).asPropertyList().get(0).getValue().asString());
+
+        ModelNode host = new ModelNode();
+        host.get(OPERATION).set("read-resource");
+        host.get(ADDRESS).add("host", "primary-2");
+        ModelNode resource = new ModelNode();
+        resource.get(NAME).set("primary");
+        ModelNode response = success(resource);
+        scaler.expand(host, response);
+        assertEquals("primary-2", response.get(RESULT).get(NAME).asString());
+    }
+
+    @Test
+    public void normalizeComposite() {
+        scaler.expand(children(READ_CHILDREN_NAMES_OPERATION, "host"), success(new ModelNode().add("primary")));
+
+        ModelNode step = new ModelNode();
+        step.get(OPERATION).set("read-resource");
+        step.get(ADDRESS).add("host", "primary-1");
+        ModelNode composite = new ModelNode();
+        composite.get(OPERATION).set(COMPOSITE);
+        composite.get(STEPS).add(step);
+        ModelNode normalized = scaler.normalize(composite);
+
+        assertEquals("primary",
+                normalized.get(STEPS).get(0).get(ADDRESS).asPropertyList().get(0).getValue().asString());
+    }
+
+    @Test
+    public void expandComposite() {
+        ModelNode composite = new ModelNode();
+        composite.get(OPERATION).set(COMPOSITE);
+        composite.get(STEPS).add(children(READ_CHILDREN_NAMES_OPERATION, "host"));
+        ModelNode response = success(new ModelNode());
+        response.get(RESULT).get("step-1").set(success(new ModelNode().add("primary")));
+        scaler.expand(composite, response);
+
+        assertEquals(3, response.get(RESULT).get("step-1").get(RESULT).asList().size());
+    }
+
+    @Test
+    public void expandNested() {
+        ModelNode root = new ModelNode();
+        root.get("host").get("primary").get(NAME).set("primary");
+        root.get("server-group").get("main-server-group").get("profile").set("full");
+        ModelNode response = success(root);
+        ModelNode operation = new ModelNode();
+        operation.get(OPERATION).set("read-resource");
+        operation.get(ADDRESS).setEmptyList();
+        scaler.expand(operation, response);
+
+        assertEquals(List.of("primary", "primary-1", "primary-2"),
+                List.copyOf(response.get(RESULT).get("host").keys()));
+        assertEquals(1, response.get(RESULT).get("server-group").keys().size());
+    }
+
+    private ModelNode children(String operation, String type) {
+        ModelNode node = new ModelNode();
+        node.get(OPERATION).set(operation);
+        node.get(ADDRESS).setEmptyList();
+        node.get(CHILD_TYPE).set(type);
+        return node;
+    }
+
+    private ModelNode success(ModelNode result) {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        response.get(RESULT).set(result);
+        return response;
+    }
+
+    private List<String> names(ModelNode list) {
+        return list.asList().stream().map(ModelNode::asString).collect(toList());
+    }
+}
@@ -0,0 +1,160 @@
+/*
+ *  Copyright 2022 Red Hat
+ *
+ *  Licensed under the Apache License, Version 2.0 (the "License");
+ *  you may not use this file except in compliance with the License.
+ *  You may obtain a copy of the License at
+ *
+ *      https://www.apache.org/licenses/LICENSE-2.0
+ *
+ *  Unless required by applicable law or agreed to in writing, software
+ *  distributed under the License is distributed on an "AS IS" BASIS,
+ *  WITHOUT WARRANTIES OR CONDITIONS OF ANY KIND, either express or implied.
+ *  See the License for the specific language governing permissions and
+ *  limitations under the License.
+ */
+package org.jboss.hal.standalone.replay;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.jboss.dmr.ModelNode;
+import org.jboss.hal.standalone.proxy.DmrMessages;
+import org.junit.Before;
+import org.junit.Test;
+
+import static org.jboss.hal.standalone.proxy.DmrMessages.ADDRESS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.COMPOSITE;
+import static org.jboss.hal.standalone.proxy.DmrMessages.FAILED;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OPERATION;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OPERATION_HEADERS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.OUTCOME;
+import static org.jboss.hal.standalone.proxy.DmrMessages.RESULT;
+import static org.jboss.hal.standalone.proxy.DmrMessages.STEPS;
+import static org.jboss.hal.standalone.proxy.DmrMessages.SUCCESS;
+import static org.junit.Assert.assertEquals;
+import static org.junit.Assert.assertFalse;
+import static org.junit.Assert.assertTrue;
+
+public class RecordingTest {
+
+    private Recording recording;
+
+    @Before
+    public void setUp() {
+        recording = new Recording();
+    }
+
+    @Test
+    public void replay() {
+        recording.add(read("logging"), success("logging"));
+
+        ModelNode withHeaders = read("logging");
+        withHeaders.get(OPERATION_HEADERS).get("foo").set("bar");
+        assertEquals(success("logging"), recording.replay(withHeaders));
+    }
+
+    @Test
+    public void replayCopy() {
+        recording.add(read("logging"), success("logging"));
+        recording.replay(read("logging")).get(RESULT).set("modified");
+
+        assertEquals(success("logging"), recording.replay(read("logging")));
+    }
+
+    @Test
+    public void missing() {
+        ModelNode response = recording.replay(read("logging"));
+
+        assertEquals(FAILED, response.get(OUTCOME).asString());
+        assertTrue(response.hasDefined("failure-description"));
+    }
+
+    @Test
+    public void indexSteps() {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        response.get(RESULT).get("step-1").set(success("logging"));
+        response.get(RESULT).get("step-2").set(success("undertow"));
+        recording.add(composite(read("logging"), read("undertow")), response);
+
+        assertEquals(3, recording.size());
+        assertEquals(success("undertow"), recording.replay(read("undertow")));
+    }
+
+    @Test
+    public void assembleComposite() {
+        recording.add(read("logging"), success("logging"));
+        recording.add(read("undertow"), success("undertow"));
+        ModelNode response = recording.replay(composite(read("undertow"), read("logging")));
+
+        assertEquals(SUCCESS, response.get(OUTCOME).asString());
+        assertEquals(success("undertow"), response.get(RESULT).get("step-1"));
+        assertEquals(success("logging"), response.get(RESULT).get("step-2"));
+    }
+
+    @Test
+    public void assembleFailedComposite() {
+        recording.add(read("logging"), success("logging"));
+        ModelNode response = recording.replay(composite(read("logging"), read("undertow")));
+
+        assertEquals(FAILED, response.get(OUTCOME).asString());
+        assertTrue(DmrMessages.successful(response.get(RESULT).get("step-1")));
+        assertFalse(DmrMessages.successful(response.get(RESULT).get("step-2")));
+    }
+
+    @Test
+    public void readWrittenLines() throws IOException {
+        Path file = Files.createTempFile("recording", ".txt");
+        try {
+            Files.write(file, List.of("# recorded by the management proxy", "",
+                    Recording.line(read("logging"), success("logging")),
+                    Recording.line(read("undertow"), success("undertow"))), StandardCharsets.US_ASCII);
+            Recording read = Recording.read(file);
+
+            assertEquals(2, read.size());
+            assertEquals(success("logging"), read.replay(read("logging")));
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    @Test(expected = IOException.class)
+    public void missingResponse() throws IOException {
+        Path file = Files.createTempFile("recording", ".txt");
+        try {
+            Files.write(file, List.of(Recording.line(read("logging"), success("logging")).split(" ")[0]),
+                    StandardCharsets.US_ASCII);
+            Recording.read(file);
+        } finally {
+            Files.delete(file);
+        }
+    }
+
+    private ModelNode read(String subsystem) {
+        ModelNode operation = new ModelNode();
+        operation.get(OPERATION).set("read-resource");
+        operation.get(ADDRESS).add("subsystem", subsystem);
+        return operation;
+    }
+
+    private ModelNode composite(ModelNode... steps) {
+        ModelNode composite = new ModelNode();
+        composite.get(OPERATION).set(COMPOSITE);
+        composite.get(ADDRESS).setEmptyList();
+        for (ModelNode step : steps) {
+            composite.get(STEPS).add(step);
+        }
+        return composite;
+    }
+
+    private ModelNode success(String result) {
+        ModelNode response = new ModelNode();
+        response.get(OUTCOME).set(SUCCESS);
+        response.get(RESULT).get("name").set(result);
+        return response;
+    }
+}